@@ -0,0 +1,243 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.jvmagent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * <p>Executor for the JVM agent's HTTP server with a bounded number of threads and a bounded queue
+ * of waiting requests. Unlike a cached thread pool it doesn't create an arbitrary number of threads under a
+ * burst of requests and unlike a single thread executor it doesn't serialize all requests.</p>
+ *
+ * <p>When all threads are busy and the queue is full, a request is rejected. The JDK HTTP server hands over
+ * an exchange to the executor before the request has been read, so the rejected exchange is run by a single
+ * overflow thread with a marker which lets the {@link #createRejectionFilter() rejection filter} answer with
+ * "503 Service Unavailable" without calling the Jolokia handler at all. The HTTP server's dispatcher thread never
+ * reads a rejected request itself, so a slow client can't stall the whole server. If even the overflow queue is
+ * full, the exchange is refused and the HTTP server closes the connection without a response.</p>
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public class BoundedHttpServerExecutor extends ThreadPoolExecutor implements BoundedHttpServerExecutorMBean {
+
+    // idle threads are stopped after this time
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    // Marker for exchanges which are processed as rejected
+    private static final ThreadLocal<Boolean> REJECTED = new ThreadLocal<>();
+
+    // Maximum number of rejected exchanges waiting for the overflow thread
+    private static final int OVERFLOW_QUEUE_CAPACITY = 50;
+
+    private final int queueCapacity;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    // Answers rejected exchanges with a 503
+    private final ThreadPoolExecutor overflowExecutor;
+
+    // Statistics per thread, removed when a thread terminates
+    private final Map<Thread, ThreadStatistics> threadStatistics = new ConcurrentHashMap<>();
+
+    /**
+     * Create an executor
+     *
+     * @param pThreads       maximum number of threads
+     * @param pQueueCapacity maximum number of requests waiting for a free thread. If 0, requests are rejected
+     *                       as soon as all threads are busy
+     * @param pThreadFactory factory for creating threads
+     */
+    public BoundedHttpServerExecutor(int pThreads, int pQueueCapacity, ThreadFactory pThreadFactory) {
+        super(pThreads, pThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+              pQueueCapacity > 0 ? new ArrayBlockingQueue<>(pQueueCapacity) : new SynchronousQueue<>());
+        queueCapacity = Math.max(pQueueCapacity, 0);
+        allowCoreThreadTimeOut(true);
+        setThreadFactory(pRunnable -> pThreadFactory.newThread(() -> {
+            try {
+                pRunnable.run();
+            } finally {
+                threadStatistics.remove(Thread.currentThread());
+            }
+        }));
+        overflowExecutor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                                  new ArrayBlockingQueue<>(OVERFLOW_QUEUE_CAPACITY), pThreadFactory);
+        overflowExecutor.allowCoreThreadTimeOut(true);
+        setRejectedExecutionHandler(new RejectionHandler());
+    }
+
+    /**
+     * Create the filter which answers rejected requests with "503 Service Unavailable". This filter must
+     * be added to all contexts of the HTTP server using this executor.
+     *
+     * @return filter for rejected requests
+     */
+    public Filter createRejectionFilter() {
+        return new RejectionFilter();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getQueueSize() {
+        return getQueue().size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, Map<String, Long>> getThreadStatistics() {
+        Map<String, Map<String, Long>> ret = new TreeMap<>();
+        for (Map.Entry<Thread, ThreadStatistics> entry : threadStatistics.entrySet()) {
+            ret.put(entry.getKey().getName(), entry.getValue().toMap());
+        }
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetStatistics() {
+        rejectedCount.reset();
+        for (ThreadStatistics statistics : threadStatistics.values()) {
+            statistics.reset();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        overflowExecutor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> ret = new ArrayList<>(super.shutdownNow());
+        ret.addAll(overflowExecutor.shutdownNow());
+        return ret;
+    }
+
+    @Override
+    protected void beforeExecute(Thread pThread, Runnable pRunnable) {
+        threadStatistics.computeIfAbsent(pThread, t -> new ThreadStatistics()).start();
+        super.beforeExecute(pThread, pRunnable);
+    }
+
+    @Override
+    protected void afterExecute(Runnable pRunnable, Throwable pThrowable) {
+        super.afterExecute(pRunnable, pThrowable);
+        ThreadStatistics statistics = threadStatistics.get(Thread.currentThread());
+        if (statistics != null) {
+            statistics.stop();
+        }
+    }
+
+    // ========================================================================================
+
+    // Hand over the rejected exchange to the overflow thread, marked as rejected. Throwing a
+    // RejectedExecutionException lets the HTTP server close the connection.
+    private class RejectionHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable pRunnable, ThreadPoolExecutor pExecutor) {
+            rejectedCount.increment();
+            overflowExecutor.execute(() -> {
+                REJECTED.set(Boolean.TRUE);
+                try {
+                    pRunnable.run();
+                } finally {
+                    REJECTED.remove();
+                }
+            });
+        }
+    }
+
+    // Filter for sending back a 503 for rejected exchanges
+    private static class RejectionFilter extends Filter {
+        @Override
+        public void doFilter(HttpExchange pExchange, Chain pChain) throws IOException {
+            if (REJECTED.get() == null) {
+                pChain.doFilter(pExchange);
+                return;
+            }
+            try {
+                pExchange.getResponseHeaders().set("Retry-After", "1");
+                // close the connection so that the overflow thread doesn't need to drain the request
+                pExchange.getResponseHeaders().set("Connection", "close");
+                pExchange.sendResponseHeaders(503, -1);
+            } finally {
+                pExchange.close();
+            }
+        }
+
+        @Override
+        public String description() {
+            return "Rejects requests when the Jolokia agent is overloaded";
+        }
+    }
+
+    // Statistics of a single thread. Only updated by the thread itself, so volatile fields are sufficient
+    private static final class ThreadStatistics {
+        private volatile long requests;
+        private volatile long busyNanos;
+        private volatile long maxNanos;
+        private long startNanos;
+
+        void start() {
+            startNanos = System.nanoTime();
+        }
+
+        void stop() {
+            long duration = System.nanoTime() - startNanos;
+            requests++;
+            busyNanos += duration;
+            if (duration > maxNanos) {
+                maxNanos = duration;
+            }
+        }
+
+        void reset() {
+            requests = 0;
+            busyNanos = 0;
+            maxNanos = 0;
+        }
+
+        Map<String, Long> toMap() {
+            Map<String, Long> ret = new LinkedHashMap<>();
+            ret.put("requests", requests);
+            ret.put("busyTime", TimeUnit.NANOSECONDS.toMillis(busyNanos));
+            ret.put("maxTime", TimeUnit.NANOSECONDS.toMillis(maxNanos));
+            return ret;
+        }
+    }
+}
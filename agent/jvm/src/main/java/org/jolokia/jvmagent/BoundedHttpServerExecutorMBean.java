@@ -0,0 +1,97 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.jvmagent;
+
+import java.util.Map;
+
+/**
+ * MBean interface exposing statistics of the {@link BoundedHttpServerExecutor} used by the
+ * JVM agent's HTTP server with the "bounded" executor model.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public interface BoundedHttpServerExecutorMBean {
+
+    /**
+     * Name under which the executor is registered (the agent id is appended)
+     */
+    String OBJECT_NAME = "jolokia:type=HttpServerExecutor";
+
+    /**
+     * Maximum number of threads processing requests
+     *
+     * @return maximum number of threads
+     */
+    int getMaximumPoolSize();
+
+    /**
+     * Number of threads currently alive
+     *
+     * @return number of threads
+     */
+    int getPoolSize();
+
+    /**
+     * Number of threads currently processing a request
+     *
+     * @return number of busy threads
+     */
+    int getActiveCount();
+
+    /**
+     * Number of requests waiting for a free thread
+     *
+     * @return number of queued requests
+     */
+    int getQueueSize();
+
+    /**
+     * Maximum number of requests waiting for a free thread before requests get rejected
+     *
+     * @return capacity of the queue
+     */
+    int getQueueCapacity();
+
+    /**
+     * Number of requests processed so far
+     *
+     * @return number of processed requests
+     */
+    long getCompletedTaskCount();
+
+    /**
+     * Number of requests answered with "503 Service Unavailable" because all threads were busy
+     * and the queue was full
+     *
+     * @return number of rejected requests
+     */
+    long getRejectedCount();
+
+    /**
+     * Statistics for each thread currently alive: the number of processed requests ("requests"),
+     * the overall processing time ("busyTime") and the longest processing time ("maxTime"), both in
+     * milliseconds.
+     *
+     * @return map with thread names as keys and statistics as values
+     */
+    Map<String, Map<String, Long>> getThreadStatistics();
+
+    /**
+     * Reset the request counters of all threads and the rejection counter
+     */
+    void resetStatistics();
+}
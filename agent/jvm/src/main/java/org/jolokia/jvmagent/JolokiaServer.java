@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.*;
 
+import javax.management.JMException;
 import javax.net.ssl.*;
 
 import com.sun.net.httpserver.*;
@@ -81,6 +82,9 @@ public class JolokiaServer {
     private HttpContext httpConfigContext;
     private HttpContext httpRootContext;
 
+    // Handler processing Jolokia requests (may be created lazily)
+    private volatile JolokiaHttpHandler jolokiaHttpHandler;
+
     private final List<File> filesToWatch = new ArrayList<>();
 
     /**
@@ -152,16 +156,22 @@ public class JolokiaServer {
      *              properly
      */
     public void start(boolean pLazy) {
-        HttpHandler jolokiaHttpHandler = createJolokiaHttpHandler(pLazy);
+        HttpHandler handler = createJolokiaHttpHandler(pLazy);
 
         String base = config.getContextPath();
         while (base.endsWith("/")) {
             base = base.substring(0, base.length() - 1);
         }
-        httpConfigContext = httpServer.createContext(base + "/config", jolokiaHttpHandler);
-        httpContext = httpServer.createContext(base, jolokiaHttpHandler);
-        httpRootContext = httpServer.createContext("/favicon.ico", jolokiaHttpHandler);
-
+        httpConfigContext = httpServer.createContext(base + "/config", handler);
+        httpContext = httpServer.createContext(base, handler);
+        httpRootContext = httpServer.createContext("/favicon.ico", handler);
+
+        if (httpServer.getExecutor() instanceof BoundedHttpServerExecutor) {
+            Filter rejectionFilter = ((BoundedHttpServerExecutor) httpServer.getExecutor()).createRejectionFilter();
+            for (HttpContext context : Arrays.asList(httpConfigContext, httpContext, httpRootContext)) {
+                context.getFilters().add(0, rejectionFilter);
+            }
+        }
         setupAuthentication();
         if (useOwnServer) {
             startCleanupThread();
@@ -175,6 +185,9 @@ public class JolokiaServer {
         httpServer.removeContext(httpConfigContext);
         httpServer.removeContext(httpContext);
         httpServer.removeContext(httpRootContext);
+        if (jolokiaHttpHandler != null) {
+            jolokiaHttpHandler.stop();
+        }
         serviceManager.stop();
 
         if (cleaner != null) {
@@ -304,11 +317,24 @@ public class JolokiaServer {
     // Startup the context and create the HttpHandler
     private HttpHandler startupJolokiaContext() {
         JolokiaContext jolokiaContext = serviceManager.start();
-        JolokiaHttpHandler jolokiaHttpHandler = new JolokiaHttpHandler(jolokiaContext, restrictor, config.getAuthenticator() != null);
+        jolokiaHttpHandler = new JolokiaHttpHandler(jolokiaContext, restrictor, config.getAuthenticator() != null);
         updateAgentUrl(jolokiaContext);
+        registerExecutorMBean(jolokiaContext);
         return jolokiaHttpHandler;
 }
 
+    // Expose the statistics of a bounded executor. The MBean is unregistered when the service manager stops.
+    private void registerExecutorMBean(JolokiaContext pJolokiaContext) {
+        if (httpServer.getExecutor() instanceof BoundedHttpServerExecutor) {
+            String name = BoundedHttpServerExecutorMBean.OBJECT_NAME + ",agent=" + pJolokiaContext.getAgentDetails().getAgentId();
+            try {
+                pJolokiaContext.registerMBean(httpServer.getExecutor(), name);
+            } catch (JMException e) {
+                pJolokiaContext.error("Cannot register MBean " + name + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
     // Update the Agent URL from the configuration or own URL
     private void updateAgentUrl(JolokiaContext pJolokiaContext) {
         // URL as configured takes precedence
@@ -425,21 +451,33 @@ public class JolokiaServer {
                         createHttpsServer(socketAddress, pConfig) :
                         HttpServer.create(socketAddress, pConfig.getBacklog());
 
+        server.setExecutor(createExecutor(pConfig));
+
+        return server;
+    }
+
+    // Prepare the executor according to the configured executor model
+    private Executor createExecutor(JolokiaServerConfig pConfig) {
         // Thread factory which creates only daemon threads
         ThreadFactory daemonThreadFactory = new DaemonThreadFactory(pConfig.getThreadNamePrefix());
-        // Prepare executor pool
-        Executor executor;
         String mode = pConfig.getExecutor();
         if ("fixed".equalsIgnoreCase(mode)) {
-            executor = Executors.newFixedThreadPool(pConfig.getThreadNr(), daemonThreadFactory);
+            return Executors.newFixedThreadPool(pConfig.getThreadNr(), daemonThreadFactory);
         } else if ("cached".equalsIgnoreCase(mode)) {
-            executor = Executors.newCachedThreadPool(daemonThreadFactory);
+            return Executors.newCachedThreadPool(daemonThreadFactory);
+        } else if ("bounded".equalsIgnoreCase(mode)) {
+            return new BoundedHttpServerExecutor(pConfig.getThreadNr(), pConfig.getQueueSize(), daemonThreadFactory);
+        } else if ("virtual".equalsIgnoreCase(mode)) {
+            ThreadFactory virtualThreadFactory = VirtualThreadUtil.createVirtualThreadFactory(pConfig.getThreadNamePrefix());
+            if (virtualThreadFactory != null) {
+                // a new virtual thread per exchange, virtual threads must not be pooled
+                return pRunnable -> virtualThreadFactory.newThread(pRunnable).start();
+            }
+            System.out.println("Jolokia: Virtual threads require JDK 21+, using 'cached' executor instead");
+            return Executors.newCachedThreadPool(daemonThreadFactory);
         } else {
-            executor = Executors.newSingleThreadExecutor(daemonThreadFactory);
+            return Executors.newSingleThreadExecutor(daemonThreadFactory);
         }
-        server.setExecutor(executor);
-
-        return server;
     }
 
     // =========================================================================================================
@@ -72,6 +72,7 @@ public class JolokiaServerConfig {
     private String        executor;
     private String        threadNamePrefix;
     private int           threadNr;
+    private int           queueSize;
     private String        keystore;
     private String        context;
     private boolean       useSslClientAuthentication;
@@ -262,7 +263,7 @@ public class JolokiaServerConfig {
 
     /**
      * Executor to use as provided by the 'executor' option or "single" as default
-     * @return the executor model ("fixed", "single" or "cached")
+     * @return the executor model ("fixed", "single", "cached", "bounded" or "virtual")
      */
     public String getExecutor() {
         return executor;
@@ -277,13 +278,22 @@ public class JolokiaServerConfig {
     }
 
     /**
-     * Thread number to use when executor model is "fixed"
+     * Thread number to use when executor model is "fixed" or "bounded"
      * @return number of fixed threads
      */
     public int getThreadNr() {
         return threadNr;
     }
 
+    /**
+     * Maximum number of requests waiting for a free thread when the executor model is "bounded".
+     * Further requests are answered with "503 Service Unavailable".
+     * @return size of the request queue
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
     /**
      * When the protocol is 'https' then this property indicates whether SSL client certificate
      * authentication should be used or not
@@ -687,15 +697,22 @@ public class JolokiaServerConfig {
         // Thread-Nr
         String threadNrS =  pAgentConfig.getOrDefault("threadNr", "5");
         threadNr = Integer.parseInt(threadNrS);
+        queueSize = Integer.parseInt(pAgentConfig.getOrDefault("queueSize", "100"));
+        if ("bounded".equalsIgnoreCase(executor) && (threadNr < 1 || queueSize < 0)) {
+            throw new IllegalArgumentException("Invalid configuration for 'bounded' executor: threadNr must be positive " +
+                                               "and queueSize must not be negative");
+        }
     }
 
     private void initExecutor(Map<String, String> agentConfig) {
         executor = agentConfig.getOrDefault("executor", "single");
         if (!"single".equalsIgnoreCase(executor) &&
                 !"fixed".equalsIgnoreCase(executor) &&
-                !"cached".equalsIgnoreCase(executor)) {
+                !"cached".equalsIgnoreCase(executor) &&
+                !"bounded".equalsIgnoreCase(executor) &&
+                !"virtual".equalsIgnoreCase(executor)) {
             throw new IllegalArgumentException("Invalid executor model: '" + executor +
-                                               "'. Must be either 'single', 'fixed' or 'cached'");
+                                               "'. Must be either 'single', 'fixed', 'cached', 'bounded' or 'virtual'");
         }
     }
 
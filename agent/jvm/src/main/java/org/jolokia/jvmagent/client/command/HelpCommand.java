@@ -90,9 +90,13 @@ public class HelpCommand extends AbstractBaseCommand {
 "                                     \"fixed\"  -- Thread pool with a fixed number of threads (default: 5)\n" +
 "                                     \"cached\" -- Cached Thread Pool, creates threads on demand\n" +
 "                                     \"single\" -- Single Thread - minimal resource consumption, but not recommended in production\n" +
+"                                     \"bounded\" -- Thread pool with a fixed number of threads and a bounded request queue,\n" +
+"                                                  requests are rejected with 503 when the queue is full\n" +
+"                                     \"virtual\" -- A new virtual thread for each request (JDK 21+)\n" +
 "    --threadNamePrefix <prefix>     Thread name prefix that executor will use while creating new thread(s)\n" +
 "                                    (default: jolokia-)\n" +
-"    --threadNr <nr threads>         Number of fixed threads if \"fixed\" is used as executor\n" +
+"    --threadNr <nr threads>         Number of threads if \"fixed\" or \"bounded\" is used as executor\n" +
+"    --queueSize <size>              Number of requests waiting for a thread if \"bounded\" is used as executor (default: 100)\n" +
 "    --backlog <backlog>             How many request to keep in the backlog (default: 10)\n" +
 "    --protocol <http|https>         Protocol which must be either \"http\" or \"https\" (default: http)\n" +
 "    --keystore <keystore>           Path to keystore (https only)\n" +
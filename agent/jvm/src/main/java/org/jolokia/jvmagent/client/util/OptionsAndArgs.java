@@ -41,6 +41,7 @@ public final class OptionsAndArgs {
             // JVM Agent options:
             "host", "port", "agentContext", "user", "password",
             "quiet!", "verbose!", "version!", "executor", "threadNamePrefix", "threadNr",
+            "queueSize",
             "backlog", "hide!", "protocol", "authMode", "authClass",
             "authUrl", "authPrincipalSpec", "authIgnoreCerts!",
             "startTimeout",
@@ -17,26 +17,29 @@ package org.jolokia.jvmagent.handler;/*
 
 import java.io.*;
 import java.util.Map;
-import java.util.concurrent.Executor;
 
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import org.jolokia.server.core.http.BackChannel;
 
 /**
+ * A back channel which keeps the {@link HttpExchange} open after the handler returned. No thread is
+ * needed for keeping the channel open, the exchange is only closed when {@link #close()} is called.
+ *
  * @author roland
  * @since 14/12/15
  */
-public class HttpExchangeBackChannel implements BackChannel, Runnable {
+public class HttpExchangeBackChannel implements BackChannel {
 
     private HttpExchange exchange;
-    private final Executor executor;
 
     private boolean closed = true;
 
-    public HttpExchangeBackChannel(HttpExchange pExchange,Executor pExecutor) {
+    // whether the response headers have been sent already
+    private boolean headersSent;
+
+    public HttpExchangeBackChannel(HttpExchange pExchange) {
         this.exchange = pExchange;
-        this.executor = pExecutor;
     }
 
     @Override
@@ -46,28 +49,23 @@ public class HttpExchangeBackChannel implements BackChannel, Runnable {
                                             "You need to create a new channel");
         }
         setResponseHeaders(pParams);
-        closed = false;
-        executor.execute(this);
-    }
-
-    // Wait forever until closed
-    public void run() {
-        synchronized (this) {
-            while (!closed) {
-                try {
-                    this.wait();
-                } catch (InterruptedException e) {
-                    // might happen when close is called ...
-                }
-            }
+        if (!"false".equals(String.valueOf(pParams.get(BackChannel.SEND_HEADERS_ON_OPEN)))) {
+            sendResponseHeaders();
         }
+        closed = false;
     }
 
     @Override
     public synchronized void close() {
         if (!closed) {
             closed = true;
-            this.notifyAll();
+            try {
+                if (!headersSent) {
+                    exchange.sendResponseHeaders(200, -1);
+                }
+            } catch (IOException e) {
+                // Connection is gone, nothing to send anymore
+            }
 
             // Close exchange which makes it invalid
             exchange.close();
@@ -83,15 +81,21 @@ public class HttpExchangeBackChannel implements BackChannel, Runnable {
     @Override
     public synchronized OutputStream getOutputStream() throws IOException {
         if (!closed) {
+            sendResponseHeaders();
             return exchange.getResponseBody();
         } else {
             throw new IOException("Channel is already closed");
         }
     }
 
+    @Override
+    public synchronized String getRequestHeader(String pName) {
+        return exchange != null ? exchange.getRequestHeaders().getFirst(pName) : null;
+    }
+
     // =====================================================
 
-    private void setResponseHeaders(Map<String, ?> pParams) throws IOException {
+    private void setResponseHeaders(Map<String, ?> pParams) {
         Headers headers = exchange.getResponseHeaders();
         if (pParams.containsKey(BackChannel.CONTENT_TYPE)) {
             String ct = (String) pParams.get(BackChannel.CONTENT_TYPE);
@@ -100,6 +104,12 @@ public class HttpExchangeBackChannel implements BackChannel, Runnable {
             }
             headers.add("Content-Type", ct);
         }
-        exchange.sendResponseHeaders(200,0);
+    }
+
+    private void sendResponseHeaders() throws IOException {
+        if (!headersSent) {
+            headersSent = true;
+            exchange.sendResponseHeaders(200, 0);
+        }
     }
 }
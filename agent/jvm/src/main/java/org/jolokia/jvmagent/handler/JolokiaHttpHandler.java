@@ -29,8 +29,6 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.security.auth.Subject;
@@ -44,6 +42,7 @@ import org.jolokia.jvmagent.security.CorsFilter;
 import org.jolokia.server.core.config.ConfigKey;
 import org.jolokia.server.core.http.BackChannelHolder;
 import org.jolokia.server.core.http.HttpRequestHandler;
+import org.jolokia.server.core.http.ResponseCompression;
 import org.jolokia.server.core.http.security.FetchMetadata;
 import org.jolokia.server.core.request.BadRequestException;
 import org.jolokia.server.core.request.EmptyResponseException;
@@ -79,9 +78,6 @@ public class JolokiaHttpHandler implements HttpHandler {
     // whether to allow reverse DNS lookup for checking the remote host
     private final boolean allowDnsReverseLookup;
 
-    // Backchannel Thread Pool (TODO: Optimize that for backchannel handling)
-    private final Executor backChannelThreadPool = Executors.newCachedThreadPool();
-
     private final SimpleDateFormat rfc1123Format;
 
     private final SubjectAccess subjectAccess;
@@ -90,6 +86,9 @@ public class JolokiaHttpHandler implements HttpHandler {
     // trusted proxy discarded untrusted incoming values of these headers and initiated trusted value chain
     private final boolean trustProxyHeaders;
 
+    // Compression of responses
+    private final ResponseCompression responseCompression;
+
     /**
      * Create a new HttpHandler for processing HTTP request
      *
@@ -119,6 +118,16 @@ public class JolokiaHttpHandler implements HttpHandler {
         subjectAccess = SubjectAccessProvider.getSubjectAccess();
 
         trustProxyHeaders = Boolean.parseBoolean(jolokiaContext.getConfig(ConfigKey.TRUST_PROXY_HEADERS));
+
+        responseCompression = ResponseCompression.fromConfig(jolokiaContext);
+    }
+
+    /**
+     * Release resources used by this handler. Should be called when the HTTP context of this
+     * handler is removed.
+     */
+    public void stop() {
+        requestHandler.destroy();
     }
 
     /**
@@ -253,7 +262,8 @@ public class JolokiaHttpHandler implements HttpHandler {
             return;
         } catch (EmptyResponseException exp) {
             // Don't close the connection, this is used for `Content-Type: text/event-stream` for notifications
-            // which will be sent using org.jolokia.service.notif.sse.SseHeartBeat
+            // which will be sent using org.jolokia.service.notif.sse.SseHeartBeat, and for long-poll notification
+            // pulls, which are answered when a notification arrives
             return;
         } catch (Throwable exp) {
             // handle exception not handled by org.jolokia.server.core.http.HttpRequestHandler()
@@ -271,7 +281,7 @@ public class JolokiaHttpHandler implements HttpHandler {
     }
 
     private void prepareBackChannel(HttpExchange pExchange) {
-        BackChannelHolder.set(new HttpExchangeBackChannel(pExchange, backChannelThreadPool));
+        BackChannelHolder.set(new HttpExchangeBackChannel(pExchange));
     }
 
     private void releaseBackChannel() {
@@ -446,17 +456,32 @@ public class JolokiaHttpHandler implements HttpHandler {
     private void sendResponse(HttpExchange pExchange, ParsedUri pParsedUri, JSONStructure pJson) throws IOException {
         Headers headers = pExchange.getResponseHeaders();
         if (pJson != null) {
+            // The connection is kept open (HTTP keep-alive), so that clients polling the agent can reuse it
             headers.set("Content-Type", getMimeType(pParsedUri) + "; charset=utf-8");
-            headers.add("Connection", "close");
-            pExchange.sendResponseHeaders(200, 0);
-            Writer writer = new OutputStreamWriter(pExchange.getResponseBody(), StandardCharsets.UTF_8);
-
+            OutputStream out;
+            String encoding = null;
+            if (responseCompression.isEnabled()) {
+                headers.add("Vary", "Accept-Encoding");
+                encoding = responseCompression.selectEncoding(pExchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            }
+            if (encoding != null) {
+                out = responseCompression.wrap(encoding, (contentEncoding, length) -> {
+                    if (contentEncoding != null) {
+                        headers.set("Content-Encoding", contentEncoding);
+                    }
+                    // 0 means chunked encoding for the JDK HTTP server
+                    pExchange.sendResponseHeaders(200, length > 0 ? length : 0);
+                    return pExchange.getResponseBody();
+                });
+            } else {
+                pExchange.sendResponseHeaders(200, 0);
+                out = pExchange.getResponseBody();
+            }
             String callback = pParsedUri.getParameter(ConfigKey.CALLBACK.getKeyValue());
-            IoUtil.streamResponseAndClose(writer, pJson, callback != null && MimeTypeUtil.isValidCallback(callback) ? callback : null);
+            IoUtil.streamResponseAndClose(out, pJson, callback != null && MimeTypeUtil.isValidCallback(callback) ? callback : null);
             pExchange.getResponseBody().close();
         } else {
             headers.set("Content-Type", "text/plain");
-            headers.add("Connection", "close");
             pExchange.sendResponseHeaders(200, -1);
             pExchange.getResponseBody().close();
         }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.jvmagent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpServer;
+import org.jolokia.server.core.util.DaemonThreadFactory;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * @author roland
+ * @since 2.6.1
+ */
+public class BoundedHttpServerExecutorTest {
+
+    @Test
+    public void rejectWhenBusy() throws Exception {
+        BoundedHttpServerExecutor executor = new BoundedHttpServerExecutor(1, 0, new DaemonThreadFactory("bounded-test-"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 10);
+        server.setExecutor(executor);
+        HttpContext context = server.createContext("/", exchange -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        context.getFilters().add(executor.createRejectionFilter());
+        server.start();
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+        try {
+            URL url = new URL("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/");
+            Future<Integer> blocking = clients.submit(() -> request(url));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // the only thread is busy and there is no queue
+            HttpURLConnection uc = (HttpURLConnection) url.openConnection();
+            assertEquals(uc.getResponseCode(), 503);
+            assertEquals(uc.getHeaderField("Retry-After"), "1");
+            assertEquals(executor.getRejectedCount(), 1);
+
+            release.countDown();
+            assertEquals(blocking.get(10, TimeUnit.SECONDS).intValue(), 200);
+            assertEquals(request(url), 200);
+            // statistics are updated after the response has been sent
+            long timeout = System.currentTimeMillis() + 5000;
+            while (executor.getCompletedTaskCount() < 2 && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10);
+            }
+
+            Map<String, Map<String, Long>> statistics = executor.getThreadStatistics();
+            assertEquals(statistics.size(), 1);
+            Map.Entry<String, Map<String, Long>> entry = statistics.entrySet().iterator().next();
+            assertTrue(entry.getKey().startsWith("bounded-test-"));
+            assertEquals(entry.getValue().get("requests").longValue(), 2L);
+            assertTrue(entry.getValue().get("maxTime") >= 0);
+            assertEquals(executor.getQueueCapacity(), 0);
+            assertEquals(executor.getMaximumPoolSize(), 1);
+
+            executor.resetStatistics();
+            assertEquals(executor.getRejectedCount(), 0);
+            assertEquals(executor.getThreadStatistics().get(entry.getKey()).get("requests").longValue(), 0L);
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void slowRejectedClientDoesNotBlockServer() throws Exception {
+        BoundedHttpServerExecutor executor = new BoundedHttpServerExecutor(1, 0, new DaemonThreadFactory("bounded-test-"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 10);
+        server.setExecutor(executor);
+        HttpContext context = server.createContext("/", exchange -> {
+            if (started.getCount() > 0) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        context.getFilters().add(executor.createRejectionFilter());
+        server.start();
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+        try (Socket slowClient = new Socket()) {
+            URL url = new URL("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/");
+            Future<Integer> blocking = clients.submit(() -> request(url));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // rejected, but never completes its request
+            slowClient.connect(server.getAddress());
+            slowClient.getOutputStream().write("GET / HTTP/1.1\r\n".getBytes(StandardCharsets.US_ASCII));
+            slowClient.getOutputStream().flush();
+            long timeout = System.currentTimeMillis() + 5000;
+            while (executor.getRejectedCount() < 1 && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10);
+            }
+            assertEquals(executor.getRejectedCount(), 1);
+
+            // the dispatcher thread is still accepting and dispatching requests
+            release.countDown();
+            assertEquals(blocking.get(10, TimeUnit.SECONDS).intValue(), 200);
+            assertEquals(request(url), 200);
+        } finally {
+            release.countDown();
+            clients.shutdownNow();
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private int request(URL pUrl) throws IOException {
+        HttpURLConnection uc = (HttpURLConnection) pUrl.openConnection();
+        uc.setReadTimeout(10000);
+        int code = uc.getResponseCode();
+        uc.getInputStream().readAllBytes();
+        return code;
+    }
+}
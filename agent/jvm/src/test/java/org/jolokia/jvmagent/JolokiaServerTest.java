@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
 import javax.net.ssl.*;
 
 import com.sun.net.httpserver.HttpServer;
@@ -62,6 +63,8 @@ public class JolokiaServerTest {
                 "executor=cached,threadNamePrefix=JolokiaServerTestExecutorFixedCached",
                 "executor=single,threadNamePrefix=JolokiaServerTestExecutorFixedSingle",
                 "executor=fixed,threadNamePrefix=jolokia-,threadNr=5",
+                "executor=bounded,threadNr=2,queueSize=5",
+                "executor=virtual,threadNamePrefix=JolokiaServerTestExecutorVirtual",
         };
 
         for (String c : configs) {
@@ -79,6 +82,47 @@ public class JolokiaServerTest {
         roundtrip(config, true);
     }
 
+    @Test
+    public void compressedResponse() throws Exception {
+        JvmAgentConfig config = new JvmAgentConfig(prepareConfigString("responseCompression=true,responseCompressionMinSize=10"));
+        JolokiaServer server = new JolokiaServer(config);
+        server.start();
+        try {
+            HttpURLConnection uc = (HttpURLConnection) new URL(server.getUrl()).openConnection();
+            uc.setRequestProperty("Accept-Encoding", "gzip");
+            assertEquals(uc.getResponseCode(), 200);
+            assertEquals(uc.getHeaderField("Content-Encoding"), "gzip");
+            assertEquals(uc.getHeaderField("Vary"), "Accept-Encoding");
+            String resp = EnvTestUtil.readToString(new GZIPInputStream(uc.getInputStream()));
+            assertTrue(resp.matches(".*type.*version.*") && resp.matches(".*" + Version.getAgentVersion() + ".*"));
+
+            // not accepted by the client
+            uc = (HttpURLConnection) new URL(server.getUrl()).openConnection();
+            assertEquals(uc.getResponseCode(), 200);
+            assertNull(uc.getHeaderField("Content-Encoding"));
+            resp = EnvTestUtil.readToString(uc.getInputStream());
+            assertTrue(resp.matches(".*" + Version.getAgentVersion() + ".*"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void connectionIsKeptOpen() throws Exception {
+        JolokiaServer server = new JolokiaServer(new JvmAgentConfig(prepareConfigString(null)));
+        server.start();
+        try {
+            for (int i = 0; i < 2; i++) {
+                HttpURLConnection uc = (HttpURLConnection) new URL(server.getUrl()).openConnection();
+                assertEquals(uc.getResponseCode(), 200);
+                assertNull(uc.getHeaderField("Connection"));
+                assertTrue(EnvTestUtil.readToString(uc.getInputStream()).matches(".*" + Version.getAgentVersion() + ".*"));
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
     @Test
     public void serverPicksThePort() throws Exception {
         roundtrip("host=localhost,port=0", true);
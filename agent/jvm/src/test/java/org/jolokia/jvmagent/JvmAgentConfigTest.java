@@ -89,6 +89,7 @@ public class JvmAgentConfigTest {
         assertEquals(config.getContextPath(), "/jolokia");
         assertEquals(config.getExecutor(), "single");
         assertEquals(config.getThreadNr(), 5);
+        assertEquals(config.getQueueSize(), 100);
         assertFalse(config.useSslClientAuthentication());
         assertNull(config.getKeystore());
         assertEquals(config.getKeystorePassword().length, 0);
@@ -179,6 +180,24 @@ public class JvmAgentConfigTest {
         new JvmAgentConfig("config=/bla.txt");
     }
 
+    @Test
+    public void boundedExecutor() {
+        JvmAgentConfig config = new JvmAgentConfig("executor=bounded,threadNr=3,queueSize=0");
+        assertEquals(config.getExecutor(), "bounded");
+        assertEquals(config.getThreadNr(), 3);
+        assertEquals(config.getQueueSize(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*bounded.*")
+    public void invalidBoundedExecutor() {
+        new JvmAgentConfig("executor=bounded,queueSize=-1");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*threads.*")
+    public void invalidExecutor() {
+        new JvmAgentConfig("executor=threads");
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void wrongProtocol() {
         new JvmAgentConfig("protocol=ftp");
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.jvmagent.handler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import com.sun.net.httpserver.HttpServer;
+import org.jolokia.server.core.http.BackChannel;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * @author roland
+ * @since 2.6.1
+ */
+public class HttpExchangeBackChannelTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private ExecutorService clients;
+    private URL url;
+
+    // channels opened by the handler
+    private final BlockingQueue<HttpExchangeBackChannel> channels = new LinkedBlockingQueue<>();
+
+    private Map<String, ?> params;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        executor = Executors.newFixedThreadPool(2);
+        clients = Executors.newSingleThreadExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 10);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            HttpExchangeBackChannel channel = new HttpExchangeBackChannel(exchange);
+            channel.open(params);
+            // the handler returns without closing the exchange, like for a long-poll pull
+            channels.add(channel);
+        });
+        server.start();
+        url = new URL("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+        clients.shutdownNow();
+    }
+
+    @Test
+    public void deferredResponse() throws Exception {
+        params = Map.of(BackChannel.CONTENT_TYPE, "application/json",
+                        BackChannel.ENCODING, "UTF-8",
+                        BackChannel.SEND_HEADERS_ON_OPEN, "false");
+        Future<HttpURLConnection> response = executeRequest();
+        HttpExchangeBackChannel channel = channels.poll(10, TimeUnit.SECONDS);
+        assertNotNull(channel);
+        assertFalse(channel.isClosed());
+        // nothing sent so far, the client is still waiting
+        Thread.sleep(100);
+        assertFalse(response.isDone());
+
+        try (OutputStream out = channel.getOutputStream()) {
+            out.write("{\"status\":200}".getBytes(StandardCharsets.UTF_8));
+        }
+        channel.close();
+        assertTrue(channel.isClosed());
+
+        HttpURLConnection uc = response.get(10, TimeUnit.SECONDS);
+        assertEquals(uc.getResponseCode(), 200);
+        assertEquals(uc.getContentType(), "application/json;charset=UTF-8");
+        assertEquals(readBody(uc), "{\"status\":200}");
+    }
+
+    @Test
+    public void closeWithoutResponse() throws Exception {
+        params = Map.of(BackChannel.SEND_HEADERS_ON_OPEN, "false");
+        Future<HttpURLConnection> response = executeRequest();
+        HttpExchangeBackChannel channel = channels.poll(10, TimeUnit.SECONDS);
+        assertNotNull(channel);
+        channel.close();
+
+        HttpURLConnection uc = response.get(10, TimeUnit.SECONDS);
+        assertEquals(uc.getResponseCode(), 200);
+        assertEquals(readBody(uc), "");
+    }
+
+    @Test
+    public void headersSentOnOpen() throws Exception {
+        params = Map.of(BackChannel.CONTENT_TYPE, "text/event-stream");
+        Future<HttpURLConnection> response = executeRequest();
+        HttpExchangeBackChannel channel = channels.poll(10, TimeUnit.SECONDS);
+        assertNotNull(channel);
+        try {
+            // headers are there before anything has been written, as required for SSE
+            HttpURLConnection uc = response.get(10, TimeUnit.SECONDS);
+            assertEquals(uc.getResponseCode(), 200);
+            assertEquals(uc.getContentType(), "text/event-stream");
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void noReuseAfterClose() throws Exception {
+        params = Map.of(BackChannel.SEND_HEADERS_ON_OPEN, "false");
+        Future<HttpURLConnection> response = executeRequest();
+        HttpExchangeBackChannel channel = channels.poll(10, TimeUnit.SECONDS);
+        assertNotNull(channel);
+        channel.close();
+        response.get(10, TimeUnit.SECONDS).getResponseCode();
+
+        // second close is a no-op
+        channel.close();
+        assertThrows(IOException.class, channel::getOutputStream);
+        assertThrows(IllegalStateException.class, () -> channel.open(params));
+    }
+
+    private Future<HttpURLConnection> executeRequest() {
+        return clients.submit(() -> {
+            HttpURLConnection uc = (HttpURLConnection) url.openConnection();
+            uc.setReadTimeout(10000);
+            uc.getResponseCode();
+            return uc;
+        });
+    }
+
+    private String readBody(HttpURLConnection pConnection) throws IOException {
+        try (InputStream in = pConnection.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -54,6 +54,7 @@ import org.jolokia.client.spi.HttpClientSpi;
 import org.jolokia.json.JSONArray;
 import org.jolokia.json.JSONObject;
 import org.jolokia.json.JSONStructure;
+import org.jolokia.json.parser.MemberVisitor;
 import org.jolokia.json.parser.ParseException;
 
 /**
@@ -85,7 +86,7 @@ public class Http4Client implements HttpClientSpi<HttpClient> {
             throws JolokiaException {
         HttpUriRequest httpRequest = prepareRequest(pRequest, method, parameters, targetConfig);
 
-        return execute(httpRequest, pRequest, pRequest.getType().getValue());
+        return execute(httpRequest, pRequest, pRequest.getResponseVisitor(parameters), pRequest.getType().getValue());
     }
 
     @Override
@@ -94,7 +95,7 @@ public class Http4Client implements HttpClientSpi<HttpClient> {
             throws JolokiaException {
         HttpUriRequest httpRequest = prepareRequests(pRequests, parameters, targetConfig);
 
-        return execute(httpRequest, null, "bulk");
+        return execute(httpRequest, null, null, "bulk");
     }
 
     @Override
@@ -196,11 +197,13 @@ public class Http4Client implements HttpClientSpi<HttpClient> {
      * Private method that sends already prepared {@link HttpRequest HTTP requests}.
      *
      * @param httpRequest
-     * @param jolokiaRequest request being sent over HTTP - could be null for bulk requests
-     * @param requestType    for logging purpose
+     * @param jolokiaRequest  request being sent over HTTP - could be null for bulk requests
+     * @param responseVisitor visitor called while parsing the response - could be null
+     * @param requestType     for logging purpose
      * @return
      */
-    private JSONStructure execute(HttpUriRequest httpRequest, JolokiaRequest jolokiaRequest, String requestType) throws JolokiaException {
+    private JSONStructure execute(HttpUriRequest httpRequest, JolokiaRequest jolokiaRequest, MemberVisitor responseVisitor, String requestType)
+            throws JolokiaException {
         try {
             HttpResponse response = client.execute(httpRequest);
             StatusLine statusLine = response.getStatusLine();
@@ -221,7 +224,7 @@ public class Http4Client implements HttpClientSpi<HttpClient> {
                     } else {
                         encoding = Charset.forName(contentEncoding.getValue());
                     }
-                    return HttpUtil.parseJsonResponse(entity.getContent(), encoding);
+                    return HttpUtil.parseJsonResponse(entity.getContent(), encoding, responseVisitor);
                 } catch (ParseException e) {
                     // JSON parsing error - convert to Jolokia exception
                     String errorType = e.getClass().getName();
@@ -15,16 +15,24 @@
  */
 package org.jolokia.client.httpclient5;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import org.apache.hc.client5.http.ConnectTimeoutException;
 import org.apache.hc.client5.http.ContextBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.Credentials;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
@@ -32,16 +40,21 @@ import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.jolokia.client.EscapeUtil;
 import org.jolokia.client.HttpUtil;
@@ -59,6 +72,7 @@ import org.jolokia.client.spi.HttpClientSpi;
 import org.jolokia.json.JSONArray;
 import org.jolokia.json.JSONObject;
 import org.jolokia.json.JSONStructure;
+import org.jolokia.json.parser.MemberVisitor;
 import org.jolokia.json.parser.ParseException;
 
 /**
@@ -67,6 +81,13 @@ import org.jolokia.json.parser.ParseException;
 public class Http5Client implements HttpClientSpi<HttpClient> {
 
     private final CloseableHttpClient client;
+
+    // factory for the client used by executeAsync(), which is only created (and started) when needed
+    private final Supplier<CloseableHttpAsyncClient> asyncClientFactory;
+    // both guarded by "this"
+    private CloseableHttpAsyncClient asyncClient;
+    private boolean closed;
+
     private final JolokiaClientBuilder.Configuration config;
     private final URI jolokiaAgentUrl;
     private final HttpHost jolokiaHost;
@@ -75,7 +96,24 @@ public class Http5Client implements HttpClientSpi<HttpClient> {
     private final AuthScope targetAuthScope;
 
     public Http5Client(CloseableHttpClient client, JolokiaClientBuilder.Configuration configuration, BasicCredentialsProvider credentialsProvider) {
+        this(client, null, configuration, credentialsProvider);
+    }
+
+    /**
+     * Create a client which uses a {@link CloseableHttpAsyncClient} for {@link #executeAsync}, so that no thread
+     * is blocked while waiting for the response. Without an async client, asynchronous requests are run with
+     * the blocking client in a shared thread pool.
+     *
+     * @param client              client used for blocking requests
+     * @param asyncClientFactory  creates the client used for asynchronous requests when the first one is sent
+     * @param configuration
+     * @param credentialsProvider
+     * @since 2.6.1
+     */
+    public Http5Client(CloseableHttpClient client, Supplier<CloseableHttpAsyncClient> asyncClientFactory,
+                       JolokiaClientBuilder.Configuration configuration, BasicCredentialsProvider credentialsProvider) {
         this.client = client;
+        this.asyncClientFactory = asyncClientFactory;
         this.config = configuration;
         this.jolokiaAgentUrl = this.config.url();
 
@@ -98,7 +136,7 @@ public class Http5Client implements HttpClientSpi<HttpClient> {
             throws JolokiaException {
         HttpUriRequest httpRequest = prepareRequest(pRequest, method, parameters, targetConfig);
 
-        return execute(httpRequest, pRequest, pRequest.getType().getValue());
+        return execute(httpRequest, pRequest, pRequest.getResponseVisitor(parameters), pRequest.getType().getValue());
     }
 
     @Override
@@ -107,7 +145,31 @@ public class Http5Client implements HttpClientSpi<HttpClient> {
             throws JolokiaException {
         HttpUriRequest httpRequest = prepareRequests(pRequests, parameters, targetConfig);
 
-        return execute(httpRequest, null, "bulk");
+        return execute(httpRequest, null, null, "bulk");
+    }
+
+    @Override
+    public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    CompletableFuture<JSONStructure> executeAsync(REQ pRequest, HttpMethod method, Map<JolokiaQueryParameter, String> parameters,
+                                                  JolokiaTargetConfig targetConfig) {
+        if (asyncClientFactory == null) {
+            return HttpClientSpi.super.executeAsync(pRequest, method, parameters, targetConfig);
+        }
+        HttpUriRequest httpRequest = prepareRequest(pRequest, method, parameters, targetConfig);
+
+        return executeAsync(httpRequest, pRequest.getResponseVisitor(parameters), pRequest.getType().getValue());
+    }
+
+    @Override
+    public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    CompletableFuture<JSONStructure> executeAsync(List<REQ> pRequests, Map<JolokiaQueryParameter, String> parameters,
+                                                  JolokiaTargetConfig targetConfig) {
+        if (asyncClientFactory == null) {
+            return HttpClientSpi.super.executeAsync(pRequests, parameters, targetConfig);
+        }
+        HttpUriRequest httpRequest = prepareRequests(pRequests, parameters, targetConfig);
+
+        return executeAsync(httpRequest, null, "bulk");
     }
 
     @Override
@@ -115,6 +177,13 @@ public class Http5Client implements HttpClientSpi<HttpClient> {
         if (client != null) {
             client.close();
         }
+        synchronized (this) {
+            closed = true;
+            if (asyncClient != null) {
+                asyncClient.close();
+                asyncClient = null;
+            }
+        }
     }
 
     // methods that help to convert between Jolokia requests/responses and HTTP requests/responses for Apache Http4 Client
@@ -209,35 +278,21 @@ public class Http5Client implements HttpClientSpi<HttpClient> {
      * Private method that sends already prepared {@link HttpUriRequest HTTP requests}.
      *
      * @param httpRequest
-     * @param jolokiaRequest request being sent over HTTP - could be null for bulk requests
-     * @param requestType    for logging purpose
+     * @param jolokiaRequest  request being sent over HTTP - could be null for bulk requests
+     * @param responseVisitor visitor called while parsing the response - could be null
+     * @param requestType     for logging purpose
      * @return
      */
-    private JSONStructure execute(HttpUriRequest httpRequest, JolokiaRequest jolokiaRequest, String requestType) throws JolokiaException {
-        HttpClientContext httpContext = null;
-        Credentials credentials = credentialsProvider.getCredentials(targetAuthScope, null);
-        if (credentials instanceof UsernamePasswordCredentials basicAuth) {
-            // https://github.com/apache/httpcomponents-client/blob/master/httpclient5/src/test/java/org/apache/hc/client5/http/examples/ClientPreemptiveBasicAuthentication.java
-            httpContext = ContextBuilder.create()
-                .useCredentialsProvider(credentialsProvider)
-                .preemptiveBasicAuth(jolokiaHost, basicAuth)
-                .build();
-        }
-
+    private JSONStructure execute(HttpUriRequest httpRequest, JolokiaRequest jolokiaRequest, MemberVisitor responseVisitor, String requestType)
+            throws JolokiaException {
         HttpClientResponseHandler<ProcessedResponse> responseHandler = new HttpClientResponseHandler<>() {
             @Override
             public ProcessedResponse handleResponse(ClassicHttpResponse response) throws IOException {
                 HttpEntity entity = response.getEntity();
                 try {
-                    Charset encoding;
-                    String contentEncoding = entity == null ? null : entity.getContentEncoding();
-                    if (contentEncoding == null) {
-                        encoding = config.contentCharset() == null ? StandardCharsets.ISO_8859_1 : config.contentCharset();
-                    } else {
-                        encoding = Charset.forName(contentEncoding);
-                    }
                     if (entity != null && entity.getContent() != null) {
-                        JSONStructure json = HttpUtil.parseJsonResponse(entity.getContent(), encoding);
+                        JSONStructure json = HttpUtil.parseJsonResponse(entity.getContent(),
+                            determineEncoding(entity.getContentEncoding()), responseVisitor);
                         return new ProcessedResponse(response, json, null, response.getCode());
                     }
                     // nothing to parse, but no exception...
@@ -249,43 +304,205 @@ public class Http5Client implements HttpClientSpi<HttpClient> {
         };
 
         try {
-            ProcessedResponse response = client.execute(httpRequest, httpContext, responseHandler);
-            int errorCode = response.code();
+            return processResponse(client.execute(httpRequest, createContext(), responseHandler), requestType);
+        } catch (IOException e) {
+            throw translateException(e, requestType);
+        }
+    }
 
-            if (errorCode != 200) {
-                // no need to parse, because Jolokia JSON responses for errors are sent with HTTP 200 code
-                throw new JolokiaHttpException("HTTP error " + errorCode + " sending " + requestType + " Jolokia request", errorCode);
-            }
+    /**
+     * Private method that sends already prepared {@link HttpUriRequest HTTP requests} with the asynchronous
+     * client. The body of the response is collected in memory and parsed when it's complete.
+     *
+     * @param httpRequest
+     * @param responseVisitor visitor called while parsing the response - could be null
+     * @param requestType     for logging purpose
+     * @return
+     */
+    private CompletableFuture<JSONStructure> executeAsync(HttpUriRequest httpRequest, MemberVisitor responseVisitor, String requestType) {
+        CompletableFuture<JSONStructure> result = new CompletableFuture<>();
+        Future<SimpleHttpResponse> exchange;
+        try {
+            exchange = getAsyncClient().execute(toAsyncRequest(httpRequest), createContext(), new FutureCallback<>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    try {
+                        result.complete(processResponse(parseResponse(response, responseVisitor), requestType));
+                    } catch (IOException e) {
+                        result.completeExceptionally(translateException(e, requestType));
+                    } catch (JolokiaException | RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                }
 
-            Exception e = response.exception();
+                @Override
+                public void failed(Exception e) {
+                    if (e instanceof IOException ioException) {
+                        result.completeExceptionally(translateException(ioException, requestType));
+                    } else {
+                        String msg = "Exception when processing " + requestType + " request to " + jolokiaAgentUrl + ": " + e.getMessage();
+                        result.completeExceptionally(new JolokiaException(msg, e));
+                    }
+                }
+
+                @Override
+                public void cancelled() {
+                    result.cancel(false);
+                }
+            });
+        } catch (IOException e) {
+            result.completeExceptionally(translateException(e, requestType));
+            return result;
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        // cancellation or a timeout aborts the HTTP exchange
+        result.whenComplete((r, e) -> {
             if (e != null) {
-                // we know that the only exception we can get here is ParseException, so we shouldn't
-                // throw JolokiaRemoteException - but for compatibility reasons we do that
-                String errorType = e.getClass().getName();
-                String message = "Error parsing " + requestType + " response: " + e.getMessage();
-                throw new JolokiaException(message);
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Parse the body of a response received by the asynchronous client
+     *
+     * @param response
+     * @param responseVisitor visitor called while parsing the response - could be null
+     * @return
+     */
+    private ProcessedResponse parseResponse(SimpleHttpResponse response, MemberVisitor responseVisitor) throws IOException {
+        byte[] body = response.getBodyBytes();
+        if (body == null) {
+            // nothing to parse, but no exception...
+            return new ProcessedResponse(response, null, null, response.getCode());
+        }
+        Header contentEncoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+        try {
+            JSONStructure json = HttpUtil.parseJsonResponse(new ByteArrayInputStream(body),
+                determineEncoding(contentEncoding == null ? null : contentEncoding.getValue()), responseVisitor);
+            return new ProcessedResponse(response, json, null, response.getCode());
+        } catch (ParseException e) {
+            return new ProcessedResponse(response, null, e, response.getCode());
+        }
+    }
+
+    /**
+     * Get the client for asynchronous requests, which is created and started with the first request
+     *
+     * @return
+     * @throws IOException if this client has been closed already
+     */
+    private synchronized CloseableHttpAsyncClient getAsyncClient() throws IOException {
+        if (asyncClient == null) {
+            if (closed) {
+                throw new IOException("Client has been closed");
             }
+            asyncClient = asyncClientFactory.get();
+            asyncClient.start();
+        }
+        return asyncClient;
+    }
 
-            JSONStructure json = response.json();
-            if (json != null) {
-                return json;
+    /**
+     * Convert a request prepared for the blocking client into a request for the asynchronous client
+     *
+     * @param httpRequest
+     * @return
+     */
+    private SimpleHttpRequest toAsyncRequest(HttpUriRequest httpRequest) throws IOException {
+        try {
+            SimpleRequestBuilder builder = SimpleRequestBuilder.create(httpRequest.getMethod())
+                .setUri(httpRequest.getUri());
+            HttpEntity entity = httpRequest.getEntity();
+            if (entity != null) {
+                // the body is always JSON, which is marked by the Content-Type header of the request
+                builder.setBody(EntityUtils.toByteArray(entity), ContentType.APPLICATION_JSON);
             }
+            return builder.build();
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid URI of " + httpRequest.getMethod() + " request: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Context for a request, which takes care of preemptive authentication
+     *
+     * @return
+     */
+    private HttpClientContext createContext() {
+        Credentials credentials = credentialsProvider.getCredentials(targetAuthScope, null);
+        if (credentials instanceof UsernamePasswordCredentials basicAuth) {
+            // https://github.com/apache/httpcomponents-client/blob/master/httpclient5/src/test/java/org/apache/hc/client5/http/examples/ClientPreemptiveBasicAuthentication.java
+            return ContextBuilder.create()
+                .useCredentialsProvider(credentialsProvider)
+                .preemptiveBasicAuth(jolokiaHost, basicAuth)
+                .build();
+        }
+        return null;
+    }
 
-            // no data at all
-            throw new JolokiaException("No data received from the remote Jolokia Agent for " + requestType);
-        } catch (ConnectException e) {
+    private Charset determineEncoding(String contentEncoding) {
+        if (contentEncoding == null) {
+            return config.contentCharset() == null ? StandardCharsets.ISO_8859_1 : config.contentCharset();
+        }
+        return Charset.forName(contentEncoding);
+    }
+
+    /**
+     * Check the status of a received response and return its parsed body.
+     *
+     * @param response
+     * @param requestType for logging purpose
+     * @return
+     */
+    private JSONStructure processResponse(ProcessedResponse response, String requestType) throws JolokiaException {
+        int errorCode = response.code();
+
+        if (errorCode != 200) {
+            // no need to parse, because Jolokia JSON responses for errors are sent with HTTP 200 code
+            throw new JolokiaHttpException("HTTP error " + errorCode + " sending " + requestType + " Jolokia request", errorCode);
+        }
+
+        Exception e = response.exception();
+        if (e != null) {
+            // we know that the only exception we can get here is ParseException, so we shouldn't
+            // throw JolokiaRemoteException - but for compatibility reasons we do that
+            String message = "Error parsing " + requestType + " response: " + e.getMessage();
+            throw new JolokiaException(message);
+        }
+
+        JSONStructure json = response.json();
+        if (json != null) {
+            return json;
+        }
+
+        // no data at all
+        throw new JolokiaException("No data received from the remote Jolokia Agent for " + requestType);
+    }
+
+    /**
+     * Convert an {@link IOException} thrown by the HTTP Client into a {@link JolokiaException}
+     *
+     * @param e
+     * @param requestType for logging purpose
+     * @return
+     */
+    private JolokiaException translateException(IOException e, String requestType) {
+        if (e instanceof ConnectException connectException) {
             String msg = "Cannot connect to " + jolokiaAgentUrl + ": " + e.getMessage();
-            throw new JolokiaConnectException(msg, e);
-        } catch (ConnectTimeoutException e) {
+            return new JolokiaConnectException(msg, connectException);
+        } else if (e instanceof ConnectTimeoutException) {
             String msg = "Connection timeout when sending " + requestType + " request to " + jolokiaAgentUrl + ": " + e.getMessage();
-            throw new JolokiaTimeoutException(msg, e);
-        } catch (ConnectionRequestTimeoutException e) {
+            return new JolokiaTimeoutException(msg, e);
+        } else if (e instanceof ConnectionRequestTimeoutException) {
             String msg = "Timeout getting pooled connection when sending " + requestType + " request to " + jolokiaAgentUrl + ": " + e.getMessage();
-            throw new JolokiaTimeoutException(msg, e);
-        } catch (IOException e) {
-            String msg = "I/O exception when processing " + requestType + " request to " + jolokiaAgentUrl + ": " + e.getMessage();
-            throw new JolokiaException(msg, e);
+            return new JolokiaTimeoutException(msg, e);
         }
+        String msg = "I/O exception when processing " + requestType + " request to " + jolokiaAgentUrl + ": " + e.getMessage();
+        return new JolokiaException(msg, e);
     }
 
     /**
@@ -297,7 +514,7 @@ public class Http5Client implements HttpClientSpi<HttpClient> {
      * @param exception
      * @param code
      */
-    private record ProcessedResponse(ClassicHttpResponse response, JSONStructure json, ParseException exception, int code) {
+    private record ProcessedResponse(HttpResponse response, JSONStructure json, ParseException exception, int code) {
     }
 
 }
@@ -21,8 +21,10 @@ import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
@@ -36,12 +38,17 @@ import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.BasicHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
 import org.apache.hc.core5.http.EntityDetails;
@@ -53,6 +60,7 @@ import org.apache.hc.core5.http.config.RegistryBuilder;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.reactor.IOReactorConfig;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.VersionInfo;
 import org.jolokia.client.JolokiaClientBuilder;
@@ -75,17 +83,14 @@ public class Http5ClientBuilder implements HttpClientBuilder<HttpClient> {
         // see: https://github.com/apache/httpcomponents-client/blob/master/httpclient5/src/test/java/org/apache/hc/client5/http/examples/ClientConfiguration.java
 
         org.apache.hc.client5.http.impl.classic.HttpClientBuilder builder = HttpClients.custom()
-            .setUserAgent("Jolokia JMX-Client (using Apache-HttpClient/" + getVersionInfo() + ")")
+            .setUserAgent(getUserAgent())
             .setConnectionManager(createConnectionManager(jcb))
             .setDefaultCookieStore(new BasicCookieStore())
             .setDefaultRequestConfig(createRequestConfig(jcb));
 
         // Default headers
-        Collection<HttpHeader> defaultHttpHeaders = jcb.defaultHttpHeaders();
-        if (defaultHttpHeaders != null && !defaultHttpHeaders.isEmpty()) {
-            Collection<BasicHeader> headers = defaultHttpHeaders.stream()
-                .map(h -> new BasicHeader(h.name(), h.value()))
-                .toList();
+        Collection<BasicHeader> headers = getDefaultHeaders(jcb);
+        if (!headers.isEmpty()) {
             builder.setDefaultHeaders(headers);
         }
 
@@ -121,6 +126,11 @@ public class Http5ClientBuilder implements HttpClientBuilder<HttpClient> {
             builder.setDefaultCredentialsProvider(credentialsProvider);
         }
 
+        // the async client is configured in the same way, but created only when asynchronous requests are sent
+        boolean useCredentials = credentialsProvided;
+        Supplier<CloseableHttpAsyncClient> asyncClientFactory =
+            () -> createAsyncClient(jcb, useCredentials ? credentialsProvider : null);
+
         if (jcb.customizer() != null) {
             Class<?> builderClass = jcb.clientBuilderClass();
             if (!builderClass.isAssignableFrom(builder.getClass())) {
@@ -130,7 +140,56 @@ public class Http5ClientBuilder implements HttpClientBuilder<HttpClient> {
             ((Consumer<org.apache.hc.client5.http.impl.classic.HttpClientBuilder>) jcb.customizer()).accept(builder);
         }
 
-        return new Http5Client(builder.build(), jcb, credentialsProvider);
+        return new Http5Client(builder.build(), asyncClientFactory, jcb, credentialsProvider);
+    }
+
+    /**
+     * Create the {@link CloseableHttpAsyncClient} used for {@link HttpClientSpi#executeAsync}. It's configured
+     * like the blocking client, with the exception of the {@link JolokiaClientBuilder.Configuration#customizer()},
+     * which is only applied to the builder of the blocking client.
+     *
+     * @param jcb
+     * @param credentialsProvider credentials for the target and the proxy - could be null
+     * @return
+     */
+    private CloseableHttpAsyncClient createAsyncClient(JolokiaClientBuilder.Configuration jcb, BasicCredentialsProvider credentialsProvider) {
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+            .setUserAgent(getUserAgent())
+            .setConnectionManager(createAsyncConnectionManager(jcb))
+            .setIOReactorConfig(createIOReactorConfig(jcb))
+            .setDefaultCookieStore(new BasicCookieStore())
+            .setDefaultRequestConfig(createRequestConfig(jcb));
+
+        Collection<BasicHeader> headers = getDefaultHeaders(jcb);
+        if (!headers.isEmpty()) {
+            builder.setDefaultHeaders(headers);
+        }
+        if (jcb.user() != null && !jcb.user().isEmpty()) {
+            builder.addRequestInterceptorFirst(new PreemptiveAuthRequestInterceptor(jcb));
+        }
+        JolokiaClientBuilder.Proxy httpProxy = jcb.proxy();
+        if (httpProxy != null) {
+            builder.setProxy(new HttpHost(httpProxy.getHost(), httpProxy.getPort()));
+        }
+        if (credentialsProvider != null) {
+            builder.setDefaultCredentialsProvider(credentialsProvider);
+        }
+
+        return builder.build();
+    }
+
+    private static String getUserAgent() {
+        return "Jolokia JMX-Client (using Apache-HttpClient/" + getVersionInfo() + ")";
+    }
+
+    private static Collection<BasicHeader> getDefaultHeaders(JolokiaClientBuilder.Configuration jcb) {
+        Collection<HttpHeader> defaultHttpHeaders = jcb.defaultHttpHeaders();
+        if (defaultHttpHeaders == null) {
+            return List.of();
+        }
+        return defaultHttpHeaders.stream()
+            .map(h -> new BasicHeader(h.name(), h.value()))
+            .toList();
     }
 
     /**
@@ -152,18 +211,11 @@ public class Http5ClientBuilder implements HttpClientBuilder<HttpClient> {
      */
     private HttpClientConnectionManager createConnectionManager(JolokiaClientBuilder.Configuration jcb) {
         // connection config
-        ConnectionConfig.Builder ccBuilder = ConnectionConfig.custom();
-        JolokiaClientBuilder.ConnectionConfiguration jcbConnectionConfig = jcb.connectionConfig();
-        if (jcbConnectionConfig.connectionTimeout() != -1) {
-            ccBuilder.setConnectTimeout(jcbConnectionConfig.connectionTimeout(), TimeUnit.MILLISECONDS);
-        }
-        if (jcbConnectionConfig.socketTimeout() != -1) {
-            ccBuilder.setSocketTimeout(jcbConnectionConfig.socketTimeout(), TimeUnit.MILLISECONDS);
-        }
-        ConnectionConfig connectionConfig = ccBuilder.build();
+        ConnectionConfig connectionConfig = createConnectionConfig(jcb);
 
         // socket config
         SocketConfig.Builder scBuilder = SocketConfig.custom();
+        JolokiaClientBuilder.ConnectionConfiguration jcbConnectionConfig = jcb.connectionConfig();
         scBuilder.setRcvBufSize(jcbConnectionConfig.socketBufferSize());
         scBuilder.setSndBufSize(jcbConnectionConfig.socketBufferSize());
         if (jcbConnectionConfig.socketTimeout() != -1) {
@@ -173,29 +225,14 @@ public class Http5ClientBuilder implements HttpClientBuilder<HttpClient> {
         SocketConfig socketConfig = scBuilder.build();
 
         // TLS config
-        TlsConfig tlsConfig = null;
-        SSLContext sslContext;
-        TlsSocketStrategy tlsStrategy = null;
+        TlsConfig tlsConfig = createTlsConfig(jcb);
+        DefaultClientTlsStrategy tlsStrategy = createTlsStrategy(jcb);
 
         RegistryBuilder<TlsSocketStrategy> registryBuilder = RegistryBuilder.create();
-        Registry<TlsSocketStrategy> registry;
-
-        if (jcb.tlsConfig() != null && jcb.tlsConfig().protocolVersion() != null) {
-            TlsConfig.Builder tcBuilder = TlsConfig.custom();
-            tcBuilder.setSupportedProtocols(jcb.tlsConfig().protocolVersion());
-            tlsConfig = tcBuilder.build();
-
-            try {
-                sslContext = createSSLSocketFactory(jcb);
-                tlsStrategy = new DefaultClientTlsStrategy(sslContext);
-
-                registryBuilder.register("https", tlsStrategy);
-
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Problem with TLS configuration: " + e.getMessage(), e);
-            }
+        if (tlsStrategy != null) {
+            registryBuilder.register("https", tlsStrategy);
         }
-        registry = registryBuilder.build();
+        Registry<TlsSocketStrategy> registry = registryBuilder.build();
 
         HttpClientConnectionManager manager;
 
@@ -227,6 +264,82 @@ public class Http5ClientBuilder implements HttpClientBuilder<HttpClient> {
         return manager;
     }
 
+    /**
+     * {@link AsyncClientConnectionManager} for the asynchronous client. There's no basic (single connection)
+     * manager for async clients, so without pooling, a pool with a single connection is used.
+     *
+     * @param jcb
+     * @return
+     */
+    private AsyncClientConnectionManager createAsyncConnectionManager(JolokiaClientBuilder.Configuration jcb) {
+        int maxConnections = jcb.poolConfig().usePool() ? jcb.poolConfig().maxConnections() : 1;
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+            .setSchemePortResolver(DefaultSchemePortResolver.INSTANCE)
+            .setDnsResolver(SystemDefaultDnsResolver.INSTANCE)
+            .setDefaultConnectionConfig(createConnectionConfig(jcb))
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections)
+            .setTlsStrategy(createTlsStrategy(jcb))
+            .setDefaultTlsConfig(createTlsConfig(jcb))
+            .build();
+    }
+
+    /**
+     * Socket options of the asynchronous client, which are configured for its I/O reactor
+     *
+     * @param jcb
+     * @return
+     */
+    private IOReactorConfig createIOReactorConfig(JolokiaClientBuilder.Configuration jcb) {
+        JolokiaClientBuilder.ConnectionConfiguration jcbConnectionConfig = jcb.connectionConfig();
+        IOReactorConfig.Builder builder = IOReactorConfig.custom();
+        builder.setRcvBufSize(jcbConnectionConfig.socketBufferSize());
+        builder.setSndBufSize(jcbConnectionConfig.socketBufferSize());
+        if (jcbConnectionConfig.socketTimeout() != -1) {
+            builder.setSoTimeout(jcbConnectionConfig.socketTimeout(), TimeUnit.MILLISECONDS);
+        }
+        builder.setTcpNoDelay(jcbConnectionConfig.tcpNoDelay());
+        return builder.build();
+    }
+
+    private ConnectionConfig createConnectionConfig(JolokiaClientBuilder.Configuration jcb) {
+        ConnectionConfig.Builder ccBuilder = ConnectionConfig.custom();
+        JolokiaClientBuilder.ConnectionConfiguration jcbConnectionConfig = jcb.connectionConfig();
+        if (jcbConnectionConfig.connectionTimeout() != -1) {
+            ccBuilder.setConnectTimeout(jcbConnectionConfig.connectionTimeout(), TimeUnit.MILLISECONDS);
+        }
+        if (jcbConnectionConfig.socketTimeout() != -1) {
+            ccBuilder.setSocketTimeout(jcbConnectionConfig.socketTimeout(), TimeUnit.MILLISECONDS);
+        }
+        return ccBuilder.build();
+    }
+
+    private TlsConfig createTlsConfig(JolokiaClientBuilder.Configuration jcb) {
+        if (jcb.tlsConfig() != null && jcb.tlsConfig().protocolVersion() != null) {
+            TlsConfig.Builder tcBuilder = TlsConfig.custom();
+            tcBuilder.setSupportedProtocols(jcb.tlsConfig().protocolVersion());
+            return tcBuilder.build();
+        }
+        return null;
+    }
+
+    /**
+     * {@link DefaultClientTlsStrategy} used by the blocking and the asynchronous client
+     *
+     * @param jcb
+     * @return the strategy or {@code null} if there's no TLS configuration
+     */
+    private DefaultClientTlsStrategy createTlsStrategy(JolokiaClientBuilder.Configuration jcb) {
+        if (jcb.tlsConfig() != null && jcb.tlsConfig().protocolVersion() != null) {
+            try {
+                return new DefaultClientTlsStrategy(createSSLSocketFactory(jcb));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Problem with TLS configuration: " + e.getMessage(), e);
+            }
+        }
+        return null;
+    }
+
     private RequestConfig createRequestConfig(JolokiaClientBuilder.Configuration jcb) {
         RequestConfig.Builder builder = RequestConfig.custom();
         builder.setExpectContinueEnabled(jcb.expectContinue());
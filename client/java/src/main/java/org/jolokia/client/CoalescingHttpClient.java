@@ -0,0 +1,370 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jolokia.client.exception.JolokiaException;
+import org.jolokia.client.exception.JolokiaHttpException;
+import org.jolokia.client.request.HttpMethod;
+import org.jolokia.client.request.JolokiaNotificationRequest;
+import org.jolokia.client.request.JolokiaRequest;
+import org.jolokia.client.response.JolokiaResponse;
+import org.jolokia.client.spi.HttpClientSpi;
+import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONObject;
+import org.jolokia.json.JSONStructure;
+
+/**
+ * <p>{@link HttpClientSpi} decorator which coalesces single {@link JolokiaRequest requests} into bulk requests.
+ * Requests sent within a short time window (with the same processing options and proxy configuration) are
+ * collected and sent to the agent with a single HTTP request. Each caller gets its own part of the bulk response,
+ * so for the caller (usually a {@link JolokiaClient}) nothing changes except for the latency added by
+ * the window.</p>
+ *
+ * <p>A batch is sent when the window since its first request has elapsed or when the maximum batch size is
+ * reached. Bulk requests, requests explicitly sent with {@link HttpMethod#GET} and requests with a
+ * {@link JolokiaRequest#getResponseVisitor response visitor} (which works only for single responses) are not
+ * coalesced. {@link JolokiaNotificationRequest Notification requests} aren't coalesced either, because a pull
+ * request waiting for notifications must be sent alone.</p>
+ *
+ * <p>When the agent rejects a bulk request as a whole (e.g. because one of the requests is invalid), its requests
+ * are sent again one by one, so that only the caller of the invalid request gets the error.</p>
+ *
+ * <p>The number of requests and batches sent can be used to check how well requests are coalesced.
+ * This client can be retrieved with {@link JolokiaClient#getHttpClient(Class)}.</p>
+ *
+ * @param <T> type of the underlying HTTP Client
+ * @since 2.6.1
+ */
+public class CoalescingHttpClient<T> implements HttpClientSpi<T> {
+
+    private final HttpClientSpi<T> delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    // timer for sending batches when their window has elapsed
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    // batches which are still collecting requests, guarded by itself
+    private final Map<BatchKey, Batch> pendingBatches = new HashMap<>();
+    private boolean closed;
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final AtomicLong largestBatchSize = new AtomicLong();
+
+    /**
+     * Create a coalescing client
+     *
+     * @param pDelegate     client to send the (bulk) requests with
+     * @param pWindow       time to wait for more requests after the first request of a batch
+     * @param pMaxBatchSize maximum number of requests sent in a single bulk request
+     */
+    public CoalescingHttpClient(HttpClientSpi<T> pDelegate, Duration pWindow, int pMaxBatchSize) {
+        if (pWindow.isNegative() || pWindow.isZero()) {
+            throw new IllegalArgumentException("Coalescing window must be positive: " + pWindow);
+        }
+        if (pMaxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be positive: " + pMaxBatchSize);
+        }
+        delegate = pDelegate;
+        windowNanos = pWindow.toNanos();
+        maxBatchSize = pMaxBatchSize;
+
+        scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "jolokia-client-coalescing");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    JSONStructure execute(REQ pRequest, HttpMethod pMethod, Map<JolokiaQueryParameter, String> pParameters, JolokiaTargetConfig pTargetConfig)
+            throws JolokiaException {
+        if (!isCoalesced(pRequest, pMethod, pParameters)) {
+            return delegate.execute(pRequest, pMethod, pParameters, pTargetConfig);
+        }
+        CompletableFuture<JSONStructure> future = executeAsync(pRequest, pMethod, pParameters, pTargetConfig);
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JolokiaException jolokiaException) {
+                throw jolokiaException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new JolokiaException("Error sending " + pRequest.getType().getValue() + " Jolokia request: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new JolokiaException("Interrupted while sending " + pRequest.getType().getValue() + " Jolokia request", e);
+        }
+    }
+
+    @Override
+    public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    JSONStructure execute(List<REQ> pRequests, Map<JolokiaQueryParameter, String> pParameters, JolokiaTargetConfig pTargetConfig)
+            throws JolokiaException {
+        return delegate.execute(pRequests, pParameters, pTargetConfig);
+    }
+
+    @Override
+    public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    CompletableFuture<JSONStructure> executeAsync(REQ pRequest, HttpMethod pMethod, Map<JolokiaQueryParameter, String> pParameters,
+                                                  JolokiaTargetConfig pTargetConfig) {
+        if (!isCoalesced(pRequest, pMethod, pParameters)) {
+            return delegate.executeAsync(pRequest, pMethod, pParameters, pTargetConfig);
+        }
+        PendingRequest pending = new PendingRequest(pRequest, new CompletableFuture<>());
+        BatchKey key = new BatchKey(pParameters == null || pParameters.isEmpty() ? null : new HashMap<>(pParameters), pTargetConfig);
+        Batch full = null;
+        synchronized (pendingBatches) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new JolokiaException("Jolokia client has been closed"));
+            }
+            Batch batch = pendingBatches.get(key);
+            if (batch == null) {
+                batch = new Batch(key);
+                pendingBatches.put(key, batch);
+                Batch newBatch = batch;
+                batch.timer = scheduler.schedule(() -> sendWhenPending(newBatch), windowNanos, TimeUnit.NANOSECONDS);
+            }
+            batch.requests.add(pending);
+            if (batch.requests.size() >= maxBatchSize) {
+                pendingBatches.remove(key);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            full.timer.cancel(false);
+            send(full);
+        }
+        return pending.future;
+    }
+
+    @Override
+    public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    CompletableFuture<JSONStructure> executeAsync(List<REQ> pRequests, Map<JolokiaQueryParameter, String> pParameters,
+                                                  JolokiaTargetConfig pTargetConfig) {
+        return delegate.executeAsync(pRequests, pParameters, pTargetConfig);
+    }
+
+    @Override
+    public T getClient(Class<T> clientClass) {
+        if (clientClass.isInstance(this)) {
+            return clientClass.cast(this);
+        }
+        return delegate.getClient(clientClass);
+    }
+
+    /**
+     * Get the number of single requests sent so far, either coalesced or alone
+     *
+     * @return number of requests
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Get the number of HTTP requests used for sending the {@link #getRequestCount() single requests}
+     *
+     * @return number of batches
+     */
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    /**
+     * Get the size of the largest batch sent so far
+     *
+     * @return number of requests in the largest batch
+     */
+    public long getLargestBatchSize() {
+        return largestBatchSize.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        List<Batch> unsent;
+        synchronized (pendingBatches) {
+            closed = true;
+            unsent = new ArrayList<>(pendingBatches.values());
+            pendingBatches.clear();
+        }
+        scheduler.shutdownNow();
+        for (Batch batch : unsent) {
+            for (PendingRequest pending : batch.requests) {
+                pending.future.completeExceptionally(new JolokiaException("Jolokia client has been closed"));
+            }
+        }
+        delegate.close();
+    }
+
+    // ==========================================================================================================
+
+    // Notification requests need the HTTP request of their own: the agent answers a pull request waiting for
+    // notifications immediately when it's part of a bulk request (there's no back channel to wait on)
+    private boolean isCoalesced(JolokiaRequest pRequest, HttpMethod pMethod, Map<JolokiaQueryParameter, String> pParameters) {
+        return pMethod != HttpMethod.GET && pRequest.getResponseVisitor(pParameters) == null
+            && !(pRequest instanceof JolokiaNotificationRequest);
+    }
+
+    // Called when the window of a batch has elapsed. The batch may have been sent already when it got full
+    private void sendWhenPending(Batch pBatch) {
+        synchronized (pendingBatches) {
+            if (pendingBatches.get(pBatch.key) != pBatch) {
+                return;
+            }
+            pendingBatches.remove(pBatch.key);
+        }
+        send(pBatch);
+    }
+
+    private void send(Batch pBatch) {
+        // requests may have been cancelled while waiting
+        List<PendingRequest> requests = new ArrayList<>(pBatch.requests.size());
+        for (PendingRequest pending : pBatch.requests) {
+            if (!pending.future.isDone()) {
+                requests.add(pending);
+            }
+        }
+        int size = requests.size();
+        if (size == 0) {
+            return;
+        }
+        requestCount.add(size);
+        batchCount.increment();
+        largestBatchSize.accumulateAndGet(size, Math::max);
+
+        if (size == 1) {
+            sendSingle(requests.get(0), pBatch.key);
+            return;
+        }
+        try {
+            List<JolokiaRequest> bulk = new ArrayList<>(size);
+            for (PendingRequest pending : requests) {
+                bulk.add(pending.request);
+            }
+            delegate.executeAsync(bulk, pBatch.key.parameters, pBatch.key.targetConfig)
+                .whenComplete((json, error) -> distribute(requests, pBatch.key, json, error));
+        } catch (RuntimeException e) {
+            for (PendingRequest pending : requests) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void sendSingle(PendingRequest pPending, BatchKey pKey) {
+        try {
+            CompletableFuture<JSONStructure> response =
+                delegate.executeAsync(pPending.request, null, pKey.parameters, pKey.targetConfig);
+            response.whenComplete((json, error) -> complete(pPending, json, error));
+            pPending.future.whenComplete((json, error) -> {
+                if (pPending.future.isCancelled()) {
+                    response.cancel(true);
+                }
+            });
+        } catch (RuntimeException e) {
+            pPending.future.completeExceptionally(e);
+        }
+    }
+
+    // Hand out the parts of a bulk response to the callers
+    private void distribute(List<PendingRequest> pRequests, BatchKey pKey, JSONStructure pJson, Throwable pError) {
+        if ((pError == null && !(pJson instanceof JSONArray)) || rejectedByAgent(pError)) {
+            // The agent rejected the bulk request as a whole, e.g. because a single request in it is invalid.
+            // The error belongs to one of the callers only, so the requests are sent again one by one.
+            batchCount.add(pRequests.size());
+            for (PendingRequest pending : pRequests) {
+                if (!pending.future.isDone()) {
+                    sendSingle(pending, pKey);
+                }
+            }
+            return;
+        }
+        if (pError != null) {
+            // Failed HTTP request, which is passed on to every caller
+            for (PendingRequest pending : pRequests) {
+                complete(pending, null, pError);
+            }
+            return;
+        }
+        JSONArray responses = (JSONArray) pJson;
+        for (int i = 0; i < pRequests.size(); i++) {
+            PendingRequest pending = pRequests.get(i);
+            Object response = i < responses.size() ? responses.get(i) : null;
+            if (response instanceof JSONObject) {
+                pending.future.complete((JSONObject) response);
+            } else {
+                pending.future.completeExceptionally(new JolokiaException("Response for request Nr " + i + " of a coalesced bulk request is invalid (expected a Map but got "
+                    + (response == null ? "nothing" : response.getClass().getName()) + ")"));
+            }
+        }
+    }
+
+    // An HTTP error status (as opposed to a connection problem) means that the agent didn't accept the request
+    private boolean rejectedByAgent(Throwable pError) {
+        Throwable error = pError instanceof CompletionException && pError.getCause() != null ? pError.getCause() : pError;
+        return error instanceof JolokiaHttpException;
+    }
+
+    private void complete(PendingRequest pPending, JSONStructure pJson, Throwable pError) {
+        if (pError == null) {
+            pPending.future.complete(pJson);
+        } else {
+            pPending.future.completeExceptionally(pError);
+        }
+    }
+
+    // Requests can only be coalesced when they use the same processing options and proxy configuration
+    private record BatchKey(Map<JolokiaQueryParameter, String> parameters, JolokiaTargetConfig targetConfig) {
+    }
+
+    private record PendingRequest(JolokiaRequest request, CompletableFuture<JSONStructure> future) {
+    }
+
+    // Requests collected during a window, guarded by pendingBatches until the batch is sent
+    private static final class Batch {
+        private final BatchKey key;
+        private final List<PendingRequest> requests = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+
+        private Batch(BatchKey pKey) {
+            key = pKey;
+        }
+    }
+
+}
@@ -28,6 +28,7 @@ import org.jolokia.client.request.JolokiaRequest;
 import org.jolokia.json.JSONObject;
 import org.jolokia.json.JSONStructure;
 import org.jolokia.json.parser.JSONParser;
+import org.jolokia.json.parser.MemberVisitor;
 import org.jolokia.json.parser.ParseException;
 
 /**
@@ -62,8 +63,22 @@ public class HttpUtil {
      * @return
      */
     public static JSONStructure parseJsonResponse(InputStream body, Charset charset) throws ParseException, IOException {
+        return parseJsonResponse(body, charset, null);
+    }
+
+    /**
+     * Parse the JSON data available in the passed {@link InputStream}, passing the members of JSON objects
+     * to a visitor while parsing (see {@link JolokiaRequest#getResponseVisitor}). It is the responsibility of
+     * the caller to close this stream.
+     *
+     * @param body
+     * @param charset
+     * @param visitor visitor for the members of the response, may be {@code null}
+     * @return
+     */
+    public static JSONStructure parseJsonResponse(InputStream body, Charset charset, MemberVisitor visitor) throws ParseException, IOException {
         JSONParser parser = new JSONParser();
-        return (JSONStructure) parser.parse(new InputStreamReader(body, charset));
+        return (JSONStructure) parser.parse(new InputStreamReader(body, charset), visitor);
     }
 
     /**
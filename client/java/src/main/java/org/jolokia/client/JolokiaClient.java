@@ -22,6 +22,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.jolokia.client.exception.JolokiaBulkRemoteException;
 import org.jolokia.client.exception.JolokiaException;
@@ -241,6 +243,76 @@ public class JolokiaClient implements Closeable {
         return extractResponse((JSONObject) jsonResponse, pRequest, pProcessingOptions, pResponseExtractor);
     }
 
+    // methods for sending a single JolokiaRequest without blocking the caller
+
+    /**
+     * Send a single {@link JolokiaRequest} without blocking and retrieve a future for the {@link JolokiaResponse}.
+     * The future is completed exceptionally with a {@link JolokiaException} if something's wrong. Cancelling the
+     * future or completing it with {@link CompletableFuture#orTimeout} aborts the HTTP request if the
+     * {@link HttpClientSpi} supports it.
+     *
+     * @param pRequest request to execute
+     * @param <REQ>    request type
+     * @param <RESP>   response type
+     * @return future for the {@link JolokiaResponse} as returned by the server
+     */
+    public <RESP extends JolokiaResponse<REQ>, REQ extends JolokiaRequest>
+    CompletableFuture<RESP> executeAsync(REQ pRequest) {
+        return executeAsync(pRequest, null, null, responseExtractor);
+    }
+
+    /**
+     * Send a single {@link JolokiaRequest} with processing options without blocking and retrieve a future for
+     * the {@link JolokiaResponse}.
+     *
+     * @param pRequest           request to execute
+     * @param pProcessingOptions optional map of processing options
+     * @param <REQ>              request type
+     * @param <RESP>             response type
+     * @return future for the {@link JolokiaResponse} as returned by the server
+     * @see #executeAsync(JolokiaRequest)
+     */
+    public <RESP extends JolokiaResponse<REQ>, REQ extends JolokiaRequest>
+    CompletableFuture<RESP> executeAsync(REQ pRequest, Map<JolokiaQueryParameter, String> pProcessingOptions) {
+        return executeAsync(pRequest, null, pProcessingOptions, responseExtractor);
+    }
+
+    /**
+     * Send a single {@link JolokiaRequest} using given {@link HttpMethod} and processing options without blocking
+     * and retrieve a future for the {@link JolokiaResponse} created with the passed {@link JolokiaResponseExtractor}.
+     *
+     * @param pRequest           request to execute
+     * @param pMethod            method to use which should be either GET or POST
+     * @param pProcessingOptions optional map of processing options
+     * @param pResponseExtractor extractor for actually creating the response
+     * @param <REQ>              request type
+     * @param <RESP>             response type
+     * @return future for the {@link JolokiaResponse} as returned by the server
+     * @see #executeAsync(JolokiaRequest)
+     */
+    public <RESP extends JolokiaResponse<REQ>, REQ extends JolokiaRequest>
+    CompletableFuture<RESP> executeAsync(REQ pRequest, HttpMethod pMethod, Map<JolokiaQueryParameter, String> pProcessingOptions,
+                                         JolokiaResponseExtractor pResponseExtractor) {
+        CompletableFuture<JSONStructure> jsonResponse = httpClient.executeAsync(pRequest, pMethod, pProcessingOptions, targetConfig);
+        CompletableFuture<RESP> result = new CompletableFuture<>();
+        jsonResponse.whenComplete((json, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+                return;
+            }
+            try {
+                if (!(json instanceof JSONObject)) {
+                    String msg = json == null ? "an empty response" : "a " + json.getClass().getName();
+                    throw new JolokiaException("Invalid JSON response for a single request (expected a Map but got " + msg + ")");
+                }
+                result.complete(extractResponse((JSONObject) json, pRequest, pProcessingOptions, pResponseExtractor));
+            } catch (JolokiaException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return cancelOnCompletion(result, jsonResponse);
+    }
+
     // methods for sending multiple JolokiaRequests and retrieve related JolokiaResponses
 
     /**
@@ -312,6 +384,99 @@ public class JolokiaClient implements Closeable {
     List<RESP> execute(List<REQ> pRequests, Map<JolokiaQueryParameter, String> pProcessingOptions, JolokiaResponseExtractor pResponseExtractor)
             throws JolokiaException {
         JSONStructure jsonResponse = httpClient.execute(pRequests, pProcessingOptions, targetConfig);
+        return extractBulkResponse(jsonResponse, pRequests, pProcessingOptions, pResponseExtractor);
+    }
+
+    // methods for sending multiple JolokiaRequests without blocking the caller
+
+    /**
+     * Execute multiple requests at once without blocking. All given {@link JolokiaRequest requests} will be
+     * sent using a single HTTP request. The returned future is completed with the {@link JolokiaResponse results}
+     * in the same order as the provided requests or exceptionally with a {@link JolokiaException} (which is
+     * a {@link JolokiaBulkRemoteException} if some of the requests failed on the agent side). Cancelling the
+     * future or completing it with {@link CompletableFuture#orTimeout} aborts the HTTP request if the
+     * {@link HttpClientSpi} supports it.
+     *
+     * @param pRequests requests to execute
+     * @param <REQ>     request type
+     * @param <RESP>    response type
+     * @return future for the list of responses, one response for each request
+     */
+    public <RESP extends JolokiaResponse<REQ>, REQ extends JolokiaRequest>
+    CompletableFuture<List<RESP>> executeAsync(List<REQ> pRequests) {
+        return executeAsync(pRequests, null, responseExtractor);
+    }
+
+    /**
+     * Execute multiple requests at once with processing options without blocking.
+     *
+     * @param pRequests          requests to execute
+     * @param pProcessingOptions processing options to use
+     * @param <REQ>              request type
+     * @param <RESP>             response type
+     * @return future for the list of responses, one response for each request
+     * @see #executeAsync(List)
+     */
+    public <RESP extends JolokiaResponse<REQ>, REQ extends JolokiaRequest>
+    CompletableFuture<List<RESP>> executeAsync(List<REQ> pRequests, Map<JolokiaQueryParameter, String> pProcessingOptions) {
+        return executeAsync(pRequests, pProcessingOptions, responseExtractor);
+    }
+
+    /**
+     * Execute multiple requests at once with processing options without blocking. The responses are created
+     * with the help of the passed {@link JolokiaResponseExtractor}.
+     *
+     * @param pRequests          requests to execute
+     * @param pProcessingOptions processing options to use
+     * @param pResponseExtractor use this for custom extraction handling
+     * @param <REQ>              request type
+     * @param <RESP>             response type
+     * @return future for the list of responses, one response for each request
+     * @see #executeAsync(List)
+     */
+    public <RESP extends JolokiaResponse<REQ>, REQ extends JolokiaRequest>
+    CompletableFuture<List<RESP>> executeAsync(List<REQ> pRequests, Map<JolokiaQueryParameter, String> pProcessingOptions,
+                                               JolokiaResponseExtractor pResponseExtractor) {
+        CompletableFuture<JSONStructure> jsonResponse = httpClient.executeAsync(pRequests, pProcessingOptions, targetConfig);
+        CompletableFuture<List<RESP>> result = new CompletableFuture<>();
+        jsonResponse.whenComplete((json, error) -> {
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+                return;
+            }
+            try {
+                result.complete(extractBulkResponse(json, pRequests, pProcessingOptions, pResponseExtractor));
+            } catch (JolokiaException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return cancelOnCompletion(result, jsonResponse);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close();
+    }
+
+    // private helper methods
+
+    /**
+     * Check whether a bulk response is a {@link JSONArray} and combine it with the initial
+     * {@link JolokiaRequest requests} into a list of {@link JolokiaResponse responses}
+     *
+     * @param jsonResponse
+     * @param pRequests
+     * @param pProcessingOptions
+     * @param pResponseExtractor
+     * @return
+     * @param <REQ>
+     * @param <RESP>
+     * @throws JolokiaException
+     */
+    private <RESP extends JolokiaResponse<REQ>, REQ extends JolokiaRequest>
+    List<RESP> extractBulkResponse(JSONStructure jsonResponse, List<REQ> pRequests, Map<JolokiaQueryParameter, String> pProcessingOptions,
+                                   JolokiaResponseExtractor pResponseExtractor)
+            throws JolokiaException {
         if (!(jsonResponse instanceof JSONArray)) {
             if (jsonResponse instanceof JSONObject errorObject) {
                 // bulk response may end with a single JSONObject, let's check if it's a "proper error"
@@ -325,12 +490,32 @@ public class JolokiaClient implements Closeable {
         return extractResponses((JSONArray) jsonResponse, pRequests, pProcessingOptions, pResponseExtractor);
     }
 
-    @Override
-    public void close() throws IOException {
-        this.httpClient.close();
+    /**
+     * Let the completion of a future returned to the caller (cancellation, {@link CompletableFuture#orTimeout timeout}
+     * or any other exceptional completion) cancel the future of the underlying HTTP request.
+     *
+     * @param pResult future returned to the caller
+     * @param pSource future of the HTTP request
+     * @return the future returned to the caller
+     */
+    private static <T> CompletableFuture<T> cancelOnCompletion(CompletableFuture<T> pResult, CompletableFuture<?> pSource) {
+        pResult.whenComplete((r, e) -> {
+            if (e != null) {
+                pSource.cancel(true);
+            }
+        });
+        return pResult;
     }
 
-    // private helper methods
+    /**
+     * Get the original exception of a failed asynchronous request
+     *
+     * @param pError
+     * @return
+     */
+    private static Throwable unwrap(Throwable pError) {
+        return pError instanceof CompletionException && pError.getCause() != null ? pError.getCause() : pError;
+    }
 
     /**
      * Combine initial {@link JolokiaRequest} and received {@link JSONObject} response and return proper
@@ -23,6 +23,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.KeyStore;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -230,6 +231,20 @@ public class JolokiaClientBuilder {
      */
     private JolokiaResponseExtractor responseExtractor;
 
+    // Request coalescing
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    /**
+     * Time window for coalescing single requests into bulk requests. No coalescing when {@code null}.
+     */
+    private Duration coalescingWindow;
+
+    /**
+     * Maximum number of single requests coalesced into a bulk request
+     */
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
     /**
      * Package access constructor, use static method on JolokiaClient for creating
      * the builder.
@@ -602,6 +617,31 @@ public class JolokiaClientBuilder {
         return this;
     }
 
+    /**
+     * Coalesce single requests sent within the given time window (measured from the first request) into
+     * a single bulk request. This saves HTTP round trips when many threads send single requests concurrently,
+     * at the cost of an added latency of up to the window. Requests are coalesced only if they use the same
+     * processing options. Disabled by default.
+     *
+     * @param pWindow time to wait for more requests, {@code null} or zero to disable coalescing
+     * @see CoalescingHttpClient
+     */
+    public final JolokiaClientBuilder coalescingWindow(Duration pWindow) {
+        this.coalescingWindow = pWindow;
+        return this;
+    }
+
+    /**
+     * Maximum number of single requests which are coalesced into a bulk request. When this number is reached,
+     * the bulk request is sent without waiting for the end of the {@link #coalescingWindow(Duration) window}.
+     *
+     * @param pMaxBatchSize maximum number of requests in a bulk request
+     */
+    public final JolokiaClientBuilder maxBatchSize(int pMaxBatchSize) {
+        this.maxBatchSize = pMaxBatchSize;
+        return this;
+    }
+
     /**
      * Set the default HTTP Headers for each HTTP requests.
      * @param pHttpHeaders http headers to set
@@ -626,11 +666,19 @@ public class JolokiaClientBuilder {
     }
 
     HttpClientSpi<?> createHttpClient() {
-        return httpClientBuilder.buildHttpClient(new Configuration(url, user, password, httpProxy,
+        HttpClientSpi<?> client = httpClientBuilder.buildHttpClient(new Configuration(url, user, password, httpProxy,
             new ConnectionConfiguration(connectionTimeout, socketTimeout, tcpNoDelay, socketBufferSize),
             new TlsConfiguration(protocolVersion, keystore, keystorePath, keystorePassword, keyPassword, truststore, truststorePath, truststorePassword),
             new PoolConfiguration(this.pooledConnections, this.maxTotalConnections, this.maxConnectionPoolTimeout),
             contentCharset, expectContinue, defaultHttpHeaders, customizer, clientBuilderClass));
+        if (coalescingWindow != null && !coalescingWindow.isZero() && !coalescingWindow.isNegative()) {
+            return coalescing(client);
+        }
+        return client;
+    }
+
+    private <T> HttpClientSpi<T> coalescing(HttpClientSpi<T> pClient) {
+        return new CoalescingHttpClient<>(pClient, coalescingWindow, maxBatchSize);
     }
 
     /**
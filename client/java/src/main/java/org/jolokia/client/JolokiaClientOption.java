@@ -71,6 +71,21 @@ public enum JolokiaClientOption {
     /** Read (socket) timeout in milliseconds */
     READ_TIMEOUT("readTimeout"),
 
+    /** Time window in milliseconds for coalescing single requests into bulk requests, 0 to disable coalescing */
+    COALESCING_WINDOW("coalescingWindow"),
+
+    /** Maximum number of single requests coalesced into a bulk request */
+    MAX_BATCH_SIZE("maxBatchSize"),
+
+    /** Time in milliseconds for which MBean metadata (search results and {@code MBeanInfo}) is cached by JMX connector */
+    CACHE_TTL("cacheTtl"),
+
+    /** Maximum number of search results and {@code MBeanInfo} objects cached by JMX connector */
+    CACHE_SIZE("cacheSize"),
+
+    /** Interval in milliseconds for fetching notifications for listeners added using JMX connector */
+    NOTIFICATION_POLL_INTERVAL("notificationPollInterval"),
+
     /** Whether to get {@link javax.management.openmbean.OpenType} information with {@code list} operation */
     OPEN_TYPES("openTypes");
 
@@ -54,6 +54,14 @@ public enum JolokiaOperation {
      */
     CONFIG("config"),
 
+    /**
+     * Notification operation manages notification clients and their listeners and fetches the notifications
+     * collected by the remote Jolokia Agent. The actual action is specified with a command.
+     *
+     * @since 2.6.1
+     */
+    NOTIFICATION("notification"),
+
     // Unsupported (planned, imagined)
 
     REGNOTIF("regnotif"),
@@ -15,12 +15,14 @@
  */
 package org.jolokia.client.jdkclient;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
@@ -32,6 +34,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.jolokia.client.HttpUtil;
 import org.jolokia.client.EscapeUtil;
@@ -50,6 +54,7 @@ import org.jolokia.client.spi.HttpHeader;
 import org.jolokia.json.JSONArray;
 import org.jolokia.json.JSONObject;
 import org.jolokia.json.JSONStructure;
+import org.jolokia.json.parser.MemberVisitor;
 import org.jolokia.json.parser.ParseException;
 
 public class JdkHttpClient implements HttpClientSpi<HttpClient> {
@@ -79,7 +84,7 @@ public class JdkHttpClient implements HttpClientSpi<HttpClient> {
         // JDK HTTP request from Jolokia request
         HttpRequest httpRequest = prepareRequest(pRequest, method, parameters, targetConfig);
 
-        return execute(httpRequest, pRequest, pRequest.getType().getValue());
+        return execute(httpRequest, pRequest, pRequest.getResponseVisitor(parameters), pRequest.getType().getValue());
     }
 
     @Override
@@ -89,7 +94,25 @@ public class JdkHttpClient implements HttpClientSpi<HttpClient> {
         // JDK HTTP request from bulk Jolokia request
         HttpRequest httpRequest = prepareRequests(pRequests, parameters, targetConfig);
 
-        return execute(httpRequest, null, "bulk");
+        return execute(httpRequest, null, null, "bulk");
+    }
+
+    @Override
+    public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    CompletableFuture<JSONStructure> executeAsync(REQ pRequest, HttpMethod method, Map<JolokiaQueryParameter, String> parameters,
+                                                  JolokiaTargetConfig targetConfig) {
+        HttpRequest httpRequest = prepareRequest(pRequest, method, parameters, targetConfig);
+
+        return executeAsync(httpRequest, pRequest.getResponseVisitor(parameters), pRequest.getType().getValue());
+    }
+
+    @Override
+    public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    CompletableFuture<JSONStructure> executeAsync(List<REQ> pRequests, Map<JolokiaQueryParameter, String> parameters,
+                                                  JolokiaTargetConfig targetConfig) {
+        HttpRequest httpRequest = prepareRequests(pRequests, parameters, targetConfig);
+
+        return executeAsync(httpRequest, null, "bulk");
     }
 
     @Override
@@ -229,58 +252,119 @@ public class JdkHttpClient implements HttpClientSpi<HttpClient> {
      * Private method that sends already prepared {@link HttpRequest HTTP requests}.
      *
      * @param httpRequest
-     * @param jolokiaRequest request being sent over HTTP - could be null for bulk requests
-     * @param requestType    for logging purpose
+     * @param jolokiaRequest  request being sent over HTTP - could be null for bulk requests
+     * @param responseVisitor visitor called while parsing the response - could be null
+     * @param requestType     for logging purpose
      * @return
      */
-    private JSONStructure execute(HttpRequest httpRequest, JolokiaRequest jolokiaRequest, String requestType) throws JolokiaException {
+    private JSONStructure execute(HttpRequest httpRequest, JolokiaRequest jolokiaRequest, MemberVisitor responseVisitor, String requestType)
+            throws JolokiaException {
         // Response to be handled/returned as InputStream
         HttpResponse.BodyHandler<InputStream> responseHandler = HttpResponse.BodyHandlers.ofInputStream();
         try {
             HttpResponse<InputStream> response = client.send(httpRequest, responseHandler);
-            int errorCode = response.statusCode();
+            return processResponse(response.statusCode(), response.headers(), response.body(), responseVisitor, requestType);
+        } catch (IOException e) {
+            throw translateException(e, requestType);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JolokiaException("Interrupted while sending " + requestType + " Jolokia request", e);
+        }
+    }
 
-            if (errorCode != 200) {
-                // no need to parse, because Jolokia JSON responses for errors are sent with HTTP 200 code
-                throw new JolokiaHttpException("HTTP error " + errorCode + " sending " + requestType + " Jolokia request", errorCode);
+    /**
+     * Private method that sends already prepared {@link HttpRequest HTTP requests} without blocking. The body
+     * is collected by the HTTP Client before parsing, so no thread waits for data to arrive. Completing
+     * the returned future before the response arrives (cancellation or a timeout) aborts the HTTP exchange.
+     *
+     * @param httpRequest
+     * @param responseVisitor visitor called while parsing the response - could be null
+     * @param requestType     for logging purpose
+     * @return
+     */
+    private CompletableFuture<JSONStructure> executeAsync(HttpRequest httpRequest, MemberVisitor responseVisitor, String requestType) {
+        CompletableFuture<HttpResponse<byte[]>> exchange = client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<JSONStructure> result = new CompletableFuture<>();
+        exchange.whenComplete((response, error) -> {
+            try {
+                if (error == null) {
+                    InputStream body = response.body() == null ? null : new ByteArrayInputStream(response.body());
+                    result.complete(processResponse(response.statusCode(), response.headers(), body, responseVisitor, requestType));
+                } else {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    result.completeExceptionally(cause instanceof IOException e ? translateException(e, requestType) : cause);
+                }
+            } catch (IOException e) {
+                result.completeExceptionally(translateException(e, requestType));
+            } catch (JolokiaException | RuntimeException e) {
+                result.completeExceptionally(e);
             }
+        });
+        result.whenComplete((r, e) -> {
+            if (e != null) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Check the status of a received response and parse its body.
+     *
+     * @param statusCode
+     * @param headers
+     * @param stream          response body, closed after parsing
+     * @param responseVisitor visitor called while parsing the response - could be null
+     * @param requestType     for logging purpose
+     * @return
+     */
+    private JSONStructure processResponse(int statusCode, HttpHeaders headers, InputStream stream, MemberVisitor responseVisitor,
+                                          String requestType)
+            throws JolokiaException, IOException {
+        if (statusCode != 200) {
+            // no need to parse, because Jolokia JSON responses for errors are sent with HTTP 200 code
+            throw new JolokiaHttpException("HTTP error " + statusCode + " sending " + requestType + " Jolokia request", statusCode);
+        }
 
-            // just parse without interpretation
-            InputStream stream = response.body();
-            if (stream != null) {
-                try (InputStream body = stream) {
-                    Optional<String> encoding = response.headers().firstValue("Content-Encoding");
-                    if (encoding.isEmpty()) {
-                        encoding = Optional.of((config.contentCharset() == null ? StandardCharsets.ISO_8859_1 : config.contentCharset()).name());
-                    }
-                    return HttpUtil.parseJsonResponse(body, Charset.forName(encoding.get()));
-                } catch (ParseException e) {
-                    // JSON parsing error - convert to Jolokia exception
-                    String errorType = e.getClass().getName();
-                    String message = "Error parsing " + requestType + " response: " + e.getMessage();
-                    throw new JolokiaException(message);
-                } finally {
-                    stream.close();
+        // just parse without interpretation
+        if (stream != null) {
+            try (InputStream body = stream) {
+                Optional<String> encoding = headers.firstValue("Content-Encoding");
+                if (encoding.isEmpty()) {
+                    encoding = Optional.of((config.contentCharset() == null ? StandardCharsets.ISO_8859_1 : config.contentCharset()).name());
                 }
+                return HttpUtil.parseJsonResponse(body, Charset.forName(encoding.get()), responseVisitor);
+            } catch (ParseException e) {
+                // JSON parsing error - convert to Jolokia exception
+                String message = "Error parsing " + requestType + " response: " + e.getMessage();
+                throw new JolokiaException(message);
             }
+        }
+
+        // no data at all
+        throw new JolokiaException("No data received from the remote Jolokia Agent for " + requestType);
+    }
 
-            // no data at all
-            throw new JolokiaException("No data received from the remote Jolokia Agent for " + requestType);
-        } catch (ConnectException e) {
+    /**
+     * Convert an {@link IOException} thrown by the HTTP Client into a {@link JolokiaException}
+     *
+     * @param e
+     * @param requestType for logging purpose
+     * @return
+     */
+    private JolokiaException translateException(IOException e, String requestType) {
+        if (e instanceof ConnectException) {
             String msg = "Cannot connect to " + jolokiaAgentUrl + ": " + e.getMessage();
-            throw new JolokiaConnectException(msg, e);
-        } catch (HttpConnectTimeoutException e) {
+            return new JolokiaConnectException(msg, (ConnectException) e);
+        } else if (e instanceof HttpConnectTimeoutException) {
             String msg = "Connection timeout when sending " + requestType + " request to " + jolokiaAgentUrl + ": " + e.getMessage();
-            throw new JolokiaTimeoutException(msg, e);
-        } catch (HttpTimeoutException e) {
+            return new JolokiaTimeoutException(msg, e);
+        } else if (e instanceof HttpTimeoutException) {
             String msg = "Timeout when processing " + requestType + " request to " + jolokiaAgentUrl + ": " + e.getMessage();
-            throw new JolokiaTimeoutException(msg, e);
-        } catch (IOException e) {
+            return new JolokiaTimeoutException(msg, e);
+        } else {
             String msg = "I/O exception when processing " + requestType + " request to " + jolokiaAgentUrl + ": " + e.getMessage();
-            throw new JolokiaException(msg, e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new JolokiaException("Interrupted while sending " + requestType + " Jolokia request", e);
+            return new JolokiaException(msg, e);
         }
     }
 
@@ -17,13 +17,18 @@ package org.jolokia.client.request;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 
 import org.jolokia.client.EscapeUtil;
 import org.jolokia.client.JolokiaOperation;
+import org.jolokia.client.JolokiaQueryParameter;
 import org.jolokia.client.JolokiaTargetConfig;
 import org.jolokia.client.response.JolokiaListResponse;
+import org.jolokia.client.response.JolokiaMBeanVisitor;
 import org.jolokia.json.JSONObject;
+import org.jolokia.json.parser.MemberVisitor;
 
 /**
  * <p>Request for list JMX information obtained from {@link javax.management.MBeanServerConnection#queryMBeans}.
@@ -59,6 +64,9 @@ public class JolokiaListRequest extends JolokiaRequest {
 
     private final List<String> pathElements;
 
+    /** Optional visitor for the listed MBeans */
+    private JolokiaMBeanVisitor mBeanVisitor;
+
     // normal constructors
 
     /**
@@ -161,6 +169,34 @@ public class JolokiaListRequest extends JolokiaRequest {
         return new JolokiaListResponse(this, pResponse);
     }
 
+    @Override
+    public MemberVisitor getResponseVisitor(Map<JolokiaQueryParameter, String> pParameters) {
+        if (mBeanVisitor == null) {
+            return null;
+        }
+        String domain = pathElements.isEmpty() ? null : pathElements.get(0);
+        String keys = pathElements.size() < 2 ? null : pathElements.get(1);
+        ObjectName pattern;
+        try {
+            pattern = new ObjectName((domain == null ? "*" : domain) + ":" + (keys == null ? "*" : keys));
+        } catch (MalformedObjectNameException e) {
+            // the response will tell
+            return null;
+        }
+        if (!pattern.isPattern()) {
+            // single MBean, the response is parsed completely and visited afterward
+            return null;
+        }
+        if (pParameters != null && "true".equals(pParameters.get(JolokiaQueryParameter.LIST_CACHE))) {
+            return new MBeanResponseVisitor(mBeanVisitor, MBeanResponseVisitor.Form.LIST_CACHE, null);
+        }
+        if (domain != null && !pattern.isDomainPattern()) {
+            // the response for a single domain doesn't contain the domain level
+            return new MBeanResponseVisitor(mBeanVisitor, MBeanResponseVisitor.Form.LIST_TRIMMED, domain);
+        }
+        return new MBeanResponseVisitor(mBeanVisitor, MBeanResponseVisitor.Form.LIST, null);
+    }
+
     @Override
     public List<String> getRequestParts() {
         return pathElements;
@@ -176,4 +212,25 @@ public class JolokiaListRequest extends JolokiaRequest {
         return ret;
     }
 
+    /**
+     * Get the visitor for the listed MBeans
+     *
+     * @return the visitor or {@code null} if not set
+     */
+    public JolokiaMBeanVisitor getMBeanVisitor() {
+        return mBeanVisitor;
+    }
+
+    /**
+     * Set a visitor which is called for each listed MBean while the response is parsed. The visited MBeans are
+     * not included in the {@link JolokiaListResponse}, so a large list can be processed without keeping the
+     * information about all MBeans in memory.
+     *
+     * @param pMBeanVisitor visitor for the listed MBeans
+     * @since 2.6.1
+     */
+    public void setMBeanVisitor(JolokiaMBeanVisitor pMBeanVisitor) {
+        mBeanVisitor = pMBeanVisitor;
+    }
+
 }
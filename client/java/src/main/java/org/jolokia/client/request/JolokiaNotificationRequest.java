@@ -0,0 +1,291 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.request;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.ObjectName;
+
+import org.jolokia.client.JolokiaOperation;
+import org.jolokia.client.response.JolokiaNotificationResponse;
+import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONObject;
+
+/**
+ * <p>Request for managing JMX notification listeners at the remote Jolokia Agent and for fetching the collected
+ * notifications. The action is specified by a {@link Command} and the requests are created with static factory
+ * methods for each command.</p>
+ *
+ * <p>JSON form of a "notification" {@link HttpMethod#POST} is:<pre>{@code
+ * {
+ *     "type": "notification",
+ *     "command": "add",
+ *     "client": "client-id",
+ *     "mode": "pull",
+ *     "mbean": "object-name",
+ *     "filter": [ "notification-type", ... ],
+ *     "handback": "any-json-value"
+ * }
+ * }</pre>
+ * Fields other than {@code type} and {@code command} depend on the command.</p>
+ *
+ * <p>Notifications collected by {@code pull} backend are fetched with {@link #pull(String, String)}. Streaming
+ * backends (like {@code sse}) require a back channel which isn't handled by request-response
+ * {@link org.jolokia.client.spi.HttpClientSpi}.</p>
+ *
+ * @since 2.6.1
+ */
+public class JolokiaNotificationRequest extends JolokiaRequest {
+
+    /**
+     * Commands of {@link JolokiaOperation#NOTIFICATION} operation
+     */
+    public enum Command {
+        /** Register a new notification client */
+        REGISTER("register"),
+        /** Unregister a notification client and remove all its listeners */
+        UNREGISTER("unregister"),
+        /** Add a notification listener for a client */
+        ADD("add"),
+        /** Remove a notification listener of a client */
+        REMOVE("remove"),
+        /** Refresh a client, so it's not considered stale */
+        PING("ping"),
+        /** List the notification listeners of a client */
+        LIST("list"),
+        /** Fetch the notifications collected for a listener */
+        PULL("pull");
+
+        private final String value;
+
+        Command(String pValue) {
+            value = pValue;
+        }
+
+        /**
+         * Get command as lower-case String value.
+         * @return
+         */
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private final Command command;
+
+    private final String client;
+    private String mode;
+    private ObjectName mbean;
+    private List<String> filter;
+    private Object handback;
+    private String handle;
+    private long wait;
+
+    private JolokiaNotificationRequest(Command pCommand, String pClient) {
+        super(JolokiaOperation.NOTIFICATION, null);
+        command = pCommand;
+        client = pClient;
+    }
+
+    /**
+     * Create a request for registering a new notification client. The response contains the client ID
+     * and the configuration of available backends.
+     *
+     * @return the request
+     */
+    public static JolokiaNotificationRequest register() {
+        return new JolokiaNotificationRequest(Command.REGISTER, null);
+    }
+
+    /**
+     * Create a request for unregistering a notification client
+     *
+     * @param pClient client ID
+     * @return the request
+     */
+    public static JolokiaNotificationRequest unregister(String pClient) {
+        return new JolokiaNotificationRequest(Command.UNREGISTER, pClient);
+    }
+
+    /**
+     * Create a request for adding a notification listener to an MBean. The response contains a handle of
+     * the listener.
+     *
+     * @param pClient   client ID
+     * @param pMode     backend mode (like {@code pull})
+     * @param pMBean    MBean emitting the notifications
+     * @param pFilter   notification types to listen to. {@code null} or empty list for all notifications
+     * @param pHandback handback value returned with the notifications of this listener, can be {@code null}
+     * @return the request
+     */
+    public static JolokiaNotificationRequest add(String pClient, String pMode, ObjectName pMBean, List<String> pFilter, Object pHandback) {
+        JolokiaNotificationRequest request = new JolokiaNotificationRequest(Command.ADD, pClient);
+        request.mode = pMode;
+        request.mbean = pMBean;
+        request.filter = pFilter;
+        request.handback = pHandback;
+        return request;
+    }
+
+    /**
+     * Create a request for removing a notification listener
+     *
+     * @param pClient client ID
+     * @param pHandle handle of the listener
+     * @return the request
+     */
+    public static JolokiaNotificationRequest remove(String pClient, String pHandle) {
+        JolokiaNotificationRequest request = new JolokiaNotificationRequest(Command.REMOVE, pClient);
+        request.handle = pHandle;
+        return request;
+    }
+
+    /**
+     * Create a request for refreshing a notification client
+     *
+     * @param pClient client ID
+     * @return the request
+     */
+    public static JolokiaNotificationRequest ping(String pClient) {
+        return new JolokiaNotificationRequest(Command.PING, pClient);
+    }
+
+    /**
+     * Create a request for listing the notification listeners of a client
+     *
+     * @param pClient client ID
+     * @return the request
+     */
+    public static JolokiaNotificationRequest list(String pClient) {
+        return new JolokiaNotificationRequest(Command.LIST, pClient);
+    }
+
+    /**
+     * Create a request for fetching the notifications collected for a listener by {@code pull} backend.
+     * The request is answered immediately, also when there are no notifications.
+     *
+     * @param pClient client ID
+     * @param pHandle handle of the listener
+     * @return the request
+     */
+    public static JolokiaNotificationRequest pull(String pClient, String pHandle) {
+        return pull(pClient, pHandle, 0);
+    }
+
+    /**
+     * Create a request for fetching the notifications collected for a listener by {@code pull} backend.
+     * If there are no notifications, the agent answers when the first notification arrives or when the wait
+     * time is over.
+     *
+     * @param pClient client ID
+     * @param pHandle handle of the listener
+     * @param pWait   time in milliseconds to wait for a notification
+     * @return the request
+     */
+    public static JolokiaNotificationRequest pull(String pClient, String pHandle, long pWait) {
+        JolokiaNotificationRequest request = new JolokiaNotificationRequest(Command.PULL, pClient);
+        request.handle = pHandle;
+        request.wait = Math.max(0, pWait);
+        return request;
+    }
+
+    public Command getCommand() {
+        return command;
+    }
+
+    public String getClient() {
+        return client;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public ObjectName getMBean() {
+        return mbean;
+    }
+
+    public List<String> getFilter() {
+        return filter;
+    }
+
+    public Object getHandback() {
+        return handback;
+    }
+
+    public String getHandle() {
+        return handle;
+    }
+
+    public long getWait() {
+        return wait;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JolokiaNotificationResponse createResponse(JSONObject pResponse) {
+        return new JolokiaNotificationResponse(this, pResponse);
+    }
+
+    @Override
+    public List<String> getRequestParts() {
+        if (command == Command.ADD) {
+            // filters and handback are sent as JSON
+            return null;
+        }
+        List<String> ret = new ArrayList<>();
+        ret.add(command.getValue());
+        if (client != null) {
+            ret.add(client);
+        }
+        if (handle != null) {
+            ret.add(handle);
+        }
+        if (wait > 0) {
+            ret.add(Long.toString(wait));
+        }
+        return ret;
+    }
+
+    @Override
+    public JSONObject toJson() {
+        JSONObject ret = super.toJson();
+        ret.put("command", command.getValue());
+        if (client != null) {
+            ret.put("client", client);
+        }
+        if (mode != null) {
+            ret.put("mode", mode);
+        }
+        if (mbean != null) {
+            ret.put("mbean", mbean.getCanonicalName());
+        }
+        if (filter != null && !filter.isEmpty()) {
+            ret.put("filter", new JSONArray(filter));
+        }
+        if (handback != null) {
+            ret.put("handback", serializeArgumentToJson(handback));
+        }
+        if (handle != null) {
+            ret.put("handle", handle);
+        }
+        if (wait > 0) {
+            ret.put("wait", wait);
+        }
+        return ret;
+    }
+
+}
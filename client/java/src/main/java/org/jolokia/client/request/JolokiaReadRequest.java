@@ -19,15 +19,19 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 
 import org.jolokia.client.EscapeUtil;
 import org.jolokia.client.JolokiaOperation;
+import org.jolokia.client.JolokiaQueryParameter;
 import org.jolokia.client.JolokiaTargetConfig;
+import org.jolokia.client.response.JolokiaMBeanVisitor;
 import org.jolokia.client.response.JolokiaReadResponse;
 import org.jolokia.json.JSONArray;
 import org.jolokia.json.JSONObject;
+import org.jolokia.json.parser.MemberVisitor;
 
 /**
  * <p>A read request to get one or more attributes from one or more MBeans in one HTTP call.</p>
@@ -65,6 +69,9 @@ public class JolokiaReadRequest extends JolokiaMBeanRequest {
     /** Path to retrieve an inner value of the response */
     private String path;
 
+    /** Optional visitor for the MBeans matching a pattern */
+    private JolokiaMBeanVisitor mBeanVisitor;
+
     /**
      * Create a READ request to request one attribute from the remote Jolokia Agent. This translates to
      * {@link javax.management.MBeanServer#getAttribute} call for single attribute and if it doesn't exist, an
@@ -250,6 +257,11 @@ public class JolokiaReadRequest extends JolokiaMBeanRequest {
         return new JolokiaReadResponse(this, pResponse);
     }
 
+    @Override
+    public MemberVisitor getResponseVisitor(Map<JolokiaQueryParameter, String> pParameters) {
+        return mBeanVisitor == null ? null : new MBeanResponseVisitor(mBeanVisitor, MBeanResponseVisitor.Form.READ, null);
+    }
+
     /**
      * Whether this request represents a request for a single attribute
      *
@@ -295,4 +307,30 @@ public class JolokiaReadRequest extends JolokiaMBeanRequest {
         path = pPath;
     }
 
+    /**
+     * Get the visitor for the MBeans matching the pattern of this request
+     *
+     * @return the visitor or {@code null} if not set
+     */
+    public JolokiaMBeanVisitor getMBeanVisitor() {
+        return mBeanVisitor;
+    }
+
+    /**
+     * Set a visitor which is called with the attribute values of each MBean matching the pattern of this request
+     * while the response is parsed. The visited MBeans are not included in the {@link JolokiaReadResponse}, so
+     * the values of many MBeans can be processed without keeping them all in memory.
+     *
+     * @param pMBeanVisitor visitor for the MBeans
+     * @throws IllegalArgumentException if the MBean name of this request is not a pattern
+     * @since 2.6.1
+     */
+    public void setMBeanVisitor(JolokiaMBeanVisitor pMBeanVisitor) {
+        if (pMBeanVisitor != null && !getObjectName().isPattern()) {
+            throw new IllegalArgumentException("An MBean visitor can be used only for a read request with an MBean pattern (current: " +
+                getObjectName().getCanonicalName() + ")");
+        }
+        mBeanVisitor = pMBeanVisitor;
+    }
+
 }
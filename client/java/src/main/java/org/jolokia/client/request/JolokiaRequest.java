@@ -16,10 +16,12 @@
 package org.jolokia.client.request;
 
 import java.util.List;
+import java.util.Map;
 import javax.management.AttributeNotFoundException;
 import javax.management.openmbean.OpenType;
 
 import org.jolokia.client.JolokiaOperation;
+import org.jolokia.client.JolokiaQueryParameter;
 import org.jolokia.client.JolokiaTargetConfig;
 import org.jolokia.client.response.JolokiaResponse;
 import org.jolokia.converter.json.ObjectToJsonConverter;
@@ -28,6 +30,7 @@ import org.jolokia.converter.object.ObjectToObjectConverter;
 import org.jolokia.converter.object.ObjectToOpenTypeConverter;
 import org.jolokia.core.service.serializer.SerializeOptions;
 import org.jolokia.json.JSONObject;
+import org.jolokia.json.parser.MemberVisitor;
 
 /**
  * <p>Abstract representation of <em>Jolokia request</em> targeted at Jolokia agent. Each Jolokia request has single
@@ -176,6 +179,19 @@ public abstract class JolokiaRequest {
      */
     public abstract <RES extends JolokiaResponse<REQ>, REQ extends JolokiaRequest> RES createResponse(JSONObject pResponse);
 
+    /**
+     * Get a {@link MemberVisitor} to be called while the JSON response for this request is parsed. Requests
+     * which may get large responses use it to process parts of the response as soon as they arrive, instead of
+     * parsing the complete response first. The response created with {@link #createResponse(JSONObject)}
+     * has to handle the members left by the visitor - also when the response was parsed without it.
+     *
+     * @param pParameters processing parameters the request is sent with
+     * @return visitor for the members of the response or {@code null} (default) to parse the complete response
+     */
+    public MemberVisitor getResponseVisitor(Map<JolokiaQueryParameter, String> pParameters) {
+        return null;
+    }
+
     // ==================================================================================================
     // Methods used for building up HTTP Requests and setting up the response
     // These methods are package visible only since are used only internally
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.request;
+
+import java.util.List;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.jolokia.client.response.JolokiaMBeanVisitor;
+import org.jolokia.json.JSONObject;
+import org.jolokia.json.parser.MemberVisitor;
+
+/**
+ * {@link MemberVisitor} passing the MBeans of a list or read response to a {@link JolokiaMBeanVisitor} while
+ * the response is parsed. Visited MBeans are dropped from the parsed response. MBeans which can't be recognized
+ * safely at this stage are kept and visited by the response after parsing.
+ */
+final class MBeanResponseVisitor implements MemberVisitor {
+
+    /**
+     * Position of the MBeans in the "value" of a response
+     */
+    enum Form {
+        /** Pattern read - {@code value/<object name>} */
+        READ(2),
+        /** Full list - {@code value/<domain>/<keys>} */
+        LIST(3),
+        /** List for a single domain, which is trimmed - {@code value/<keys>} */
+        LIST_TRIMMED(2),
+        /** Optimized list with {@code listCache=true} - {@code value/domains/<domain>/<keys>} */
+        LIST_CACHE(4);
+
+        private final int depth;
+
+        Form(int pDepth) {
+            depth = pDepth;
+        }
+    }
+
+    private final JolokiaMBeanVisitor visitor;
+    private final Form form;
+    // domain of all MBeans for the trimmed form
+    private final String domain;
+
+    MBeanResponseVisitor(JolokiaMBeanVisitor pVisitor, Form pForm, String pDomain) {
+        visitor = pVisitor;
+        form = pForm;
+        domain = pDomain;
+    }
+
+    @Override
+    public boolean visit(List<String> pPath, Object pValue) {
+        if (pPath.size() != form.depth || !"value".equals(pPath.get(0)) || !(pValue instanceof JSONObject data)) {
+            return true;
+        }
+        for (String key : pPath) {
+            if (key == null) {
+                // not an MBean, but an element of some array
+                return true;
+            }
+        }
+        String name;
+        switch (form) {
+            case READ:
+                name = pPath.get(1);
+                break;
+            case LIST_CACHE:
+                if (!"domains".equals(pPath.get(1))) {
+                    return true;
+                }
+                name = pPath.get(2) + ":" + pPath.get(3);
+                break;
+            default:
+                // the agent may send the optimized form even if not requested - it's handled after parsing
+                if ("cache".equals(pPath.get(1)) || "domains".equals(pPath.get(1))) {
+                    return true;
+                }
+                name = form == Form.LIST ? pPath.get(1) + ":" + pPath.get(2) : domain + ":" + pPath.get(1);
+        }
+        visitor.visit(toObjectName(name), data);
+        return false;
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return form.depth;
+    }
+
+    private static ObjectName toObjectName(String pName) {
+        try {
+            return new ObjectName(pName);
+        } catch (MalformedObjectNameException e) {
+            // should come from valid response, so change into a runtime exception
+            throw new IllegalStateException("Cannot convert '" + pName + "' from the response to an ObjectName", e);
+        }
+    }
+
+}
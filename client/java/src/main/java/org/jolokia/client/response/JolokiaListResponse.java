@@ -17,6 +17,7 @@ package org.jolokia.client.response;
 
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -275,6 +276,11 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
         // checking the response structure
         useCache = value.size() == 2 && value.containsKey("cache") && value.containsKey("domains");
         rebuildResponse();
+
+        JolokiaMBeanVisitor visitor = pRequest.getMBeanVisitor();
+        if (visitor != null) {
+            visitMBeans(visitor);
+        }
     }
 
     /**
@@ -369,6 +375,43 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
         }
     }
 
+    /**
+     * Pass the MBeans which were not visited while parsing (single MBean responses, MBeans from the cache or
+     * responses parsed without the visitor) to the visitor and remove them from the response.
+     *
+     * @param pVisitor
+     */
+    private void visitMBeans(JolokiaMBeanVisitor pVisitor) {
+        JSONObject value = getValue();
+        if (!useCache && pathObjectName != null && !pathObjectName.isDomainPattern() && pathObjectName.isPropertyPattern()) {
+            // response for a single domain, trimmed by the domain level
+            visitMBeans(pVisitor, pathDomain, value);
+        } else {
+            for (Entry<String, Object> e : value.entrySet()) {
+                if (e.getValue() instanceof JSONObject mbeans) {
+                    visitMBeans(pVisitor, e.getKey(), mbeans);
+                }
+            }
+        }
+    }
+
+    private void visitMBeans(JolokiaMBeanVisitor pVisitor, String pDomain, JSONObject pMBeans) {
+        Iterator<Entry<String, Object>> it = pMBeans.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<String, Object> e = it.next();
+            if (e.getValue() instanceof JSONObject info) {
+                String name = pDomain + ":" + e.getKey();
+                try {
+                    pVisitor.visit(new ObjectName(name), info);
+                } catch (MalformedObjectNameException ex) {
+                    // should come from valid list response, so change into a runtime exception
+                    throw new IllegalStateException("Cannot convert list result '" + name + "' to an ObjectName", ex);
+                }
+                it.remove();
+            }
+        }
+    }
+
     // Methods that can be used to retrieve some information from various forms of "list" response. These
     // are used to implement these MBeanServerConnection methods in jolokia-client-jmx-adapter
     //  -  javax.management.MBeanServerConnection.getObjectInstance()
@@ -520,6 +563,20 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
         throw new InstanceNotFoundException("No " + name + " instance found");
     }
 
+    /**
+     * Reconstruct {@link MBeanInfo} from its Jolokia {@link JSONObject} representation, for example
+     * as passed to a {@link JolokiaMBeanVisitor}.
+     *
+     * @param name name of the MBean, used for error messages
+     * @param info JSON representation of the {@link MBeanInfo}
+     * @return reconstructed {@link MBeanInfo}
+     * @throws IllegalStateException if the JSON representation is invalid
+     * @since 2.6.1
+     */
+    public static MBeanInfo toMBeanInfo(ObjectName name, JSONObject info) {
+        return mBeanInfoFrom(name, info);
+    }
+
     /**
      * Reconstruct {@link MBeanInfo} from its Jolokia {@link JSONObject} representation.
      *
@@ -527,7 +584,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param info
      * @return
      */
-    private MBeanInfo mBeanInfoFrom(ObjectName name, JSONObject info) {
+    private static MBeanInfo mBeanInfoFrom(ObjectName name, JSONObject info) {
         Object classV = info.get("class");
         String className;
         Object descriptionV = info.get("desc");
@@ -583,7 +640,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param attributes
      * @return
      */
-    private MBeanAttributeInfo[] attributesFrom(JSONObject attributes) {
+    private static MBeanAttributeInfo[] attributesFrom(JSONObject attributes) {
         if (attributes == null || attributes.isEmpty()) {
             return new MBeanAttributeInfo[0];
         }
@@ -608,7 +665,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param json
      * @return
      */
-    private MBeanAttributeInfo attributeFrom(String name, JSONObject json) {
+    private static MBeanAttributeInfo attributeFrom(String name, JSONObject json) {
         String type = json.get("type") instanceof String typeV ? typeV : "<unknown>";
         String desc = json.get("desc") instanceof String descV ? descV : "";
         boolean r = json.get("r") instanceof Boolean rV ? rV : false;
@@ -654,7 +711,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param operations
      * @return
      */
-    private MBeanOperationInfo[] operationsFrom(JSONObject operations) {
+    private static MBeanOperationInfo[] operationsFrom(JSONObject operations) {
         if (operations == null || operations.isEmpty()) {
             return new MBeanOperationInfo[0];
         }
@@ -688,7 +745,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param json
      * @return
      */
-    private MBeanOperationInfo operationFrom(String name, JSONObject json) {
+    private static MBeanOperationInfo operationFrom(String name, JSONObject json) {
         String desc = json.get("desc") instanceof String descV ? descV : "";
         String type = json.get("ret") instanceof String typeV ? typeV : "<unknown>";
         Object parametersV = json.get("args");
@@ -729,7 +786,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param args
      * @return
      */
-    private Object parametersFrom(String operation, JSONArray args) {
+    private static Object parametersFrom(String operation, JSONArray args) {
         final List<MBeanParameterInfo> params = new ArrayList<>(args.size());
         boolean allOpenTypeParams = !args.isEmpty();
         for (int i = 0; i < args.size(); i++) {
@@ -756,7 +813,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param parameter
      * @return
      */
-    private MBeanParameterInfo parameterFrom(int pn, JSONObject parameter) {
+    private static MBeanParameterInfo parameterFrom(int pn, JSONObject parameter) {
         String name = parameter.get("name") instanceof String nameV ? nameV : "p" + pn;
         String type = parameter.get("type") instanceof String typeV ? typeV : "<unknown>";
         String desc = parameter.get("desc") instanceof String descV ? descV : "p" + pn;
@@ -793,7 +850,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param constructors
      * @return
      */
-    private MBeanConstructorInfo[] constructorsFrom(JSONObject constructors) {
+    private static MBeanConstructorInfo[] constructorsFrom(JSONObject constructors) {
         if (constructors == null || constructors.isEmpty()) {
             return new MBeanConstructorInfo[0];
         }
@@ -827,7 +884,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param json
      * @return
      */
-    private MBeanConstructorInfo constructorFrom(String name, JSONObject json) {
+    private static MBeanConstructorInfo constructorFrom(String name, JSONObject json) {
         String desc = json.get("desc") instanceof String descV ? descV : "";
         Object parametersV = json.get("args");
         Object parameters;
@@ -851,7 +908,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param notifications
      * @return
      */
-    private MBeanNotificationInfo[] notificationsFrom(JSONObject notifications) {
+    private static MBeanNotificationInfo[] notificationsFrom(JSONObject notifications) {
         if (notifications == null || notifications.isEmpty()) {
             return new MBeanNotificationInfo[0];
         }
@@ -874,7 +931,7 @@ public final class JolokiaListResponse extends JolokiaResponse<JolokiaListReques
      * @param json
      * @return
      */
-    private MBeanNotificationInfo notificationFrom(String name, JSONObject json) {
+    private static MBeanNotificationInfo notificationFrom(String name, JSONObject json) {
         String desc = json.get("desc") instanceof String descV ? descV : "";
 
         Object typesV = json.get("types");
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.response;
+
+import javax.management.ObjectName;
+
+import org.jolokia.client.request.JolokiaListRequest;
+import org.jolokia.client.request.JolokiaReadRequest;
+import org.jolokia.json.JSONObject;
+
+/**
+ * <p>Visitor for the MBeans of a {@link JolokiaListResponse} or of a {@link JolokiaReadResponse} for an
+ * MBean pattern. It's set with {@link JolokiaListRequest#setMBeanVisitor} or
+ * {@link JolokiaReadRequest#setMBeanVisitor} and called for each MBean while the response is parsed, so
+ * large responses can be processed without keeping the data of all MBeans in memory.</p>
+ *
+ * <p>MBeans passed to the visitor are not included in the {@link JolokiaResponse#getValue() value} of the
+ * response. Runtime exceptions thrown by the visitor abort the processing of the response and are passed on
+ * to the caller.</p>
+ *
+ * @since 2.6.1
+ */
+@FunctionalInterface
+public interface JolokiaMBeanVisitor {
+
+    /**
+     * Visit the data of a single MBean
+     *
+     * @param pName name of the MBean
+     * @param pData JSON representation of the {@link javax.management.MBeanInfo} for list responses (see
+     *              {@link JolokiaListResponse#toMBeanInfo(ObjectName, JSONObject)}) or the attribute values
+     *              of the MBean for read responses
+     */
+    void visit(ObjectName pName, JSONObject pData);
+
+}
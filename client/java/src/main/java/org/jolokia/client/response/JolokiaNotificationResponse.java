@@ -0,0 +1,174 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.management.AttributeChangeNotification;
+import javax.management.MBeanServerNotification;
+import javax.management.MalformedObjectNameException;
+import javax.management.Notification;
+import javax.management.ObjectName;
+
+import org.jolokia.client.request.JolokiaNotificationRequest;
+import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONObject;
+
+/**
+ * Response for a {@link JolokiaNotificationRequest}. The value depends on the command of the request - for
+ * example a client ID for {@code register}, a listener handle for {@code add} or the collected notifications
+ * for {@code pull}.
+ *
+ * @since 2.6.1
+ */
+public final class JolokiaNotificationResponse extends JolokiaResponse<JolokiaNotificationRequest> {
+
+    public JolokiaNotificationResponse(JolokiaNotificationRequest pRequest, JSONObject pJsonResponse) {
+        super(pRequest, pJsonResponse);
+    }
+
+    /**
+     * Get the ID of the client created with {@code register} command
+     *
+     * @return client ID or {@code null} if not available
+     */
+    public String getClientId() {
+        Object value = getValue();
+        return value instanceof JSONObject json ? (String) json.get("id") : null;
+    }
+
+    /**
+     * Get the configuration of notification backends available at the agent, returned for {@code register}
+     * command. The keys are backend modes (like {@code pull} or {@code sse}).
+     *
+     * @return backend configuration or an empty object if not available
+     */
+    public JSONObject getBackends() {
+        Object value = getValue();
+        if (value instanceof JSONObject json && json.get("backend") instanceof JSONObject backends) {
+            return backends;
+        }
+        return new JSONObject();
+    }
+
+    /**
+     * Get the handle of a listener, which is returned for {@code add} and {@code pull} commands
+     *
+     * @return listener handle or {@code null} if not available
+     */
+    public String getHandle() {
+        Object value = getValue();
+        if (value instanceof String handle) {
+            return handle;
+        }
+        return value instanceof JSONObject json ? (String) json.get("handle") : null;
+    }
+
+    /**
+     * Get the handback value of a listener, which is returned for {@code pull} command
+     *
+     * @return handback value or {@code null}
+     */
+    public Object getHandback() {
+        Object value = getValue();
+        return value instanceof JSONObject json ? json.get("handback") : null;
+    }
+
+    /**
+     * Get the number of notifications which were dropped by the agent since the previous {@code pull}
+     * command (because the agent collected too many of them)
+     *
+     * @return number of dropped notifications
+     */
+    public int getDropped() {
+        Object value = getValue();
+        if (value instanceof JSONObject json && json.get("dropped") instanceof Number dropped) {
+            return dropped.intValue();
+        }
+        return 0;
+    }
+
+    /**
+     * <p>Get the notifications returned for {@code pull} command, ordered by sequence number.</p>
+     *
+     * <p>The notifications are recreated from their JSON form, so only {@link MBeanServerNotification},
+     * {@link AttributeChangeNotification} and generic {@link Notification} are returned. User data is
+     * available in its JSON form. A source which is not an {@link ObjectName} is returned as String.</p>
+     *
+     * @return list of notifications or an empty list
+     */
+    public List<Notification> getNotifications() {
+        Object value = getValue();
+        if (!(value instanceof JSONObject json) || !(json.get("notifications") instanceof JSONArray notifications)) {
+            return Collections.emptyList();
+        }
+        List<Notification> ret = new ArrayList<>(notifications.size());
+        for (Object notification : notifications) {
+            if (notification instanceof JSONObject n) {
+                ret.add(toNotification(n));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Recreate a {@link Notification} from its JSON form
+     *
+     * @param pJson
+     * @return
+     */
+    private Notification toNotification(JSONObject pJson) {
+        String type = (String) pJson.get("type");
+        Object source = toSource(pJson.get("source"));
+        long sequenceNumber = pJson.get("sequenceNumber") instanceof Number n ? n.longValue() : 0L;
+        long timeStamp = pJson.get("timeStamp") instanceof Number n ? n.longValue() : System.currentTimeMillis();
+        String message = pJson.get("message") instanceof String m ? m : null;
+
+        Notification notification;
+        if (pJson.containsKey("mBeanName") && toSource(pJson.get("mBeanName")) instanceof ObjectName mbeanName) {
+            notification = new MBeanServerNotification(type, source, sequenceNumber, mbeanName);
+            notification.setTimeStamp(timeStamp);
+        } else if (pJson.get("attributeName") instanceof String attributeName) {
+            notification = new AttributeChangeNotification(source, sequenceNumber, timeStamp, message, attributeName,
+                (String) pJson.get("attributeType"), pJson.get("oldValue"), pJson.get("newValue"));
+        } else {
+            notification = new Notification(type, source, sequenceNumber, timeStamp, message);
+        }
+        notification.setUserData(pJson.get("userData"));
+        return notification;
+    }
+
+    /**
+     * {@link ObjectName} is serialized as JSON object with {@code objectName} field
+     *
+     * @param pSource
+     * @return
+     */
+    private Object toSource(Object pSource) {
+        Object name = pSource instanceof JSONObject json ? json.get("objectName") : pSource;
+        if (name instanceof String s) {
+            try {
+                return new ObjectName(s);
+            } catch (MalformedObjectNameException e) {
+                return s;
+            }
+        }
+        // Notification requires non-null source
+        return pSource == null ? String.valueOf(getHandle()) : pSource.toString();
+    }
+
+}
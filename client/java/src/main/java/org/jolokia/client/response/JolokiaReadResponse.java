@@ -17,6 +17,7 @@ package org.jolokia.client.response;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,6 +47,23 @@ public final class JolokiaReadResponse extends JolokiaResponse<JolokiaReadReques
      */
     public JolokiaReadResponse(JolokiaReadRequest pRequest, JSONObject pJsonResponse) {
         super(pRequest, pJsonResponse);
+
+        JolokiaMBeanVisitor visitor = pRequest.getMBeanVisitor();
+        if (visitor != null && getValue() instanceof JSONObject values) {
+            // MBeans not visited while parsing (when parsed without the visitor)
+            Iterator<Map.Entry<String, Object>> it = values.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Object> e = it.next();
+                if (e.getValue() instanceof JSONObject attributes) {
+                    try {
+                        visitor.visit(new ObjectName(e.getKey()), attributes);
+                    } catch (MalformedObjectNameException ex) {
+                        throw new IllegalStateException("Cannot convert read result '" + e.getKey() + "' to an ObjectName", ex);
+                    }
+                    it.remove();
+                }
+            }
+        }
     }
 
     /**
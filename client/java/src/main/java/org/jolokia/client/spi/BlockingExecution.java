@@ -0,0 +1,91 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.spi;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jolokia.client.exception.JolokiaException;
+
+/**
+ * Fallback for {@link HttpClientSpi} implementations without non-blocking I/O. Blocking calls are
+ * run in a shared pool of daemon threads which grows with the number of requests in flight and shrinks
+ * again when idle.
+ */
+final class BlockingExecution {
+
+    private static final int KEEP_ALIVE_SECONDS = 60;
+
+    private static final ThreadPoolExecutor EXECUTOR;
+
+    static {
+        AtomicInteger counter = new AtomicInteger();
+        EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), r -> {
+                Thread thread = new Thread(r, "jolokia-client-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    private BlockingExecution() {
+    }
+
+    /**
+     * Run a blocking call in the shared pool. The returned future is completed with the result of the call
+     * or exceptionally with the {@link JolokiaException} thrown. Cancelling or otherwise completing the future
+     * before the call has finished interrupts the thread running it.
+     *
+     * @param pCall call to run
+     * @return future for the result of the call
+     * @param <T> type of the result
+     */
+    static <T> CompletableFuture<T> supplyAsync(BlockingCall<T> pCall) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = EXECUTOR.submit(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(pCall.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        // cancellation or a timeout interrupts the blocking call
+        result.whenComplete((r, e) -> {
+            if (e != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * A blocking call which may throw a {@link JolokiaException}
+     *
+     * @param <T> type of the result
+     */
+    @FunctionalInterface
+    interface BlockingCall<T> {
+        T call() throws JolokiaException;
+    }
+
+}
@@ -19,6 +19,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.jolokia.client.JolokiaQueryParameter;
 import org.jolokia.client.JolokiaTargetConfig;
@@ -70,6 +71,49 @@ public interface HttpClientSpi<T> extends Closeable {
     JSONStructure execute(List<REQ> requests, Map<JolokiaQueryParameter, String> parameters, JolokiaTargetConfig targetConfig)
             throws JolokiaException;
 
+    /**
+     * Asynchronous version of {@link #execute(JolokiaRequest, HttpMethod, Map, JolokiaTargetConfig)}. The returned
+     * future is completed with the parsed JSON response or exceptionally with a {@link JolokiaException}.
+     * Cancelling the future aborts the request if possible.
+     *
+     * <p>The default implementation runs the blocking {@link #execute} method in a shared thread pool.
+     * Implementations which support non-blocking I/O should override this method.</p>
+     *
+     * @param request
+     * @param method
+     * @param parameters
+     * @param targetConfig
+     * @return future for the {@link JSONStructure} returned by the server
+     * @param <REQ>
+     * @param <RES>
+     */
+    default <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    CompletableFuture<JSONStructure> executeAsync(REQ request, HttpMethod method, Map<JolokiaQueryParameter, String> parameters,
+                                                  JolokiaTargetConfig targetConfig) {
+        return BlockingExecution.supplyAsync(() -> execute(request, method, parameters, targetConfig));
+    }
+
+    /**
+     * Asynchronous version of {@link #execute(List, Map, JolokiaTargetConfig)} for bulk requests. The returned
+     * future is completed with the parsed JSON response or exceptionally with a {@link JolokiaException}.
+     * Cancelling the future aborts the request if possible.
+     *
+     * <p>The default implementation runs the blocking {@link #execute} method in a shared thread pool.
+     * Implementations which support non-blocking I/O should override this method.</p>
+     *
+     * @param requests
+     * @param parameters
+     * @param targetConfig
+     * @return future for the {@link JSONStructure} returned by the server
+     * @param <REQ>
+     * @param <RES>
+     */
+    default <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+    CompletableFuture<JSONStructure> executeAsync(List<REQ> requests, Map<JolokiaQueryParameter, String> parameters,
+                                                  JolokiaTargetConfig targetConfig) {
+        return BlockingExecution.supplyAsync(() -> execute(requests, parameters, targetConfig));
+    }
+
     /**
      * Retrieve underlying, implementation-specific HTTP Client if it matches the passed type.
      *
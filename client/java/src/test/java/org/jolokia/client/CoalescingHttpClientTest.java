@@ -0,0 +1,282 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.MalformedObjectNameException;
+
+import org.jolokia.client.exception.JolokiaException;
+import org.jolokia.client.exception.JolokiaRemoteException;
+import org.jolokia.client.request.HttpMethod;
+import org.jolokia.client.request.JolokiaNotificationRequest;
+import org.jolokia.client.request.JolokiaReadRequest;
+import org.jolokia.client.request.JolokiaRequest;
+import org.jolokia.client.response.JolokiaReadResponse;
+import org.jolokia.client.response.JolokiaResponse;
+import org.jolokia.client.spi.HttpClientSpi;
+import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONObject;
+import org.jolokia.json.JSONStructure;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class CoalescingHttpClientTest {
+
+    private static final URI TEST_URL = URI.create("http://localhost:8080/jolokia");
+
+    @Test
+    public void coalesceConcurrentRequests() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        CoalescingHttpClient<Object> coalescing = new CoalescingHttpClient<>(http, Duration.ofMillis(200), 100);
+        JolokiaClient client = new JolokiaClient(TEST_URL, coalescing);
+
+        List<CompletableFuture<JolokiaReadResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(client.executeAsync(request("A" + i)));
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(futures.get(i).get(10, TimeUnit.SECONDS).getValue(), "A" + i);
+        }
+
+        assertEquals(http.bulkSizes, List.of(5));
+        assertEquals(http.singleCount.get(), 0);
+        assertEquals(coalescing.getRequestCount(), 5L);
+        assertEquals(coalescing.getBatchCount(), 1L);
+        assertEquals(coalescing.getLargestBatchSize(), 5L);
+    }
+
+    @Test
+    public void sendFullBatchImmediately() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        // the window would exceed the timeout below
+        JolokiaClient client = new JolokiaClient(TEST_URL, new CoalescingHttpClient<>(http, Duration.ofMinutes(1), 3));
+
+        List<CompletableFuture<JolokiaReadResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(client.executeAsync(request("A" + i)));
+        }
+        for (CompletableFuture<JolokiaReadResponse> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(http.bulkSizes, List.of(3));
+    }
+
+    @Test
+    public void singleRequestIsNotSentAsBulk() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        JolokiaClient client = new JolokiaClient(TEST_URL, new CoalescingHttpClient<>(http, Duration.ofMillis(1), 100));
+
+        JolokiaReadResponse response = client.execute(request("A"));
+        assertEquals(response.getValue(), "A");
+        assertEquals(http.singleCount.get(), 1);
+        assertTrue(http.bulkSizes.isEmpty());
+    }
+
+    @Test
+    public void errorsAreHandedToTheirCaller() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        JolokiaClient client = new JolokiaClient(TEST_URL, new CoalescingHttpClient<>(http, Duration.ofMillis(200), 100));
+
+        CompletableFuture<JolokiaReadResponse> ok = client.executeAsync(request("A"));
+        CompletableFuture<JolokiaReadResponse> failed = client.executeAsync(request("error"));
+        assertEquals(ok.get(10, TimeUnit.SECONDS).getValue(), "A");
+        try {
+            failed.get(10, TimeUnit.SECONDS);
+            fail("No exception was thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof JolokiaRemoteException);
+        }
+        assertEquals(http.bulkSizes, List.of(2));
+    }
+
+    @Test
+    public void rejectedBulkRequestIsSentOneByOne() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        CoalescingHttpClient<Object> coalescing = new CoalescingHttpClient<>(http, Duration.ofMillis(200), 100);
+        JolokiaClient client = new JolokiaClient(TEST_URL, coalescing);
+
+        CompletableFuture<JolokiaReadResponse> first = client.executeAsync(request("A"));
+        CompletableFuture<JolokiaReadResponse> invalid = client.executeAsync(request("invalid"));
+        CompletableFuture<JolokiaReadResponse> second = client.executeAsync(request("B"));
+        assertEquals(first.get(10, TimeUnit.SECONDS).getValue(), "A");
+        assertEquals(second.get(10, TimeUnit.SECONDS).getValue(), "B");
+        try {
+            invalid.get(10, TimeUnit.SECONDS);
+            fail("No exception was thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof JolokiaRemoteException);
+            assertEquals(((JolokiaRemoteException) e.getCause()).getStatus(), 400);
+        }
+
+        assertEquals(http.bulkSizes, List.of(3));
+        assertEquals(http.singleCount.get(), 3);
+        assertEquals(coalescing.getRequestCount(), 3L);
+        assertEquals(coalescing.getBatchCount(), 4L);
+    }
+
+    @Test
+    public void failedBulkRequestFailsAllCallers() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        http.failure = new JolokiaException("Connection refused");
+        JolokiaClient client = new JolokiaClient(TEST_URL, new CoalescingHttpClient<>(http, Duration.ofMillis(200), 100));
+
+        List<CompletableFuture<JolokiaReadResponse>> futures = List.of(client.executeAsync(request("A")), client.executeAsync(request("B")));
+        for (CompletableFuture<JolokiaReadResponse> future : futures) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                fail("No exception was thrown");
+            } catch (ExecutionException e) {
+                assertEquals(e.getCause().getMessage(), "Connection refused");
+            }
+        }
+    }
+
+    @Test
+    public void notificationRequestsAreNotCoalesced() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        CoalescingHttpClient<Object> coalescing = new CoalescingHttpClient<>(http, Duration.ofMillis(200), 100);
+
+        CompletableFuture<JSONStructure> first = coalescing.executeAsync(request("A"), null, null, null);
+        CompletableFuture<JSONStructure> pull = coalescing.executeAsync(JolokiaNotificationRequest.pull("client", "handle", 10000), null, null, null);
+        CompletableFuture<JSONStructure> second = coalescing.executeAsync(request("B"), null, null, null);
+        first.get(10, TimeUnit.SECONDS);
+        pull.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        assertEquals(http.bulkSizes, List.of(2));
+        assertEquals(http.singleCount.get(), 1);
+    }
+
+    @Test
+    public void differentOptionsAreNotCoalesced() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        JolokiaClient client = new JolokiaClient(TEST_URL, new CoalescingHttpClient<>(http, Duration.ofMillis(200), 100));
+
+        CompletableFuture<JolokiaReadResponse> first = client.executeAsync(request("A"));
+        CompletableFuture<JolokiaReadResponse> second = client.executeAsync(request("B"), Map.of(JolokiaQueryParameter.MAX_DEPTH, "2"));
+        CompletableFuture<JolokiaReadResponse> third = client.executeAsync(request("C"));
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        third.get(10, TimeUnit.SECONDS);
+
+        assertEquals(http.bulkSizes, List.of(2));
+        assertEquals(http.singleCount.get(), 1);
+    }
+
+    @Test
+    public void closeFailsPendingRequests() throws Exception {
+        RecordingHttpClient http = new RecordingHttpClient();
+        JolokiaClient client = new JolokiaClient(TEST_URL, new CoalescingHttpClient<>(http, Duration.ofMinutes(1), 100));
+
+        CompletableFuture<JolokiaReadResponse> pending = client.executeAsync(request("A"));
+        client.close();
+        try {
+            pending.get(10, TimeUnit.SECONDS);
+            fail("No exception was thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof JolokiaException);
+        }
+        assertTrue(http.closed);
+    }
+
+    private JolokiaReadRequest request(String pAttribute) throws MalformedObjectNameException {
+        return new JolokiaReadRequest("test:type=Coalescing", pAttribute);
+    }
+
+    // Records the HTTP requests and answers read requests with the attribute name as value
+    private static class RecordingHttpClient implements HttpClientSpi<Object> {
+
+        private final List<Integer> bulkSizes = new CopyOnWriteArrayList<>();
+        private final AtomicInteger singleCount = new AtomicInteger();
+        private volatile JolokiaException failure;
+        private volatile boolean closed;
+
+        @Override
+        public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+        JSONStructure execute(REQ request, HttpMethod method, Map<JolokiaQueryParameter, String> parameters, JolokiaTargetConfig targetConfig)
+                throws JolokiaException {
+            singleCount.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            return response(request);
+        }
+
+        @Override
+        public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+        JSONStructure execute(List<REQ> requests, Map<JolokiaQueryParameter, String> parameters, JolokiaTargetConfig targetConfig)
+                throws JolokiaException {
+            bulkSizes.add(requests.size());
+            if (failure != null) {
+                throw failure;
+            }
+            JSONArray responses = new JSONArray();
+            for (REQ request : requests) {
+                JSONObject response = response(request);
+                if ("400".equals(String.valueOf(response.get("status")))) {
+                    // like the agent, which rejects the whole bulk request when one of its requests is invalid
+                    response.remove("request");
+                    return response;
+                }
+                responses.add(response);
+            }
+            return responses;
+        }
+
+        private JSONObject response(JolokiaRequest pRequest) {
+            String attribute = pRequest instanceof JolokiaReadRequest read ? read.getAttribute() : null;
+            JSONObject response = new JSONObject();
+            response.put("request", pRequest.toJson());
+            if ("invalid".equals(attribute)) {
+                response.put("status", 400);
+                response.put("error_type", "org.jolokia.server.core.request.BadRequestException");
+                response.put("error", "Invalid request: " + attribute);
+            } else if ("error".equals(attribute)) {
+                response.put("status", 404);
+                response.put("error_type", "javax.management.AttributeNotFoundException");
+                response.put("error", "No such attribute: " + attribute);
+            } else {
+                response.put("status", 200);
+                response.put("value", attribute);
+            }
+            return response;
+        }
+
+        @Override
+        public Object getClient(Class<Object> clientClass) {
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+        }
+    }
+
+}
@@ -26,7 +26,13 @@ import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.management.MalformedObjectNameException;
 
 //import org.apache.http.HttpEntity;
@@ -39,9 +45,13 @@ import org.jolokia.client.exception.JolokiaException;
 import org.jolokia.client.exception.JolokiaRemoteException;
 import org.jolokia.client.exception.JolokiaTimeoutException;
 import org.jolokia.client.jdkclient.JdkHttpClient;
+import org.jolokia.client.request.HttpMethod;
 import org.jolokia.client.request.JolokiaReadRequest;
+import org.jolokia.client.request.JolokiaRequest;
 import org.jolokia.client.response.JolokiaReadResponse;
+import org.jolokia.client.response.JolokiaResponse;
 import org.jolokia.client.spi.HttpClientSpi;
+import org.jolokia.json.JSONStructure;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.testng.collections.Maps;
@@ -50,6 +60,7 @@ import static org.easymock.EasyMock.createMock;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.replay;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 /**
@@ -177,6 +188,83 @@ public class JolokiaClientTest {
         fail("No exception was thrown");
     }
 
+    @Test
+    public void simpleAsync() throws Exception {
+        HttpClientSpi<?> client = prepareAsyncMocks(MEMORY_RESPONSE, new CompletableFuture<>());
+
+        JolokiaClient j4p = new JolokiaClient(TEST_URL, client);
+        JolokiaReadResponse resp = j4p.<JolokiaReadResponse, JolokiaReadRequest>executeAsync(TEST_REQUEST).get(10, TimeUnit.SECONDS);
+        assertEquals(((Map<?, ?>) resp.getValue()).get("max"), 530186240L);
+    }
+
+    @Test
+    public void bulkAsync() throws Exception {
+        HttpClientSpi<?> client = prepareAsyncMocks(ARRAY_RESPONSE, new CompletableFuture<>());
+
+        JolokiaClient j4p = new JolokiaClient(TEST_URL, client);
+        List<JolokiaReadResponse> resp = j4p.<JolokiaReadResponse, JolokiaReadRequest>executeAsync(List.of(TEST_REQUEST)).get(10, TimeUnit.SECONDS);
+        assertEquals(resp.size(), 1);
+        assertEquals(((Map<?, ?>) resp.get(0).getValue()).get("max"), 530186240L);
+    }
+
+    @Test
+    public void timeoutAsync() throws Exception {
+        HttpClient client = createMock(HttpClient.class);
+        expect(client.sendAsync(EasyMock.anyObject(), EasyMock.<HttpResponse.BodyHandler<byte[]>>anyObject()))
+            .andReturn(CompletableFuture.failedFuture(new HttpConnectTimeoutException("timeout")));
+        replay(client);
+
+        JolokiaClient j4p = new JolokiaClient(TEST_URL, new JdkHttpClient(client, JolokiaClientBuilder.Configuration.withUrl(URI.create("http://localhost"))));
+        try {
+            j4p.executeAsync(TEST_REQUEST).get(10, TimeUnit.SECONDS);
+            fail("No exception was thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof JolokiaTimeoutException);
+        }
+    }
+
+    @Test
+    public void cancelAsync() throws Exception {
+        CompletableFuture<HttpResponse<byte[]>> exchange = new CompletableFuture<>();
+        HttpClient client = createMock(HttpClient.class);
+        expect(client.sendAsync(EasyMock.anyObject(), EasyMock.<HttpResponse.BodyHandler<byte[]>>anyObject())).andReturn(exchange);
+        replay(client);
+
+        JolokiaClient j4p = new JolokiaClient(TEST_URL, new JdkHttpClient(client, JolokiaClientBuilder.Configuration.withUrl(URI.create("http://localhost"))));
+        CompletableFuture<JolokiaReadResponse> future = j4p.executeAsync(TEST_REQUEST);
+        assertTrue(future.cancel(true));
+        assertTrue(exchange.isCancelled());
+    }
+
+    @Test
+    public void responseTimeoutAsync() throws Exception {
+        CompletableFuture<HttpResponse<byte[]>> exchange = new CompletableFuture<>();
+        HttpClient client = createMock(HttpClient.class);
+        expect(client.sendAsync(EasyMock.anyObject(), EasyMock.<HttpResponse.BodyHandler<byte[]>>anyObject())).andReturn(exchange);
+        replay(client);
+
+        JolokiaClient j4p = new JolokiaClient(TEST_URL, new JdkHttpClient(client, JolokiaClientBuilder.Configuration.withUrl(URI.create("http://localhost"))));
+        try {
+            j4p.executeAsync(TEST_REQUEST).orTimeout(50, TimeUnit.MILLISECONDS).get(10, TimeUnit.SECONDS);
+            fail("No exception was thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertTrue(exchange.isCancelled());
+    }
+
+    @Test
+    public void blockingFallbackAsync() throws Exception {
+        BlockingHttpClient client = new BlockingHttpClient();
+
+        JolokiaClient j4p = new JolokiaClient(TEST_URL, client);
+        CompletableFuture<JolokiaReadResponse> future = j4p.executeAsync(TEST_REQUEST);
+        assertTrue(client.started.await(10, TimeUnit.SECONDS));
+        future.cancel(true);
+        // the blocked call is interrupted
+        assertTrue(client.interrupted.await(10, TimeUnit.SECONDS));
+    }
+
     @SuppressWarnings("unchecked")
     private void throwException(boolean bulk, Exception exp) throws IOException, JolokiaException {
         HttpClient client = createMock(HttpClient.class);
@@ -219,4 +307,55 @@ public class JolokiaClientTest {
         return spi;
     }
 
+    @SuppressWarnings("unchecked")
+    private HttpClientSpi<?> prepareAsyncMocks(String jsonResp, CompletableFuture<HttpResponse<byte[]>> exchange) {
+        HttpClient client = createMock(HttpClient.class);
+        HttpResponse<byte[]> response = createMock(HttpResponse.class);
+        expect(client.sendAsync(EasyMock.anyObject(), EasyMock.<HttpResponse.BodyHandler<byte[]>>anyObject())).andReturn(exchange);
+        expect(response.statusCode()).andReturn(200);
+        expect(response.headers()).andReturn(HttpHeaders.of(Collections.emptyMap(), (n, v) -> true));
+        expect(response.body()).andReturn(jsonResp.getBytes()).anyTimes();
+        replay(client, response);
+
+        // complete the exchange from another thread, like the JDK HTTP Client does
+        CompletableFuture.runAsync(() -> exchange.complete(response));
+        return new JdkHttpClient(client, JolokiaClientBuilder.Configuration.withUrl(URI.create("http://localhost")));
+    }
+
+    // HttpClientSpi with blocking calls only, so the default executeAsync() is used
+    private static class BlockingHttpClient implements HttpClientSpi<Object> {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Override
+        public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+        JSONStructure execute(REQ request, HttpMethod method, Map<JolokiaQueryParameter, String> parameters, JolokiaTargetConfig targetConfig)
+                throws JolokiaException {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new JolokiaException("Interrupted", e);
+            }
+            return null;
+        }
+
+        @Override
+        public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+        JSONStructure execute(List<REQ> requests, Map<JolokiaQueryParameter, String> parameters, JolokiaTargetConfig targetConfig) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object getClient(Class<Object> clientClass) {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
 }
@@ -21,6 +21,7 @@ import java.util.*;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 
+import org.jolokia.client.JolokiaQueryParameter;
 import org.jolokia.client.exception.JolokiaException;
 import org.jolokia.client.response.JolokiaListResponse;
 import org.jolokia.client.response.JolokiaSearchResponse;
@@ -68,6 +69,26 @@ public class ClientListIntegrationTest extends AbstractClientIntegrationTest {
         }
     }
 
+    @Test
+    public void mbeanVisitor() throws JolokiaException, MalformedObjectNameException {
+        for (String listCache : new String[] { "false", "true" }) {
+            for (JolokiaListRequest req : new JolokiaListRequest[]{
+                    new JolokiaListRequest("java.lang"),
+                    new JolokiaListRequest(getTargetProxyConfig(), "java.lang")
+            }) {
+                Map<ObjectName, JSONObject> visited = new HashMap<>();
+                req.setMBeanVisitor(visited::put);
+                JolokiaListResponse resp = jolokiaClient.execute(req, Map.of(JolokiaQueryParameter.LIST_CACHE, listCache));
+                JSONObject info = visited.get(new ObjectName("java.lang:type=Memory"));
+                assertNotNull(info);
+                assertTrue(info.containsKey("attr"));
+                assertNotNull(JolokiaListResponse.toMBeanInfo(new ObjectName("java.lang:type=Memory"), info).getClassName());
+                // visited MBeans are not part of the response
+                assertTrue(resp.getObjectInstances(new ObjectName("java.lang:*")).isEmpty());
+            }
+        }
+    }
+
     @Test
     public void withSpace() throws JolokiaException {
         for (JolokiaListRequest req : new JolokiaListRequest[] {
@@ -315,6 +315,19 @@ public class ClientReadIntegrationTest extends AbstractClientIntegrationTest {
         }
     }
 
+    @Test
+    public void mbeanPatternWithVisitor() throws MalformedObjectNameException, JolokiaException {
+        for (JolokiaReadRequest req : readRequests("*:type=attribute","LongSeconds")) {
+            Map<ObjectName, JSONObject> visited = new HashMap<>();
+            req.setMBeanVisitor(visited::put);
+            JolokiaReadResponse resp = jolokiaClient.execute(req);
+            assertEquals(visited.size(), 1);
+            assertTrue(visited.get(new ObjectName(itSetup.getAttributeMBean())).containsKey("LongSeconds"));
+            // visited MBeans are not part of the response
+            assertTrue(resp.getObjectNames().isEmpty());
+        }
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void mxBeanReadTest() throws MalformedObjectNameException, JolokiaException {
@@ -15,7 +15,9 @@
  */
 package org.jolokia.client.request;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.jolokia.client.JolokiaTargetConfig;
 import org.jolokia.client.exception.JolokiaException;
@@ -49,6 +51,27 @@ public class ClientVersionIntegrationTest extends AbstractClientIntegrationTest
         }
     }
 
+    @Test
+    public void versionAsyncRequest() throws Exception {
+        for (HttpMethod method : new HttpMethod[] { HttpMethod.GET, HttpMethod.POST }) {
+            JolokiaVersionRequest req = new JolokiaVersionRequest();
+            req.setPreferredHttpMethod(method);
+            JolokiaVersionResponse resp = jolokiaClient.<JolokiaVersionResponse, JolokiaVersionRequest>executeAsync(req)
+                .get(10, TimeUnit.SECONDS);
+            verifyResponse(resp);
+        }
+    }
+
+    @Test
+    public void versionAsyncBulkRequest() throws Exception {
+        List<JolokiaVersionResponse> resps = jolokiaClient.<JolokiaVersionResponse, JolokiaVersionRequest>executeAsync(
+            List.of(new JolokiaVersionRequest(), new JolokiaVersionRequest())).get(10, TimeUnit.SECONDS);
+        assertEquals(2, resps.size());
+        for (JolokiaVersionResponse resp : resps) {
+            verifyResponse(resp);
+        }
+    }
+
     private void verifyResponse(JolokiaVersionResponse pResp) {
         assertEquals("Proper agent version", Version.getAgentVersion(), pResp.getAgentVersion());
         assertEquals("Proper protocol version", Version.getProtocolVersion(), pResp.getProtocolVersion());
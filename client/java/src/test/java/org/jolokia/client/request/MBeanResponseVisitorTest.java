@@ -0,0 +1,142 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.request;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanInfo;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.jolokia.client.HttpUtil;
+import org.jolokia.client.JolokiaQueryParameter;
+import org.jolokia.client.response.JolokiaListResponse;
+import org.jolokia.client.response.JolokiaReadResponse;
+import org.jolokia.json.JSONObject;
+import org.jolokia.json.parser.ParseException;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class MBeanResponseVisitorTest {
+
+    private static final String INFO = "{\"class\":\"test.Dummy\",\"desc\":\"Dummy MBean\",\"attr\":{\"Count\":{\"type\":\"int\",\"desc\":\"Count\",\"rw\":false}}}";
+
+    @Test
+    public void listAll() throws Exception {
+        List<String> visited = new ArrayList<>();
+        JolokiaListRequest request = new JolokiaListRequest();
+        request.setMBeanVisitor((name, info) -> visited.add(name + " " + info.get("class")));
+
+        JolokiaListResponse response = parse(request, null, "{\"request\":{\"type\":\"list\"},\"value\":{"
+            + "\"test\":{\"type=A\":" + INFO + ",\"type=B\":" + INFO + "},"
+            + "\"other\":{\"type=C\":" + INFO + "}"
+            + "},\"status\":200}", true);
+
+        assertEquals(visited, List.of("test:type=A test.Dummy", "test:type=B test.Dummy", "other:type=C test.Dummy"));
+        assertTrue(((JSONObject) response.getValue(JSONObject.class).get("test")).isEmpty());
+    }
+
+    @Test
+    public void listSingleDomain() throws Exception {
+        List<ObjectName> visited = new ArrayList<>();
+        JolokiaListRequest request = new JolokiaListRequest("test");
+        request.setMBeanVisitor((name, info) -> visited.add(name));
+
+        JolokiaListResponse response = parse(request, null, "{\"request\":{\"type\":\"list\",\"path\":\"test\"},\"value\":{"
+            + "\"type=A\":" + INFO + ",\"type=B\":" + INFO
+            + "},\"status\":200}", true);
+
+        assertEquals(visited, List.of(new ObjectName("test:type=A"), new ObjectName("test:type=B")));
+        assertTrue(response.getValue(JSONObject.class).isEmpty());
+    }
+
+    @Test
+    public void listWithCache() throws Exception {
+        List<String> visited = new ArrayList<>();
+        JolokiaListRequest request = new JolokiaListRequest();
+        request.setMBeanVisitor((name, info) -> visited.add(name.toString()));
+
+        JolokiaListResponse response = parse(request, Map.of(JolokiaQueryParameter.LIST_CACHE, "true"),
+            "{\"request\":{\"type\":\"list\"},\"value\":{"
+            + "\"cache\":{\"test:type=Cached\":" + INFO + "},"
+            + "\"domains\":{\"test\":{\"type=A\":\"test:type=Cached\",\"type=B\":" + INFO + ",\"type=C\":\"test:type=Cached\"}}"
+            + "},\"status\":200}", true);
+
+        // inline MBean info is visited while parsing, cached info afterward
+        assertEquals(visited, List.of("test:type=B", "test:type=A", "test:type=C"));
+        assertTrue(((JSONObject) response.getValue(JSONObject.class).get("test")).isEmpty());
+    }
+
+    @Test
+    public void listSingleMBean() throws Exception {
+        List<MBeanInfo> visited = new ArrayList<>();
+        JolokiaListRequest request = new JolokiaListRequest(new ObjectName("test:type=A"));
+        request.setMBeanVisitor((name, info) -> visited.add(JolokiaListResponse.toMBeanInfo(name, info)));
+
+        parse(request, null, "{\"request\":{\"type\":\"list\",\"path\":\"test/type=A\"},\"value\":" + INFO + ",\"status\":200}", true);
+
+        assertEquals(visited.size(), 1);
+        assertEquals(visited.get(0).getClassName(), "test.Dummy");
+        assertEquals(visited.get(0).getAttributes()[0].getName(), "Count");
+    }
+
+    @Test
+    public void listParsedWithoutVisitor() throws Exception {
+        List<String> visited = new ArrayList<>();
+        JolokiaListRequest request = new JolokiaListRequest("te*");
+        request.setMBeanVisitor((name, info) -> visited.add(name.toString()));
+
+        // e.g. when a custom HttpClientSpi ignores the response visitor
+        JolokiaListResponse response = parse(request, null, "{\"request\":{\"type\":\"list\",\"path\":\"te*\"},\"value\":{"
+            + "\"test\":{\"type=A\":" + INFO + "}"
+            + "},\"status\":200}", false);
+
+        assertEquals(visited, List.of("test:type=A"));
+        assertTrue(((JSONObject) response.getValue(JSONObject.class).get("test")).isEmpty());
+    }
+
+    @Test
+    public void readPattern() throws Exception {
+        List<String> visited = new ArrayList<>();
+        JolokiaReadRequest request = new JolokiaReadRequest("test:type=*", "Count");
+        request.setMBeanVisitor((name, values) -> visited.add(name + " " + values.get("Count")));
+
+        JolokiaReadResponse response = parse(request, null, "{\"request\":{\"type\":\"read\",\"mbean\":\"test:type=*\",\"attribute\":\"Count\"},"
+            + "\"value\":{\"test:type=A\":{\"Count\":1},\"test:type=B\":{\"Count\":2}},\"status\":200}", true);
+
+        assertEquals(visited, List.of("test:type=A 1", "test:type=B 2"));
+        assertTrue(response.getValue(JSONObject.class).isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void readWithoutPattern() throws MalformedObjectNameException {
+        new JolokiaReadRequest("test:type=A", "Count").setMBeanVisitor((name, values) -> {});
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R parse(JolokiaRequest pRequest, Map<JolokiaQueryParameter, String> pParameters, String pJson, boolean pUseVisitor)
+            throws ParseException, IOException {
+        JSONObject json = (JSONObject) HttpUtil.parseJsonResponse(new ByteArrayInputStream(pJson.getBytes(StandardCharsets.UTF_8)),
+            StandardCharsets.UTF_8, pUseVisitor ? pRequest.getResponseVisitor(pParameters) : null);
+        return (R) pRequest.createResponse(json);
+    }
+
+}
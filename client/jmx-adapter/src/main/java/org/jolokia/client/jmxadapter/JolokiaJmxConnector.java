@@ -48,6 +48,7 @@ import javax.management.remote.JMXServiceURL;
 import javax.security.auth.Subject;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 
@@ -131,6 +132,10 @@ public class JolokiaJmxConnector implements JMXConnector {
         clientBuilder.connectionTimeout(intProperty(copy, JolokiaClientOption.CONNECTION_TIMEOUT, JolokiaClientBuilder.DEFAULT_CONNECTION_TIMEOUT));
         clientBuilder.socketTimeout(intProperty(copy, JolokiaClientOption.READ_TIMEOUT, JolokiaClientBuilder.DEFAULT_SOCKET_TIMEOUT));
 
+        // concurrent calls through the MBeanServerConnection may be sent as bulk requests
+        clientBuilder.coalescingWindow(Duration.ofMillis(intProperty(copy, JolokiaClientOption.COALESCING_WINDOW, 0)));
+        clientBuilder.maxBatchSize(intProperty(copy, JolokiaClientOption.MAX_BATCH_SIZE, JolokiaClientBuilder.DEFAULT_MAX_BATCH_SIZE));
+
         // these methods require Keystore location (JKS or PKCS12), but we may load the material from
         // individual keys and certificates too. We'll always recreate the key/truststore:
         // - in case there's a client key alias and the keystore contains more key entries
@@ -148,7 +153,16 @@ public class JolokiaJmxConnector implements JMXConnector {
             clientBuilder.keyPassword((String) copy.get(JolokiaClientOption.CLIENT_KEY_PASSWORD.asSystemProperty()));
         }
 
-        this.adapter = new RemoteJmxAdapter(clientBuilder.build());
+        // MBean metadata is revalidated with ifModifiedSince after this time
+        Duration cacheTtl = Duration.ofMillis(intProperty(copy, JolokiaClientOption.CACHE_TTL,
+            (int) RemoteJmxAdapter.DEFAULT_CACHE_TTL.toMillis()));
+        int cacheSize = intProperty(copy, JolokiaClientOption.CACHE_SIZE, RemoteJmxAdapter.DEFAULT_CACHE_SIZE);
+
+        this.adapter = new RemoteJmxAdapter(clientBuilder.build(), cacheTtl, cacheSize);
+
+        // all notification listeners are served by a single polling task
+        this.adapter.setNotificationPollInterval(Duration.ofMillis(intProperty(copy, JolokiaClientOption.NOTIFICATION_POLL_INTERVAL,
+            (int) RemoteJmxAdapter.DEFAULT_NOTIFICATION_POLL_INTERVAL.toMillis())));
 
         boolean fetchOpenTypes = booleanProperty(copy, JolokiaClientOption.OPEN_TYPES, true);
         this.adapter.defaultProcessingOptions().put(JolokiaQueryParameter.OPEN_TYPES, fetchOpenTypes ? "true" : "false");
@@ -231,6 +245,9 @@ public class JolokiaJmxConnector implements JMXConnector {
 
     @Override
     public void close() {
+        if (this.adapter != null) {
+            this.adapter.close();
+        }
         this.broadcasterSupport.sendNotification(new JMXConnectionNotification(JMXConnectionNotification.CLOSED, this, this.connectionId, clientNotifSeqNo++, "Client has been closed", null));
         this.adapter = null;
     }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.jmxadapter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import javax.management.JMException;
+
+/**
+ * <p>Cache for metadata obtained from the remote Jolokia Agent (search results and {@link javax.management.MBeanInfo})
+ * used by {@link RemoteJmxAdapter}. A cached value is used without asking the agent for a configured time.
+ * After that time the value is revalidated by the {@link Loader}, which gets the previous value and can send
+ * its timestamp with {@code ifModifiedSince} parameter - so the agent answers with a cheap "304 Not Modified"
+ * response if the set of MBeans hasn't changed.</p>
+ *
+ * <p>A value is loaded only once for a key - concurrent callers wait for the running load, but callers for other
+ * keys are never blocked. The number of entries is bounded, expired entries are evicted first when the cache is
+ * full. Failed loads are not cached.</p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the cached values
+ */
+final class MetadataCache<K, V> {
+
+    private final Map<K, CompletableFuture<Entry<V>>> entries = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Loader<K, V> loader;
+
+    /**
+     * Create a cache
+     *
+     * @param pTtl     time for which a value is used without revalidation. Zero to revalidate on each access
+     * @param pMaxSize maximum number of cached values
+     * @param pLoader  loader for the values
+     */
+    MetadataCache(Duration pTtl, int pMaxSize, Loader<K, V> pLoader) {
+        if (pMaxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + pMaxSize);
+        }
+        ttlNanos = Math.max(0, pTtl.toNanos());
+        maxSize = pMaxSize;
+        loader = pLoader;
+    }
+
+    /**
+     * Get a value from the cache, loading or revalidating it if needed
+     *
+     * @param pKey key of the value
+     * @return cached, revalidated or loaded value
+     * @throws IOException  passed on from the loader
+     * @throws JMException  passed on from the loader
+     */
+    V get(K pKey) throws IOException, JMException {
+        while (true) {
+            CompletableFuture<Entry<V>> future = entries.get(pKey);
+            if (future == null) {
+                CompletableFuture<Entry<V>> loading = new CompletableFuture<>();
+                if (entries.putIfAbsent(pKey, loading) == null) {
+                    if (entries.size() > maxSize) {
+                        evict(pKey);
+                    }
+                    return load(pKey, null, loading);
+                }
+            } else if (!future.isDone()) {
+                // loaded by another thread
+                return await(future);
+            } else if (!future.isCompletedExceptionally()) {
+                Entry<V> entry = future.join();
+                if (!entry.isExpired(System.nanoTime())) {
+                    return entry.loaded.value();
+                }
+                CompletableFuture<Entry<V>> loading = new CompletableFuture<>();
+                if (entries.replace(pKey, future, loading)) {
+                    return load(pKey, entry.loaded, loading);
+                }
+            } else {
+                // failed load of another thread, which has already been reported to its callers
+                entries.remove(pKey, future);
+            }
+        }
+    }
+
+    /**
+     * Remove a value from the cache, so it's loaded again on next access
+     *
+     * @param pKey key of the value
+     */
+    void invalidate(K pKey) {
+        entries.remove(pKey);
+    }
+
+    /**
+     * Remove all values from the cache
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get the number of cached values (including the values being loaded)
+     *
+     * @return number of entries
+     */
+    int size() {
+        return entries.size();
+    }
+
+    // ==========================================================================================================
+
+    private V load(K pKey, Loaded<V> pPrevious, CompletableFuture<Entry<V>> pLoading) throws IOException, JMException {
+        try {
+            Loaded<V> loaded = loader.load(pKey, pPrevious);
+            pLoading.complete(new Entry<>(loaded, System.nanoTime() + ttlNanos));
+            return loaded.value();
+        } catch (IOException | JMException | RuntimeException | Error e) {
+            entries.remove(pKey, pLoading);
+            pLoading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private V await(CompletableFuture<Entry<V>> pFuture) throws IOException, JMException {
+        try {
+            return pFuture.get().loaded.value();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof JMException jmException) {
+                throw jmException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for metadata from the remote Jolokia Agent");
+        }
+    }
+
+    // Make room for a new entry - expired entries first, then any other entries
+    private void evict(K pNewKey) {
+        long now = System.nanoTime();
+        entries.values().removeIf(future -> future.isDone() && !future.isCompletedExceptionally()
+            && future.join().isExpired(now));
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > maxSize && keys.hasNext()) {
+            if (!keys.next().equals(pNewKey)) {
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * A value returned by the {@link Loader}
+     *
+     * @param value     the loaded value
+     * @param timestamp time of the agent (in seconds since the epoch) when the value was loaded, which can be used
+     *                  for {@code ifModifiedSince} parameter when revalidating the value
+     * @param <V>       type of the value
+     */
+    record Loaded<V>(V value, long timestamp) {
+    }
+
+    /**
+     * Loader for the values of the cache
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     */
+    @FunctionalInterface
+    interface Loader<K, V> {
+        /**
+         * Load a value or revalidate an expired value
+         *
+         * @param pKey      key of the value
+         * @param pPrevious expired value or {@code null} if there's no value to revalidate. Should be returned if
+         *                  the value hasn't changed
+         * @return the loaded value
+         */
+        Loaded<V> load(K pKey, Loaded<V> pPrevious) throws IOException, JMException;
+    }
+
+    private record Entry<V>(Loaded<V> loaded, long expiresAt) {
+        private boolean isExpired(long pNow) {
+            return pNow - expiresAt >= 0;
+        }
+    }
+
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.jmxadapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.openmbean.OpenType;
+
+import org.jolokia.client.JolokiaClient;
+import org.jolokia.client.exception.JolokiaBulkRemoteException;
+import org.jolokia.client.exception.JolokiaException;
+import org.jolokia.client.request.JolokiaNotificationRequest;
+import org.jolokia.client.response.JolokiaNotificationResponse;
+import org.jolokia.converter.object.Converter;
+
+/**
+ * <p>Delivery of JMX notifications from the remote Jolokia Agent to local {@link NotificationListener listeners}
+ * of {@link RemoteJmxAdapter}. It uses {@code pull} notification backend of the agent.</p>
+ *
+ * <p>There's a single notification client registered at the agent per connection and a single listener
+ * registered at the agent per MBean - local listeners of the same MBean share it and their
+ * {@link NotificationFilter filters} are applied locally. The notifications of all MBeans are fetched by one
+ * polling task with a single bulk request and are then handed to local listeners. The polling task runs only
+ * while there are any listeners.</p>
+ */
+final class NotificationPoller {
+
+    private static final Logger LOG = Logger.getLogger("org.jolokia.client.jmx");
+
+    /** Notification backend used for the listeners */
+    static final String PULL_MODE = "pull";
+
+    private final JolokiaClient client;
+
+    /** Converter for the user data of notifications */
+    private final Converter<OpenType<?>> userDataConverter;
+
+    private volatile Duration pollInterval;
+
+    // guards the fields below. Requests for managing the listeners are sent while holding it, but the
+    // notifications are fetched and delivered without it.
+    private final Object lock = new Object();
+
+    /** ID of the notification client registered at the agent */
+    private String clientId;
+
+    /** Listeners registered at the agent (one per MBean) with their local listeners */
+    private final Map<ObjectName, Subscription> subscriptions = new HashMap<>();
+
+    private ScheduledThreadPoolExecutor scheduler;
+    private ScheduledFuture<?> pollTask;
+
+    /** Set when the agent no longer knows the client or its listeners (for example after restart) */
+    private boolean resubscribe;
+
+    NotificationPoller(JolokiaClient pClient, Duration pPollInterval, Converter<OpenType<?>> pUserDataConverter) {
+        client = pClient;
+        userDataConverter = pUserDataConverter;
+        setPollInterval(pPollInterval);
+    }
+
+    /**
+     * Set the interval for fetching the notifications, used when polling is (re)started
+     *
+     * @param pPollInterval
+     */
+    void setPollInterval(Duration pPollInterval) {
+        if (pPollInterval.toMillis() <= 0) {
+            throw new IllegalArgumentException("Notification poll interval must be positive: " + pPollInterval);
+        }
+        pollInterval = pPollInterval;
+    }
+
+    /**
+     * Add a local listener for notifications of an MBean. A listener is registered at the agent for the first
+     * local listener of given MBean.
+     *
+     * @param pName
+     * @param pListener
+     * @param pFilter
+     * @param pHandback
+     * @throws JolokiaException when registering the client or the listener at the agent fails
+     * @throws UnsupportedOperationException when the agent doesn't support {@code pull} notification backend
+     */
+    void addListener(ObjectName pName, NotificationListener pListener, NotificationFilter pFilter, Object pHandback)
+            throws JolokiaException {
+        synchronized (lock) {
+            Subscription subscription = subscriptions.get(pName);
+            if (subscription == null) {
+                if (clientId == null) {
+                    clientId = registerClient();
+                }
+                subscription = new Subscription(pName, addRemoteListener(pName));
+                subscriptions.put(pName, subscription);
+                startPolling();
+            }
+            subscription.listeners.add(new LocalListener(pListener, pFilter, pHandback));
+        }
+    }
+
+    /**
+     * Remove all registrations of a local listener for notifications of an MBean.
+     *
+     * @param pName
+     * @param pListener
+     * @throws ListenerNotFoundException when the listener is not registered for the MBean
+     * @throws JolokiaException when removing the listener at the agent fails
+     */
+    void removeListener(ObjectName pName, NotificationListener pListener) throws ListenerNotFoundException, JolokiaException {
+        synchronized (lock) {
+            Subscription subscription = subscriptions.get(pName);
+            if (subscription == null || !subscription.listeners.removeIf(l -> l.listener == pListener)) {
+                throw new ListenerNotFoundException("Listener not registered for " + pName);
+            }
+            removeIfUnused(subscription);
+        }
+    }
+
+    /**
+     * Remove a registration of a local listener with exactly the same filter and handback.
+     *
+     * @param pName
+     * @param pListener
+     * @param pFilter
+     * @param pHandback
+     * @throws ListenerNotFoundException when the listener is not registered for the MBean
+     * @throws JolokiaException when removing the listener at the agent fails
+     */
+    void removeListener(ObjectName pName, NotificationListener pListener, NotificationFilter pFilter, Object pHandback)
+            throws ListenerNotFoundException, JolokiaException {
+        synchronized (lock) {
+            Subscription subscription = subscriptions.get(pName);
+            LocalListener found = null;
+            if (subscription != null) {
+                for (LocalListener l : subscription.listeners) {
+                    if (l.listener == pListener && l.filter == pFilter && l.handback == pHandback) {
+                        found = l;
+                        break;
+                    }
+                }
+            }
+            if (found == null) {
+                throw new ListenerNotFoundException("Listener with given filter and handback not registered for " + pName);
+            }
+            subscription.listeners.remove(found);
+            removeIfUnused(subscription);
+        }
+    }
+
+    /**
+     * Stop polling and unregister the client at the agent, which removes all its listeners there
+     */
+    void close() {
+        String id;
+        synchronized (lock) {
+            subscriptions.clear();
+            stopPolling();
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+            id = clientId;
+            clientId = null;
+        }
+        if (id != null) {
+            try {
+                client.execute(JolokiaNotificationRequest.unregister(id));
+            } catch (JolokiaException e) {
+                LOG.log(Level.FINE, "Can't unregister notification client " + id + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Fetch the notifications of all listeners with a single bulk request and deliver them to local listeners.
+     * Called periodically by the polling task.
+     */
+    void poll() {
+        List<Subscription> current;
+        String id;
+        synchronized (lock) {
+            if (resubscribe) {
+                resubscribe();
+            }
+            current = new ArrayList<>(subscriptions.values());
+            id = clientId;
+        }
+        if (current.isEmpty() || id == null) {
+            return;
+        }
+
+        List<JolokiaNotificationRequest> requests = new ArrayList<>(current.size());
+        for (Subscription subscription : current) {
+            requests.add(JolokiaNotificationRequest.pull(id, subscription.handle));
+        }
+        List<?> results;
+        try {
+            results = client.execute(requests);
+        } catch (JolokiaBulkRemoteException e) {
+            // most probably the agent doesn't know our client anymore, but deliver what we've got
+            LOG.log(Level.FINE, "Error fetching notifications: " + e.getRemoteExceptions(), e);
+            results = e.getResults();
+            synchronized (lock) {
+                resubscribe = true;
+            }
+        } catch (JolokiaException e) {
+            LOG.log(Level.FINE, "Error fetching notifications: " + e.getMessage(), e);
+            return;
+        }
+
+        for (int i = 0; i < current.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof JolokiaNotificationResponse response) {
+                deliver(current.get(i), response);
+            }
+        }
+    }
+
+    // ==========================================================================================================
+
+    private void deliver(Subscription pSubscription, JolokiaNotificationResponse pResponse) {
+        if (pResponse.getDropped() > 0) {
+            LOG.warning(pResponse.getDropped() + " notifications of " + pSubscription.name + " were dropped by the remote Jolokia Agent");
+        }
+        for (Notification notification : pResponse.getNotifications()) {
+            if (!(notification.getSource() instanceof ObjectName)) {
+                notification.setSource(pSubscription.name);
+            }
+            NotificationUserData.convert(notification, userDataConverter);
+            for (LocalListener l : pSubscription.listeners) {
+                try {
+                    if (l.filter == null || l.filter.isNotificationEnabled(notification)) {
+                        l.listener.handleNotification(notification, l.handback);
+                    }
+                } catch (RuntimeException e) {
+                    LOG.log(Level.WARNING, "Notification listener for " + pSubscription.name + " failed: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private String registerClient() throws JolokiaException {
+        JolokiaNotificationResponse response = client.execute(JolokiaNotificationRequest.register());
+        if (!response.getBackends().containsKey(PULL_MODE)) {
+            // unregister the client we can't use
+            client.execute(JolokiaNotificationRequest.unregister(response.getClientId()));
+            throw new UnsupportedOperationException("Remote Jolokia Agent doesn't support \"" + PULL_MODE + "\" notification backend");
+        }
+        return response.getClientId();
+    }
+
+    private String addRemoteListener(ObjectName pName) throws JolokiaException {
+        JolokiaNotificationResponse response = client.execute(JolokiaNotificationRequest.add(clientId, PULL_MODE, pName, null, null));
+        return response.getHandle();
+    }
+
+    private void removeIfUnused(Subscription pSubscription) throws JolokiaException {
+        if (!pSubscription.listeners.isEmpty()) {
+            return;
+        }
+        subscriptions.remove(pSubscription.name);
+        if (subscriptions.isEmpty()) {
+            stopPolling();
+        }
+        client.execute(JolokiaNotificationRequest.remove(clientId, pSubscription.handle));
+    }
+
+    // register the client again and add the listeners for MBeans which are still available
+    private void resubscribe() {
+        resubscribe = false;
+        if (clientId != null) {
+            try {
+                client.execute(JolokiaNotificationRequest.unregister(clientId));
+            } catch (JolokiaException ignored) {
+                // expected when the agent was restarted
+            }
+            clientId = null;
+        }
+        try {
+            clientId = registerClient();
+        } catch (JolokiaException | RuntimeException e) {
+            LOG.log(Level.FINE, "Can't register notification client: " + e.getMessage(), e);
+            resubscribe = true;
+            return;
+        }
+        for (Iterator<Subscription> it = subscriptions.values().iterator(); it.hasNext(); ) {
+            Subscription subscription = it.next();
+            try {
+                subscription.handle = addRemoteListener(subscription.name);
+            } catch (JolokiaException e) {
+                // as with a local MBeanServer, listeners are gone with the MBean
+                LOG.log(Level.FINE, "Can't add notification listener for " + subscription.name + ": " + e.getMessage(), e);
+                it.remove();
+            }
+        }
+        if (subscriptions.isEmpty()) {
+            stopPolling();
+        }
+    }
+
+    private void startPolling() {
+        if (pollTask != null) {
+            return;
+        }
+        if (scheduler == null) {
+            scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "jolokia-client-notifications");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+        }
+        long interval = pollInterval.toMillis();
+        pollTask = scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                // an exception would cancel further polling
+                LOG.log(Level.WARNING, "Error delivering notifications: " + e.getMessage(), e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void stopPolling() {
+        if (pollTask != null) {
+            pollTask.cancel(false);
+            pollTask = null;
+        }
+    }
+
+    /**
+     * A listener registered at the agent for an MBean
+     */
+    private static final class Subscription {
+        private final ObjectName name;
+        private volatile String handle;
+        private final List<LocalListener> listeners = new CopyOnWriteArrayList<>();
+
+        private Subscription(ObjectName pName, String pHandle) {
+            name = pName;
+            handle = pHandle;
+        }
+    }
+
+    /**
+     * A listener registered with {@link RemoteJmxAdapter}
+     */
+    private record LocalListener(NotificationListener listener, NotificationFilter filter, Object handback) {
+    }
+
+}
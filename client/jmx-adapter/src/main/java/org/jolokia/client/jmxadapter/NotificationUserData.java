@@ -0,0 +1,121 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.jmxadapter;
+
+import java.lang.management.MemoryNotificationInfo;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.MBeanAttributeInfo;
+import javax.management.Notification;
+import javax.management.StandardMBean;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenMBeanAttributeInfo;
+import javax.management.openmbean.OpenType;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.jolokia.converter.object.Converter;
+import org.jolokia.json.JSONObject;
+
+/**
+ * <p>Conversion of the user data of notifications, which is received in its JSON form, back to
+ * {@link CompositeData}.</p>
+ *
+ * <p>The type of the user data isn't part of {@link javax.management.MBeanNotificationInfo}, so it's only known
+ * for the notifications of platform MXBeans: {@link GarbageCollectionNotificationInfo garbage collection}
+ * and {@link MemoryNotificationInfo memory threshold} notifications. The user data of other notifications
+ * is passed to the listeners in its JSON form.</p>
+ */
+final class NotificationUserData {
+
+    private static final Logger LOG = Logger.getLogger("org.jolokia.client.jmx");
+
+    /** Types of the user data per notification type */
+    private static final Map<String, CompositeType> USER_DATA_TYPES = new HashMap<>();
+
+    static {
+        CompositeType memory = userDataType(MemoryUserData.class, () -> null);
+        if (memory != null) {
+            USER_DATA_TYPES.put(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED, memory);
+            USER_DATA_TYPES.put(MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED, memory);
+        }
+        try {
+            // may not exist on all vms
+            CompositeType gc = userDataType(GarbageCollectionUserData.class, () -> null);
+            if (gc != null) {
+                USER_DATA_TYPES.put(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION, gc);
+            }
+        } catch (LinkageError e) {
+            LOG.log(Level.FINE, "Garbage collection notifications are not supported: " + e.getMessage(), e);
+        }
+    }
+
+    private NotificationUserData() {
+    }
+
+    /**
+     * Replace the JSON user data of a notification by {@link CompositeData} if its type is known. When
+     * the conversion fails, the JSON user data is kept.
+     *
+     * @param pNotification notification received from the remote Jolokia Agent
+     * @param pConverter    converter for JSON values to {@link OpenType open types}
+     */
+    static void convert(Notification pNotification, Converter<OpenType<?>> pConverter) {
+        CompositeType type = USER_DATA_TYPES.get(pNotification.getType());
+        if (type != null && pNotification.getUserData() instanceof JSONObject json) {
+            try {
+                pNotification.setUserData(pConverter.convert(type, json));
+            } catch (RuntimeException e) {
+                LOG.log(Level.FINE, "Can't convert user data of " + pNotification.getType() + " notification: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Get the {@link CompositeType} to which the type of the single attribute of an MXBean interface is mapped.
+     * This way we get exactly the same type as the platform MXBeans use for the user data.
+     *
+     * @param pInterface      MXBean interface with a single attribute of the type of the user data
+     * @param pImplementation dummy implementation of the interface
+     * @return type of the attribute or {@code null} if it can't be determined
+     * @param <T> MXBean interface
+     */
+    private static <T> CompositeType userDataType(Class<T> pInterface, T pImplementation) {
+        try {
+            MBeanAttributeInfo[] attributes = new StandardMBean(pImplementation, pInterface, true).getMBeanInfo().getAttributes();
+            if (attributes.length == 1 && attributes[0] instanceof OpenMBeanAttributeInfo info
+                    && info.getOpenType() instanceof CompositeType type) {
+                return type;
+            }
+        } catch (IllegalArgumentException e) {
+            LOG.log(Level.FINE, "Can't determine the type of " + pInterface.getSimpleName() + ": " + e.getMessage(), e);
+        }
+        return null;
+    }
+
+    // MXBean interfaces, which are never implemented. They're only used to get the types of the user data.
+
+    public interface MemoryUserData {
+        MemoryNotificationInfo getUserData();
+    }
+
+    public interface GarbageCollectionUserData {
+        GarbageCollectionNotificationInfo getUserData();
+    }
+
+}
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,7 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import javax.management.Attribute;
@@ -37,6 +37,7 @@ import javax.management.AttributeNotFoundException;
 import javax.management.InstanceNotFoundException;
 import javax.management.InvalidAttributeValueException;
 import javax.management.JMException;
+import javax.management.ListenerNotFoundException;
 import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanException;
 import javax.management.MBeanInfo;
@@ -75,11 +76,13 @@ import org.jolokia.client.response.JolokiaListResponse;
 import org.jolokia.client.JolokiaQueryParameter;
 import org.jolokia.client.response.JolokiaReadResponse;
 import org.jolokia.client.response.JolokiaResponse;
+import org.jolokia.client.response.JolokiaResponseExtractor;
 import org.jolokia.client.response.JolokiaSearchResponse;
 import org.jolokia.client.request.JolokiaVersionRequest;
 import org.jolokia.client.response.JolokiaVersionResponse;
 import org.jolokia.client.request.JolokiaWriteRequest;
 import org.jolokia.client.response.JolokiaWriteResponse;
+import org.jolokia.client.response.ValidatingResponseExtractor;
 import org.jolokia.converter.json.ObjectToJsonConverter;
 import org.jolokia.converter.object.Converter;
 import org.jolokia.converter.object.ObjectToObjectConverter;
@@ -144,13 +147,35 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
         TypeHelper.converter = objectToObjectConverter;
     }
 
+    /** Default time for which cached search results and {@link MBeanInfo MBeanInfos} are used without revalidation */
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(1);
+
+    /** Default maximum number of cached search results and {@link MBeanInfo MBeanInfos} */
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    /** Default interval for fetching notifications for the {@link NotificationListener listeners} */
+    public static final Duration DEFAULT_NOTIFICATION_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    /** Extractor which accepts "304 Not Modified" responses to {@code ifModifiedSince} requests (as {@code null}) */
+    private static final JolokiaResponseExtractor NOT_MODIFIED_EXTRACTOR = new ValidatingResponseExtractor(304);
+
     /**
      * When a client of {@link JMXConnector} uses the related {@link MBeanServerConnection}, it's often
      * required to get an {@link MBeanInfo} for some {@link ObjectName}. It's always worth caching it.
-     * I think (prove me wrong) it can be assumed that the target agent does <em>not</em> register
-     * completely MBean with different class (and {@link MBeanInfo}) under the same {@link ObjectName}.
+     * An MBean may however be unregistered and registered again with different class, so after the configured
+     * time the cached {@link MBeanInfo} is revalidated using {@code ifModifiedSince} parameter.
      */
-    protected final Map<ObjectName, MBeanInfo> mbeanInfoCache = new ConcurrentHashMap<>();
+    private final MetadataCache<ObjectName, MBeanInfo> mbeanInfoCache;
+
+    /**
+     * Cached results of {@code search} requests by {@link ObjectName} pattern, used by
+     * {@link #queryNames(ObjectName, QueryExp)}, {@link #isRegistered(ObjectName)}, {@link #getMBeanCount()} and
+     * {@link #getDomains()} which are frequently called by JMX tools.
+     */
+    private final MetadataCache<ObjectName, Set<ObjectName>> searchCache;
+
+    /** Delivery of notifications from the remote Jolokia Agent to {@link NotificationListener listeners} */
+    private final NotificationPoller notificationPoller;
 
     // helper cache for javax.management.MBeanServerConnection.isInstanceOf()
     // see https://github.com/jolokia/jolokia/issues/666
@@ -265,7 +290,26 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
      * @throws IOException
      */
     public RemoteJmxAdapter(final JolokiaClient client) throws IOException {
+        this(client, DEFAULT_CACHE_TTL, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Create Jolokia backed {@link MBeanServerConnection} using existing, pre-configured {@link JolokiaClient}
+     * and custom configuration of the cache for search results and {@link MBeanInfo MBeanInfos}.
+     *
+     * @param client
+     * @param cacheTtl  time for which cached metadata is used without asking the agent. After this time the metadata
+     *                  is revalidated with a cheap {@code ifModifiedSince} request. {@link Duration#ZERO} revalidates
+     *                  the metadata on every access
+     * @param cacheSize maximum number of cached search results and (separately) {@link MBeanInfo MBeanInfos}
+     * @throws IOException
+     * @since 2.6.1
+     */
+    public RemoteJmxAdapter(final JolokiaClient client, Duration cacheTtl, int cacheSize) throws IOException {
         this.client = client;
+        this.mbeanInfoCache = new MetadataCache<>(cacheTtl, cacheSize, this::loadMBeanInfo);
+        this.searchCache = new MetadataCache<>(cacheTtl, cacheSize, this::loadObjectNames);
+        this.notificationPoller = new NotificationPoller(client, DEFAULT_NOTIFICATION_POLL_INTERVAL, objectToOpenTypeConverter);
         try {
             JolokiaVersionResponse response = this.unwrapExecute(new JolokiaVersionRequest());
             // Information from Jolokia "version" request.
@@ -453,67 +497,80 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
 
     @Override
     public MBeanInfo getMBeanInfo(ObjectName name) throws InstanceNotFoundException, ReflectionException, IOException {
-        MBeanInfo result = this.mbeanInfoCache.get(name);
-        if (result == null) {
-            synchronized (mbeanInfoCache) {
-                result = this.mbeanInfoCache.get(name);
-                if (result == null) {
-                    try {
-                        final JolokiaListResponse response = this.unwrapExecute(new JolokiaListRequest(name), new Supplier<>() {
-                            @Override
-                            public Map<JolokiaQueryParameter, String> get() {
-                                Map<JolokiaQueryParameter, String> options = defaultProcessingOptions();
-                                // handled by Jolokia 2.5.0+
-                                options.put(JolokiaQueryParameter.LIST_INTERFACES, "true");
-                                // as much as we can, because these nested OpenTypes may be nasty
-                                options.put(JolokiaQueryParameter.MAX_DEPTH, "0");
-                                return options;
-                            }
-                        });
+        try {
+            return this.mbeanInfoCache.get(name);
+        } catch (InstanceNotFoundException | ReflectionException e) {
+            throw e;
+        } catch (JMException e) {
+            // not thrown by loadMBeanInfo()
+            throw new ReflectionException(e, e.getMessage());
+        } catch (UncheckedJmxAdapterException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                // see com.sun.jmx.interceptor.DefaultMBeanServerInterceptor.rethrow()
+                throw new RuntimeMBeanException(runtimeException, runtimeException.getMessage());
+            }
+            if (cause instanceof InstanceNotFoundException instanceNotFoundException) {
+                throw instanceNotFoundException;
+            }
+            if (cause instanceof JMException || cause instanceof JolokiaRemoteException) {
+                // panic - handleJolokiaResponseExceptions couldn't find any exception to throw...
+                e.throwGenericJMRuntimeCause();
+            }
+        }
+        return null;
+    }
 
-                        if (response != null && (result = response.getMBeanInfo(name)) != null) {
-                            // cache entire MBeanInfo
-                            this.mbeanInfoCache.put(name, result);
-                            // cache the types of MBean attributes and operation return values
-                            for (MBeanOperationInfo op : result.getOperations()) {
-                                // signature needed for overloaded methods
-                                final String operationKey = TypeHelper.operationKey(name, op);
-                                OpenType<?> retOpenType = op instanceof OpenMBeanOperationInfo openInfo ? openInfo.getReturnOpenType() : null;
-                                if (retOpenType == null) {
-                                    retOpenType = OpenTypeHelper.findOpenType(op.getDescriptor());
-                                }
-                                TypeHelper.cache(operationKey, op.getReturnType(), retOpenType);
-                            }
-                            for (MBeanAttributeInfo attr : result.getAttributes()) {
-                                // should be the same (enforced by JMX introspector) for set/get
-                                final String attributeKey = TypeHelper.attributeKey(name, attr);
-                                OpenType<?> openType = attr instanceof OpenMBeanAttributeInfo openInfo ? openInfo.getOpenType() : null;
-                                if (openType == null) {
-                                    openType = OpenTypeHelper.findOpenType(attr.getDescriptor());
-                                }
-                                TypeHelper.cache(attributeKey, attr.getType(), openType);
-                            }
-                        } else {
-                            throw new InstanceNotFoundException(name.toString());
-                        }
-                    } catch (UncheckedJmxAdapterException e) {
-                        Throwable cause = e.getCause();
-                        if (cause instanceof RuntimeException runtimeException) {
-                            // see com.sun.jmx.interceptor.DefaultMBeanServerInterceptor.rethrow()
-                            throw new RuntimeMBeanException(runtimeException, runtimeException.getMessage());
-                        }
-                        if (cause instanceof InstanceNotFoundException instanceNotFoundException) {
-                            throw instanceNotFoundException;
-                        }
-                        if (cause instanceof JMException || cause instanceof JolokiaRemoteException) {
-                            // panic - handleJolokiaResponseExceptions couldn't find any exception to throw...
-                            e.throwGenericJMRuntimeCause();
-                        }
-                    }
-                }
+    /**
+     * Loader for {@link #mbeanInfoCache} which gets {@link MBeanInfo} using {@code list} request. Previous
+     * {@link MBeanInfo} is kept if the agent responds with "304 Not Modified".
+     *
+     * @param name
+     * @param previous
+     * @return
+     */
+    private MetadataCache.Loaded<MBeanInfo> loadMBeanInfo(ObjectName name, MetadataCache.Loaded<MBeanInfo> previous)
+            throws InstanceNotFoundException, ReflectionException, IOException {
+        Map<JolokiaQueryParameter, String> options = defaultProcessingOptions();
+        // handled by Jolokia 2.5.0+
+        options.put(JolokiaQueryParameter.LIST_INTERFACES, "true");
+        // as much as we can, because these nested OpenTypes may be nasty
+        options.put(JolokiaQueryParameter.MAX_DEPTH, "0");
+        if (previous != null) {
+            options = new HashMap<>(options);
+            options.put(JolokiaQueryParameter.IF_MODIFIED_SINCE, Long.toString(previous.timestamp()));
+        }
+
+        final JolokiaListResponse response = this.unwrapExecute(new JolokiaListRequest(name), options, NOT_MODIFIED_EXTRACTOR);
+        if (response == null && previous != null) {
+            // no MBean was registered or unregistered since the previous request
+            return previous;
+        }
+
+        MBeanInfo result = response == null ? null : response.getMBeanInfo(name);
+        if (result == null) {
+            throw new InstanceNotFoundException(name.toString());
+        }
+        // cache the types of MBean attributes and operation return values
+        for (MBeanOperationInfo op : result.getOperations()) {
+            // signature needed for overloaded methods
+            final String operationKey = TypeHelper.operationKey(name, op);
+            OpenType<?> retOpenType = op instanceof OpenMBeanOperationInfo openInfo ? openInfo.getReturnOpenType() : null;
+            if (retOpenType == null) {
+                retOpenType = OpenTypeHelper.findOpenType(op.getDescriptor());
             }
+            TypeHelper.cache(operationKey, op.getReturnType(), retOpenType);
         }
-        return result;
+        for (MBeanAttributeInfo attr : result.getAttributes()) {
+            // should be the same (enforced by JMX introspector) for set/get
+            final String attributeKey = TypeHelper.attributeKey(name, attr);
+            OpenType<?> openType = attr instanceof OpenMBeanAttributeInfo openInfo ? openInfo.getOpenType() : null;
+            if (openType == null) {
+                openType = OpenTypeHelper.findOpenType(attr.getDescriptor());
+            }
+            TypeHelper.cache(attributeKey, attr.getType(), openType);
+        }
+        return new MetadataCache.Loaded<>(result, response.getResponseTimestamp().getEpochSecond());
     }
 
     // ------ Metadata methods
@@ -578,10 +635,12 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
             name = getObjectName(""); // same as "*:*"
         }
 
-        final JolokiaSearchRequest j4pSearchRequest = new JolokiaSearchRequest(name);
-        JolokiaSearchResponse response;
+        Set<ObjectName> objectNames;
         try {
-            response = unwrapExecute(j4pSearchRequest);
+            objectNames = this.searchCache.get(name);
+        } catch (JMException e) {
+            // not thrown by loadObjectNames()
+            throw new IOException(e.getMessage(), e);
         } catch (UncheckedJmxAdapterException e) {
             Throwable cause = e.getCause();
             if (cause instanceof RuntimeException runtimeException) {
@@ -596,7 +655,7 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
             return Collections.emptySet();
         }
 
-        for (ObjectName objectName : response.getObjectNames()) {
+        for (ObjectName objectName : objectNames) {
             if (query == null || applyQuery(query, objectName)) {
                 result.add(objectName);
             }
@@ -605,6 +664,33 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
         return result;
     }
 
+    /**
+     * Loader for {@link #searchCache} which gets names of the MBeans matching a pattern using {@code search}
+     * request. Previous names are kept if the agent responds with "304 Not Modified".
+     *
+     * @param name
+     * @param previous
+     * @return
+     */
+    private MetadataCache.Loaded<Set<ObjectName>> loadObjectNames(ObjectName name, MetadataCache.Loaded<Set<ObjectName>> previous)
+            throws IOException {
+        Map<JolokiaQueryParameter, String> options = defaultProcessingOptions();
+        if (previous != null) {
+            options = new HashMap<>(options);
+            options.put(JolokiaQueryParameter.IF_MODIFIED_SINCE, Long.toString(previous.timestamp()));
+        }
+
+        final JolokiaSearchResponse response = this.unwrapExecute(new JolokiaSearchRequest(name), options, NOT_MODIFIED_EXTRACTOR);
+        if (response == null && previous != null) {
+            // no MBean was registered or unregistered since the previous request
+            return previous;
+        }
+        if (response == null) {
+            throw new IOException("Empty search response for " + name);
+        }
+        return new MetadataCache.Loaded<>(Set.copyOf(response.getObjectNames()), response.getResponseTimestamp().getEpochSecond());
+    }
+
     // ------ MBean operation/attribute methods - the most important ones
 
     @Override
@@ -882,11 +968,57 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
 
     // ------ Notification methods
 
+    /**
+     * Set the interval for fetching notifications from the remote Jolokia Agent. All
+     * {@link NotificationListener listeners} are served by a single task, which fetches the notifications of all
+     * MBeans using single bulk request. The interval is used when the first listener is added.
+     *
+     * @param interval
+     * @since 2.6.1
+     */
+    public void setNotificationPollInterval(Duration interval) {
+        this.notificationPoller.setPollInterval(interval);
+    }
+
+    /**
+     * Release the resources used by this connection - remove all {@link NotificationListener listeners}
+     * at the remote Jolokia Agent and stop fetching the notifications.
+     *
+     * @since 2.6.1
+     */
+    public void close() {
+        this.notificationPoller.close();
+    }
+
     @Override
-    public void addNotificationListener(ObjectName name, NotificationListener listener, NotificationFilter filter, Object handback) {
-        if (!isRunningInJConsole() && !isRunningInJVisualVm() && !isRunningInJmc()) {
+    public void addNotificationListener(ObjectName name, NotificationListener listener, NotificationFilter filter, Object handback)
+            throws InstanceNotFoundException, IOException {
+        validateNonPatternObjectName(name);
+        if (listener == null) {
+            throw new IllegalArgumentException("Notification listener cannot be null");
+        }
+
+        try {
+            this.notificationPoller.addListener(name, listener, filter, handback);
+        } catch (UnsupportedOperationException e) {
+            if (!isRunningInJConsole() && !isRunningInJVisualVm() && !isRunningInJmc()) {
+                throw e;
+            }
             // just ignore in JConsole/JVisualVM as it wrecks the MBean page
-            throw new UnsupportedOperationException("addNotificationListener not supported for Jolokia");
+        } catch (JolokiaException e) {
+            try {
+                handleException(e);
+            } catch (UncheckedJmxAdapterException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof InstanceNotFoundException instanceNotFoundException) {
+                    throw instanceNotFoundException;
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    // see com.sun.jmx.interceptor.DefaultMBeanServerInterceptor.rethrow()
+                    throw new RuntimeMBeanException(runtimeException, runtimeException.getMessage());
+                }
+                ex.throwGenericJMRuntimeCause();
+            }
         }
     }
 
@@ -906,15 +1038,37 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
     }
 
     @Override
-    public void removeNotificationListener(ObjectName name, NotificationListener listener) {
-        if (!isRunningInJmc() && !isRunningInJConsole() && !isRunningInJVisualVm()) {
-            throw new UnsupportedOperationException("removeNotificationListener not supported by Jolokia");
+    public void removeNotificationListener(ObjectName name, NotificationListener listener)
+            throws InstanceNotFoundException, ListenerNotFoundException, IOException {
+        try {
+            this.notificationPoller.removeListener(name, listener);
+        } catch (JolokiaException e) {
+            handleRemoveListenerException(e);
         }
     }
 
     @Override
-    public void removeNotificationListener(ObjectName name, NotificationListener listener, NotificationFilter filter, Object handback) {
-        throw new UnsupportedOperationException("removeNotificationListener not supported by Jolokia");
+    public void removeNotificationListener(ObjectName name, NotificationListener listener, NotificationFilter filter, Object handback)
+            throws InstanceNotFoundException, ListenerNotFoundException, IOException {
+        try {
+            this.notificationPoller.removeListener(name, listener, filter, handback);
+        } catch (JolokiaException e) {
+            handleRemoveListenerException(e);
+        }
+    }
+
+    /**
+     * The listener is already removed locally, so failure to remove it at the remote Jolokia Agent
+     * (for example because the MBean was unregistered) is only logged, except I/O errors.
+     *
+     * @param e
+     */
+    private void handleRemoveListenerException(JolokiaException e) throws IOException {
+        try {
+            handleException(e);
+        } catch (UncheckedJmxAdapterException ex) {
+            LOG.fine("Can't remove notification listener at the remote Jolokia Agent: " + ex.getCause());
+        }
     }
 
     // ------ Private/helper methods for handling JolokiaClient
@@ -1077,6 +1231,30 @@ public class RemoteJmxAdapter implements MBeanServerConnection {
         }
     }
 
+    /**
+     * Call {@link JolokiaClient#execute(JolokiaRequest, HttpMethod, Map, JolokiaResponseExtractor)} sending
+     * a prepared {@link JolokiaRequest} and handling possible exceptions. The {@link JolokiaResponseExtractor}
+     * may accept other statuses than 200, for which {@code null} is returned.
+     *
+     * @param pRequest
+     * @param pOptions
+     * @param pExtractor
+     * @return
+     * @param <RESP>
+     * @param <REQ>
+     */
+    private <RESP extends JolokiaResponse<REQ>, REQ extends JolokiaRequest>
+    RESP unwrapExecute(REQ pRequest, Map<JolokiaQueryParameter, String> pOptions, JolokiaResponseExtractor pExtractor)
+            throws IOException, UncheckedJmxAdapterException {
+        try {
+            return this.client.execute(pRequest, HttpMethod.POST, pOptions, pExtractor);
+        } catch (JolokiaException e) {
+            handleException(e);
+            // not-reachable
+            return null;
+        }
+    }
+
     /**
      * Call {@link JolokiaClient#execute(List)} sending a prepared bulk {@link JolokiaRequest} and handling
      * possible exceptions.
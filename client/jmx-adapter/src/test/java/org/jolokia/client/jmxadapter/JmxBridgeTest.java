@@ -22,22 +22,28 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.ConnectException;
 import java.rmi.registry.LocateRegistry;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import javax.management.Attribute;
 import javax.management.AttributeList;
 import javax.management.AttributeNotFoundException;
 import javax.management.InstanceNotFoundException;
 import javax.management.InvalidAttributeValueException;
+import javax.management.ListenerNotFoundException;
 import javax.management.MBeanAttributeInfo;
 import javax.management.MBeanInfo;
 import javax.management.MBeanOperationInfo;
 import javax.management.MBeanServer;
 import javax.management.MBeanServerConnection;
+import javax.management.Notification;
 import javax.management.NotificationListener;
 import javax.management.ObjectInstance;
 import javax.management.ObjectName;
@@ -55,6 +61,7 @@ import javax.management.remote.JMXConnectorServer;
 import javax.management.remote.JMXConnectorServerFactory;
 import javax.management.remote.JMXServiceURL;
 
+import com.sun.management.GarbageCollectionNotificationInfo;
 import org.jolokia.client.JolokiaClientBuilder;
 import org.jolokia.client.jmxadapter.beans.MBeanExample;
 import org.jolokia.jvmagent.JolokiaServer;
@@ -579,11 +586,6 @@ public class JmxBridgeTest {
             fail("Operation should not be supported by adapter");
         } catch (UnsupportedOperationException expected) {
         }
-        try {
-            jolokia.addNotificationListener(RUNTIME, (NotificationListener) null, null, null);
-            fail("Operation should not be supported by adapter");
-        } catch (UnsupportedOperationException expected) {
-        }
         try {
             jolokia.addNotificationListener(RUNTIME, RUNTIME, null, null);
             fail("Operation should not be supported by adapter");
@@ -599,15 +601,57 @@ public class JmxBridgeTest {
             fail("Operation should not be supported by adapter");
         } catch (UnsupportedOperationException expected) {
         }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testAddNullNotificationListener() throws Exception {
+        jolokia.addNotificationListener(MEMORY, (NotificationListener) null, null, null);
+    }
+
+    @Test(expectedExceptions = ListenerNotFoundException.class)
+    public void testRemoveUnknownNotificationListener() throws Exception {
+        jolokia.removeNotificationListener(MEMORY, (notification, handback) -> { });
+    }
+
+    @Test(expectedExceptions = ListenerNotFoundException.class)
+    public void testRemoveUnknownNotificationListenerWithFilter() throws Exception {
+        jolokia.removeNotificationListener(MEMORY, (notification, handback) -> { }, null, null);
+    }
+
+    @Test
+    public void testGarbageCollectionNotifications() throws Exception {
+        // System.gc() may be handled by any of the collectors
+        Set<ObjectName> collectors = jolokia.queryNames(RemoteJmxAdapter.getObjectName(ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*"), null);
+        BlockingQueue<Notification> received = new LinkedBlockingQueue<>();
+        Object handback = "gc";
+        NotificationListener listener = (notification, hb) -> {
+            assertEquals(hb, handback);
+            received.add(notification);
+        };
+        jolokia.setNotificationPollInterval(Duration.ofMillis(200));
+        for (ObjectName collector : collectors) {
+            jolokia.addNotificationListener(collector, listener, null, handback);
+        }
         try {
-            jolokia.removeNotificationListener(RUNTIME, (NotificationListener) null);
-            fail("Operation should not be supported by adapter");
-        } catch (UnsupportedOperationException expected) {
+            System.gc();
+            Notification notification = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(notification, "No garbage collection notification received");
+            assertEquals(notification.getType(), GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION);
+            assertTrue(collectors.contains(notification.getSource()));
+            // user data is converted back to the type used by the platform MXBean
+            assertTrue(notification.getUserData() instanceof CompositeData);
+            GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            assertEquals(info.getGcName(), ((ObjectName) notification.getSource()).getKeyProperty("name"));
+            assertTrue(info.getGcInfo().getId() > 0);
+        } finally {
+            for (ObjectName collector : collectors) {
+                jolokia.removeNotificationListener(collector, listener);
+            }
         }
         try {
-            jolokia.removeNotificationListener(RUNTIME, (NotificationListener) null, null, null);
-            fail("Operation should not be supported by adapter");
-        } catch (UnsupportedOperationException expected) {
+            jolokia.removeNotificationListener(collectors.iterator().next(), listener);
+            fail("Listener should be removed already");
+        } catch (ListenerNotFoundException expected) {
         }
     }
 
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.jmxadapter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.InstanceNotFoundException;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class MetadataCacheTest {
+
+    @Test
+    public void valuesAreCached() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        MetadataCache<String, String> cache = new MetadataCache<>(Duration.ofMinutes(1), 10,
+            (key, previous) -> new MetadataCache.Loaded<>(key + loads.incrementAndGet(), 1L));
+
+        assertEquals(cache.get("a"), "a1");
+        assertEquals(cache.get("a"), "a1");
+        assertEquals(cache.get("b"), "b2");
+        assertEquals(loads.get(), 2);
+
+        cache.invalidate("a");
+        assertEquals(cache.get("a"), "a3");
+    }
+
+    @Test
+    public void expiredValuesAreRevalidated() throws Exception {
+        List<MetadataCache.Loaded<String>> previousValues = new ArrayList<>();
+        MetadataCache<String, String> cache = new MetadataCache<>(Duration.ZERO, 10, (key, previous) -> {
+            previousValues.add(previous);
+            // "not modified" - keep the previous value
+            return previous != null ? previous : new MetadataCache.Loaded<>(key, 42L);
+        });
+
+        String first = cache.get("a");
+        assertSame(cache.get("a"), first);
+        assertSame(cache.get("a"), first);
+        assertEquals(previousValues.size(), 3);
+        assertNull(previousValues.get(0));
+        assertEquals(previousValues.get(1).timestamp(), 42L);
+        assertEquals(previousValues.get(2).timestamp(), 42L);
+    }
+
+    @Test
+    public void valueIsLoadedOncePerKey() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MetadataCache<String, String> cache = new MetadataCache<>(Duration.ofMinutes(1), 10, (key, previous) -> {
+            loads.incrementAndGet();
+            if (key.equals("slow")) {
+                loading.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            return new MetadataCache.Loaded<>(key, 1L);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> cache.get("slow")));
+            }
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            // other keys are not blocked by the running load
+            assertEquals(cache.get("fast"), "fast");
+
+            release.countDown();
+            for (Future<String> future : futures) {
+                assertEquals(future.get(10, TimeUnit.SECONDS), "slow");
+            }
+            assertEquals(loads.get(), 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failedLoadsAreNotCached() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        MetadataCache<String, String> cache = new MetadataCache<>(Duration.ofMinutes(1), 10, (key, previous) -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new InstanceNotFoundException(key);
+            }
+            return new MetadataCache.Loaded<>(key, 1L);
+        });
+
+        try {
+            cache.get("a");
+            fail("No exception was thrown");
+        } catch (InstanceNotFoundException expected) {
+        }
+        assertEquals(cache.size(), 0);
+        assertEquals(cache.get("a"), "a");
+    }
+
+    @Test
+    public void sizeIsBounded() throws Exception {
+        MetadataCache<Integer, Integer> cache = new MetadataCache<>(Duration.ofMinutes(1), 5,
+            (key, previous) -> new MetadataCache.Loaded<>(key, 1L));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(cache.get(i), Integer.valueOf(i));
+            assertTrue(cache.size() <= 5);
+        }
+        cache.clear();
+        assertEquals(cache.size(), 0);
+    }
+
+}
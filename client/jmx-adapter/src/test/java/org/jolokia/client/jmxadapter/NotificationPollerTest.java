@@ -0,0 +1,336 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.client.jmxadapter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.management.ListenerNotFoundException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationFilterSupport;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.jolokia.client.JolokiaClient;
+import org.jolokia.client.JolokiaQueryParameter;
+import org.jolokia.client.JolokiaTargetConfig;
+import org.jolokia.client.request.HttpMethod;
+import org.jolokia.client.request.JolokiaNotificationRequest;
+import org.jolokia.client.request.JolokiaRequest;
+import org.jolokia.client.response.JolokiaResponse;
+import org.jolokia.client.spi.HttpClientSpi;
+import org.jolokia.converter.json.ObjectToJsonConverter;
+import org.jolokia.converter.object.ObjectToObjectConverter;
+import org.jolokia.converter.object.ObjectToOpenTypeConverter;
+import org.jolokia.core.service.serializer.SerializeOptions;
+import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONObject;
+import org.jolokia.json.JSONStructure;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class NotificationPollerTest {
+
+    private static final URI TEST_URL = URI.create("http://localhost:8080/jolokia");
+
+    private static final ObjectName DELEGATE = MBeanServerDelegate.DELEGATE_NAME;
+
+    private static final ObjectToObjectConverter OBJECT_CONVERTER = new ObjectToObjectConverter();
+    private static final ObjectToOpenTypeConverter CONVERTER = new ObjectToOpenTypeConverter(OBJECT_CONVERTER, true);
+
+    @Test
+    public void listenersOfAnMBeanShareRemoteListener() throws Exception {
+        FakeAgent agent = new FakeAgent();
+        NotificationPoller poller = new NotificationPoller(new JolokiaClient(TEST_URL, agent), Duration.ofMinutes(1), CONVERTER);
+
+        List<Notification> all = new ArrayList<>();
+        List<Notification> registrations = new ArrayList<>();
+        NotificationFilterSupport filter = new NotificationFilterSupport();
+        filter.enableType(MBeanServerNotification.REGISTRATION_NOTIFICATION);
+        poller.addListener(DELEGATE, (n, handback) -> all.add(n), null, null);
+        poller.addListener(DELEGATE, (n, handback) -> registrations.add(n), filter, null);
+        poller.addListener(new ObjectName("test:type=Other"), (n, handback) -> all.add(n), null, null);
+
+        assertEquals(agent.commands, List.of("register", "add", "add"));
+
+        agent.emit("1", MBeanServerNotification.REGISTRATION_NOTIFICATION, "test:type=Registered");
+        agent.emit("1", MBeanServerNotification.UNREGISTRATION_NOTIFICATION, "test:type=Unregistered");
+        poller.poll();
+
+        // single bulk request for all MBeans
+        assertEquals(agent.bulkSizes, List.of(2));
+        assertEquals(all.size(), 2);
+        assertTrue(all.get(0) instanceof MBeanServerNotification);
+        assertEquals(((MBeanServerNotification) all.get(0)).getMBeanName(), new ObjectName("test:type=Registered"));
+        assertEquals(all.get(0).getSource(), DELEGATE);
+        assertEquals(registrations.size(), 1);
+        assertEquals(registrations.get(0).getType(), MBeanServerNotification.REGISTRATION_NOTIFICATION);
+
+        poller.close();
+        assertEquals(agent.commands.get(agent.commands.size() - 1), "unregister");
+    }
+
+    @Test
+    public void remoteListenerIsRemovedWithLastLocalListener() throws Exception {
+        FakeAgent agent = new FakeAgent();
+        NotificationPoller poller = new NotificationPoller(new JolokiaClient(TEST_URL, agent), Duration.ofMinutes(1), CONVERTER);
+
+        NotificationListener first = (n, handback) -> { };
+        NotificationListener second = (n, handback) -> { };
+        poller.addListener(DELEGATE, first, null, null);
+        poller.addListener(DELEGATE, second, null, "handback");
+
+        try {
+            poller.removeListener(DELEGATE, second, null, null);
+            fail("Listener shouldn't be found with different handback");
+        } catch (ListenerNotFoundException expected) {
+        }
+        poller.removeListener(DELEGATE, first);
+        assertEquals(agent.listeners.size(), 1);
+        poller.removeListener(DELEGATE, second, null, "handback");
+        assertEquals(agent.listeners.size(), 0);
+        assertEquals(agent.commands, List.of("register", "add", "remove"));
+
+        try {
+            poller.removeListener(DELEGATE, first);
+            fail("Listener shouldn't be found anymore");
+        } catch (ListenerNotFoundException expected) {
+        }
+
+        // nothing to poll
+        poller.poll();
+        assertTrue(agent.bulkSizes.isEmpty());
+        poller.close();
+    }
+
+    @Test
+    public void listenersAreAddedAgainWhenAgentForgetsClient() throws Exception {
+        FakeAgent agent = new FakeAgent();
+        NotificationPoller poller = new NotificationPoller(new JolokiaClient(TEST_URL, agent), Duration.ofMinutes(1), CONVERTER);
+
+        List<Notification> received = new ArrayList<>();
+        poller.addListener(DELEGATE, (n, handback) -> received.add(n), null, null);
+
+        // restart of the agent
+        agent.clients.clear();
+        agent.listeners.clear();
+        poller.poll();
+        assertTrue(received.isEmpty());
+
+        // next poll registers a new client with the listeners
+        poller.poll();
+        assertEquals(agent.clients.size(), 1);
+        assertEquals(agent.listeners.size(), 1);
+
+        agent.emit(agent.listeners.keySet().iterator().next(), MBeanServerNotification.REGISTRATION_NOTIFICATION, "test:type=Registered");
+        poller.poll();
+        assertEquals(received.size(), 1);
+        poller.close();
+    }
+
+    @Test
+    public void pullBackendIsRequired() throws Exception {
+        FakeAgent agent = new FakeAgent();
+        agent.backends.remove(NotificationPoller.PULL_MODE);
+        NotificationPoller poller = new NotificationPoller(new JolokiaClient(TEST_URL, agent), Duration.ofMinutes(1), CONVERTER);
+
+        try {
+            poller.addListener(DELEGATE, (n, handback) -> { }, null, null);
+            fail("Listener shouldn't be added without pull backend");
+        } catch (UnsupportedOperationException expected) {
+        }
+        // the client which can't be used is unregistered
+        assertEquals(agent.commands, List.of("register", "unregister"));
+        assertTrue(agent.clients.isEmpty());
+    }
+
+    @Test
+    public void garbageCollectionUserData() throws Exception {
+        Notification gc = collectGarbage();
+        ObjectName gcName = (ObjectName) gc.getSource();
+        FakeAgent agent = new FakeAgent();
+        NotificationPoller poller = new NotificationPoller(new JolokiaClient(TEST_URL, agent), Duration.ofMinutes(1), CONVERTER);
+
+        List<Notification> received = new ArrayList<>();
+        poller.addListener(gcName, (n, handback) -> received.add(n), null, null);
+
+        // user data as serialized by the agent
+        JSONObject notification = new JSONObject();
+        notification.put("type", gc.getType());
+        notification.put("source", FakeAgent.json(Map.of("objectName", gcName.toString())));
+        notification.put("sequenceNumber", gc.getSequenceNumber());
+        notification.put("timeStamp", gc.getTimeStamp());
+        notification.put("message", gc.getMessage());
+        notification.put("userData", new ObjectToJsonConverter(OBJECT_CONVERTER, CONVERTER, null)
+            .serialize(gc.getUserData(), null, SerializeOptions.DEFAULT));
+        agent.listeners.values().iterator().next().add(notification);
+        poller.poll();
+
+        assertEquals(received.size(), 1);
+        assertTrue(received.get(0).getUserData() instanceof CompositeData);
+        GarbageCollectionNotificationInfo expected = GarbageCollectionNotificationInfo.from((CompositeData) gc.getUserData());
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) received.get(0).getUserData());
+        assertEquals(info.getGcName(), expected.getGcName());
+        assertEquals(info.getGcAction(), expected.getGcAction());
+        assertEquals(info.getGcCause(), expected.getGcCause());
+        assertEquals(info.getGcInfo().getId(), expected.getGcInfo().getId());
+        // MemoryUsage has no equals()
+        Map<String, MemoryUsage> usage = info.getGcInfo().getMemoryUsageAfterGc();
+        assertEquals(usage.keySet(), expected.getGcInfo().getMemoryUsageAfterGc().keySet());
+        expected.getGcInfo().getMemoryUsageAfterGc().forEach((pool, expectedUsage) ->
+            assertEquals(usage.get(pool).getUsed(), expectedUsage.getUsed()));
+        poller.close();
+    }
+
+    // Trigger a garbage collection and return its notification
+    static Notification collectGarbage() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        BlockingQueue<Notification> notifications = new LinkedBlockingQueue<>();
+        NotificationListener listener = (n, handback) -> notifications.add(n);
+        Set<ObjectName> collectors = server.queryNames(new ObjectName(ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*"), null);
+        for (ObjectName collector : collectors) {
+            server.addNotificationListener(collector, listener, null, null);
+        }
+        try {
+            System.gc();
+            Notification notification = notifications.poll(10, TimeUnit.SECONDS);
+            assertNotNull(notification, "No garbage collection notification received");
+            return notification;
+        } finally {
+            for (ObjectName collector : collectors) {
+                server.removeNotificationListener(collector, listener);
+            }
+        }
+    }
+
+    // Handles the notification requests like an agent with pull backend
+    private static class FakeAgent implements HttpClientSpi<Object> {
+
+        private final List<String> commands = new ArrayList<>();
+        private final List<Integer> bulkSizes = new ArrayList<>();
+        private final List<String> clients = new ArrayList<>();
+        // handle -> pending notifications
+        private final Map<String, JSONArray> listeners = new HashMap<>();
+        private final JSONObject backends = json(Map.of("pull", new JSONObject(), "sse", new JSONObject()));
+        private int handles;
+        private long sequence;
+
+        private void emit(String pHandle, String pType, String pMBean) {
+            JSONObject notification = new JSONObject();
+            notification.put("type", pType);
+            notification.put("source", json(Map.of("objectName", DELEGATE.toString())));
+            notification.put("mBeanName", json(Map.of("objectName", pMBean)));
+            notification.put("sequenceNumber", ++sequence);
+            notification.put("timeStamp", System.currentTimeMillis());
+            notification.put("message", "");
+            listeners.get(pHandle).add(notification);
+        }
+
+        @Override
+        public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+        JSONStructure execute(REQ request, HttpMethod method, Map<JolokiaQueryParameter, String> parameters, JolokiaTargetConfig targetConfig) {
+            return response((JolokiaNotificationRequest) request);
+        }
+
+        @Override
+        public <REQ extends JolokiaRequest, RES extends JolokiaResponse<REQ>>
+        JSONStructure execute(List<REQ> requests, Map<JolokiaQueryParameter, String> parameters, JolokiaTargetConfig targetConfig) {
+            bulkSizes.add(requests.size());
+            JSONArray responses = new JSONArray();
+            for (REQ request : requests) {
+                responses.add(response((JolokiaNotificationRequest) request));
+            }
+            return responses;
+        }
+
+        private JSONObject response(JolokiaNotificationRequest pRequest) {
+            JSONObject response = new JSONObject();
+            response.put("request", pRequest.toJson());
+            String command = pRequest.getCommand().getValue();
+            if (!"pull".equals(command)) {
+                commands.add(command);
+            }
+            if (pRequest.getClient() != null && !clients.contains(pRequest.getClient())) {
+                response.put("status", 400);
+                response.put("error_type", IllegalArgumentException.class.getName());
+                response.put("error", "No client " + pRequest.getClient() + " registered");
+                return response;
+            }
+            Object value = null;
+            switch (pRequest.getCommand()) {
+                case REGISTER -> {
+                    String id = "client-" + clients.size();
+                    clients.add(id);
+                    value = json(Map.of("id", id, "backend", backends));
+                }
+                case UNREGISTER -> clients.remove(pRequest.getClient());
+                case ADD -> {
+                    String handle = Integer.toString(++handles);
+                    listeners.put(handle, new JSONArray());
+                    value = handle;
+                }
+                case REMOVE -> listeners.remove(pRequest.getHandle());
+                case PULL -> {
+                    JSONObject result = new JSONObject();
+                    result.put("handle", pRequest.getHandle());
+                    result.put("dropped", 0);
+                    result.put("notifications", listeners.put(pRequest.getHandle(), new JSONArray()));
+                    value = result;
+                }
+                default -> {
+                }
+            }
+            response.put("status", 200);
+            response.put("value", value);
+            return response;
+        }
+
+        private static JSONObject json(Map<String, ?> pMap) {
+            JSONObject ret = new JSONObject();
+            ret.putAll(pMap);
+            return ret;
+        }
+
+        @Override
+        public Object getClient(Class<Object> clientClass) {
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+
+}
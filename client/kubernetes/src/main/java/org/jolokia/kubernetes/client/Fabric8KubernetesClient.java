@@ -30,6 +30,7 @@ import org.jolokia.client.spi.HttpClientSpi;
 import org.jolokia.json.JSONArray;
 import org.jolokia.json.JSONObject;
 import org.jolokia.json.JSONStructure;
+import org.jolokia.json.parser.MemberVisitor;
 import org.jolokia.json.parser.ParseException;
 
 /**
@@ -84,7 +85,8 @@ public class Fabric8KubernetesClient implements HttpClientSpi<KubernetesClient>
                           JolokiaTargetConfig targetConfig) throws JolokiaException {
         JolokiaTargetConfig effectiveTarget = HttpUtil.determineTargetConfig(pRequest, targetConfig);
         JSONObject body = HttpUtil.getJsonRequestContent(pRequest, effectiveTarget);
-        return send(body.toJSONString(), HttpUtil.toQueryString(parameters), pRequest.getType().getValue());
+        return send(body.toJSONString(), HttpUtil.toQueryString(parameters), pRequest.getResponseVisitor(parameters),
+            pRequest.getType().getValue());
     }
 
     @SuppressWarnings({"java:S2326", "java:S119"})  // NOSONAR RES type parameter is unused, type names are not idiomatic
@@ -96,7 +98,7 @@ public class Fabric8KubernetesClient implements HttpClientSpi<KubernetesClient>
         for (REQ r : pRequests) {
             bulk.add(HttpUtil.getJsonRequestContent(r, HttpUtil.determineTargetConfig(r, targetConfig)));
         }
-        return send(bulk.toJSONString(), HttpUtil.toQueryString(parameters), "bulk");
+        return send(bulk.toJSONString(), HttpUtil.toQueryString(parameters), null, "bulk");
     }
 
     @Override
@@ -104,7 +106,7 @@ public class Fabric8KubernetesClient implements HttpClientSpi<KubernetesClient>
         // KubernetesClient is owned by the caller (cached in KubernetesJmxConnector)
     }
 
-    private JSONStructure send(String jsonBody, String query, String requestType) throws JolokiaException {
+    private JSONStructure send(String jsonBody, String query, MemberVisitor responseVisitor, String requestType) throws JolokiaException {
         Map<String, String> headers = new HashMap<>();
         authenticate(headers, user, password);
 
@@ -128,7 +130,7 @@ public class Fabric8KubernetesClient implements HttpClientSpi<KubernetesClient>
             throw new JolokiaException("No data received from the remote Jolokia Agent for " + requestType);
         }
         try {
-            return HttpUtil.parseJsonResponse(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+            return HttpUtil.parseJsonResponse(new ByteArrayInputStream(body), StandardCharsets.UTF_8, responseVisitor);
         } catch (ParseException | IOException e) {
             throw new JolokiaException("Error parsing " + requestType + " response: " + e.getMessage());
         }
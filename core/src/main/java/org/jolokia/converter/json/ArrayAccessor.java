@@ -15,6 +15,7 @@
  */
 package org.jolokia.converter.json;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Deque;
@@ -25,6 +26,7 @@ import javax.management.AttributeNotFoundException;
 import org.jolokia.converter.object.Converter;
 import org.jolokia.core.service.serializer.ValueFaultHandler;
 import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONGenerator;
 
 /**
  * {@link org.jolokia.converter.json.ObjectAccessor} for arrays of any type (primitive or object arrays).
@@ -32,7 +34,7 @@ import org.jolokia.json.JSONArray;
  * @author roland
  * @since Apr 19, 2009
  */
-public class ArrayAccessor implements org.jolokia.converter.json.ObjectAccessor {
+public class ArrayAccessor implements org.jolokia.converter.json.StreamingObjectAccessor {
 
     @Override
     public Class<?> getType() {
@@ -64,6 +66,17 @@ public class ArrayAccessor implements org.jolokia.converter.json.ObjectAccessor
         }
     }
 
+    @Override
+    public void streamObject(ObjectToJsonConverter pConverter, Object pArray, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        int length = pConverter.getCollectionLength(Array.getLength(pArray));
+        pGenerator.beginArray();
+        for (int i = 0; i < length; i++) {
+            pConverter.streamObject(Array.get(pArray, i), null, pGenerator);
+        }
+        pGenerator.endArray();
+    }
+
     @Override
     public boolean canSetValue() {
         return true;
@@ -20,6 +20,9 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -31,13 +34,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.management.AttributeNotFoundException;
 
 import org.jolokia.core.service.serializer.ValueFaultHandler;
@@ -97,18 +99,20 @@ public class BeanAccessor implements org.jolokia.converter.json.ObjectAccessor {
 
     private static final String[] GETTER_PREFIX = new String[]{"get", "is", "has"};
 
-    private static final List<AttributeAndMethod> NO_ATTRIBUTES = Collections.emptyList();
+    /** Type of compiled getters - {@code Object getter(Object bean)} */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
 
     // Over time we serialize more and more objects, but the set of classes is limited (though may not be super small)
-    // Serialization of a list of 10000 objects of the same class should not lead to 10000x collection of getters
-    private final Map<Class<?>, Map<String, AttributeAndMethod>> ATTRIBUTE_CACHE = Collections.synchronizedMap(new HashMap<>());
+    // Serialization of a list of 10000 objects of the same class should not lead to 10000x collection of getters.
+    // It isn't a ClassValue, see the class comment of ObjectToJsonConverter.
+    private final Map<Class<?>, Map<String, AttributeAndMethod>> ATTRIBUTE_CACHE = new ConcurrentHashMap<>();
 
     /**
      * Cache ignored types, to avoid repeating calls to {@link Class#isAssignableFrom}. We don't expect this
      * cache to grow indefinitely - Jolokia serializes some objects (or object graphs) millions times, but these
      * objects use the same classes.
      */
-    private final Set<Class<?>> CACHE_IGNORED = new HashSet<>();
+    private final Set<Class<?>> CACHE_IGNORED = ConcurrentHashMap.newKeySet();
 
     @Override
     public Class<?> getType() {
@@ -122,9 +126,7 @@ public class BeanAccessor implements org.jolokia.converter.json.ObjectAccessor {
         if (pathPart != null) {
             // Still some path elements available, so dive deeper
             // get all attributes - cache or fresh
-            this.collectValidBeanAttributes(pValue);
-            Map<String, AttributeAndMethod> attributes = ATTRIBUTE_CACHE.get(pValue.getClass());
-            AttributeAndMethod attr = attributes.get(pathPart);
+            AttributeAndMethod attr = beanAttributes(pValue.getClass()).get(pathPart);
             if (attr == null) {
                 // special attr+method that will be handled in extractBeanPropertyValue
                 attr = new AttributeAndMethod(pathPart, null);
@@ -214,7 +216,7 @@ public class BeanAccessor implements org.jolokia.converter.json.ObjectAccessor {
         // so we can proceed with reflection. We'll always return JSONObject if there are any attributes
 
         // For the rest we build up a JSON map with the attributes as keys and the value are
-        Collection<AttributeAndMethod> attributes = collectValidBeanAttributes(pValue);
+        Collection<AttributeAndMethod> attributes = beanAttributes(clazz).values();
         if (!attributes.isEmpty()) {
             return extractBeanPropertyValues(pConverter, pValue, pPathParts, attributes);
         } else {
@@ -225,28 +227,41 @@ public class BeanAccessor implements org.jolokia.converter.json.ObjectAccessor {
     }
 
     /**
-     * Prepare a list of attributes we'll return as JSON representation of the object. Up to Jolokia 2.3.0
-     * we were allowing non-public methods, but it's no longer the case.
+     * Get the attributes of a class from {@link #ATTRIBUTE_CACHE}, collecting them on first access
      *
-     * @param pValue
-     * @return
+     * @param cls class of the serialized object
+     * @return attributes by name
      */
-    private Collection<AttributeAndMethod> collectValidBeanAttributes(Object pValue) {
-        Class<?> cls = pValue.getClass();
-
+    private Map<String, AttributeAndMethod> beanAttributes(Class<?> cls) {
         Map<String, AttributeAndMethod> attributes = ATTRIBUTE_CACHE.get(cls);
-        if (attributes != null) {
-            return attributes.values();
+        if (attributes == null) {
+            attributes = collectBeanAttributes(cls);
+            Map<String, AttributeAndMethod> existing = ATTRIBUTE_CACHE.putIfAbsent(cls, attributes);
+            if (existing != null) {
+                attributes = existing;
+            }
         }
+        return attributes;
+    }
 
+    /**
+     * Prepare a list of attributes we'll return as JSON representation of the object. Up to Jolokia 2.3.0
+     * we were allowing non-public methods, but it's no longer the case.
+     *
+     * This method is called once per class by {@link #beanAttributes(Class)}.
+     *
+     * @param cls
+     * @return
+     */
+    private Map<String, AttributeAndMethod> collectBeanAttributes(Class<?> cls) {
         // some classes for which we don't want to return any attribute
         if (NO_ATTRIBUTE_CLASSES.contains(cls)) {
-            return NO_ATTRIBUTES;
+            return Collections.emptyMap();
         }
 
         // heavy processing
 
-        attributes = new HashMap<>();
+        Map<String, AttributeAndMethod> attributes = new HashMap<>();
 
         for (Method method : cls.getMethods()) {
             if (!Modifier.isStatic(method.getModifiers()) && Modifier.isPublic(method.getModifiers())
@@ -269,9 +284,7 @@ public class BeanAccessor implements org.jolokia.converter.json.ObjectAccessor {
                 }
             }
         }
-        ATTRIBUTE_CACHE.put(cls, Collections.unmodifiableMap(attributes));
-
-        return attributes.values();
+        return Collections.unmodifiableMap(attributes);
     }
 
     /**
@@ -355,6 +368,16 @@ public class BeanAccessor implements org.jolokia.converter.json.ObjectAccessor {
                     "No getter known for attribute \"" + pAttribute.name + "\" for class " + pValue.getClass().getName()));
         }
 
+        if (pAttribute.getter != null) {
+            try {
+                return (Object) pAttribute.getter.invokeExact(pValue);
+            } catch (Throwable t) {
+                // same exception chain as with Method.invoke() below
+                return pFaultHandler.handleException(new IllegalStateException("Error while extracting " + pAttribute
+                        + " from " + pValue, new InvocationTargetException(t)));
+            }
+        }
+
         try {
             // no longer call setAccessible - we need public methods after Jolokia 2.3.0!
 //            method.setAccessible(true);
@@ -398,15 +421,28 @@ public class BeanAccessor implements org.jolokia.converter.json.ObjectAccessor {
     }
 
     /**
-     * Attribute name and discovered getter {@link Method} to prevent endless reflection
+     * Attribute name and discovered getter {@link Method} to prevent endless reflection. The getter is
+     * compiled into a {@link MethodHandle} if possible, which is cheaper to call than {@link Method#invoke}.
      */
     private static final class AttributeAndMethod {
         final String name;
         final Method method;
+        // null if the method is not accessible with public lookup (e.g. in a package not exported
+        // by its module), in which case the method is called using reflection
+        final MethodHandle getter;
 
         private AttributeAndMethod(String name, Method method) {
             this.name = name;
             this.method = method;
+            this.getter = method != null ? compileGetter(method) : null;
+        }
+
+        private static MethodHandle compileGetter(Method pMethod) {
+            try {
+                return MethodHandles.publicLookup().unreflect(pMethod).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
         }
 
         @Override
@@ -15,6 +15,7 @@
  */
 package org.jolokia.converter.json;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.Deque;
@@ -26,6 +27,7 @@ import javax.management.AttributeNotFoundException;
 import org.jolokia.converter.object.Converter;
 import org.jolokia.core.service.serializer.ValueFaultHandler;
 import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONGenerator;
 
 /**
  * Accessor used for arbitrary collections. They are simply converted into {@link JSONArray}, although
@@ -36,7 +38,7 @@ import org.jolokia.json.JSONArray;
  * @author roland
  * @since 18.10.11
  */
-public class CollectionAccessor implements org.jolokia.converter.json.ObjectAccessor {
+public class CollectionAccessor implements org.jolokia.converter.json.StreamingObjectAccessor {
 
     @Override
     public Class<?> getType() {
@@ -69,6 +71,33 @@ public class CollectionAccessor implements org.jolokia.converter.json.ObjectAcce
         }
     }
 
+    @Override
+    public void streamObject(ObjectToJsonConverter pConverter, Object pCollection, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        Collection<?> collection = (Collection<?>) pCollection;
+        streamElements(pConverter, collection.iterator(), pConverter.getCollectionLength(collection.size()), pGenerator);
+    }
+
+    /**
+     * Write (at most {@code pLength}) elements as JSON array into a {@link JSONGenerator}. Shared with
+     * {@link ListAccessor}.
+     *
+     * @param pConverter converter used for the elements
+     * @param pIterator iterator over the elements to write
+     * @param pLength maximum number of elements to write
+     * @param pGenerator generator to write the JSON array to
+     * @throws AttributeNotFoundException if an element can't be serialized
+     * @throws IOException if writing to the generator fails
+     */
+    static void streamElements(ObjectToJsonConverter pConverter, Iterator<?> pIterator, int pLength, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        pGenerator.beginArray();
+        for (int idx = 0; pIterator.hasNext() && idx < pLength; idx++) {
+            pConverter.streamObject(pIterator.next(), null, pGenerator);
+        }
+        pGenerator.endArray();
+    }
+
     @Override
     public boolean canSetValue() {
         return false;
@@ -15,6 +15,7 @@
  */
 package org.jolokia.converter.json;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Deque;
 import java.util.LinkedList;
@@ -23,6 +24,7 @@ import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.InvalidKeyException;
 
 import org.jolokia.core.service.serializer.ValueFaultHandler;
+import org.jolokia.json.JSONGenerator;
 import org.jolokia.json.JSONObject;
 import org.jolokia.converter.object.Converter;
 
@@ -32,7 +34,7 @@ import org.jolokia.converter.object.Converter;
  * @author roland
  * @since Apr 19, 2009
  */
-public class CompositeDataAccessor implements org.jolokia.converter.json.ObjectAccessor {
+public class CompositeDataAccessor implements org.jolokia.converter.json.StreamingObjectAccessor {
 
     @Override
     public Class<?> getType() {
@@ -56,6 +58,17 @@ public class CompositeDataAccessor implements org.jolokia.converter.json.ObjectA
         }
     }
 
+    @Override
+    public void streamObject(ObjectToJsonConverter pConverter, Object pCompositeData, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        CompositeData cd = (CompositeData) pCompositeData;
+        pGenerator.beginObject();
+        for (String key : cd.getCompositeType().keySet()) {
+            pConverter.streamObject(cd.get(key), key, pGenerator);
+        }
+        pGenerator.endObject();
+    }
+
     @Override
     public boolean canSetValue() {
         return false;
@@ -15,6 +15,7 @@
  */
 package org.jolokia.converter.json;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Deque;
 import java.util.Iterator;
@@ -26,6 +27,7 @@ import javax.management.AttributeNotFoundException;
 import org.jolokia.converter.object.Converter;
 import org.jolokia.core.service.serializer.ValueFaultHandler;
 import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONGenerator;
 
 /**
  * {@link org.jolokia.converter.json.ObjectAccessor} for {@link List lists}. Unlike the accessor for {@link java.util.Collection collections}
@@ -34,7 +36,7 @@ import org.jolokia.json.JSONArray;
  * @author roland
  * @since Apr 19, 2009
  */
-public class ListAccessor implements org.jolokia.converter.json.ObjectAccessor {
+public class ListAccessor implements org.jolokia.converter.json.StreamingObjectAccessor {
 
     @Override
     public Class<?> getType() {
@@ -66,6 +68,13 @@ public class ListAccessor implements org.jolokia.converter.json.ObjectAccessor {
         }
     }
 
+    @Override
+    public void streamObject(ObjectToJsonConverter pConverter, Object pList, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        List<?> list = (List<?>) pList;
+        CollectionAccessor.streamElements(pConverter, list.iterator(), pConverter.getCollectionLength(list.size()), pGenerator);
+    }
+
     @Override
     public boolean canSetValue() {
         return true;
@@ -15,6 +15,7 @@
  */
 package org.jolokia.converter.json;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Deque;
 import java.util.LinkedList;
@@ -24,6 +25,7 @@ import javax.management.AttributeNotFoundException;
 
 import org.jolokia.converter.object.Converter;
 import org.jolokia.core.service.serializer.ValueFaultHandler;
+import org.jolokia.json.JSONGenerator;
 import org.jolokia.json.JSONObject;
 
 /**
@@ -32,7 +34,7 @@ import org.jolokia.json.JSONObject;
  * @author roland
  * @since Apr 19, 2009
  */
-public class MapAccessor implements org.jolokia.converter.json.ObjectAccessor {
+public class MapAccessor implements org.jolokia.converter.json.StreamingObjectAccessor {
 
     private static final int MAX_STRING_LENGTH = 400;
 
@@ -69,6 +71,34 @@ public class MapAccessor implements org.jolokia.converter.json.ObjectAccessor {
         }
     }
 
+    /**
+     * Write a Map as JSON object directly into a {@link JSONGenerator}, limited by
+     * {@link org.jolokia.core.service.serializer.SerializeOptions} in the same way as when converting
+     * to {@link JSONObject}.
+     *
+     * @param pConverter the global converter to convert inner values and get serialization options
+     * @param pMap       the value to write (must be a {@link Map})
+     * @param pGenerator generator to write the JSON into
+     * @throws AttributeNotFoundException
+     * @throws IOException
+     */
+    @Override
+    public void streamObject(ObjectToJsonConverter pConverter, Object pMap, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        Map<?, ?> map = (Map<?, ?>) pMap;
+        int length = pConverter.getCollectionLength(map.size());
+        pGenerator.beginObject();
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            // keys are converted like in mapToJSON()
+            String key = (String) pConverter.getConverter().convert(String.class.getName(), entry.getKey());
+            if (pConverter.streamObject(entry.getValue(), key, pGenerator) && ++i >= length) {
+                break;
+            }
+        }
+        pGenerator.endObject();
+    }
+
     @Override
     public boolean canSetValue() {
         return true;
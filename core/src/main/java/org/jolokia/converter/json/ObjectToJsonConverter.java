@@ -15,11 +15,11 @@
  */
 package org.jolokia.converter.json;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.Deque;
 import java.util.HashMap;
@@ -27,6 +27,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.management.AttributeNotFoundException;
 
 import org.jolokia.converter.json.simplifier.SimplifierAccessor;
@@ -39,6 +40,7 @@ import org.jolokia.core.service.serializer.ValueFaultHandler;
 import org.jolokia.core.util.EscapeUtil;
 import org.jolokia.core.util.LocalServiceFactory;
 import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONGenerator;
 import org.jolokia.json.JSONObject;
 
 /**
@@ -53,6 +55,11 @@ import org.jolokia.json.JSONObject;
  * Also by delegating to extractors which can handle particular object types. For example {@link DateAccessor}
  * can call {@link Date#setTime(long)}.</p>
  *
+ * <p>Information resolved per class (the accessors here, the getters in {@link BeanAccessor} and the string
+ * conversions in {@link org.jolokia.converter.object.ObjectToObjectConverter}) is cached in a
+ * {@link ConcurrentHashMap}, whose lookups don't need any lock. {@link ClassValue} is not used, because it would
+ * attach values loaded by Jolokia's class loader to JDK classes and prevent unloading of Jolokia (JDK-8136353).</p>
+ *
  * @author roland
  * @since Apr 19, 2009
  */
@@ -130,8 +137,8 @@ public final class ObjectToJsonConverter {
     private final Converter<String> objectToObjectConverter;
 
     // Cache for actual accessors. Because we do class.isAssignableFrom(), it's better to keep the resolved
-    // accessors for quick access
-    private final Map<Class<?>, ObjectAccessor> ACCESSORS_CACHE = Collections.synchronizedMap(new HashMap<>());
+    // accessors for quick access (see the class comment for why it's not a ClassValue)
+    private final Map<Class<?>, ObjectAccessor> ACCESSORS_CACHE = new ConcurrentHashMap<>();
 
     /**
      * Create a converter that can serialize objects into JSON representation
@@ -223,6 +230,37 @@ public final class ObjectToJsonConverter {
         return extractObjectWithContext(pValue, extraStack, pOptions, true);
     }
 
+    /**
+     * Convert the return value to JSON and write it directly into a {@link JSONGenerator}. Maps, collections,
+     * arrays and {@link javax.management.openmbean.CompositeData} are streamed without building intermediate
+     * JSON structures, other values are converted with their {@link ObjectAccessor} as in
+     * {@link #serialize(Object, List, SerializeOptions)}. When a path is given, the value pointed to by the path
+     * is extracted first and written afterwards.
+     *
+     * @param pValue     the value to convert
+     * @param pPathParts path parts to use for extraction
+     * @param pOptions   options used for parsing
+     * @param pGenerator generator to write the JSON into
+     * @throws AttributeNotFoundException if within a path an attribute could not be found
+     * @throws IOException when writing fails
+     */
+    public void serialize(Object pValue, List<String> pPathParts, SerializeOptions pOptions, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        if (pPathParts != null && !pPathParts.isEmpty()) {
+            pGenerator.value(serialize(pValue, pPathParts, pOptions));
+            return;
+        }
+        setupContext(pOptions);
+        try {
+            if (!streamObject(pValue, null, pGenerator)) {
+                // filtered out completely, same as for non-streaming serialization
+                pGenerator.value(null);
+            }
+        } finally {
+            clearContext();
+        }
+    }
+
     /**
      * Set an inner value of a complex object. A given path must point to the attribute/index to set within the outer object.
      *
@@ -300,6 +338,55 @@ public final class ObjectToJsonConverter {
         }
     }
 
+    /**
+     * Streaming counterpart of {@link #extractObject} (without any path) called back from
+     * {@link StreamingObjectAccessor streaming accessors}. If the value is accepted, it is written
+     * into the generator, preceded by the field name if given.
+     *
+     * @param pValue     value to write
+     * @param pName      name of the field when writing into a JSON object, {@code null} for array elements
+     * @param pGenerator generator to write the JSON into
+     * @return {@code false} if the value was filtered out and nothing was written
+     * @throws AttributeNotFoundException if an attribute is not found during traversal
+     * @throws IOException when writing fails
+     */
+    public boolean streamObject(Object pValue, String pName, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        StreamingObjectAccessor accessor = pValue != null ? getStreamingAccessor(pValue.getClass()) : null;
+        if (accessor == null) {
+            // the value is converted to JSON first, because we have to know if it's filtered out
+            // before writing the field name
+            Object json;
+            try {
+                json = extractObject(pValue, EMPTY_DEQUE, true);
+            } catch (ValueFaultHandler.AttributeFilteredException exp) {
+                return false;
+            }
+            if (pName != null) {
+                pGenerator.name(pName);
+            }
+            pGenerator.value(json);
+            return true;
+        }
+
+        ObjectSerializationContext stackContext = stackContextLocal.get();
+        String limitReached = checkForLimits(pValue, stackContext);
+        if (pName != null) {
+            pGenerator.name(pName);
+        }
+        if (limitReached != null) {
+            pGenerator.value(limitReached);
+            return true;
+        }
+        stackContext.push(pValue);
+        try {
+            accessor.streamObject(this, pValue, pGenerator);
+        } finally {
+            stackContext.pop(pValue);
+        }
+        return true;
+    }
+
     // =================================================================================================
 
     /**
@@ -475,20 +562,45 @@ public final class ObjectToJsonConverter {
      */
     private ObjectAccessor cachedAccessor(Class<?> pClazz) {
         ObjectAccessor found = ACCESSORS_CACHE.get(pClazz);
-        if (found != null) {
-            return found;
+        if (found == null) {
+            found = findAccessor(pClazz);
+            if (found != null) {
+                ACCESSORS_CACHE.putIfAbsent(pClazz, found);
+            }
         }
+        return found;
+    }
 
+    /**
+     * Find the first {@link ObjectAccessor} supporting given class. Result is kept in {@link #ACCESSORS_CACHE}.
+     *
+     * @param pClazz
+     * @return
+     */
+    private ObjectAccessor findAccessor(Class<?> pClazz) {
         for (ObjectAccessor accessor : objectAccessors) {
             if (accessor.getType() != null && accessor.getType().isAssignableFrom(pClazz)) {
-                ACCESSORS_CACHE.put(pClazz, accessor);
                 return accessor;
             }
         }
-
         return null;
     }
 
+    /**
+     * Get {@link StreamingObjectAccessor} for given class, {@code null} if values of this
+     * class have to be converted to JSON first.
+     *
+     * @param pClazz class of the value to serialize
+     * @return the streaming accessor or {@code null}
+     */
+    private StreamingObjectAccessor getStreamingAccessor(Class<?> pClazz) {
+        if (JSON_BASIC_TYPES.contains(pClazz) || JSON_CONVERSIONS.containsKey(pClazz)) {
+            return null;
+        }
+        ObjectAccessor accessor = pClazz.isArray() ? arrayAccessor : cachedAccessor(pClazz);
+        return accessor instanceof StreamingObjectAccessor streaming ? streaming : null;
+    }
+
     private String checkForLimits(Object pValue, ObjectSerializationContext pStackContext) {
         if (pValue != null) {
             if (pStackContext.maxDepthReached()) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.converter.json;
+
+import java.io.IOException;
+
+import javax.management.AttributeNotFoundException;
+
+import org.jolokia.json.JSONGenerator;
+
+/**
+ * {@link ObjectAccessor} for containers (like maps, collections or arrays) which can write the JSON
+ * representation of the value directly into a {@link JSONGenerator} without building intermediate
+ * {@link org.jolokia.json.JSONObject} or {@link org.jolokia.json.JSONArray}.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public interface StreamingObjectAccessor extends ObjectAccessor {
+
+    /**
+     * Write the JSON representation of the whole value (no path is used) into a {@link JSONGenerator}. Inner
+     * values should be passed recursively to {@link ObjectToJsonConverter#streamObject}, which takes care of
+     * the serialization limits.
+     *
+     * @param pConverter the top-level converter used for inner values
+     * @param pValue     the object being serialized
+     * @param pGenerator generator to write the JSON into
+     * @throws AttributeNotFoundException if an inner attribute can't be accessed
+     * @throws IOException when writing the JSON fails
+     */
+    void streamObject(ObjectToJsonConverter pConverter, Object pValue, JSONGenerator pGenerator)
+        throws AttributeNotFoundException, IOException;
+
+}
@@ -36,6 +36,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 
@@ -707,12 +708,17 @@ public class ObjectToObjectConverter implements Converter<String> {
      */
     private static class StringParser implements Parser, DateFormatConfigurationAware {
 
-        // cache for classes with .toString() that we can call or will never call
-        private static final Set<Class<?>> KNOWN_TO_STRING = Collections.synchronizedSet(new HashSet<>());
+        // classes with .toString() that we can call or will never call - only modified during class initialization
+        private static final Set<Class<?>> KNOWN_TO_STRING = new HashSet<>();
         private static final Set<Class<?>> UNDESIRED_TO_STRING = new HashSet<>();
 
-        private static final Map<Class<?>, ObjectAccessor> ACCESSORS = new HashMap<>();
-        private static final Map<Class<?>, ObjectAccessor> ALL_ACCESSORS = Collections.synchronizedMap(new HashMap<>());
+        // String conversion with toString() (or no conversion at all) for classes without an accessor
+        private static final StringConversion TO_STRING = new StringConversion(null, true);
+        private static final StringConversion UNSUPPORTED = new StringConversion(null, false);
+
+        // accessors supporting String conversion with the conversions resolved for them, so parse() and
+        // supports() don't need any lock. Replaced (not modified) when new accessors are configured
+        private static volatile Conversions CONVERSIONS = new Conversions(Collections.emptyMap());
 
         static {
             // All javax.management.openmbean.SimpleTypes for OpenMBeans
@@ -772,8 +778,11 @@ public class ObjectToObjectConverter implements Converter<String> {
         }
 
         public void setStringConverters(Map<Class<?>, ObjectAccessor> accessors) {
-            ACCESSORS.putAll(accessors);
-            ALL_ACCESSORS.putAll(accessors);
+            synchronized (StringParser.class) {
+                Map<Class<?>, ObjectAccessor> all = new HashMap<>(CONVERSIONS.accessors);
+                all.putAll(accessors);
+                CONVERSIONS = new Conversions(Collections.unmodifiableMap(all));
+            }
         }
 
         @Override
@@ -783,15 +792,15 @@ public class ObjectToObjectConverter implements Converter<String> {
 
         @Override
         public Object parse(Object pValue) {
+            StringConversion conversion = CONVERSIONS.get(pValue.getClass());
             // first with dedicated accessor
-            ObjectAccessor accessor = ALL_ACCESSORS.get(pValue.getClass());
             // we assume it supports conversion to String - otherwise we'd not get it via setStringConverters
-            if (accessor != null) {
-                return accessor.extractString(pValue);
+            if (conversion.accessor != null) {
+                return conversion.accessor.extractString(pValue);
             }
 
             // last - toString() where we know it's fine
-            if (KNOWN_TO_STRING.contains(pValue.getClass())) {
+            if (conversion.supported) {
                 return pValue.toString();
             }
 
@@ -800,16 +809,21 @@ public class ObjectToObjectConverter implements Converter<String> {
 
         @Override
         public boolean supports(Class<?> pValueClass, Object pValue) {
-            if (KNOWN_TO_STRING.contains(pValueClass) || ALL_ACCESSORS.containsKey(pValueClass)) {
-                return true;
+            return CONVERSIONS.get(pValueClass).supported;
+        }
+
+        private static StringConversion resolveConversion(Map<Class<?>, ObjectAccessor> pAccessors, Class<?> pValueClass) {
+            ObjectAccessor accessor = pAccessors.get(pValueClass);
+            if (accessor != null) {
+                return new StringConversion(accessor, true);
+            }
+            if (KNOWN_TO_STRING.contains(pValueClass)) {
+                return TO_STRING;
             }
             // org.jolokia.service.serializer.json.ObjectAccessor.extractString() checking
-            for (Map.Entry<Class<?>, ObjectAccessor> entry : ACCESSORS.entrySet()) {
-                Class<?> c = entry.getKey();
-                ObjectAccessor accessor = entry.getValue();
-                if (c.isAssignableFrom(pValueClass)) {
-                    ALL_ACCESSORS.put(pValueClass, accessor);
-                    return true;
+            for (Map.Entry<Class<?>, ObjectAccessor> entry : pAccessors.entrySet()) {
+                if (entry.getKey().isAssignableFrom(pValueClass)) {
+                    return new StringConversion(entry.getValue(), true);
                 }
             }
             // toString() checking
@@ -817,14 +831,48 @@ public class ObjectToObjectConverter implements Converter<String> {
                 try {
                     Method toString = pValueClass.getMethod("toString");
                     if (toString.getDeclaringClass() != Object.class) {
-                        KNOWN_TO_STRING.add(pValueClass);
-                        return true;
+                        return TO_STRING;
                     }
                 } catch (NoSuchMethodException ignored) {
                 }
             }
+            return UNSUPPORTED;
+        }
 
-            return false;
+        /**
+         * String conversions resolved once per class for a set of accessors. Cached like the accessors of
+         * {@link org.jolokia.converter.json.ObjectToJsonConverter}.
+         */
+        private static final class Conversions {
+            final Map<Class<?>, ObjectAccessor> accessors;
+            private final Map<Class<?>, StringConversion> resolved = new ConcurrentHashMap<>();
+
+            private Conversions(Map<Class<?>, ObjectAccessor> pAccessors) {
+                accessors = pAccessors;
+            }
+
+            StringConversion get(Class<?> pValueClass) {
+                StringConversion ret = resolved.get(pValueClass);
+                if (ret == null) {
+                    ret = resolveConversion(accessors, pValueClass);
+                    resolved.putIfAbsent(pValueClass, ret);
+                }
+                return ret;
+            }
+        }
+
+        /**
+         * How values of a class are converted to String - with an {@link ObjectAccessor} supporting String
+         * conversion or with {@code toString()}
+         */
+        private static final class StringConversion {
+            final ObjectAccessor accessor;
+            final boolean supported;
+
+            private StringConversion(ObjectAccessor pAccessor, boolean pSupported) {
+                accessor = pAccessor;
+                supported = pSupported;
+            }
         }
     }
 
@@ -320,6 +320,38 @@ public class BeanAccessorTest extends AbstractObjectAccessorTest {
         extractJson(this,"blablub");
     }
 
+    @Test
+    public void failingGetter() throws Exception {
+        try {
+            extractJson(new Failing(), "value");
+            fail("Exception from getter should be passed to the fault handler");
+        } catch (IllegalStateException exp) {
+            // same exception chain as for reflective calls
+            assertTrue(exp.getCause() instanceof InvocationTargetException);
+            assertEquals(exp.getCause().getCause().getMessage(), "failing getter");
+        }
+    }
+
+    @Test
+    public void reflectionFallback() throws Exception {
+        // getters of non-public classes can't be compiled with public lookup, but reflection
+        // still works from within the same package
+        assertEquals(extractJson(new Hidden(), "value"), "hidden");
+        assertEquals(((JSONObject) extractJson(new Hidden())).get("value"), "hidden");
+    }
+
+    @Test
+    public void sameClassManyObjects() throws Exception {
+        List<Inner> inners = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inners.add(new Inner("inner" + i));
+        }
+        for (Inner i : inners) {
+            assertEquals(((JSONObject) extractJson(i)).get("innerText"), i.getInnerText());
+            assertEquals(extractJson(i, "innerText"), i.getInnerText());
+        }
+    }
+
     @Test
     public void simpleSet() throws InvocationTargetException, IllegalAccessException {
         assertTrue(objectAccessor.canSetValue());
@@ -484,6 +516,19 @@ public class BeanAccessorTest extends AbstractObjectAccessorTest {
         }
     }
 
+    public static class Failing {
+        public String getValue() {
+            throw new UnsupportedOperationException("failing getter");
+        }
+    }
+
+    private static class Hidden {
+        @SuppressWarnings("unused")
+        public String getValue() {
+            return "hidden";
+        }
+    }
+
     public static class Nacked {
         @Override
         public String toString() {
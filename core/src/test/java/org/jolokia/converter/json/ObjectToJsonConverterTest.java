@@ -2,13 +2,19 @@ package org.jolokia.converter.json;
 
 import java.beans.Transient;
 import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
 import javax.management.*;
+import javax.management.openmbean.*;
 
+import org.jolokia.json.JSONGenerator;
 import org.jolokia.json.JSONObject;
+import org.jolokia.json.parser.JSONParser;
+import org.jolokia.json.parser.ParseException;
 import org.jolokia.converter.object.ObjectToObjectConverter;
 import org.jolokia.core.service.serializer.SerializeOptions;
 import org.testng.annotations.*;
@@ -209,6 +215,51 @@ public class ObjectToJsonConverterTest {
         assertEquals("900719925474099123", ret2);
     }
 
+    @Test
+    public void streamingSameAsSerialization() throws Exception {
+        CompositeType type = new CompositeType("point", "point", new String[] { "x", "y" }, new String[] { "x", "y" },
+            new OpenType<?>[] { SimpleType.INTEGER, SimpleType.STRING });
+        Map<Object, Object> value = new LinkedHashMap<>();
+        value.put("list", Arrays.asList(1, "two", 3.5, null, new int[] { 4, 5 }));
+        value.put("set", new TreeSet<>(Arrays.asList("a", "b")));
+        value.put(42L, new CompositeDataSupport(type, new String[] { "x", "y" }, new Object[] { 1, "y\"" }));
+        value.put("bean", new InnerValueTestBean("foo", "bar", "baz"));
+        value.put("file", new File("/tmp"));
+        value.put("self", new SelfRefBean1());
+        for (SerializeOptions opts : new SerializeOptions[] {
+            SerializeOptions.DEFAULT,
+            new SerializeOptions.Builder().maxCollectionSize(1).build(),
+            new SerializeOptions.Builder().maxDepth(2).build(),
+            new SerializeOptions.Builder().maxObjects(5).build()
+        }) {
+            assertEquals(parse(stream(value, null, opts)), converter.serialize(value, null, opts));
+        }
+    }
+
+    @Test
+    public void streamingWithPath() throws Exception {
+        Map<String, Object> value = Map.of("inner", Map.of("list", List.of(1, 2, 3)));
+        assertEquals(stream(value, new ArrayList<>(List.of("inner", "list")), SerializeOptions.DEFAULT), "[1,2,3]");
+        assertEquals(stream(value, new ArrayList<>(List.of("inner", "list", "1")), SerializeOptions.DEFAULT), "2");
+    }
+
+    @Test
+    public void streamingSimpleValues() throws Exception {
+        assertEquals(stream("text", null, SerializeOptions.DEFAULT), "\"text\"");
+        assertEquals(stream(null, null, SerializeOptions.DEFAULT), "null");
+        assertEquals(stream(12, null, SerializeOptions.DEFAULT), "12");
+    }
+
+    private String stream(Object pValue, List<String> pPath, SerializeOptions pOpts) throws AttributeNotFoundException, IOException {
+        StringWriter writer = new StringWriter();
+        converter.serialize(pValue, pPath, pOpts, new JSONGenerator(writer));
+        return writer.toString();
+    }
+
+    private Object parse(String pJson) throws ParseException, IOException {
+        return new JSONParser().parse(pJson);
+    }
+
     // ============================================================================
     // TestBeans:
 
@@ -104,6 +104,20 @@ public class ObjectToObjectConverterTest {
         assertEquals("String conversion","10",obj);
     }
 
+    @Test
+    public void stringConversion() {
+        for (int i = 0; i < 2; i++) {
+            // second round with resolved (cached) conversions
+            assertEquals(converter.convert(String.class.getName(), 42L), "42");
+            assertEquals(converter.convert(String.class.getName(), new WithToString()), "withToString");
+            try {
+                converter.convert(String.class.getName(), new WithoutToString());
+                fail("Objects without own toString() can't be converted to String");
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+
     @Test
     public void jsonConversion() {
         JSONObject json = new JSONObject();
@@ -426,4 +440,15 @@ public class ObjectToObjectConverterTest {
         obj = converter.convert(BigDecimal.class.getCanonicalName(), Float.POSITIVE_INFINITY);
         assertNull("Float.POSITIVE_INFINITY", obj);
     }
+
+    public static class WithToString {
+        @Override
+        public String toString() {
+            return "withToString";
+        }
+    }
+
+    public static class WithoutToString {
+    }
+
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * <p>Push-style JSON generator which writes JSON directly into a {@link Writer} without building
+ * {@link JSONObject}/{@link JSONArray} structures first. Separators are added automatically and the generator
+ * checks that names and values are written in valid order.</p>
+ *
+ * <p>Values passed to {@link #value(Object)} are written using {@link JSONWriter}, so they may be simple values
+ * or already built JSON structures.</p>
+ *
+ * <p>If the serialization has to be stopped in the middle, {@link #abort(Object)} may be used to close all
+ * the open structures, so the output is still a well-formed JSON.</p>
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public class JSONGenerator {
+
+    // states of a single nesting level
+    private static final byte EMPTY_OBJECT = 1;
+    private static final byte OBJECT = 2;
+    private static final byte OBJECT_AFTER_NAME = 3;
+    private static final byte EMPTY_ARRAY = 4;
+    private static final byte ARRAY = 5;
+
+    private final Writer writer;
+
+    // stack of nesting levels. Index 0 is never used, depth 0 means we're at top level
+    private byte[] stack = new byte[16];
+    private int depth;
+
+    // whether a top-level value was written already
+    private boolean done;
+
+    /**
+     * Create a generator writing into the given writer
+     *
+     * @param pWriter writer to write JSON into
+     */
+    public JSONGenerator(Writer pWriter) {
+        writer = pWriter;
+    }
+
+    /**
+     * Start a JSON object
+     *
+     * @return this generator
+     */
+    public JSONGenerator beginObject() throws IOException {
+        beforeValue();
+        writer.write('{');
+        push(EMPTY_OBJECT);
+        return this;
+    }
+
+    /**
+     * End the current JSON object
+     *
+     * @return this generator
+     */
+    public JSONGenerator endObject() throws IOException {
+        byte state = current();
+        if (state != EMPTY_OBJECT && state != OBJECT) {
+            throw new IllegalStateException("Can't end JSON object, no object is open or a value is missing");
+        }
+        writer.write('}');
+        depth--;
+        return this;
+    }
+
+    /**
+     * Start a JSON array
+     *
+     * @return this generator
+     */
+    public JSONGenerator beginArray() throws IOException {
+        beforeValue();
+        writer.write('[');
+        push(EMPTY_ARRAY);
+        return this;
+    }
+
+    /**
+     * End the current JSON array
+     *
+     * @return this generator
+     */
+    public JSONGenerator endArray() throws IOException {
+        byte state = current();
+        if (state != EMPTY_ARRAY && state != ARRAY) {
+            throw new IllegalStateException("Can't end JSON array, no array is open");
+        }
+        writer.write(']');
+        depth--;
+        return this;
+    }
+
+    /**
+     * Write a name of the next field of the current JSON object
+     *
+     * @param pName field name
+     * @return this generator
+     */
+    public JSONGenerator name(String pName) throws IOException {
+        byte state = current();
+        if (state == OBJECT) {
+            writer.write(',');
+        } else if (state != EMPTY_OBJECT) {
+            throw new IllegalStateException("Can't write field name \"" + pName + "\" outside of JSON object");
+        }
+        JSONWriter.serialize(pName == null ? "" : pName, writer);
+        writer.write(':');
+        stack[depth] = OBJECT_AFTER_NAME;
+        return this;
+    }
+
+    /**
+     * Write a value. It may be a simple value (string, number, boolean, {@code null}) or any value supported
+     * by {@link JSONWriter#serialize(Object, Writer)}.
+     *
+     * @param pValue value to write
+     * @return this generator
+     */
+    public JSONGenerator value(Object pValue) throws IOException {
+        beforeValue();
+        JSONWriter.serialize(pValue, writer);
+        return this;
+    }
+
+    /**
+     * Close all open structures. If a field name was written without its value, the given placeholder is
+     * written as the value. If nothing was written yet at all, the placeholder is written as the top-level
+     * value. Used to keep the output valid JSON when the serialization can't be finished.
+     *
+     * @param pPlaceholder value to write for a missing value
+     */
+    public void abort(Object pPlaceholder) throws IOException {
+        if (depth == 0 && !done) {
+            value(pPlaceholder);
+            return;
+        }
+        while (depth > 0) {
+            byte state = current();
+            if (state == OBJECT_AFTER_NAME) {
+                value(pPlaceholder);
+            } else if (state == EMPTY_OBJECT || state == OBJECT) {
+                endObject();
+            } else {
+                endArray();
+            }
+        }
+    }
+
+    /**
+     * Current nesting depth
+     *
+     * @return number of open objects and arrays
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Flush the underlying writer
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void beforeValue() throws IOException {
+        if (depth == 0) {
+            if (done) {
+                throw new IllegalStateException("Top-level JSON value was already written");
+            }
+            done = true;
+            return;
+        }
+        switch (stack[depth]) {
+            case OBJECT_AFTER_NAME -> stack[depth] = OBJECT;
+            case EMPTY_ARRAY -> stack[depth] = ARRAY;
+            case ARRAY -> writer.write(',');
+            default -> throw new IllegalStateException("Field name is required before a value in JSON object");
+        }
+    }
+
+    private byte current() {
+        return depth == 0 ? 0 : stack[depth];
+    }
+
+    private void push(byte pState) {
+        if (++depth == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[depth] = pState;
+    }
+
+}
@@ -96,7 +96,9 @@ public class JSONWriter {
         } else if (value instanceof Boolean b) {
             writer.write(b ? "true" : "false");
         } else if (value instanceof Number num) {
-            if (num instanceof Double d) {
+            if (writer instanceof UTF8Writer utf8Writer && (num instanceof Long || num instanceof Integer)) {
+                utf8Writer.writeLong(num.longValue());
+            } else if (num instanceof Double d) {
                 if (Double.isFinite(d)) {
                     writer.write(d.toString());
                 } else {
@@ -123,6 +125,9 @@ public class JSONWriter {
         } else if (value instanceof Map<?, ?> map) {
             // not sure about the key types, so be extra careful
             serializeAnyMap(map, writer);
+        } else if (value instanceof JSONStructure structure) {
+            // custom structure (like a value serialized lazily) which knows how to stream itself
+            structure.writeJSONString(writer);
         } else if (value.getClass().isArray()) {
             int size = Array.getLength(value);
             writer.write('[');
@@ -146,6 +151,12 @@ public class JSONWriter {
      */
 
     private static void escape(Writer writer, String str) throws IOException {
+        if (writer instanceof UTF8Writer utf8Writer) {
+            // escaping and encoding in one pass
+            utf8Writer.writeJSONString(str);
+            return;
+        }
+
         // https://datatracker.ietf.org/doc/html/rfc8259#section-7
         //     All Unicode characters may be placed within the
         //     quotation marks, except for the characters that MUST be escaped:
@@ -174,7 +185,7 @@ public class JSONWriter {
         for (int i = 0; i < length; i++) {
             char c = str.charAt(i);
             
-            if (c > 0x1F && c != '"' && c != '\\') {
+            if (c >= ESCAPES.length || ESCAPES[c] == null) {
                 continue;
             }
 
@@ -195,7 +206,7 @@ public class JSONWriter {
 
     private static void escape(Writer writer, char c) throws IOException {
         writer.write('"');
-        if (c > 0x1F && c != '"' && c != '\\') {
+        if (c >= ESCAPES.length || ESCAPES[c] == null) {
             writer.write(c);
         } else {
             writeEscape(writer, c);
@@ -203,25 +214,26 @@ public class JSONWriter {
         writer.write('"');
     }
 
-    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+    // escape sequences for all characters which have to be escaped (null for the others), also used by UTF8Writer
+    static final String[] ESCAPES = new String[128];
 
-    private static void writeEscape(Writer writer, char c) throws IOException {
-        switch (c) {
-            case '"':  writer.write("\\\""); break; // %x22
-            case '\\': writer.write("\\\\"); break; // %x5C
-            // RFC 8259 says that "/" may be escaped and we unescape it when parsing `\/`. But we don't escape
-            // it during serialization
-            case '\b': writer.write("\\b"); break;
-            case '\f': writer.write("\\f"); break;
-            case '\n': writer.write("\\n"); break;
-            case '\r': writer.write("\\r"); break;
-            case '\t': writer.write("\\t"); break;
-            default:
-                writer.write("\\u00");
-                writer.write(HEX_CHARS[(c >>> 4) & 0X0F]);
-                writer.write(HEX_CHARS[c & 0X0F]);
-                break;
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = String.format("\\u%04x", c);
         }
+        ESCAPES['"'] = "\\\"";   // %x22
+        ESCAPES['\\'] = "\\\\"; // %x5C
+        // RFC 8259 says that "/" may be escaped and we unescape it when parsing `\/`. But we don't escape
+        // it during serialization
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+    private static void writeEscape(Writer writer, char c) throws IOException {
+        writer.write(ESCAPES[c]);
     }
 
 }
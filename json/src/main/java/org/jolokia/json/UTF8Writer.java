@@ -0,0 +1,289 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Buffered {@link Writer} encoding characters as UTF-8 directly into a byte buffer which is written to
+ * an {@link OutputStream} when full. Unlike {@link java.io.OutputStreamWriter} there's no intermediate
+ * {@code char[]} buffer and no {@link java.nio.charset.CharsetEncoder} - ASCII characters are copied as
+ * they are and single characters or strings can be written without any allocation.</p>
+ *
+ * <p>{@link JSONWriter} recognizes this writer and escapes JSON strings while encoding them, using a
+ * precomputed table of escape sequences.</p>
+ *
+ * <p>Malformed surrogate pairs are replaced by {@code '?'}, just like {@link java.io.OutputStreamWriter} does.
+ * This writer is not thread-safe.</p>
+ */
+public class UTF8Writer extends Writer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // space needed for the longest encoding of a char: "\\u001f" preceded by '?' for an unpaired surrogate
+    private static final int MAX_CHAR_BYTES = 7;
+
+    // escape sequences for all ASCII characters which have to be escaped in JSON strings (null for the others),
+    // encoded from the ones of JSONWriter
+    private static final byte[][] ESCAPES = new byte[JSONWriter.ESCAPES.length][];
+
+    static {
+        for (int c = 0; c < ESCAPES.length; c++) {
+            if (JSONWriter.ESCAPES[c] != null) {
+                ESCAPES[c] = JSONWriter.ESCAPES[c].getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+    }
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int count;
+
+    // high surrogate from the end of the previous write, waiting for its low surrogate. 0 if none
+    private char pendingHighSurrogate;
+
+    private boolean closed;
+
+    /**
+     * Create a writer with a default buffer size
+     *
+     * @param pOut stream to write the UTF-8 bytes to
+     */
+    public UTF8Writer(OutputStream pOut) {
+        this(pOut, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a writer
+     *
+     * @param pOut        stream to write the UTF-8 bytes to
+     * @param pBufferSize size of the byte buffer
+     */
+    public UTF8Writer(OutputStream pOut, int pBufferSize) {
+        out = pOut;
+        buffer = new byte[Math.max(pBufferSize, 32)];
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureCapacity(MAX_CHAR_BYTES);
+        encode((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        int end = off + len;
+        int i = off;
+        while (i < end) {
+            ensureCapacity(MAX_CHAR_BYTES);
+            // ASCII fast path, as long as there's space in the buffer
+            int asciiEnd = Math.min(end, i + buffer.length - count);
+            while (i < asciiEnd && pendingHighSurrogate == 0) {
+                char c = cbuf[i];
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer[count++] = (byte) c;
+                i++;
+            }
+            if (i < end) {
+                ensureCapacity(MAX_CHAR_BYTES);
+                encode(cbuf[i++]);
+            }
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        int end = off + len;
+        int i = off;
+        while (i < end) {
+            ensureCapacity(MAX_CHAR_BYTES);
+            int asciiEnd = Math.min(end, i + buffer.length - count);
+            while (i < asciiEnd && pendingHighSurrogate == 0) {
+                char c = str.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer[count++] = (byte) c;
+                i++;
+            }
+            if (i < end) {
+                ensureCapacity(MAX_CHAR_BYTES);
+                encode(str.charAt(i++));
+            }
+        }
+    }
+
+    @Override
+    public void write(String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    /**
+     * Write a string as quoted and escaped JSON string value
+     *
+     * @param str string to write
+     */
+    void writeJSONString(String str) throws IOException {
+        ensureCapacity(MAX_CHAR_BYTES);
+        buffer[count++] = '"';
+        int length = str.length();
+        int i = 0;
+        while (i < length) {
+            ensureCapacity(MAX_CHAR_BYTES);
+            int asciiEnd = Math.min(length, i + buffer.length - count);
+            while (i < asciiEnd) {
+                char c = str.charAt(i);
+                if (c >= 0x80 || ESCAPES[c] != null || pendingHighSurrogate != 0) {
+                    break;
+                }
+                buffer[count++] = (byte) c;
+                i++;
+            }
+            if (i < length) {
+                ensureCapacity(MAX_CHAR_BYTES);
+                char c = str.charAt(i++);
+                byte[] escape = c < 0x80 ? ESCAPES[c] : null;
+                if (escape != null) {
+                    flushPendingSurrogate();
+                    System.arraycopy(escape, 0, buffer, count, escape.length);
+                    count += escape.length;
+                } else {
+                    encode(c);
+                }
+            }
+        }
+        ensureCapacity(MAX_CHAR_BYTES);
+        flushPendingSurrogate();
+        buffer[count++] = '"';
+    }
+
+    /**
+     * Write the decimal representation of a number without creating a string
+     *
+     * @param value number to write
+     */
+    void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(Long.toString(value));
+            return;
+        }
+        // sign, 19 digits and a possibly pending surrogate
+        ensureCapacity(21);
+        flushPendingSurrogate();
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int pos = count + digits;
+        count = pos;
+        do {
+            buffer[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (closed) {
+            throw new IOException("Writer closed");
+        }
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            ensureCapacity(MAX_CHAR_BYTES);
+            flushPendingSurrogate();
+            flushBuffer();
+        } finally {
+            closed = true;
+            out.close();
+        }
+    }
+
+    // ==========================================================================================================
+
+    // Encode a single char, the buffer must have space for it
+    private void encode(char c) {
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int cp = Character.toCodePoint(high, c);
+                buffer[count++] = (byte) (0xF0 | (cp >> 18));
+                buffer[count++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (cp & 0x3F));
+                return;
+            }
+            // unpaired high surrogate
+            buffer[count++] = '?';
+        }
+        if (c < 0x80) {
+            buffer[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[count++] = (byte) (0xC0 | (c >> 6));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            // unpaired low surrogate
+            buffer[count++] = '?';
+        } else {
+            buffer[count++] = (byte) (0xE0 | (c >> 12));
+            buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void flushPendingSurrogate() {
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            buffer[count++] = '?';
+        }
+    }
+
+    private void ensureCapacity(int pBytes) throws IOException {
+        if (closed) {
+            throw new IOException("Writer closed");
+        }
+        if (count + pBytes > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+}
@@ -19,6 +19,6 @@
  * API that is designed especially for Jolokia.</p>
  *
  * <p>There are two main entities - <em>JSON Object</em> (a map) and <em>JSON Array</em> (a list) created by parsing
- * JSON using a lexer generated using <a href="https://www.jflex.de/">JFlex</a> - just like json-simple.</p>
+ * JSON with {@link org.jolokia.json.parser.JSONParser}.</p>
  */
 package org.jolokia.json;
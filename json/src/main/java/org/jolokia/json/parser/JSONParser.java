@@ -1,5 +1,5 @@
 /*
- * Copyright 2009-2024 Roland Huss
+ * Copyright 2009-2026 Roland Huss
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,43 +17,87 @@ package org.jolokia.json.parser;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
+import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 
 import org.jolokia.json.JSONArray;
 import org.jolokia.json.JSONObject;
 import org.jolokia.json.JSONStructure;
 
 /**
- * Jolokia JSON parser using {@link Yylex} lexer generated from JSON grammar using
- * <a href="https://www.jflex.de/">JFlex</a>.
+ * <p>Jolokia JSON parser implementing the <a href="https://datatracker.ietf.org/doc/html/rfc8259">RFC 8259</a>
+ * grammar in a single pass over a {@code char[]} buffer. Values are added directly to their enclosing
+ * {@link JSONObject} or {@link JSONArray} and tokens are not materialized as objects, so the only allocations
+ * are the parsed values themselves.</p>
+ *
+ * <p>The grammar accepted is the same as for the lexer previously generated by <a href="https://www.jflex.de/">JFlex</a>,
+ * but commas between array values and object members are mandatory.</p>
+ *
+ * <p>With a {@link MemberVisitor}, members of objects can be consumed while parsing instead of being added
+ * to the parsed document.</p>
+ *
+ * <p>A parser instance is not thread-safe, but it can be reused for parsing multiple documents.</p>
  */
 public class JSONParser {
 
+    /**
+     * Parser states, also used when reporting incomplete input
+     */
     private enum State {
-        /** State at the start of parsing. Expects single top-level value */
-        INITIAL,
-        /** State after getting single top-level value. More tokens is a sign of error */
-        DONE,
-        /** After entering object (after left brace) */
+        /** After entering object (after left brace) or after a member of an object */
         PARSING_OBJECT,
-        /** After entering array (after left square bracket) */
+        /** After entering array (after left square bracket) or after a value of an array */
         PARSING_ARRAY,
-        /** In object, after reading key or in array */
+        /** In object, after reading key and colon */
         PARSING_VALUE,
-        /** Extra state to detect trailing commas - disallowed by RFC 8259 */
+        /** After a comma in an array or object - a value or key is required, closing the structure is not allowed */
         COMMA
     }
 
-    // stack of parser states
-    private final Deque<State> states = new ArrayDeque<>(256);
-    // stack of parser values
-    private final Deque<Object> values = new ArrayDeque<>(256);
-
-    // null marker, because ArrayDeque doesn't allow real nulls
-    private final Object NULL = new Object();
+    private static final int BUFFER_SIZE = 8192;
+
+    // maximum number of decimal digits which always fit into a long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    // input - either the complete document or a window of the reader's data
+    private Reader reader;
+    private char[] buffer;
+    private int pos;
+    private int limit;
+    // absolute offset of buffer[0] within the input
+    private long bufferOffset;
+    // start of the current token in the buffer, which has to be preserved when reading more data. -1 if none
+    private int tokenStart = -1;
+
+    // position tracking for error messages. Only line ends have to be tracked, columns are calculated
+    private int line;
+    private long lineStart;
+    private boolean afterCarriageReturn;
+
+    // position of the current token
+    private long tokenOffset;
+    private int tokenLine;
+    private long tokenLineStart;
+
+    // value of the current primitive token
+    private Object value;
+    private final StringBuilder sb = new StringBuilder(16);
+
+    // stack of structures being parsed together with the pending keys of objects
+    private JSONStructure[] structures = new JSONStructure[32];
+    private String[] keys = new String[32];
+    // whether an object has members - these may have been dropped by the visitor
+    private boolean[] hasMembers = new boolean[32];
+    private int depth;
+
+    // optional visitor for object members with the path of the visited member as view of the keys
+    private MemberVisitor visitor;
+    private int maxVisitDepth;
+    private final List<String> path = new Path();
 
     /**
      * Main <em>parse</em> method that extract {@link JSONStructure} or primitive value (string, number,
@@ -63,398 +107,642 @@ public class JSONParser {
      * @return
      */
     public Object parse(Reader reader) throws ParseException, IOException, IllegalStateException {
-        Yylex lexer = new Yylex(reader, 16);
+        return parse(reader, (MemberVisitor) null);
+    }
+
+    /**
+     * Parse JSON data from a stream passing each member of an object to a {@link MemberVisitor} as soon as
+     * it's parsed. Members for which the visitor returns {@code false} are not added to the result, so the
+     * visitor can process parts of a large document without keeping them all in memory.
+     *
+     * @param reader
+     * @param visitor visitor for object members, may be {@code null}
+     * @return
+     */
+    public Object parse(Reader reader, MemberVisitor visitor) throws ParseException, IOException, IllegalStateException {
+        char[] chars = buffer != null && buffer.length == BUFFER_SIZE ? buffer : new char[BUFFER_SIZE];
+        return parse(reader, chars, 0, visitor);
+    }
+
+    /**
+     * Parse JSON data expecting specific object type.
+     *
+     * @param reader
+     * @param clazz
+     * @return
+     * @param <T>
+     */
+    public <T> T parse(Reader reader, Class<T> clazz) throws ParseException, IOException {
+        return expect(parse(reader), clazz);
+    }
+
+    /**
+     * Parse direct string value containing JSON data.
+     *
+     * @param json
+     * @return
+     */
+    public Object parse(String json) throws ParseException, IOException {
+        return parse(null, json.toCharArray(), json.length(), null);
+    }
 
-        states.push(State.INITIAL);
+    /**
+     * Parse JSON string expecting specific object type.
+     *
+     * @param json
+     * @param clazz
+     * @return
+     * @param <T>
+     */
+    public <T> T parse(String json, Class<T> clazz) throws ParseException, IOException {
+        return expect(parse(json), clazz);
+    }
 
-        // state based parsing of JSON tokens
-        while (!lexer.yyatEOF()) {
-            Yytoken token = lexer.yylex();
+    // ==========================================================================================================
+    // Parser
+
+    private Object parse(Reader pReader, char[] pBuffer, int pLimit, MemberVisitor pVisitor) throws ParseException, IOException {
+        reader = pReader;
+        visitor = pVisitor;
+        maxVisitDepth = pVisitor == null ? 0 : pVisitor.getMaxDepth();
+        buffer = pBuffer;
+        pos = 0;
+        limit = pLimit;
+        bufferOffset = 0;
+        tokenStart = -1;
+        line = 1;
+        lineStart = 0;
+        afterCarriageReturn = false;
+        depth = 0;
+        try {
+            Yytoken.Kind token = nextToken();
             if (token == null) {
-                break;
+                throw new ParseException("Can't parse any value from JSON stream").at(line, column(position()));
             }
-            int line = lexer.line();
-            int column = lexer.column();
 
-            if (states.isEmpty()) {
-                throw new IllegalStateException("Remaining JSON data at (" + line + ":" + column + ")");
+            Object result;
+            if (token.isValueToken()) {
+                result = value;
+            } else if (token == Yytoken.Kind.SYMBOL_LEFT_BRACE || token == Yytoken.Kind.SYMBOL_LEFT_SQUARE) {
+                result = parseStructure(token);
+            } else {
+                throw new ParseException("Unexpected top-level token (kind: " + token.name() + ")")
+                    .at(tokenLine, tokenColumn());
             }
 
-            switch (states.peek()) {
-                case INITIAL:
-                    // expect single top level value (structure or primitive)
-                    processValue(lexer, token, true);
-                    break;
-                case DONE:
-                    // no more tokens expected, so this state is not expected at all
-                    handleNotCleanEndState(lexer);
-                    break;
-                case PARSING_OBJECT:
-                    // expect key or closing '}'. After getting a key, we'll wait for the value
-                    processObject(lexer, token, false);
-                    break;
-                case PARSING_ARRAY:
-                    // expect value (including new array or new object), comma or closing ']'
-                    processArray(lexer, token, false);
-                    break;
-                case COMMA:
-                    // lower state is either PARSING_OBJECT or PARSING_ARRAY, but related object/array can't end yet
-                    processComma(lexer, token);
-                    break;
-                case PARSING_VALUE:
-                    // for objects, ":" is already swallowed
-                    processValue(lexer, token, false);
-                    break;
-                default:
-                    break;
+            if (nextToken() != null) {
+                throw new ParseException("Multiple top-level values").at(tokenLine, tokenColumn());
+            }
+            return result;
+        } finally {
+            // don't keep references to the parsed data or the input
+            for (int i = 0; i < depth; i++) {
+                structures[i] = null;
+                keys[i] = null;
+            }
+            value = null;
+            reader = null;
+            visitor = null;
+            if (pReader == null) {
+                buffer = null;
             }
         }
-
-        if (values.isEmpty()) {
-            throw new ParseException("Can't parse any value from JSON stream")
-                .at(lexer.line(), lexer.column());
-        }
-
-        if (states.isEmpty()) {
-            throw new IllegalStateException("Bad parser state (not DONE, EOF encountered)");
-        }
-
-        if (states.peek() != State.DONE) {
-            throw new IllegalStateException("Bad parser state, EOF at state " + states.peek());
-        }
-
-        Object value = values.pop();
-        return value == NULL ? null : value;
     }
 
     /**
-     * Reading value - single top-level value, value for a key of an object or value within array.
+     * Parse an object or an array and all nested values. Instead of recursion, an explicit stack of
+     * structures is used, so that deeply nested documents can't overflow the thread's stack.
      *
-     * @param lexer
-     * @param token
-     * @param topLevel
+     * @param pStart token starting the structure - left brace or left square bracket
+     * @return the completed structure
      */
-    private void processValue(Yylex lexer, Yytoken token, boolean topLevel) throws ParseException {
-        Object primitiveValue = null;
-
-        switch (token.getKind()) {
-            case SYMBOL_LEFT_BRACE:
-                states.push(State.PARSING_OBJECT);
-                values.push(new JSONObject());
-                break;
-            case SYMBOL_LEFT_SQUARE:
-                states.push(State.PARSING_ARRAY);
-                values.push(new JSONArray());
-                break;
-            case VALUE_STRING:
-                primitiveValue = token.getStringValue();
-                break;
-            case VALUE_INTEGER:
-                primitiveValue = optimizedIntegerValue(token.getIntegerValue());
-                break;
-            case VALUE_DECIMAL:
-                // never optimize to Double or Float
-                primitiveValue = token.getDecimalValue();
-                break;
-            case VALUE_BOOLEAN:
-                primitiveValue = token.getBooleanValue();
-                break;
-            case VALUE_NULL:
-                primitiveValue = NULL;
-                break;
-            default:
-                if (topLevel) {
-                    throw new ParseException("Unexpected top-level token (kind: " + token.getKind().name() + ")")
-                        .at(lexer.line(), lexer.column());
+    private JSONStructure parseStructure(Yytoken.Kind pStart) throws ParseException, IOException {
+        State state = push(pStart);
+        while (true) {
+            JSONStructure current = structures[depth - 1];
+            Yytoken.Kind token = nextToken();
+            if (token == null) {
+                throw new IllegalStateException("Bad parser state, EOF at state " + state);
+            }
+            if (state == State.PARSING_OBJECT || (state == State.COMMA && current instanceof JSONObject)) {
+                boolean hadComma = state == State.COMMA;
+                if (token == Yytoken.Kind.SYMBOL_RIGHT_BRACE) {
+                    if (hadComma) {
+                        throw new ParseException("Trailing comma is not allowed within JSON object")
+                            .at(tokenLine, tokenColumn());
+                    }
+                } else if (token == Yytoken.Kind.SYMBOL_COMMA && !hadComma) {
+                    if (!hasMembers[depth - 1]) {
+                        // we don't allow "{,..."
+                        throw new ParseException("Leading comma is not allowed within JSON object")
+                            .at(tokenLine, tokenColumn());
+                    }
+                    state = State.COMMA;
+                    continue;
+                } else if (token.isValueToken() && (hadComma || !hasMembers[depth - 1])) {
+                    if (token != Yytoken.Kind.VALUE_STRING) {
+                        throw new ParseException("Only string keys are allowed within JSON object")
+                            .at(tokenLine, tokenColumn());
+                    }
+                    keys[depth - 1] = (String) value;
+                    hasMembers[depth - 1] = true;
+                    if (nextToken() != Yytoken.Kind.SYMBOL_COLON) {
+                        throw new ParseException("Expected ':' after key").at(tokenLine, tokenColumn());
+                    }
+                    state = State.PARSING_VALUE;
+                    continue;
+                } else {
+                    throw new ParseException("Unexpected token (kind: " + token + ") when parsing JSON object")
+                        .at(tokenLine, tokenColumn());
+                }
+            } else if (state == State.PARSING_ARRAY || state == State.COMMA) {
+                boolean hadComma = state == State.COMMA;
+                JSONArray array = (JSONArray) current;
+                if (token == Yytoken.Kind.SYMBOL_RIGHT_SQUARE) {
+                    if (hadComma) {
+                        throw new ParseException("Trailing comma is not allowed within JSON array")
+                            .at(tokenLine, tokenColumn());
+                    }
+                } else if (token == Yytoken.Kind.SYMBOL_COMMA && !hadComma) {
+                    if (array.isEmpty()) {
+                        // we don't allow "[,..."
+                        throw new ParseException("Leading comma is not allowed within JSON array")
+                            .at(tokenLine, tokenColumn());
+                    }
+                    state = State.COMMA;
+                    continue;
+                } else if (hadComma || array.isEmpty()) {
+                    if (token.isValueToken()) {
+                        array.add(value);
+                        state = State.PARSING_ARRAY;
+                    } else if (token == Yytoken.Kind.SYMBOL_LEFT_BRACE || token == Yytoken.Kind.SYMBOL_LEFT_SQUARE) {
+                        state = push(token);
+                    } else {
+                        throw new ParseException("Unexpected token (kind: " + token.name() + ")")
+                            .at(tokenLine, tokenColumn());
+                    }
+                    continue;
+                } else {
+                    throw new ParseException("Unexpected token (kind: " + token + ") when parsing JSON array")
+                        .at(tokenLine, tokenColumn());
+                }
+            } else {
+                // PARSING_VALUE - value of an object's member
+                if (token.isValueToken()) {
+                    if (accept(value)) {
+                        ((JSONObject) current).put(keys[depth - 1], value);
+                    }
+                    state = State.PARSING_OBJECT;
+                } else if (token == Yytoken.Kind.SYMBOL_LEFT_BRACE || token == Yytoken.Kind.SYMBOL_LEFT_SQUARE) {
+                    state = push(token);
                 } else {
-                    throw new ParseException("Unexpected token (kind: " + token.getKind().name() + ")")
-                        .at(lexer.line(), lexer.column());
+                    throw new ParseException("Unexpected token (kind: " + token.name() + ")")
+                        .at(tokenLine, tokenColumn());
                 }
+                continue;
+            }
+
+            // the current structure is complete
+            structures[--depth] = null;
+            if (depth == 0) {
+                return current;
+            }
+            JSONStructure parent = structures[depth - 1];
+            if (parent instanceof JSONObject object) {
+                if (accept(current)) {
+                    object.put(keys[depth - 1], current);
+                }
+                keys[depth - 1] = null;
+                state = State.PARSING_OBJECT;
+            } else {
+                ((JSONArray) parent).add(current);
+                state = State.PARSING_ARRAY;
+            }
         }
+    }
 
-        // primitive values are completed
-        // objects/arrays on stack will be handled after their closing "}" / "]"
-        if (token.getKind().isValueToken()) {
-            valueReady(lexer, primitiveValue);
+    private State push(Yytoken.Kind pStart) {
+        if (depth == structures.length) {
+            structures = Arrays.copyOf(structures, depth * 2);
+            keys = Arrays.copyOf(keys, depth * 2);
+            hasMembers = Arrays.copyOf(hasMembers, depth * 2);
+        }
+        if (pStart == Yytoken.Kind.SYMBOL_LEFT_BRACE) {
+            hasMembers[depth] = false;
+            structures[depth++] = new JSONObject();
+            return State.PARSING_OBJECT;
+        } else {
+            structures[depth++] = new JSONArray();
+            return State.PARSING_ARRAY;
         }
     }
 
     /**
-     * Process the state where we're inside an object and the top value on the stack is
-     * {@link JSONObject}. We've read the opening "{" and we expect keys, commas and closing "}". Values are
-     * handled in separate parser state.
-     * @param lexer
-     * @param token
-     * @param hadComma
-     * @throws ParseException
+     * Pass a member of the object at the top of the stack (with the key from {@link #keys}) to the visitor
+     *
+     * @param pValue parsed value of the member
+     * @return whether the member should be added to the object
      */
-    private void processObject(Yylex lexer, Yytoken token, boolean hadComma) throws ParseException, IOException {
-        Yytoken.Kind kind = token.getKind();
-        Object currentValue = values.peek();
-        if (currentValue == null || currentValue.getClass() != JSONObject.class) {
-            throw new IllegalStateException("Parser expects JSONObject as current value (" + lexer.line() + ":" + lexer.column() + ")");
-        }
+    private boolean accept(Object pValue) {
+        return visitor == null || depth > maxVisitDepth || visitor.visit(path, pValue);
+    }
 
-        if (kind == Yytoken.Kind.SYMBOL_RIGHT_BRACE) {
-            if (hadComma) {
-                throw new ParseException("Trailing comma is not allowed within JSON object")
-                    .at(lexer.line(), lexer.column());
-            }
-            states.pop();
-            // keep the current value on stack (should be completed JSONObject)
-            valueReady(lexer, null);
-            return;
+    private <T> T expect(Object result, Class<T> clazz) {
+        if (clazz.isInstance(result)) {
+            return clazz.cast(result);
         }
+        throw new IllegalArgumentException("Can't parse JSON data into " + clazz.getName() + " (got " + (result == null ? null : result.getClass()) + ")");
+    }
 
-        if (kind == Yytoken.Kind.SYMBOL_COMMA) {
-            if (((JSONObject) currentValue).isEmpty()) {
-                // current object can't be empty - we don't allow "{,..."
-                throw new ParseException("Leading comma is not allowed within JSON object")
-                    .at(lexer.line(), lexer.column());
-            }
-            // push COMMA state to detect trailing commas, keep the current value on stack (should be JSONObject)
-            states.push(State.COMMA);
-            return;
+    // ==========================================================================================================
+    // Lexer
+
+    /**
+     * Read the next token. For value tokens, the value is available in {@link #value} afterwards.
+     *
+     * @return kind of the token or {@code null} at the end of input
+     */
+    private Yytoken.Kind nextToken() throws ParseException, IOException {
+        int c = skipWhitespace();
+        if (c < 0) {
+            return null;
         }
+        markToken();
+        switch (c) {
+            case '{':
+                pos++;
+                return Yytoken.Kind.SYMBOL_LEFT_BRACE;
+            case '}':
+                pos++;
+                return Yytoken.Kind.SYMBOL_RIGHT_BRACE;
+            case '[':
+                pos++;
+                return Yytoken.Kind.SYMBOL_LEFT_SQUARE;
+            case ']':
+                pos++;
+                return Yytoken.Kind.SYMBOL_RIGHT_SQUARE;
+            case ',':
+                pos++;
+                return Yytoken.Kind.SYMBOL_COMMA;
+            case ':':
+                pos++;
+                return Yytoken.Kind.SYMBOL_COLON;
+            case '"':
+                pos++;
+                value = readString();
+                return Yytoken.Kind.VALUE_STRING;
+            case 't':
+                readLiteral("true");
+                value = Boolean.TRUE;
+                return Yytoken.Kind.VALUE_BOOLEAN;
+            case 'f':
+                readLiteral("false");
+                value = Boolean.FALSE;
+                return Yytoken.Kind.VALUE_BOOLEAN;
+            case 'n':
+                readLiteral("null");
+                value = null;
+                return Yytoken.Kind.VALUE_NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw invalidCharacter();
+        }
+    }
 
-        // expect string key
-        if (kind.isValueToken()) {
-            if (kind != Yytoken.Kind.VALUE_STRING) {
-                throw new ParseException("Only string keys are allowed within JSON object")
-                    .at(lexer.line(), lexer.column());
+    /**
+     * Skip insignificant whitespace, tracking line ends
+     *
+     * @return next character (not consumed) or -1 at the end of input
+     */
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                return -1;
             }
-            // immediately swallow ":"
-            Yytoken expectedColon = lexer.yylex();
-            if (expectedColon == null || expectedColon.getKind() != Yytoken.Kind.SYMBOL_COLON) {
-                throw new ParseException("Expected ':' after key")
-                    .at(lexer.line(), lexer.column());
+            char c = buffer[pos];
+            if (c == ' ' || c == '\t') {
+                afterCarriageReturn = false;
+            } else if (c == '\n') {
+                // "\r\n" is a single line end
+                if (!afterCarriageReturn) {
+                    line++;
+                }
+                lineStart = bufferOffset + pos + 1;
+                afterCarriageReturn = false;
+            } else if (c == '\r') {
+                line++;
+                lineStart = bufferOffset + pos + 1;
+                afterCarriageReturn = true;
+            } else {
+                afterCarriageReturn = false;
+                return c;
             }
-            // push the key
-            values.push(token.getStringValue());
-            // expect next token to be/start a value for the key
-            states.push(State.PARSING_VALUE);
-
-            return;
+            pos++;
         }
-
-        throw new ParseException("Unexpected token (kind: " + token.getKind() + ") when parsing JSON object")
-            .at(lexer.line(), lexer.column());
     }
 
     /**
-     * Process the state where we're inside an array and the top value on the stack is
-     * {@link JSONArray}. We're past the opening "[" and we process values and commas.
-     * @param lexer
-     * @param token
-     * @param hadComma
-     * @throws ParseException
+     * Read a string value after the opening quote. Strings without escape sequences are created directly
+     * from the buffer.
      */
-    private void processArray(Yylex lexer, Yytoken token, boolean hadComma) throws ParseException {
-        Yytoken.Kind kind = token.getKind();
-        Object currentValue = values.peek();
-        if (currentValue == null || currentValue.getClass() != JSONArray.class) {
-            throw new IllegalStateException("Parser expects JSONArray as current value (" + lexer.line() + ":" + lexer.column() + ")");
+    private String readString() throws ParseException, IOException {
+        int start = pos;
+        while (true) {
+            // fast path - scan for the end of a string without escape sequences
+            while (pos < limit) {
+                char c = buffer[pos];
+                if (c == '"') {
+                    String s = new String(buffer, start, pos - start);
+                    endString();
+                    return s;
+                }
+                if (c == '\\' || c < 0x20) {
+                    sb.setLength(0);
+                    sb.append(buffer, start, pos - start);
+                    // the string is collected in the builder from now on, so the buffer doesn't need to keep it
+                    tokenStart = -1;
+                    return readEscapedString();
+                }
+                pos++;
+            }
+            int consumed = pos - start;
+            if (!fill()) {
+                throw unterminatedString();
+            }
+            // buffer may have been compacted
+            start = pos - consumed;
         }
+    }
 
-        if (kind == Yytoken.Kind.SYMBOL_RIGHT_SQUARE) {
-            if (hadComma) {
-                throw new ParseException("Trailing comma is not allowed within JSON array")
-                    .at(lexer.line(), lexer.column());
+    // slow path for strings with escape sequences
+    private String readEscapedString() throws ParseException, IOException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                throw unterminatedString();
+            }
+            char c = buffer[pos];
+            if (c == '"') {
+                endString();
+                return sb.toString();
+            } else if (c < 0x20) {
+                throw new ParseException(String.format("Unescaped control character at %d:%d", line, column(position())));
+            } else if (c == '\\') {
+                readEscapeSequence();
+            } else {
+                sb.append(c);
+                pos++;
             }
-            states.pop();
-            // keep the current value on stack (should be completed JSONArray)
-            valueReady(lexer, null);
-            return;
         }
+    }
 
-        if (kind == Yytoken.Kind.SYMBOL_COMMA) {
-            if (((JSONArray) currentValue).isEmpty()) {
-                // current array can't be empty - we don't allow "[,..."
-                throw new ParseException("Leading comma is not allowed within JSON array")
-                    .at(lexer.line(), lexer.column());
+    private void readEscapeSequence() throws ParseException, IOException {
+        long escapeOffset = position();
+        pos++;
+        if (pos == limit && !fill()) {
+            // a backslash at the end can't start an escape sequence
+            throw unterminatedString();
+        }
+        char c = buffer[pos++];
+        switch (c) {
+            case '"': sb.append('"'); break;
+            case '\\': sb.append('\\'); break;
+            case '/': sb.append('/'); break;
+            case 'b': sb.append('\b'); break;
+            case 'f': sb.append('\f'); break;
+            case 'n': sb.append('\n'); break;
+            case 'r': sb.append('\r'); break;
+            case 't': sb.append('\t'); break;
+            case 'u': {
+                int hex = 0;
+                for (int i = 0; i < 4; i++) {
+                    if (pos == limit && !fill()) {
+                        throw unterminatedString();
+                    }
+                    int digit = Character.digit(buffer[pos], 16);
+                    if (digit < 0) {
+                        throw invalidEscape("\\u", escapeOffset);
+                    }
+                    hex = (hex << 4) | digit;
+                    pos++;
+                }
+                sb.append((char) hex);
+                break;
             }
-            // push COMMA state to detect trailing commas, keep the current value on stack (should be JSONArray)
-            states.push(State.COMMA);
-            return;
+            default:
+                throw invalidEscape("\\" + c, escapeOffset);
         }
-
-        // any other token is a value of the array - just process it without touching the lexer
-        processValue(lexer, token , false);
     }
 
-    /**
-     * Parser in {@link State#COMMA} state is actually in object/array parsing state, but with additional
-     * restriction - object/array can't end.
-     * @param lexer
-     */
-    private void processComma(Yylex lexer, Yytoken token) throws ParseException, IOException {
-        states.pop();
-        if (states.isEmpty()) {
-            throw new IllegalStateException("Bad parser state, expected PARSING_OBJECT or PARSING_ARRAY");
-        }
+    // the closing quote is the position reported for a string token
+    private void endString() {
+        tokenOffset = position();
+        tokenLine = line;
+        tokenLineStart = lineStart;
+        pos++;
+        tokenStart = -1;
+    }
 
-        State state = states.peek();
-        if (state == State.PARSING_ARRAY) {
-            processArray(lexer, token, true);
-        } else if (state == State.PARSING_OBJECT) {
-            processObject(lexer, token, true);
+    private void readLiteral(String pLiteral) throws ParseException, IOException {
+        for (int i = 0; i < pLiteral.length(); i++) {
+            if (pos == limit && !fill() || buffer[pos] != pLiteral.charAt(i)) {
+                // like a lexer, we report the first character which doesn't start a valid token
+                resetToToken();
+                throw invalidCharacter();
+            }
+            pos++;
         }
+        tokenStart = -1;
     }
 
     /**
-     * Parser state method called when we have value ready which is not top-level value
-     * @param value completed primitive value (to optimize stack usage). When completing structure, we'll find
-     *              it on the stack and this parameter is {@code null}.
+     * Read a number according to the grammar {@code [ minus ] int [ frac ] [ exp ]}. If a fraction or
+     * exponent is incomplete, only the integer part is taken as token (longest match).
      */
-    private void valueReady(Yylex lexer, Object value) {
-        State state = states.peek();
-        if (state == null) {
-            throw new IllegalStateException("Bad parser state when handling value at ("
-                + lexer.line() + ":" + lexer.column() + ")");
+    private Yytoken.Kind readNumber() throws ParseException, IOException {
+        if (peek() == '-') {
+            pos++;
         }
-
-        int requiredStackSize = 0;
-        switch (state) {
-            case INITIAL:
-                if (value == null) {
-                    requiredStackSize = 1;
-                }
-                break;
-            case PARSING_ARRAY:
-                // we need value and the array
-                requiredStackSize = value == null ? 2 : 1;
-                break;
-            case PARSING_OBJECT:
-                // we need value, key and the object
-                requiredStackSize = value == null ? 3 : 2;
-                break;
+        int c = peek();
+        if (c == '0') {
+            pos++;
+        } else if (c >= '1' && c <= '9') {
+            skipDigits();
+        } else {
+            // a single minus is not a number
+            resetToToken();
+            throw invalidCharacter();
         }
-
-        if (values.size() < requiredStackSize) {
-            if (state == State.PARSING_OBJECT) {
-                throw new IllegalStateException("Can't process value for JSON object. Bad stack size (size: " + values.size() + ")");
-            }
-            if (state == State.PARSING_ARRAY) {
-                throw new IllegalStateException("Can't process value for JSON array. Bad stack size (size: " + values.size() + ")");
+        // lengths relative to the token start, as reading more data may move the token within the buffer
+        int intLength = pos - tokenStart;
+        boolean decimal = false;
+        if (peek() == '.') {
+            pos++;
+            if (skipDigits() > 0) {
+                decimal = true;
             }
         }
-
-        if (value == null) {
-            // we need it from the stack
-            value = values.pop();
-        }
-
-        switch (state) {
-            case INITIAL:
-                // simple - we have ready, top-level value
-                values.push(value);
-                // more explicit than popping state, expecting INITIAL and handling top value from the stack.
-                // also we can detect multi-root values
-                states.push(State.DONE);
-                break;
-            case PARSING_VALUE: {
-                Object key = values.pop();
-                Object object = values.peek();
-                if (!(object instanceof JSONObject)) {
-                    throw new IllegalStateException("Can't process value for JSON object. Wrong object (got: "
-                        + (object == null ? "<null>" : object.getClass()) + ")");
-                }
-                if (!(key instanceof String)) {
-                    throw new IllegalStateException("Can't process value for JSON object. Wrong key type (got: "
-                        + (key == null ? "<null>" : key.getClass()) + ")");
+        if (decimal || pos - tokenStart == intLength) {
+            int fracLength = pos - tokenStart;
+            c = peek();
+            if (c == 'e' || c == 'E') {
+                pos++;
+                c = peek();
+                if (c == '+' || c == '-') {
+                    pos++;
                 }
-                ((JSONObject) object).put((String) key, value == NULL ? null : value);
-                // back to parsing object - more entries (until '}')
-                states.pop();
-                break;
-            }
-            case PARSING_ARRAY: {
-                Object array = values.peek();
-                if (!(array instanceof JSONArray)) {
-                    throw new IllegalStateException("Can't process value for JSON array. Wrong object (got: "
-                        + (array == null ? "<null>" : array.getClass()) + ")");
+                if (skipDigits() > 0) {
+                    decimal = true;
+                } else {
+                    pos = tokenStart + fracLength;
                 }
-                ((JSONArray) array).add(value == NULL ? null : value);
-                // no state change (until closing ']')
-                break;
             }
-            default:
-                break;
         }
-    }
+        if (!decimal) {
+            pos = tokenStart + intLength;
+        }
 
-    /**
-     * Called after handling single top-level value in situation where lexer is not at EOF.
-     * @param lexer
-     * @throws ParseException
-     */
-    private void handleNotCleanEndState(Yylex lexer) throws ParseException {
-        states.pop();
-        State state = states.pop();
-        if (state != State.INITIAL) {
-            throw new IllegalStateException("Expected top-level state (got: " + state + ") at ("
-                + lexer.line() + ":" + lexer.column() + ")");
+        int start = tokenStart;
+        int length = pos - start;
+        tokenStart = -1;
+        if (decimal) {
+            // never optimize to Double or Float
+            value = new BigDecimal(buffer, start, length);
+            return Yytoken.Kind.VALUE_DECIMAL;
         }
-        throw new ParseException("Multiple top-level values").at(lexer.line(), lexer.column());
+        value = integerValue(start, length);
+        return Yytoken.Kind.VALUE_INTEGER;
     }
 
     /**
-     * If we can fit {@link BigInteger} in smaller object, we'll do it
-     * @param v
-     * @return
+     * Integer values are returned as {@link Long} if they fit into it, otherwise as {@link BigInteger}
      */
-    private Number optimizedIntegerValue(BigInteger v) {
-//        if (v.bitLength() <= 7) {
-//            return v.byteValue();
-//        }
-//        if (v.bitLength() <= 15) {
-//            return v.shortValue();
-//        }
-//        if (v.bitLength() <= 31) {
-//            return v.intValue();
-//        }
+    private Number integerValue(int pStart, int pLength) {
+        boolean negative = buffer[pStart] == '-';
+        int digitsStart = negative ? pStart + 1 : pStart;
+        int digits = pStart + pLength - digitsStart;
+        if (digits <= MAX_LONG_DIGITS) {
+            long v = 0;
+            for (int i = digitsStart; i < pStart + pLength; i++) {
+                v = v * 10 + (buffer[i] - '0');
+            }
+            return negative ? -v : v;
+        }
+        BigInteger v = new BigInteger(new String(buffer, pStart, pLength));
         if (v.bitLength() <= 63) {
             return v.longValue();
         }
         return v;
     }
 
-    /**
-     * Parse JSON data expecting specific object type.
-     *
-     * @param reader
-     * @param clazz
-     * @return
-     * @param <T>
-     */
-    public <T> T parse(Reader reader, Class<T> clazz) throws ParseException, IOException {
-        Object result = parse(reader);
-        if (clazz.isInstance(result)) {
-            return clazz.cast(result);
+    private int skipDigits() throws IOException {
+        int count = 0;
+        int c;
+        while ((c = peek()) >= '0' && c <= '9') {
+            pos++;
+            count++;
+        }
+        return count;
+    }
+
+    // next character without consuming it or -1 at the end of input
+    private int peek() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
         }
-        throw new IllegalArgumentException("Can't parse JSON data into " + clazz.getName() + " (got " + result.getClass() + ")");
+        return buffer[pos];
     }
 
+    // ==========================================================================================================
+    // Buffer handling
+
     /**
-     * Parse direct string value containing JSON data.
+     * Read more data from the reader. Characters of the current token are kept in the buffer.
      *
-     * @param json
-     * @return
+     * @return false if there's no more data
      */
-    public Object parse(String json) throws ParseException, IOException {
-        return parse(new StringReader(json));
+    private boolean fill() throws IOException {
+        if (reader == null) {
+            return false;
+        }
+        int keep = tokenStart >= 0 ? tokenStart : pos;
+        if (keep > 0) {
+            // compact
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            bufferOffset += keep;
+            limit -= keep;
+            pos -= keep;
+            if (tokenStart >= 0) {
+                tokenStart = 0;
+            }
+        } else if (limit == buffer.length) {
+            // a token longer than the buffer
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        while (read == 0) {
+            read = reader.read(buffer, limit, buffer.length - limit);
+        }
+        if (read < 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private void markToken() {
+        tokenStart = pos;
+        tokenOffset = position();
+        tokenLine = line;
+        tokenLineStart = lineStart;
+    }
+
+    private void resetToToken() {
+        pos = tokenStart;
+        tokenStart = -1;
+    }
+
+    // absolute offset of the current character
+    private long position() {
+        return bufferOffset + pos;
+    }
+
+    private int column(long pOffset) {
+        return (int) (pOffset - lineStart) + 1;
+    }
+
+    private int tokenColumn() {
+        return (int) (tokenOffset - tokenLineStart) + 1;
+    }
+
+    private ParseException invalidCharacter() {
+        int cp = Character.codePointAt(buffer, pos, limit);
+        return new ParseException(String.format("Invalid character '%s' at %d:%d", new String(Character.toChars(cp)), line, column(position())));
+    }
+
+    private ParseException invalidEscape(String pSequence, long pOffset) {
+        return new ParseException(String.format("Invalid escape sequence '%s' at %d:%d", pSequence, line, column(pOffset)));
+    }
+
+    private ParseException unterminatedString() {
+        return new ParseException(String.format("Unterminated string value at %d:%d", line, column(position())));
     }
 
     /**
-     * Parse JSON string expecting specific object type.
-     *
-     * @param json
-     * @param clazz
-     * @return
-     * @param <T>
+     * Path of the member being visited - a view of the keys of all objects on the stack
      */
-    public <T> T parse(String json, Class<T> clazz) throws ParseException, IOException {
-        return parse(new StringReader(json), clazz);
+    private final class Path extends AbstractList<String> {
+        @Override
+        public String get(int index) {
+            Objects.checkIndex(index, depth);
+            return structures[index] instanceof JSONObject ? keys[index] : null;
+        }
+
+        @Override
+        public int size() {
+            return depth;
+        }
     }
 
 }
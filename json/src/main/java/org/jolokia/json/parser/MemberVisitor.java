@@ -0,0 +1,52 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.json.parser;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * <p>Visitor for the members of JSON objects, called by {@link JSONParser#parse(Reader, MemberVisitor)} as soon
+ * as the value of a member has been parsed completely - before it's added to its enclosing object.</p>
+ *
+ * <p>A visitor can consume a member and drop it from the parsed document, so large documents can be processed
+ * piece by piece without keeping the complete tree in memory.</p>
+ */
+@FunctionalInterface
+public interface MemberVisitor {
+
+    /**
+     * Visit a parsed member of a JSON object
+     *
+     * @param pPath  keys of the enclosing members from the top-level value down to the visited member, which
+     *               is the last element. Elements for array levels are {@code null}. The list is only valid
+     *               during this call
+     * @param pValue parsed value of the member (a structure, string, number, boolean or {@code null})
+     * @return {@code true} to add the member to its object, {@code false} to drop it
+     */
+    boolean visit(List<String> pPath, Object pValue);
+
+    /**
+     * Maximum length of the path of visited members. Members nested deeper are not visited, which saves calls
+     * for visitors interested in the upper levels of a document only.
+     *
+     * @return maximum path length
+     */
+    default int getMaxDepth() {
+        return Integer.MAX_VALUE;
+    }
+
+}
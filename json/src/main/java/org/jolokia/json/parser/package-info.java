@@ -15,8 +15,9 @@
  */
 
 /**
- * <p>Package with JSON parser that uses a lexer generated using <a href="https://www.jflex.de/">JFlex</a>
- * - just like json-simple, but using newer version of JFlex generator.</p>
+ * <p>Package with a hand-written JSON parser ({@link org.jolokia.json.parser.JSONParser}), which replaced
+ * the original parser that used a lexer generated using <a href="https://www.jflex.de/">JFlex</a> - just like
+ * json-simple, but using newer version of JFlex generator.</p>
  *
  * <p>There is no databinding, no XML bridge. Just maps, lists, Strings, decimals/integers, booleans and nulls.</p>
  */
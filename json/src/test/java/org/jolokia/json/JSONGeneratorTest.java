@@ -0,0 +1,106 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.json;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class JSONGeneratorTest {
+
+    @Test
+    public void nestedStructures() throws IOException {
+        StringWriter sw = new StringWriter();
+        JSONGenerator gen = new JSONGenerator(sw);
+        gen.beginObject()
+            .name("a").value(1)
+            .name("b").beginArray().value("x").value(null).beginObject().endObject().beginArray().endArray().endArray()
+            .name("c\"").value(List.of(true, false))
+            .endObject();
+        assertEquals(sw.toString(), "{\"a\":1,\"b\":[\"x\",null,{},[]],\"c\\\"\":[true,false]}");
+        assertEquals(gen.getDepth(), 0);
+    }
+
+    @Test
+    public void deepNesting() throws IOException {
+        StringWriter sw = new StringWriter();
+        JSONGenerator gen = new JSONGenerator(sw);
+        for (int i = 0; i < 40; i++) {
+            gen.beginArray();
+        }
+        for (int i = 0; i < 40; i++) {
+            gen.endArray();
+        }
+        assertEquals(sw.toString(), "[".repeat(40) + "]".repeat(40));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void valueWithoutName() throws IOException {
+        new JSONGenerator(new StringWriter()).beginObject().value(1);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void nameInArray() throws IOException {
+        new JSONGenerator(new StringWriter()).beginArray().name("x");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void endObjectWithPendingValue() throws IOException {
+        new JSONGenerator(new StringWriter()).beginObject().name("x").endObject();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void twoTopLevelValues() throws IOException {
+        new JSONGenerator(new StringWriter()).value(1).value(2);
+    }
+
+    @Test
+    public void abort() throws IOException {
+        StringWriter sw = new StringWriter();
+        JSONGenerator gen = new JSONGenerator(sw);
+        gen.beginObject().name("a").beginArray().value(1).beginObject().name("b");
+        gen.abort("error");
+        assertEquals(sw.toString(), "{\"a\":[1,{\"b\":\"error\"}]}");
+
+        sw = new StringWriter();
+        new JSONGenerator(sw).abort("error");
+        assertEquals(sw.toString(), "\"error\"");
+    }
+
+    @Test
+    public void customStructure() throws IOException {
+        JSONStructure structure = new JSONStructure() {
+            @Override
+            public String toJSONString() {
+                return "[42]";
+            }
+
+            @Override
+            public void writeJSONString(Writer writer) throws IOException {
+                writer.write(toJSONString());
+            }
+        };
+        JSONObject object = new JSONObject();
+        object.put("value", structure);
+        assertEquals(object.toJSONString(), "{\"value\":[42]}");
+    }
+
+}
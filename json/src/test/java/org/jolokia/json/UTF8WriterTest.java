@@ -0,0 +1,106 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+public class UTF8WriterTest {
+
+    @Test
+    public void encoding() throws IOException {
+        String text = "ascii \u00e9 \u20ac \ud83d\ude00";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // small buffer to force flushing in the middle of characters
+        try (Writer writer = new UTF8Writer(out, 1)) {
+            for (int i = 0; i < 100; i++) {
+                writer.write(text);
+                writer.write('|');
+                writer.write(text.toCharArray(), 0, text.length());
+            }
+        }
+        String expected = (text + "|" + text).repeat(100);
+        assertEquals(out.toByteArray(), expected.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void surrogatePairSplitBetweenWrites() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new UTF8Writer(out)) {
+            writer.write("x\ud83d");
+            writer.write('\ude00');
+        }
+        assertEquals(out.toString(StandardCharsets.UTF_8), "x\ud83d\ude00");
+    }
+
+    @Test
+    public void malformedSurrogates() throws IOException {
+        String text = "a\ud83db\ude00c\ud83d";
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(expected, StandardCharsets.UTF_8)) {
+            writer.write(text);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new UTF8Writer(out)) {
+            writer.write(text);
+        }
+        assertEquals(out.toByteArray(), expected.toByteArray());
+    }
+
+    @Test
+    public void sameAsOutputStreamWriter() throws IOException {
+        JSONObject object = new JSONObject();
+        object.put("escapes", "\"\\/\b\f\n\r\t\u0000\u001f");
+        object.put("unicode", "\u00e9\u20ac\ud83d\ude00");
+        object.put("long", Long.MIN_VALUE);
+        object.put("int", -42);
+        object.put("zero", 0L);
+        object.put("decimal", 1.5);
+        object.put("array", new JSONArray(List.of('"', 'x', "\u0007", Long.MAX_VALUE)));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(expected, StandardCharsets.UTF_8)) {
+            object.writeJSONString(writer);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new UTF8Writer(out, 16)) {
+            object.writeJSONString(writer);
+        }
+        assertEquals(out.toString(StandardCharsets.UTF_8), expected.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeAfterClose() throws IOException {
+        Writer writer = new UTF8Writer(new ByteArrayOutputStream());
+        writer.close();
+        try {
+            writer.write('x');
+            fail("Writer is not closed");
+        } catch (IOException exp) {
+            assertEquals(exp.getMessage(), "Writer closed");
+        }
+    }
+
+}
@@ -67,6 +67,38 @@ public class ParserArraysTest {
         }
     }
 
+    @Test
+    public void missingComma() throws IOException {
+        try {
+            new JSONParser().parse("[42 43]");
+            fail("Should have thrown an exception");
+        } catch (ParseException e) {
+            assertEquals(e.getMessage(), "Unexpected token (kind: VALUE_INTEGER) when parsing JSON array");
+            assertEquals(e.getColumn(), 5);
+        }
+    }
+
+    @Test
+    public void doubleComma() throws IOException {
+        try {
+            new JSONParser().parse("[42,,43]");
+            fail("Should have thrown an exception");
+        } catch (ParseException e) {
+            assertEquals(e.getMessage(), "Unexpected token (kind: SYMBOL_COMMA)");
+        }
+    }
+
+    @Test
+    public void deeplyNestedArrays() throws ParseException, IOException {
+        String json = "[".repeat(100000) + "]".repeat(100000);
+        JSONArray array = new JSONParser().parse(json, JSONArray.class);
+        for (int i = 1; i < 100000; i++) {
+            assertEquals(array.size(), 1);
+            array = (JSONArray) array.get(0);
+        }
+        assertEquals(array.size(), 0);
+    }
+
     @Test
     public void simplestArray() throws ParseException, IOException {
         JSONArray array = new JSONParser().parse("[]", JSONArray.class);
@@ -16,9 +16,13 @@
 package org.jolokia.json.parser;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.jolokia.json.JSONArray;
 import org.jolokia.json.JSONObject;
 import org.testng.annotations.Test;
 
@@ -96,6 +100,16 @@ public class ParserObjectsTest {
         }
     }
 
+    @Test
+    public void missingComma() throws IOException {
+        try {
+            new JSONParser().parse("{\"k1\":1 \"k2\":2}");
+            fail("Should have thrown an exception");
+        } catch (ParseException e) {
+            assertEquals(e.getMessage(), "Unexpected token (kind: VALUE_STRING) when parsing JSON object");
+        }
+    }
+
     @Test
     public void simplestObject() throws ParseException, IOException {
         JSONObject object = new JSONParser().parse("{}", JSONObject.class);
@@ -126,4 +140,55 @@ public class ParserObjectsTest {
         assertNull(object.get("keyNull"));
     }
 
+    @Test
+    public void visitMembers() throws ParseException, IOException {
+        List<String> visited = new ArrayList<>();
+        JSONObject object = (JSONObject) new JSONParser().parse(new StringReader("{"
+            + "\"a\":{\"b\":1,\"c\":[{\"d\":true}]},"
+            + "\"e\":\"x\""
+            + "}"), (path, value) -> {
+            visited.add(path + "=" + value);
+            return true;
+        });
+        assertEquals(visited, List.of("[a, b]=1", "[a, c, null, d]=true", "[a, c]=[{\"d\":true}]",
+            "[a]={\"b\":1,\"c\":[{\"d\":true}]}", "[e]=x"));
+        assertEquals(((JSONObject) object.get("a")).size(), 2);
+    }
+
+    @Test
+    public void dropVisitedMembers() throws ParseException, IOException {
+        JSONParser parser = new JSONParser();
+        MemberVisitor visitor = new MemberVisitor() {
+            @Override
+            public boolean visit(List<String> pPath, Object pValue) {
+                return !pPath.get(pPath.size() - 1).startsWith("drop");
+            }
+
+            @Override
+            public int getMaxDepth() {
+                return 2;
+            }
+        };
+        JSONObject object = (JSONObject) parser.parse(new StringReader("{"
+            + "\"drop1\":{\"drop\":1,\"keep\":2},"
+            + "\"keep\":{\"drop2\":1,\"keep\":{\"drop3\":3}},"
+            + "\"drop4\":[1,2]"
+            + "}"), visitor);
+        assertEquals(object.size(), 1);
+        JSONObject keep = (JSONObject) object.get("keep");
+        assertEquals(keep.size(), 1);
+        // not visited below the maximum depth
+        assertEquals(((JSONObject) keep.get("keep")).get("drop3"), 3L);
+
+        // all members dropped, but the syntax is still checked
+        assertEquals(parser.parse(new StringReader("{\"drop\":[]}"), visitor), new JSONObject());
+        try {
+            parser.parse(new StringReader("{\"drop\":1 \"drop\":2}"), visitor);
+            fail("Should have thrown an exception");
+        } catch (ParseException e) {
+            assertEquals(e.getMessage(), "Unexpected token (kind: VALUE_STRING) when parsing JSON object");
+        }
+        assertTrue(parser.parse(new StringReader("[{\"drop\":1}]"), visitor) instanceof JSONArray);
+    }
+
 }
@@ -16,9 +16,13 @@
 package org.jolokia.json.parser;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONObject;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.*;
@@ -100,4 +104,53 @@ public class ParserValuesTest {
         assertEquals((long) value, 2147483645L);
     }
 
+    @Test
+    public void parseInvalidLiteral() {
+        try {
+            new JSONParser().parse("[true, nul]");
+            fail("Should have thrown an exception");
+        } catch (ParseException e) {
+            assertEquals(e.getMessage(), "Invalid character 'n' at 1:8");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void parseFromChunkedReader() throws ParseException, IOException {
+        String longString = "x".repeat(20000);
+        String json = "{\"key\":[\"" + longString + "\",\"esc\\u0041ped\",-12.5e-1,123456789012345678901,42]}";
+        // reader which returns only few characters at once
+        Reader reader = new Reader() {
+            private final Reader delegate = new StringReader(json);
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return delegate.read(cbuf, off, Math.min(len, 3));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        JSONArray array = (JSONArray) new JSONParser().parse(reader, JSONObject.class).get("key");
+        assertEquals(array.get(0), longString);
+        assertEquals(array.get(1), "escAped");
+        assertEquals(array.get(2), new BigDecimal("-12.5e-1"));
+        assertEquals(array.get(3), new BigInteger("123456789012345678901"));
+        assertEquals(array.get(4), 42L);
+    }
+
+    @Test
+    public void parserReuse() throws ParseException, IOException {
+        JSONParser parser = new JSONParser();
+        assertEquals(parser.parse("[1]", JSONArray.class).get(0), 1L);
+        try {
+            parser.parse("[1");
+            fail("Should have thrown an exception");
+        } catch (IllegalStateException ignored) {
+        }
+        assertEquals(parser.parse(new StringReader("{\"a\":2}"), JSONObject.class).get("a"), 2L);
+    }
+
 }
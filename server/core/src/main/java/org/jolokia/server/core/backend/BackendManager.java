@@ -56,6 +56,9 @@ public class BackendManager {
 
     private final boolean includeRequestGlobal;
 
+    // whether the value may be serialized while writing the response
+    private final boolean streamingSerialization;
+
     /**
      * Construct a new backend manager with the given configuration and with the default
      * request dispatcher
@@ -85,9 +88,11 @@ public class BackendManager {
             );
             // whether to include the incoming request in the response
             includeRequestGlobal = getOrDefault(pJolokiaCtx.getConfig(INCLUDE_REQUEST), true);
+            streamingSerialization = getOrDefault(pJolokiaCtx.getConfig(STREAMING_SERIALIZATION), false);
         } else {
             convertOptionsBuilder = new SerializeOptions.Builder();
             includeRequestGlobal = true;
+            streamingSerialization = false;
         }
     }
 
@@ -114,6 +119,28 @@ public class BackendManager {
      */
     public JSONObject handleRequest(JolokiaRequest pJmxReq)
             throws IOException, JMException, JMRuntimeException, BadRequestException, EmptyResponseException {
+        return handleRequest(pJmxReq, false);
+    }
+
+    /**
+     * Handle a single {@link JolokiaRequest} like {@link #handleRequest(JolokiaRequest)}, but optionally without
+     * serializing the result upfront. When {@code pAllowStreaming} is set, {@link ConfigKey#STREAMING_SERIALIZATION}
+     * is enabled, no path is used and no {@link RequestInterceptor} {@link RequestInterceptor#requiresValue requires
+     * the value}, the {@code value} of the returned {@link JSONObject} is a {@link org.jolokia.json.JSONStructure}
+     * which serializes the result directly when the response is written. This should be used only by callers which
+     * write the response into a stream immediately.
+     *
+     * @param pJmxReq request to perform
+     * @param pAllowStreaming whether the serialization of the value may be deferred until the response is written
+     * @return the answer with the value already serialized or ready to be written
+     * @throws IOException when there's an error invoking {@link javax.management.MBeanServerConnection} for some commands (which may be remote)
+     * @throws JMException JMX checked exception, because most requests are handled by dealing with MBeans
+     * @throws JMRuntimeException JMX unchecked exception, because most requests are handled by dealing with MBeans
+     * @throws BadRequestException because some commands do more user input parsing in addition to what was checked when the {@link JolokiaRequest} was created
+     * @throws EmptyResponseException if the response should not be closed (expecting further async/stream data)
+     */
+    public JSONObject handleRequest(JolokiaRequest pJmxReq, boolean pAllowStreaming)
+            throws IOException, JMException, JMRuntimeException, BadRequestException, EmptyResponseException {
         boolean debug = jolokiaCtx.isDebug();
 
         long time = 0;
@@ -123,7 +150,7 @@ public class BackendManager {
 
         JSONObject json;
         try {
-            json = callRequestDispatcher(pJmxReq);
+            json = callRequestDispatcher(pJmxReq, pAllowStreaming && streamingSerialization);
             json.put("status", 200 /* success */);
         } catch (NotChangedException exp) {
             // A handled indicates that its value hasn't changed. We return a status with
@@ -156,6 +183,7 @@ public class BackendManager {
      * the actual result is a {@code value} field of the response {@link JSONObject}.
      *
      * @param pJmxReq
+     * @param pStreaming whether the serialization may be deferred until the response is written
      * @return
      * @throws IOException when there's an error invoking {@link javax.management.MBeanServerConnection} for some commands (which may be remote)
      * @throws JMException JMX checked exception, because most requests are handled by dealing with MBeans
@@ -164,7 +192,7 @@ public class BackendManager {
      * @throws BadRequestException because some commands do more user input parsing in addition to what was checked when the {@link JolokiaRequest} was created
      * @throws EmptyResponseException if the response should not be closed (expecting further async/stream data)
      */
-    private JSONObject callRequestDispatcher(JolokiaRequest pJmxReq)
+    private JSONObject callRequestDispatcher(JolokiaRequest pJmxReq, boolean pStreaming)
             throws IOException, JMException, JMRuntimeException, NotChangedException, BadRequestException, EmptyResponseException {
 
         // this is where the magic happens. JolokiaRequest is turned into a result Object which depends
@@ -179,7 +207,13 @@ public class BackendManager {
         List<String> pathParts = pJmxReq.useReturnValueWithPath() ? pJmxReq.getPathParts() : null;
         SerializeOptions options = getSerializeOptions(pJmxReq);
 
-        Object jsonResult = serializer.serialize(result, pathParts, options);
+        Object jsonResult;
+        if (pStreaming && result != null && (pathParts == null || pathParts.isEmpty()) && !isValueRequired(pJmxReq)) {
+            // serialized directly into the response stream
+            jsonResult = new StreamingValue(result, serializer, options, jolokiaCtx);
+        } else {
+            jsonResult = serializer.serialize(result, pathParts, options);
+        }
 
         JSONObject jsonObject = new JSONObject();
         jsonObject.put("value", jsonResult);
@@ -206,6 +240,21 @@ public class BackendManager {
         }
     }
 
+    /**
+     * Check whether any {@link RequestInterceptor} needs the serialized value of the response.
+     *
+     * @param pJmxReq request to check
+     * @return {@code true} if the value has to be fully converted to JSON before the response is written
+     */
+    private boolean isValueRequired(JolokiaRequest pJmxReq) {
+        for (RequestInterceptor interceptor : jolokiaCtx.getServices(RequestInterceptor.class)) {
+            if (interceptor.requiresValue(pJmxReq)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Convert a {@link Throwable} into a {@link JSONObject} so that it can be included in an error response - should
      * be called only if {@code serializeException} parameter is set.
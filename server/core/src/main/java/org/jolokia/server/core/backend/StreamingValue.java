@@ -0,0 +1,84 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.server.core.backend;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import javax.management.AttributeNotFoundException;
+
+import org.jolokia.core.api.LogHandler;
+import org.jolokia.core.service.serializer.SerializeOptions;
+import org.jolokia.json.JSONGenerator;
+import org.jolokia.json.JSONStructure;
+import org.jolokia.server.core.service.serializer.Serializer;
+
+/**
+ * <p>A {@code value} of the response which is serialized only when the response is written. The result
+ * of the request is then written directly into the response {@link Writer} using
+ * {@link Serializer#serialize(Object, java.util.List, SerializeOptions, JSONGenerator)} without creating
+ * the full JSON representation in memory.</p>
+ *
+ * <p>Because the response is already being sent, an error in the middle of the serialization can't be reported
+ * as a Jolokia error response anymore. In such case the error is logged and the already started JSON structures
+ * are closed with an error message as the last value, so the response is still a valid JSON.</p>
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+final class StreamingValue implements JSONStructure {
+
+    private final Object value;
+    private final Serializer serializer;
+    private final SerializeOptions options;
+    private final LogHandler logHandler;
+
+    StreamingValue(Object pValue, Serializer pSerializer, SerializeOptions pOptions, LogHandler pLogHandler) {
+        value = pValue;
+        serializer = pSerializer;
+        options = pOptions;
+        logHandler = pLogHandler;
+    }
+
+    @Override
+    public String toJSONString() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeJSONString(writer);
+        } catch (IOException e) {
+            // can't happen for StringWriter
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        return writer.toString();
+    }
+
+    @Override
+    public void writeJSONString(Writer writer) throws IOException {
+        JSONGenerator generator = new JSONGenerator(writer);
+        try {
+            serializer.serialize(value, null, options, generator);
+        } catch (AttributeNotFoundException | RuntimeException e) {
+            logHandler.error("Cannot serialize value of " + value.getClass().getName() + ": " + e.getMessage(), e);
+            generator.abort("[Serialization error: " + e.getMessage() + "]");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toJSONString();
+    }
+
+}
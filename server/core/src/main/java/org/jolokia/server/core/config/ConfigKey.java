@@ -55,6 +55,26 @@ public enum ConfigKey {
      */
     JSR160_PROXY_ALLOWED_TARGETS("jsr160ProxyAllowedTargets", true, false),
 
+    /**
+     * Maximum number of JSR-160 connectors kept open for a single target (service URL and credentials)
+     * when working in proxy mode. Connectors are then reused for subsequent requests to the same target
+     * instead of connecting for each request. The default {@code 0} switches off pooling, so a new connector
+     * is created and closed for each request.
+     */
+    JSR160_CONNECTOR_POOL_MAX_PER_TARGET("jsr160ConnectorPoolMaxPerTarget", true, false, "0"),
+
+    /**
+     * Time in milliseconds after which an unused pooled JSR-160 connector is closed
+     * (see {@link #JSR160_CONNECTOR_POOL_MAX_PER_TARGET}).
+     */
+    JSR160_CONNECTOR_POOL_IDLE_TIMEOUT("jsr160ConnectorPoolIdleTimeout", true, false, "60000"),
+
+    /**
+     * Maximum time in milliseconds a proxy request waits for a free connector when all pooled connectors
+     * of its target are in use (see {@link #JSR160_CONNECTOR_POOL_MAX_PER_TARGET}).
+     */
+    JSR160_CONNECTOR_POOL_MAX_WAIT("jsr160ConnectorPoolMaxWait", true, false, "10000"),
+
     /**
      * Log handler class to use, which must have an empty constructor.
      * If not set, then a default logging mechanism is used.
@@ -151,6 +171,114 @@ public enum ConfigKey {
      */
     STREAMING("streaming", true, false, Constants.TRUE),
 
+    /**
+     * Whether the value of a response (when no path is used) should be serialized to JSON directly while
+     * writing the HTTP response instead of building the whole JSON representation in memory first. If an error
+     * occurs in the middle of the serialization, the response can't be turned into an error response anymore.
+     * Default is "false"
+     */
+    STREAMING_SERIALIZATION("streamingSerialization", true, false, Constants.FALSE),
+
+    /**
+     * Maximum number of MBeans for which the operation signatures and attribute types are cached for
+     * {@code exec} and {@code write} requests, so that {@link javax.management.MBeanInfo} doesn't have to be
+     * fetched for every request. The names of readable attributes are cached for {@code read} requests in the
+     * same way. Entries are removed when the MBean is unregistered. {@code 0} switches off the cache.
+     */
+    MBEAN_INFO_CACHE_SIZE("mbeanInfoCacheSize", true, false, "1000"),
+
+    /**
+     * Maximum number of MBeans with an immutable {@link javax.management.MBeanInfo} (like standard MBeans and
+     * MXBeans) for which the JSON representation of the {@link javax.management.MBeanInfo} is cached for
+     * {@code list} requests (for each variant with and without open types). The least recently used entry
+     * is evicted when the cache is full and entries are removed when the MBean is unregistered. Platform
+     * MXBeans are always cached and don't count against this limit. With {@code 0} only platform MXBeans
+     * are cached.
+     */
+    LIST_MBEAN_INFO_CACHE_SIZE("listMBeanInfoCacheSize", true, false, "1000"),
+
+    /**
+     * Whether to compress JSON responses with {@code gzip} or {@code deflate} when the client accepts it
+     * ({@code Accept-Encoding} header). Default is "false"
+     */
+    RESPONSE_COMPRESSION("responseCompression", true, false, Constants.FALSE),
+
+    /**
+     * Minimal size in bytes of a response to be compressed (see {@link #RESPONSE_COMPRESSION}). Smaller
+     * responses are sent uncompressed.
+     */
+    RESPONSE_COMPRESSION_MIN_SIZE("responseCompressionMinSize", true, false, "1024"),
+
+    /**
+     * Compression level from 1 (fastest) to 9 (best compression) used for response compression
+     * (see {@link #RESPONSE_COMPRESSION}).
+     */
+    RESPONSE_COMPRESSION_LEVEL("responseCompressionLevel", true, false, "6"),
+
+    /**
+     * Maximum number of threads used to execute the individual requests of a bulk request
+     * in parallel. The default {@code 0} means that bulk requests are processed sequentially in the
+     * thread handling the HTTP request. Responses are always returned in the order of the requests.
+     */
+    BULK_REQUEST_THREADS("bulkRequestThreads", true, false, "0"),
+
+    /**
+     * Timeout in milliseconds for a single request of a bulk request which is processed in parallel
+     * (see {@link #BULK_REQUEST_THREADS}). A request taking longer is answered with an error entry
+     * in the bulk response (status 504) instead of failing the whole bulk request. The default {@code 0}
+     * means that there's no timeout.
+     */
+    BULK_REQUEST_TIMEOUT("bulkRequestTimeout", true, false, "0"),
+
+    /**
+     * Whether to use virtual threads (JDK 21+) for parallel processing of bulk requests. The number of
+     * requests running concurrently is still limited by {@link #BULK_REQUEST_THREADS}. On older JDKs
+     * platform threads are used.
+     */
+    BULK_REQUEST_VIRTUAL_THREADS("bulkRequestVirtualThreads", true, false, Constants.FALSE),
+
+    /**
+     * Maximum number of threads used to read the attributes of the MBeans matching the pattern of a
+     * {@code read} request in parallel. The default {@code 0} means that the MBeans are read one after another
+     * in the thread handling the request. Note that in parallel mode MBeans are accessed outside of the request
+     * thread, so a security context bound to this thread is not available to the MBeans. When all threads are
+     * busy and their queue is full, the thread handling the request reads the MBeans itself.
+     */
+    READ_PATTERN_THREADS("readPatternThreads", true, false, "0"),
+
+    /**
+     * Maximum time in milliseconds a {@code pull} notification command may wait for the next notification
+     * (long-poll) before it is answered with an empty result. {@code 0} switches off waiting.
+     */
+    NOTIFICATION_PULL_MAX_WAIT("notificationPullMaxWait", true, false, "30000"),
+
+    /**
+     * Maximum number of notifications queued per client for delivery by server sent events. Notifications
+     * are serialized and written by a separate writer, so that a slow client doesn't block the sender of
+     * a notification.
+     */
+    NOTIFICATION_SSE_QUEUE_SIZE("notificationSseQueueSize", true, false, "1000"),
+
+    /**
+     * What to do when the queue of server sent events of a client is full: {@code dropOldest} (default)
+     * removes the oldest queued notification, {@code dropNewest} discards the new notification. Dropped
+     * notifications are reported with the next delivered notification.
+     */
+    NOTIFICATION_SSE_OVERFLOW("notificationSseOverflow", true, false, "dropOldest"),
+
+    /**
+     * Number of server sent events kept per client for replaying them when a client reconnects with
+     * a {@code Last-Event-ID} header. {@code 0} switches off replaying.
+     */
+    NOTIFICATION_SSE_REPLAY_SIZE("notificationSseReplaySize", true, false, "100"),
+
+    /**
+     * Number of threads writing server sent events to the clients. A client which doesn't read its events
+     * occupies a writer thread for at most the heartbeat period. Then its write is aborted and its connection
+     * is closed.
+     */
+    NOTIFICATION_SSE_WRITER_THREADS("notificationSseWriterThreads", true, false, "4"),
+
     /**
      * Optional domain name for registering own MBeans
      */
@@ -18,13 +18,10 @@ package org.jolokia.server.core.http;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.UnknownHostException;
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -119,6 +116,9 @@ public class AgentServlet extends HttpServlet {
     // Mime type used for returning the answer
     private String configMimeType;
 
+    // Compression of responses
+    private ResponseCompression responseCompression;
+
     // Service manager for creating/destroying the Jolokia context
     private JolokiaServiceManager serviceManager;
 
@@ -203,10 +203,14 @@ public class AgentServlet extends HttpServlet {
         initAgentUrl();
 
         configMimeType = config.getConfig(ConfigKey.MIME_TYPE);
+        responseCompression = ResponseCompression.fromConfig(jolokiaContext);
     }
 
     @Override
     public void destroy() {
+        if (requestHandler != null) {
+            requestHandler.destroy();
+        }
         serviceManager.stop();
     }
 
@@ -515,7 +519,8 @@ public class AgentServlet extends HttpServlet {
             return;
         } catch (EmptyResponseException exp) {
             // Don't close the connection, this is used for `Content-Type: text/event-stream` for notifications
-            // which will be sent using org.jolokia.service.notif.sse.SseHeartBeat
+            // which will be sent using org.jolokia.service.notif.sse.SseHeartBeat, and for long-poll notification
+            // pulls, which are answered when a notification arrives
             return;
         } catch (Throwable exp) {
             // handle exception not handled by org.jolokia.server.core.http.HttpRequestHandler()
@@ -761,7 +766,7 @@ public class AgentServlet extends HttpServlet {
         if (pJson == null) {
             pResp.setContentLength(-1);
         } else {
-            sendStreamingResponse(pResp, callback, pJson);
+            sendStreamingResponse(pResp, pReq, callback, pJson);
         }
     }
 
@@ -771,9 +776,26 @@ public class AgentServlet extends HttpServlet {
             throw new BadRequestException("Invalid callback name given, which must be a valid javascript function name");
         }
     }
-    private void sendStreamingResponse(HttpServletResponse pResp, String pCallback, JSONStructure pJson) throws IOException {
-        Writer writer = new OutputStreamWriter(pResp.getOutputStream(), StandardCharsets.UTF_8);
-        IoUtil.streamResponseAndClose(writer, pJson, pCallback);
+    private void sendStreamingResponse(HttpServletResponse pResp, HttpServletRequest pReq, String pCallback, JSONStructure pJson) throws IOException {
+        OutputStream out;
+        String encoding = null;
+        if (responseCompression.isEnabled()) {
+            pResp.addHeader("Vary", "Accept-Encoding");
+            encoding = responseCompression.selectEncoding(pReq.getHeader("Accept-Encoding"));
+        }
+        if (encoding != null) {
+            out = responseCompression.wrap(encoding, (contentEncoding, length) -> {
+                if (contentEncoding != null) {
+                    pResp.setHeader("Content-Encoding", contentEncoding);
+                } else {
+                    pResp.setContentLengthLong(length);
+                }
+                return pResp.getOutputStream();
+            });
+        } else {
+            out = pResp.getOutputStream();
+        }
+        IoUtil.streamResponseAndClose(out, pJson, pCallback);
     }
 
     private void setNoCacheHeaders(HttpServletResponse pResp) {
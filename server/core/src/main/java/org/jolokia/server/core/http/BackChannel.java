@@ -36,6 +36,12 @@ public interface BackChannel {
      */
     String ENCODING = "backChannel.encoding";
 
+    /**
+     * Parameter specifying whether the response headers are sent when opening the channel
+     * (default) or before the first write
+     */
+    String SEND_HEADERS_ON_OPEN = "backChannel.sendHeadersOnOpen";
+
     /**
      * Open the channel. Note, that a channel which has been already closed cannot be
      * reopened again.
@@ -47,6 +53,8 @@ public interface BackChannel {
      * <ul>
      *  <li><strong>backChannel.contentType</strong> - Content-Type to set on the backchannel</li>
      *  <li><strong>backChannel.encoding</strong> - Encoding used for the client communication</li>
+     *  <li><strong>backChannel.sendHeadersOnOpen</strong> - <code>false</code> if the response headers should be
+     *      sent only when writing the answer (default: <code>true</code>)</li>
      * </ul>
      * @throws IOException if the channel was already closed
      */
@@ -69,4 +77,14 @@ public interface BackChannel {
      * @throws IOException if the channel is already closed.
      */
     OutputStream getOutputStream() throws IOException;
+
+    /**
+     * Get a header of the request which opened this channel
+     *
+     * @param pName name of the header
+     * @return header value or <code>null</code> if not given or not available anymore
+     */
+    default String getRequestHeader(String pName) {
+        return null;
+    }
 }
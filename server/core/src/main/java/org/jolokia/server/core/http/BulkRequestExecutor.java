@@ -0,0 +1,158 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.server.core.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jolokia.server.core.util.DaemonThreadFactory;
+import org.jolokia.server.core.util.SubjectAccess;
+import org.jolokia.server.core.util.SubjectAccessProvider;
+import org.jolokia.server.core.util.VirtualThreadUtil;
+
+/**
+ * <p>Executor used to process the individual requests of a bulk request in parallel. The number of
+ * threads is bounded and idle threads are released after some time, so when no bulk requests are sent,
+ * no threads are kept.</p>
+ *
+ * <p>When a timeout is configured, each task is cancelled (and its thread interrupted) when it's running
+ * longer than the timeout. The timeout is measured from the moment the task starts running, not from its
+ * submission, so requests waiting in the queue behind slow ones are not penalized.</p>
+ *
+ * <p>Each task is executed with the {@link javax.security.auth.Subject} of the thread which has submitted it,
+ * while the threads themselves are created without any Subject. Otherwise a thread started during a request
+ * of one user would process the requests of other users with the identity of the first one.</p>
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public class BulkRequestExecutor {
+
+    private static final String THREAD_NAME_PREFIX = "jolokia-bulk-";
+
+    // how long idle worker threads are kept
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor executor;
+
+    // used only to cancel tasks running too long
+    private final ScheduledExecutorService watchdog;
+
+    private final long timeout;
+
+    private final SubjectAccess subjectAccess;
+
+    /**
+     * Create the executor
+     *
+     * @param pMaxThreads         maximum number of requests processed concurrently
+     * @param pTimeout            timeout for a single request in milliseconds. {@code 0} or less means no timeout
+     * @param pUseVirtualThreads  whether to use virtual threads (if supported by the running JDK)
+     */
+    public BulkRequestExecutor(int pMaxThreads, long pTimeout, boolean pUseVirtualThreads) {
+        if (pMaxThreads <= 0) {
+            throw new IllegalArgumentException("Number of threads for bulk request processing has to be positive");
+        }
+        ThreadFactory threadFactory = pUseVirtualThreads ? VirtualThreadUtil.createVirtualThreadFactory(THREAD_NAME_PREFIX) : null;
+        if (threadFactory == null) {
+            threadFactory = new DaemonThreadFactory(THREAD_NAME_PREFIX);
+        }
+        subjectAccess = SubjectAccessProvider.getSubjectAccess();
+        executor = new ThreadPoolExecutor(pMaxThreads, pMaxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                          new LinkedBlockingQueue<>(), subjectAccess.withoutSubject(threadFactory));
+        executor.allowCoreThreadTimeOut(true);
+
+        timeout = pTimeout;
+        if (timeout > 0) {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory(THREAD_NAME_PREFIX + "watchdog-"));
+            scheduler.setRemoveOnCancelPolicy(true);
+            watchdog = scheduler;
+        } else {
+            watchdog = null;
+        }
+    }
+
+    /**
+     * Submit all the tasks for execution. The returned futures are in the same order as the tasks. A future
+     * of a task which has timed out is cancelled, so {@link Future#get()} throws a
+     * {@link java.util.concurrent.CancellationException}. The tasks are executed with the
+     * {@link javax.security.auth.Subject} of the calling thread.
+     *
+     * @param pTasks tasks to execute
+     * @return futures for the results in the order of the tasks
+     * @param <T> result type
+     */
+    public <T> List<Future<T>> submitAll(List<Callable<T>> pTasks) {
+        List<Future<T>> ret = new ArrayList<>(pTasks.size());
+        for (Callable<T> task : pTasks) {
+            TimedTask<T> timedTask = new TimedTask<>(subjectAccess.withCurrentSubject(task));
+            ret.add(timedTask);
+            executor.execute(timedTask);
+        }
+        return ret;
+    }
+
+    /**
+     * Timeout for a single task
+     *
+     * @return timeout in milliseconds, {@code 0} or less if there's no timeout
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Stop all the threads. Running tasks are interrupted.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+    }
+
+    // Task which cancels itself when it's running for too long
+    private class TimedTask<T> extends FutureTask<T> {
+
+        TimedTask(Callable<T> pCallable) {
+            super(pCallable);
+        }
+
+        @Override
+        public void run() {
+            ScheduledFuture<?> cancellation = watchdog != null ?
+                watchdog.schedule(() -> cancel(true), timeout, TimeUnit.MILLISECONDS) : null;
+            try {
+                super.run();
+            } finally {
+                if (cancellation != null) {
+                    cancellation.cancel(false);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.server.core.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Output stream which buffers the first bytes of a response and either compresses the response when it
+ * grows beyond the minimal size or sends it uncompressed when it's closed before. The response is started
+ * with a {@link ResponseCompression.ResponseStarter} only when this decision has been made.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+class CompressingOutputStream extends OutputStream {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int DEFLATER_BUFFER_SIZE = 8192;
+
+    private final ResponseCompression.ResponseStarter starter;
+    private final String encoding;
+    private final int minSize;
+    private final int level;
+
+    // bytes written before the response has been started
+    private byte[] buffer;
+    private int count;
+
+    // compressing stream, set when the response is compressed
+    private DeflaterOutputStream out;
+    private Deflater deflater;
+
+    private boolean closed;
+
+    CompressingOutputStream(ResponseCompression.ResponseStarter pStarter, String pEncoding, int pMinSize, int pLevel) {
+        starter = pStarter;
+        encoding = pEncoding;
+        minSize = pMinSize;
+        level = pLevel;
+        buffer = new byte[Math.min(minSize, INITIAL_BUFFER_SIZE)];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (out != null) {
+            out.write(b, off, len);
+            return;
+        }
+        if (count + len <= minSize) {
+            if (count + len > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(Math.max(buffer.length * 2, count + len), minSize));
+            }
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+            return;
+        }
+        startCompression();
+        out.write(buffer, 0, count);
+        buffer = null;
+        out.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Before the response is started nothing is flushed, so that the decision about compression
+        // can still be made
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (out != null) {
+                out.close();
+            } else {
+                try (OutputStream raw = starter.start(null, count)) {
+                    raw.write(buffer, 0, count);
+                }
+                buffer = null;
+            }
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    private void startCompression() throws IOException {
+        OutputStream raw = starter.start(encoding, -1);
+        if (ResponseCompression.GZIP.equals(encoding)) {
+            out = new LeveledGZIPOutputStream(raw, level);
+        } else {
+            // "deflate" content encoding is the zlib format (RFC 1950)
+            deflater = new Deflater(level);
+            out = new DeflaterOutputStream(raw, deflater, DEFLATER_BUFFER_SIZE);
+        }
+    }
+
+    // GZIP stream with a configurable compression level
+    private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+        LeveledGZIPOutputStream(OutputStream pOut, int pLevel) throws IOException {
+            super(pOut, DEFLATER_BUFFER_SIZE);
+            def.setLevel(pLevel);
+        }
+    }
+}
@@ -18,16 +18,23 @@ package org.jolokia.server.core.http;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -48,6 +55,7 @@ import org.jolokia.server.core.restrictor.policy.HttpMethodChecker;
 import org.jolokia.server.core.restrictor.policy.PolicyRestrictor;
 import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.service.api.Restrictor;
+import org.jolokia.server.core.util.ConfigUtil;
 import org.jolokia.server.core.util.HttpMethod;
 
 /**
@@ -69,6 +77,8 @@ public class HttpRequestHandler extends BaseRequestHandler {
     private final boolean authenticationEnabled;
     // whether to use Sec-Fetch-* headers for partial access control
     private final boolean useFetchMetadata;
+    // executor for parallel processing of bulk requests, null if bulk requests are processed sequentially
+    private final BulkRequestExecutor bulkRequestExecutor;
 
     /**
      * Request handler for parsing HTTP request and dispatching to the appropriate
@@ -83,6 +93,27 @@ public class HttpRequestHandler extends BaseRequestHandler {
         this.authenticationEnabled = pAuthenticationEnabled;
 
         this.useFetchMetadata = Boolean.parseBoolean(context.getConfig(ConfigKey.USE_FETCH_METADATA_HEADERS));
+        this.bulkRequestExecutor = createBulkRequestExecutor(context);
+    }
+
+    /**
+     * Release resources used by this handler (e.g. threads used for parallel processing of bulk requests)
+     */
+    public void destroy() {
+        if (bulkRequestExecutor != null) {
+            bulkRequestExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Responses created by this handler are written to the HTTP response right away, so serialization may
+     * be deferred if {@link ConfigKey#STREAMING_SERIALIZATION} is enabled.
+     *
+     * @return {@code true}
+     */
+    @Override
+    protected boolean isStreamingAllowed() {
+        return true;
     }
 
     /**
@@ -133,17 +164,30 @@ public class HttpRequestHandler extends BaseRequestHandler {
         Object jsonRequest = extractJsonRequest(pInputStream, pEncoding);
         if (jsonRequest instanceof JSONArray) {
             List<JolokiaRequest> jolokiaRequests = JolokiaRequestFactory.createPostRequests((JSONArray) jsonRequest, parameters);
+            // The back channel can only carry a single response, so it is hidden from the requests of a bulk.
+            // A long-poll pull is then answered immediately and a notification channel can't be opened.
+            BackChannel backChannel = BackChannelHolder.get();
+            BackChannelHolder.remove();
+            try {
+                if (bulkRequestExecutor != null && jolokiaRequests.size() > 1) {
+                    return executeRequestsInParallel(jolokiaRequests);
+                }
 
-            JSONArray responseList = new JSONArray(jolokiaRequests.size());
-            for (JolokiaRequest jmxReq : jolokiaRequests) {
-                if (jolokiaCtx.isDebug()) {
-                    jolokiaCtx.debug("Request: " + jmxReq.toString());
+                JSONArray responseList = new JSONArray(jolokiaRequests.size());
+                for (JolokiaRequest jmxReq : jolokiaRequests) {
+                    if (jolokiaCtx.isDebug()) {
+                        jolokiaCtx.debug("Request: " + jmxReq.toString());
+                    }
+                    // Call handler and retrieve return value
+                    JSONObject resp = executeRequest(jmxReq);
+                    responseList.add(resp);
+                }
+                return responseList;
+            } finally {
+                if (backChannel != null) {
+                    BackChannelHolder.set(backChannel);
                 }
-                // Call handler and retrieve return value
-                JSONObject resp = executeRequest(jmxReq);
-                responseList.add(resp);
             }
-            return responseList;
         } else if (jsonRequest instanceof JSONObject) {
             JolokiaRequest jmxReq = JolokiaRequestFactory.createPostRequest((JSONObject) jsonRequest, parameters);
             return executeRequest(jmxReq);
@@ -152,6 +196,61 @@ public class HttpRequestHandler extends BaseRequestHandler {
         }
     }
 
+    /**
+     * Execute the requests of a bulk request in parallel. The responses are collected in the order
+     * of the requests. A request which takes longer than the configured timeout is answered with an error
+     * entry, while the other requests are processed normally.
+     *
+     * @param pJolokiaRequests requests to execute
+     * @return the bulk response
+     * @throws BadRequestException if any of the requests is invalid (same as for sequential processing)
+     * @throws EmptyResponseException if any of the requests should not end with closed connection
+     * @throws IOException if interrupted while waiting for the responses
+     */
+    private JSONArray executeRequestsInParallel(List<JolokiaRequest> pJolokiaRequests)
+            throws BadRequestException, EmptyResponseException, IOException {
+        List<Callable<JSONObject>> tasks = new ArrayList<>(pJolokiaRequests.size());
+        for (JolokiaRequest jmxReq : pJolokiaRequests) {
+            if (jolokiaCtx.isDebug()) {
+                jolokiaCtx.debug("Request: " + jmxReq.toString());
+            }
+            tasks.add(() -> executeRequest(jmxReq));
+        }
+
+        List<Future<JSONObject>> futures = bulkRequestExecutor.submitAll(tasks);
+        JSONArray responseList = new JSONArray(pJolokiaRequests.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                JolokiaRequest jmxReq = pJolokiaRequests.get(i);
+                try {
+                    responseList.add(futures.get(i).get());
+                } catch (CancellationException e) {
+                    responseList.add(getErrorJSON(504, new TimeoutException("Request was not processed within "
+                        + bulkRequestExecutor.getTimeout() + " ms"), jmxReq));
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof BadRequestException bre) {
+                        throw bre;
+                    }
+                    if (cause instanceof EmptyResponseException ere) {
+                        throw ere;
+                    }
+                    // executeRequest() already handles all exceptions, so this is rather an Error
+                    responseList.add(getErrorJSON(500, cause, jmxReq));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the results of a bulk request");
+        } finally {
+            // no-op for finished requests, but we don't want to continue processing after a failure
+            for (Future<JSONObject> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return responseList;
+    }
+
     /**
      * Handling an {@code OPTIONS} request which is used for preflight checks before a CORS based browser request is
      * sent (for certain circumstances). {@link JolokiaContext#isOriginAllowed} is already called, so no need
@@ -385,6 +484,17 @@ public class HttpRequestHandler extends BaseRequestHandler {
         return null;
     }
 
+    // Parallel bulk request processing is enabled only with a positive number of threads
+    private BulkRequestExecutor createBulkRequestExecutor(JolokiaContext pContext) {
+        int threads = ConfigUtil.getInt(pContext, ConfigKey.BULK_REQUEST_THREADS);
+        if (threads <= 0) {
+            return null;
+        }
+        long timeout = ConfigUtil.getLong(pContext, ConfigKey.BULK_REQUEST_TIMEOUT);
+        boolean useVirtualThreads = Boolean.parseBoolean(pContext.getConfig(ConfigKey.BULK_REQUEST_VIRTUAL_THREADS));
+        return new BulkRequestExecutor(threads, timeout, useVirtualThreads);
+    }
+
     // Path info might need some special handling in case when the URL
     // contains two following slashes. These slashes get collapsed
     // when calling getPathInfo() but are still present in the URI.
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.server.core.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+import org.jolokia.server.core.config.ConfigKey;
+import org.jolokia.server.core.service.api.JolokiaContext;
+import org.jolokia.server.core.util.ConfigUtil;
+
+/**
+ * <p>Content encoding negotiation and compression of HTTP responses, shared by the servlet and the JVM agent.</p>
+ *
+ * <p>The response is compressed while it's being written, so streamed responses are not buffered in full.
+ * Only the first {@code minSize} bytes are buffered to decide whether compression pays off at all: a response
+ * which is finished before reaching this size is sent uncompressed with a known content length.</p>
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public final class ResponseCompression {
+
+    /** Name of the {@code gzip} content encoding */
+    public static final String GZIP = "gzip";
+
+    /** Name of the {@code deflate} content encoding */
+    public static final String DEFLATE = "deflate";
+
+    private final boolean enabled;
+    private final int minSize;
+    private final int level;
+
+    /**
+     * Create response compression settings
+     *
+     * @param pEnabled whether compression is enabled at all
+     * @param pMinSize minimal response size in bytes for compressing the response
+     * @param pLevel   compression level (1-9)
+     */
+    public ResponseCompression(boolean pEnabled, int pMinSize, int pLevel) {
+        if (pLevel != Deflater.DEFAULT_COMPRESSION && (pLevel < Deflater.BEST_SPEED || pLevel > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Invalid compression level " + pLevel + ", must be between 1 and 9");
+        }
+        enabled = pEnabled;
+        minSize = Math.max(pMinSize, 0);
+        level = pLevel;
+    }
+
+    /**
+     * Create response compression settings from the configuration of the given context
+     *
+     * @param pContext context to get the configuration from
+     * @return compression settings
+     */
+    public static ResponseCompression fromConfig(JolokiaContext pContext) {
+        return new ResponseCompression(Boolean.parseBoolean(pContext.getConfig(ConfigKey.RESPONSE_COMPRESSION)),
+                                       ConfigUtil.getInt(pContext, ConfigKey.RESPONSE_COMPRESSION_MIN_SIZE),
+                                       ConfigUtil.getInt(pContext, ConfigKey.RESPONSE_COMPRESSION_LEVEL));
+    }
+
+    /**
+     * Whether responses may be compressed. If so, the response should contain a {@code Vary: Accept-Encoding} header.
+     *
+     * @return true if compression is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Select the content encoding to use for a response based on the {@code Accept-Encoding} header
+     * of the request. {@code gzip} is preferred over {@code deflate}.
+     *
+     * @param pAcceptEncoding value of the {@code Accept-Encoding} header, might be {@code null}
+     * @return {@link #GZIP}, {@link #DEFLATE} or {@code null} if the response should not be compressed
+     */
+    public String selectEncoding(String pAcceptEncoding) {
+        if (!enabled || pAcceptEncoding == null) {
+            return null;
+        }
+        Boolean gzipExplicit = null, deflateExplicit = null;
+        boolean wildcard = false;
+        for (String part : pAcceptEncoding.split(",")) {
+            String[] elements = part.split(";");
+            String coding = elements[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = isAccepted(elements);
+            switch (coding) {
+                case GZIP, "x-gzip" -> gzipExplicit = accepted;
+                case DEFLATE -> deflateExplicit = accepted;
+                case "*" -> wildcard = accepted;
+                default -> { }
+            }
+        }
+        boolean gzip = gzipExplicit != null ? gzipExplicit : wildcard;
+        boolean deflate = deflateExplicit != null ? deflateExplicit : wildcard;
+        return gzip ? GZIP : deflate ? DEFLATE : null;
+    }
+
+    /**
+     * Create an output stream which compresses the response with the given encoding, if the response
+     * is large enough. The response is started via the given {@link ResponseStarter} as soon as it's clear
+     * whether it's compressed or not.
+     *
+     * @param pEncoding encoding as returned by {@link #selectEncoding(String)}, must not be {@code null}
+     * @param pStarter  callback for sending the response headers and getting the raw response stream
+     * @return stream to write the response to. It must be closed to finish the response.
+     */
+    public OutputStream wrap(String pEncoding, ResponseStarter pStarter) {
+        return new CompressingOutputStream(pStarter, pEncoding, minSize, level);
+    }
+
+    // q=0 means "not acceptable"
+    private boolean isAccepted(String[] pElements) {
+        for (int i = 1; i < pElements.length; i++) {
+            String param = pElements[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim()) > 0;
+                } catch (NumberFormatException exp) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Callback for starting the HTTP response
+     */
+    @FunctionalInterface
+    public interface ResponseStarter {
+
+        /**
+         * Send the response headers and return the stream for the response body
+         *
+         * @param pContentEncoding content encoding to announce in the {@code Content-Encoding} header or
+         *                         {@code null} if the response is not compressed
+         * @param pContentLength   length of the response if known in advance, -1 otherwise
+         * @return stream for writing the response body
+         * @throws IOException if starting the response fails
+         */
+        OutputStream start(String pContentEncoding, long pContentLength) throws IOException;
+    }
+}
@@ -47,7 +47,9 @@ public class ServletBackChannel implements BackChannel {
         asyncContext = request.startAsync();
         setResponseHeaders(pParams);
         asyncContext.setTimeout(3600 * 1000);
-        asyncContext.getResponse().flushBuffer();
+        if (!"false".equals(String.valueOf(pParams.get(BackChannel.SEND_HEADERS_ON_OPEN)))) {
+            asyncContext.getResponse().flushBuffer();
+        }
         closed = false;
     }
 
@@ -71,6 +73,11 @@ public class ServletBackChannel implements BackChannel {
         }
     }
 
+    @Override
+    public synchronized String getRequestHeader(String pName) {
+        return request != null ? request.getHeader(pName) : null;
+    }
+
     // =====================================================
 
     private void setResponseHeaders(Map<String, ?> pParams) {
@@ -175,6 +175,16 @@ public abstract class BaseRequestHandler {
         }
     }
 
+    /**
+     * Whether the responses are written into a stream right after being created, so the serialization of the
+     * values may be deferred until then (see {@link BackendManager#handleRequest(JolokiaRequest, boolean)}).
+     *
+     * @return {@code false} by default
+     */
+    protected boolean isStreamingAllowed() {
+        return false;
+    }
+
     /**
      * <p>Execute a single {@link JolokiaRequest} using {@link BackendManager} and handle all possible errors
      * occurred when doing Jolokia work (mostly - accessing MBeans). The result (whether successful or
@@ -231,7 +241,7 @@ public abstract class BaseRequestHandler {
             // by jmx.LocalRequestHandler (jsr160.LocalRequestHandler uses own SingleMBeanServerAccess) and
             // is used by org.jolokia.service.jmx.api.CommandHandler
             try {
-                return backendManager.handleRequest(pJmxReq);
+                return backendManager.handleRequest(pJmxReq, isStreamingAllowed());
             } catch (ReflectionException | RuntimeOperationsException | RuntimeMBeanException | RuntimeErrorException | MBeanException e) {
                 // All JMX exceptions that wrap some target/real exception - according to JMX practice
                 Throwable cause = e.getCause();
@@ -51,6 +51,10 @@ public enum NotificationCommandType {
      * Open a channel which can be used to transmit notifications
      */
     OPEN("open"),
+    /**
+     * Fetch the notifications collected for a listener, optionally waiting for the next one
+     */
+    PULL("pull"),
     /**
      * List all notifications for a client
      */
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.server.core.request.notification;
+
+import java.util.Deque;
+import java.util.Map;
+
+import org.jolokia.json.JSONObject;
+import org.jolokia.server.core.request.BadRequestException;
+
+/**
+ * Fetch the notifications collected for a listener. When a <code>wait</code> time (in milliseconds)
+ * is given and no notification is available, the request is answered as soon as the next notification
+ * arrives or when the wait time is over (long-poll).
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public class PullCommand extends ClientCommand {
+
+    private final String handle;
+
+    // time in milliseconds to wait for a notification
+    private final long wait;
+
+    /**
+     * Pull notifications for GET requests. The handle must be given (after the client path part),
+     * optionally followed by the time to wait.
+     *
+     * @param pStack path stack
+     */
+    PullCommand(Deque<String> pStack) throws BadRequestException {
+        super(NotificationCommandType.PULL, pStack);
+        if (pStack.isEmpty()) {
+            throw new BadRequestException("No notification handle given for " + NotificationCommandType.PULL);
+        }
+        handle = pStack.pop();
+        wait = parseWait(pStack.isEmpty() ? null : pStack.pop());
+    }
+
+    /**
+     * Pull notifications for POST requests. The map must contain a key "handle" and can
+     * contain the time to wait with the key "wait".
+     *
+     * @param pMap request map
+     */
+    PullCommand(Map<String, ?> pMap) throws BadRequestException {
+        super(NotificationCommandType.PULL, pMap);
+        handle = (String) pMap.get("handle");
+        if (handle == null) {
+            throw new BadRequestException("No notification handle given for " + NotificationCommandType.PULL);
+        }
+        Object waitValue = pMap.get("wait");
+        wait = parseWait(waitValue != null ? waitValue.toString() : null);
+    }
+
+    public String getHandle() {
+        return handle;
+    }
+
+    /**
+     * Time in milliseconds to wait for a notification if none is available. 0 means that the
+     * request is answered immediately.
+     *
+     * @return time to wait in milliseconds
+     */
+    public long getWait() {
+        return wait;
+    }
+
+    @Override
+    public JSONObject toJSON() {
+        JSONObject ret = super.toJSON();
+        ret.put("handle", handle);
+        if (wait > 0) {
+            ret.put("wait", wait);
+        }
+        return ret;
+    }
+
+    private static long parseWait(String pWait) throws BadRequestException {
+        if (pWait == null || pWait.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(pWait));
+        } catch (NumberFormatException exp) {
+            throw new BadRequestException("Invalid wait time '" + pWait + "' given for " + NotificationCommandType.PULL);
+        }
+    }
+}
@@ -16,8 +16,8 @@ package org.jolokia.server.core.restrictor.policy;
  *  limitations under the License.
  */
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
@@ -49,16 +49,25 @@ import org.w3c.dom.*;
  *   &lt;/mbean&gt;
  * &lt;/deny&gt;
  * </pre>
+ * <p>
+ * The configuration is compiled once when the checker is created. Decisions are cached, since the
+ * same MBeans and attributes are typically checked over and over again.
  *
  * @author roland
  * @since 03.09.11
  */
 public class MBeanAccessChecker extends AbstractChecker<MBeanAccessChecker.Arg> {
 
+    // Maximum number of cached decisions. The cache is cleared when it is full.
+    private static final int MAX_DECISIONS = 10000;
+
     // Configuration for allowed and denied MBean attributes and operations.
     private MBeanPolicyConfig allow;
     private MBeanPolicyConfig deny;
 
+    // Cache of decisions taken already
+    private final Map<Decision,Boolean> decisions = new ConcurrentHashMap<>();
+
     /**
      * Constructor which extracts the information relevant for this checker from the given document.
      *
@@ -86,6 +95,45 @@ public class MBeanAccessChecker extends AbstractChecker<MBeanAccessChecker.Arg>
     /** {@inheritDoc} */
     @Override
     public boolean check(Arg pArg) {
+        Decision key = new Decision(pArg.isTypeAllowed(), pArg.getType(), pArg.getName(), pArg.getValue());
+        Boolean allowed = decisions.get(key);
+        if (allowed == null) {
+            allowed = decide(pArg);
+            if (decisions.size() >= MAX_DECISIONS) {
+                decisions.clear();
+            }
+            decisions.put(key, allowed);
+        }
+        return allowed;
+    }
+
+    /**
+     * Check a set of attributes or operations of a single MBean at once. The policy is looked up only
+     * once for the MBean.
+     *
+     * @param pIsTypeAllowed whether the type is allowed in principal
+     * @param pType the type to check
+     * @param pName the MBean name to check
+     * @param pValues attributes or operations to check
+     * @return the attributes or operations which are allowed, in the order given
+     */
+    public Set<String> filterAllowed(boolean pIsTypeAllowed, RequestType pType, ObjectName pName, Collection<String> pValues) {
+        MBeanPolicyConfig config = pIsTypeAllowed ? deny : allow;
+        MBeanPolicyConfig.ValueMatcher values = config != null ? config.findValues(pType, pName) : null;
+        Set<String> ret = new LinkedHashSet<>();
+        for (String value : pValues) {
+            boolean matches = values != null && values.matches(value);
+            // Allowed types are checked against the deny section, others against the allow section
+            if (pIsTypeAllowed != matches) {
+                ret.add(value);
+            }
+        }
+        return ret;
+    }
+
+    // =======================================================================================
+
+    private boolean decide(Arg pArg) {
         if (pArg.isTypeAllowed()) {
             // Its allowed in general, so we only need to check
             // the denied section, whether its forbidded
@@ -97,8 +145,6 @@ public class MBeanAccessChecker extends AbstractChecker<MBeanAccessChecker.Arg>
         }
     }
 
-    // =======================================================================================
-
     // Extract configuration and put it into a given MBeanPolicyConfig
     private void extractMbeanConfiguration(NodeList pNodes,MBeanPolicyConfig pConfig) throws MalformedObjectNameException {
         for (int i = 0;i< pNodes.getLength();i++) {
@@ -169,25 +215,12 @@ public class MBeanAccessChecker extends AbstractChecker<MBeanAccessChecker.Arg>
 
     // Lookup methods
     private boolean matches(MBeanPolicyConfig pConfig, Arg pArg) {
-
-        Set<String> values = pConfig.getValues(pArg.getType(),pArg.getName());
-        if (values == null) {
-            ObjectName pattern = pConfig.findMatchingMBeanPattern(pArg.getName());
-            if (pattern != null) {
-                values = pConfig.getValues(pArg.getType(),pattern);
-            }
-        }
-        return values != null && (values.contains(pArg.getValue()) || wildcardMatch(values,pArg.getValue()));
+        MBeanPolicyConfig.ValueMatcher values = pConfig.findValues(pArg.getType(), pArg.getName());
+        return values != null && values.matches(pArg.getValue());
     }
 
-    // Check whether a value matches patterns in pValues
-    private boolean wildcardMatch(Set<String> pValues, String pValue) {
-        for (String pattern : pValues) {
-            if (pattern.contains("*") && pValue.matches(pattern.replaceAll("\\*",".*"))) {
-                return true;
-            }
-        }
-        return false;
+    // Key for the decision cache
+    private record Decision(boolean typeAllowed, RequestType type, ObjectName name, String value) {
     }
 
 
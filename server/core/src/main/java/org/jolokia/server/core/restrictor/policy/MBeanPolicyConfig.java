@@ -1,6 +1,7 @@
 package org.jolokia.server.core.restrictor.policy;
 
 import java.util.*;
+import java.util.regex.Pattern;
 
 import javax.management.ObjectName;
 
@@ -24,7 +25,9 @@ import org.jolokia.server.core.util.RequestType;
 
 /**
  * Class combining various maps for attributes, operations and name patterns. It is used
- * internally by {@link MBeanAccessChecker} to store the policy configuration.
+ * internally by {@link MBeanAccessChecker} to store the policy configuration. Wildcards in
+ * attribute and operation names are compiled when added, and MBean name patterns are indexed
+ * by their domain.
  *
  * @author roland
  * @since 03.09.11
@@ -32,10 +35,14 @@ import org.jolokia.server.core.util.RequestType;
 
 class MBeanPolicyConfig {
 
-    private final Set<ObjectName>             patterns = new HashSet<>();
-    private final Map<ObjectName,Set<String>> readAttributes = new HashMap<>();
-    private final Map<ObjectName,Set<String>> writeAttributes = new HashMap<>();
-    private final Map<ObjectName,Set<String>> operations = new HashMap<>();
+    // Patterns with a fixed domain, indexed by domain
+    private final Map<String,List<ObjectName>> patternsByDomain = new HashMap<>();
+    // Patterns with a wildcard domain, which need to be checked for every name
+    private final List<ObjectName>             domainPatterns = new ArrayList<>();
+
+    private final Map<ObjectName,ValueMatcher> readAttributes = new HashMap<>();
+    private final Map<ObjectName,ValueMatcher> writeAttributes = new HashMap<>();
+    private final Map<ObjectName,ValueMatcher> operations = new HashMap<>();
 
     /**
      * Add a object name pattern
@@ -43,7 +50,12 @@ class MBeanPolicyConfig {
      * @param pObjectName pattern to add
      */
     void addPattern(ObjectName pObjectName) {
-        patterns.add(pObjectName);
+        List<ObjectName> patterns = pObjectName.isDomainPattern() ?
+            domainPatterns :
+            patternsByDomain.computeIfAbsent(pObjectName.getDomain(), d -> new ArrayList<>());
+        if (!patterns.contains(pObjectName)) {
+            patterns.add(pObjectName);
+        }
     }
 
     /**
@@ -55,22 +67,22 @@ class MBeanPolicyConfig {
      * @param pOperations operations
      */
     void addValues(ObjectName pOName, Set<String> pReadAttributes, Set<String> pWriteAttributes, Set<String> pOperations) {
-        readAttributes.put(pOName,pReadAttributes);
-        writeAttributes.put(pOName,pWriteAttributes);
-        operations.put(pOName,pOperations);
+        readAttributes.put(pOName,new ValueMatcher(pReadAttributes));
+        writeAttributes.put(pOName,new ValueMatcher(pWriteAttributes));
+        operations.put(pOName,new ValueMatcher(pOperations));
         if (pOName.isPattern()) {
             addPattern(pOName);
         }
     }
 
     /**
-     * Get the set of stored values for a given MBean and type (read/write/exec)
+     * Get the matcher for the values stored for a given MBean and type (read/write/exec)
      *
      * @param pType request type for which the previously added values should be retrieved.
      * @param pName MBean
-     * @return set of previously added value or <code>null</code> if none has been added for this MBean/type.
+     * @return matcher for previously added values or <code>null</code> if none has been added for this MBean/type.
      */
-    Set<String> getValues(RequestType pType, ObjectName pName) {
+    ValueMatcher getValues(RequestType pType, ObjectName pName) {
         if (RequestType.READ == pType) {
             return readAttributes.get(pName);
         } else if (RequestType.WRITE == pType) {
@@ -82,6 +94,25 @@ class MBeanPolicyConfig {
         }
     }
 
+    /**
+     * Get the matcher for the values which apply to a given MBean, either added for this MBean
+     * directly or for a pattern matching this MBean.
+     *
+     * @param pType request type (read/write/exec)
+     * @param pName MBean
+     * @return matcher or <code>null</code> if no values apply to this MBean
+     */
+    ValueMatcher findValues(RequestType pType, ObjectName pName) {
+        ValueMatcher values = getValues(pType, pName);
+        if (values == null) {
+            ObjectName pattern = findMatchingMBeanPattern(pName);
+            if (pattern != null) {
+                values = getValues(pType, pattern);
+            }
+        }
+        return values;
+    }
+
     /**
      * Given a MBean name return a pattern previously added and which matches this MBean name. Note,
      * that patterns might not overlap since the order in which they are tried is undefined.
@@ -90,12 +121,58 @@ class MBeanPolicyConfig {
      * @return the pattern found or <code>null</code> if none has been found.
      */
     ObjectName findMatchingMBeanPattern(ObjectName pName) {
-        // Check all stored patterns for a match and return the pattern if one is found
-        for (ObjectName pattern : patterns) {
+        // Only patterns for the same domain or with a wildcard domain can match
+        List<ObjectName> patterns = patternsByDomain.get(pName.getDomain());
+        if (patterns != null) {
+            for (ObjectName pattern : patterns) {
+                if (pattern.apply(pName)) {
+                    return pattern;
+                }
+            }
+        }
+        for (ObjectName pattern : domainPatterns) {
             if (pattern.apply(pName)) {
                 return pattern;
             }
         }
         return null;
     }
+
+    // ===========================================================================================
+
+    /**
+     * Matcher for attribute or operation names, which can contain the wildcard <code>*</code>
+     */
+    static final class ValueMatcher {
+
+        private final Set<String>   values;
+        private final List<Pattern> wildcards = new ArrayList<>();
+
+        ValueMatcher(Set<String> pValues) {
+            values = pValues;
+            for (String value : pValues) {
+                if (value.contains("*")) {
+                    wildcards.add(Pattern.compile(value.replaceAll("\\*", ".*")));
+                }
+            }
+        }
+
+        /**
+         * Check whether a given attribute or operation name matches
+         *
+         * @param pValue name to check
+         * @return true if the name has been added or matches a wildcard
+         */
+        boolean matches(String pValue) {
+            if (values.contains(pValue)) {
+                return true;
+            }
+            for (Pattern wildcard : wildcards) {
+                if (wildcard.matcher(pValue).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
@@ -2,6 +2,8 @@ package org.jolokia.server.core.restrictor.policy;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.Set;
 
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
@@ -143,6 +145,12 @@ public class PolicyRestrictor implements Restrictor {
         return check(RequestType.READ, pName, pAttribute);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<String> getReadableAttributes(ObjectName pName, Collection<String> pAttributes) {
+        return mbeanAccessChecker.filterAllowed(isTypeAllowed(RequestType.READ), RequestType.READ, pName, pAttributes);
+    }
+
     /** {@inheritDoc} */
     public boolean isAttributeWriteAllowed(ObjectName pName, String pAttribute) {
         return check(RequestType.WRITE,pName, pAttribute);
@@ -36,6 +36,20 @@ public interface JolokiaServiceLookup {
      */
     <T extends JolokiaService<?>> Set<T> getServices(Class<T> pType);
 
+    /**
+     * Get a counter which changes whenever the set of services returned by {@link #getServices(Class)} for given
+     * type may have changed. It allows callers to cache the services as long as the counter doesn't change.
+     * A negative value (the default) means that changes are not tracked and {@link #getServices(Class)} has to
+     * be called every time.
+     *
+     * @param pType type for which to get the tracking count
+     * @return the tracking count or a negative value if not supported
+     * @since 2.6.1
+     */
+    default <T extends JolokiaService<?>> int getTrackingCount(Class<T> pType) {
+        return -1;
+    }
+
     /**
      * Lifecycle method called when the service managed starts up
      *
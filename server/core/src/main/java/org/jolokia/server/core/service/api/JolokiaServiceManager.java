@@ -26,7 +26,8 @@ package org.jolokia.server.core.service.api;
  *    <li>{@link #addService(JolokiaService)} adds <em>static</em> services which already exist.</li>
  *    <li>{@link #addServices(JolokiaServiceCreator)} can be used to add a bunch of static services via an lookup</li>
  *    <li>{@link #addServiceLookup(JolokiaServiceLookup)} add as a lookup handler which will check for services each
- *        time {@link JolokiaContext#getServices(Class)} is called</li>
+ *        time {@link JolokiaContext#getServices(Class)} is called (unless the lookup reports unchanged
+ *        {@link JolokiaServiceLookup#getTrackingCount(Class) tracking count})</li>
  * </ul>
  *
  * Every registered service or lookup participate in the lifecycle of this JolokiaServiceManager. I.e. their
@@ -49,7 +50,8 @@ public interface JolokiaServiceManager  {
      * Add a service factory for dynamically looking up services. This is
      * especially useful when services can come and go dynamically.
      * {@link JolokiaServiceLookup#getServices(Class)} will
-     * be always called when looking up services within the core.
+     * be called when looking up services within the core, unless
+     * {@link JolokiaServiceLookup#getTrackingCount(Class)} shows that the services haven't changed.
      *
       * @param pLookup lookup for services to add.
      */
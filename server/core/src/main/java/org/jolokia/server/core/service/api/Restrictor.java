@@ -1,5 +1,9 @@
 package org.jolokia.server.core.service.api;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import javax.management.ObjectName;
 
 import org.jolokia.server.core.util.HttpMethod;
@@ -58,6 +62,25 @@ public interface Restrictor {
      */
     boolean isAttributeReadAllowed(ObjectName pName,String pAttribute);
 
+    /**
+     * Check for a set of attributes of a single MBean whether reading is allowed. This is used for
+     * reading multiple attributes at once and can be overridden by restrictors which can check
+     * multiple attributes more efficiently than one by one.
+     *
+     * @param pName MBean name
+     * @param pAttributes attributes to check
+     * @return the attributes which are allowed to be read, in the order given
+     */
+    default Set<String> getReadableAttributes(ObjectName pName, Collection<String> pAttributes) {
+        Set<String> ret = new LinkedHashSet<>();
+        for (String attribute : pAttributes) {
+            if (isAttributeReadAllowed(pName, attribute)) {
+                ret.add(attribute);
+            }
+        }
+        return ret;
+    }
+
     /**
      * Check whether writing of an attribute is allowed
      *
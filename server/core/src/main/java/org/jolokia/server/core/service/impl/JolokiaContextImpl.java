@@ -15,6 +15,7 @@
  */
 package org.jolokia.server.core.service.impl;
 
+import java.util.Collection;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TimeZone;
@@ -168,6 +169,11 @@ public class JolokiaContextImpl implements JolokiaContext {
         return getRestrictor().isAttributeReadAllowed(pName, pAttribute);
     }
 
+    /** {@inheritDoc} */
+    public Set<String> getReadableAttributes(ObjectName pName, Collection<String> pAttributes) {
+        return getRestrictor().getReadableAttributes(pName, pAttributes);
+    }
+
     /** {@inheritDoc} */
     public boolean isAttributeWriteAllowed(ObjectName pName, String pAttribute) {
         return getRestrictor().isAttributeWriteAllowed(pName, pAttribute);
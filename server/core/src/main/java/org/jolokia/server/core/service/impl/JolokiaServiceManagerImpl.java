@@ -18,6 +18,7 @@ package org.jolokia.server.core.service.impl;
 
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.*;
 
 import javax.management.*;
@@ -79,6 +80,13 @@ public class JolokiaServiceManagerImpl implements JolokiaServiceManager {
     // Instantiated services, categorized by type and ordered;
     private final Map<Class<? extends JolokiaService<?>>, SortedSet<? extends JolokiaService<?>>> staticServices;
 
+    // Immutable and sorted snapshots of the services returned by getServices(), rebuilt only when
+    // services are added or removed
+    private final Map<Class<?>, ServiceSnapshot<?>> serviceSnapshots = new ConcurrentHashMap<>();
+
+    // Incremented whenever staticServices change
+    private volatile int staticServicesVersion;
+
     // The lowest order service registered - includes lowest order (highest priority) services from staticServices
     private final Map<Class<? extends JolokiaService<?>>, JolokiaService<?>> staticLowServices;
 
@@ -184,6 +192,7 @@ public class JolokiaServiceManagerImpl implements JolokiaServiceManager {
             staticServices.put(type, servicesOfType);
         }
         servicesOfType.add(pService);
+        staticServicesVersion++;
         JolokiaService<?> pLowService = staticLowServices.get(type);
         if (pLowService == null || pLowService.getOrder() > pService.getOrder()) {
             staticLowServices.put(type,pService);
@@ -191,8 +200,9 @@ public class JolokiaServiceManagerImpl implements JolokiaServiceManager {
     }
 
     /** {@inheritDoc} */
-    public void addServiceLookup(JolokiaServiceLookup pLookup) {
+    public synchronized void addServiceLookup(JolokiaServiceLookup pLookup) {
         serviceLookups.add(pLookup);
+        staticServicesVersion++;
     }
 
     /** {@inheritDoc} */
@@ -262,6 +272,8 @@ public class JolokiaServiceManagerImpl implements JolokiaServiceManager {
                 }
             }
             staticLowServices.values().removeIf(value -> !isServiceEnabled(value.getClass().getName()));
+            // disabled services were removed
+            staticServicesVersion++;
 
             // All dynamic service factories are initialized as well. The factory itself is responsible
             // for initializing any new services coming in with the JolokiaContext
@@ -327,17 +339,39 @@ public class JolokiaServiceManagerImpl implements JolokiaServiceManager {
      * Get all services of a certain type currently registered. Static services
      * are returned directly, for dynamic services a lookup to the service factory is
      * performed.
+     * The returned set is an unmodifiable snapshot which is shared by all callers as long as no services
+     * of this type are added or removed.
      *
      * @param pType service type to fetch
      * @return set of services detected or an empty list
      */
     public <T extends JolokiaService<?>> SortedSet<T> getServices(Class<T> pType) {
+        @SuppressWarnings("unchecked")
+        ServiceSnapshot<T> snapshot = (ServiceSnapshot<T>) serviceSnapshots.get(pType);
+        if (snapshot != null && snapshot.isCurrent(staticServicesVersion, serviceLookups, pType)) {
+            return snapshot.services;
+        }
+
+        // versions are taken before collecting the services, so a concurrent change
+        // leads to another rebuild next time
+        int version = staticServicesVersion;
+        int[] trackingCounts = new int[serviceLookups.size()];
+        boolean tracked = true;
+        for (int i = 0; i < trackingCounts.length; i++) {
+            trackingCounts[i] = serviceLookups.get(i).getTrackingCount(pType);
+            tracked &= trackingCounts[i] >= 0;
+        }
+
         @SuppressWarnings("unchecked")
         SortedSet<T> services = (SortedSet<T>) staticServices.get(pType);
         SortedSet<T> ret = services != null ? new TreeSet<>(services) : new TreeSet<>();
         for (JolokiaServiceLookup factory : serviceLookups) {
             ret.addAll(factory.getServices(pType));
         }
+        ret = Collections.unmodifiableSortedSet(ret);
+        if (tracked) {
+            serviceSnapshots.put(pType, new ServiceSnapshot<>(version, trackingCounts, ret));
+        }
         return ret;
     }
 
@@ -528,4 +562,28 @@ public class JolokiaServiceManagerImpl implements JolokiaServiceManager {
         }
     }
 
+    // Services of a single type together with the versions of the sources they were collected from
+    private static final class ServiceSnapshot<T extends JolokiaService<?>> {
+        private final int staticVersion;
+        private final int[] trackingCounts;
+        private final SortedSet<T> services;
+
+        private ServiceSnapshot(int pStaticVersion, int[] pTrackingCounts, SortedSet<T> pServices) {
+            staticVersion = pStaticVersion;
+            trackingCounts = pTrackingCounts;
+            services = pServices;
+        }
+
+        private boolean isCurrent(int pStaticVersion, List<JolokiaServiceLookup> pLookups, Class<T> pType) {
+            if (staticVersion != pStaticVersion || trackingCounts.length != pLookups.size()) {
+                return false;
+            }
+            for (int i = 0; i < trackingCounts.length; i++) {
+                if (pLookups.get(i).getTrackingCount(pType) != trackingCounts[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -67,6 +67,18 @@ public class OsgiJolokiaServiceFactory implements JolokiaServiceLookup {
         }
     }
 
+    /**
+     * The tracking count of the {@link ServiceTracker} for given type, which is incremented on each
+     * added, modified or removed service.
+     *
+     * @param pType type for which to get the tracking count
+     * @return the tracking count
+     */
+    @Override
+    public <T extends JolokiaService<?>> int getTrackingCount(Class<T> pType) {
+        return getServiceTracker(pType).getTrackingCount();
+    }
+
     private <T extends JolokiaService<?>> ServiceTracker<JolokiaService<?>, JolokiaService<?>> getServiceTracker(Class<T> pType) {
         ServiceTracker<JolokiaService<?>, JolokiaService<?>> tracker = serviceTrackerMap.get(pType);
         if (tracker == null) {
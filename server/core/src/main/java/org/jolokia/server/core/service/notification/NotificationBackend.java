@@ -1,8 +1,10 @@
 package org.jolokia.server.core.service.notification;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.jolokia.server.core.http.BackChannel;
+import org.jolokia.server.core.request.BadRequestException;
 import org.jolokia.server.core.service.api.JolokiaService;
 
 /**
@@ -42,6 +44,24 @@ public interface NotificationBackend extends JolokiaService<NotificationBackend>
      */
     void channelInit(Client client, BackChannel channel);
 
+    /**
+     * Fetch the notifications collected for a subscription. If there are none and a wait time is given,
+     * the backend may answer later: it then returns {@code null} and calls the callback exactly once, as soon
+     * as a notification arrives or when the wait time is over (with an empty result). The callback must not
+     * be called from the calling thread. Only backends which collect notifications support this.
+     *
+     * @param pClientId client id
+     * @param pHandle handle of the subscription
+     * @param pWait time in milliseconds to wait for a notification. The backend may use a shorter time.
+     * @param pCallback callback for the deferred result. Can be {@code null} if {@code pWait} is 0.
+     * @return the notifications collected or {@code null} if the result is given to the callback later
+     * @throws BadRequestException if this backend doesn't collect notifications
+     */
+    default NotificationResult pull(String pClientId, String pHandle, long pWait, Consumer<NotificationResult> pCallback)
+            throws BadRequestException {
+        throw new BadRequestException("Notification backend '" + getNotifType() + "' doesn't support pulling notifications");
+    }
+
     /**
      * Unsubscribe for the given notification. Time to clean up
      *
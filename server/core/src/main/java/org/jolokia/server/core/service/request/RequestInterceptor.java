@@ -23,4 +23,18 @@ public interface RequestInterceptor extends JolokiaService<RequestInterceptor> {
      * @param pRetValue the value to be returned.
      */
     void intercept(JolokiaRequest pRequest, JSONObject pRetValue);
+
+    /**
+     * Whether this interceptor needs to access the {@code value} of the response for given request as
+     * serialized JSON. If no interceptor needs it, the value may be serialized only when the response
+     * is written and {@link #intercept} gets a {@code value} which is only a {@link org.jolokia.json.JSONStructure}
+     * able to write itself.
+     *
+     * @param pRequest request received
+     * @return {@code true} (default) if the value is accessed in {@link #intercept}
+     * @since 2.6.1
+     */
+    default boolean requiresValue(JolokiaRequest pRequest) {
+        return true;
+    }
 }
@@ -1,11 +1,13 @@
 package org.jolokia.server.core.service.serializer;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 import javax.management.AttributeNotFoundException;
 import javax.management.openmbean.OpenType;
 
+import org.jolokia.json.JSONGenerator;
 import org.jolokia.server.core.service.api.JolokiaService;
 
 /**
@@ -28,6 +30,27 @@ public interface Serializer extends JolokiaService<Serializer> {
     Object serialize(Object pValue, List<String> pPathParts, org.jolokia.core.service.serializer.SerializeOptions pOptions)
             throws AttributeNotFoundException;
 
+    /**
+     * Convert a Java object to JSON and write it directly into a {@link JSONGenerator}, so large values
+     * don't have to be kept in memory as {@link org.jolokia.json.JSONStructure} before being written.
+     * Limits given in the options and the path are applied in the same way as in
+     * {@link #serialize(Object, List, org.jolokia.core.service.serializer.SerializeOptions)}, which is used
+     * by default.
+     *
+     * @param pValue the value to convert
+     * @param pPathParts path parts to use for extraction
+     * @param pOptions options used for parsing
+     * @param pGenerator generator to write the JSON into
+     * @throws AttributeNotFoundException if within a path an attribute could not be found
+     * @throws IOException when writing fails
+     * @since 2.6.1
+     */
+    default void serialize(Object pValue, List<String> pPathParts, org.jolokia.core.service.serializer.SerializeOptions pOptions,
+                           JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        pGenerator.value(serialize(pValue, pPathParts, pOptions));
+    }
+
     /**
      * Convert value from a either a given object or its string representation.
      * If the value is already assignable to the given class name it is returned directly.
@@ -44,6 +44,9 @@ public class ChunkedWriter extends Writer {
 
     private static final int DEFAULT_BYTE_BUFFER_SIZE = 4096;
 
+    // reused for writing single characters and strings
+    private final char[] charBuffer = new char[1024];
+
     private volatile boolean isOpen = true;
 
     private void ensureOpen() throws IOException {
@@ -68,18 +71,25 @@ public class ChunkedWriter extends Writer {
     }
 
     public void write(int c) throws IOException {
-        char[] cbuf = new char[1];
-        cbuf[0] = (char) c;
-        write(cbuf, 0, 1);
+        synchronized (lock) {
+            charBuffer[0] = (char) c;
+            write(charBuffer, 0, 1);
+        }
     }
 
     public void write(String str, int off, int len) throws IOException {
-        /* Check the len before creating a char buffer */
         if (len < 0)
             throw new IndexOutOfBoundsException();
-        char[] cbuf = new char[len];
-        str.getChars(off, off + len, cbuf, 0);
-        write(cbuf, 0, len);
+        synchronized (lock) {
+            // copy the string in chunks to the reusable buffer
+            while (len > 0) {
+                int n = Math.min(len, charBuffer.length);
+                str.getChars(off, off + n, charBuffer, 0);
+                write(charBuffer, 0, n);
+                off += n;
+                len -= n;
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.server.core.util;
+
+import org.jolokia.server.core.config.ConfigKey;
+import org.jolokia.server.core.service.api.JolokiaContext;
+
+/**
+ * Access to numeric configuration values. A value which is not a number doesn't prevent Jolokia from
+ * starting - the default value of the {@link ConfigKey} is used instead and the invalid value is logged
+ * together with the name of the option.
+ *
+ * @since 2.6.1
+ */
+public final class ConfigUtil {
+
+    private ConfigUtil() {
+    }
+
+    /**
+     * Get a configuration value as {@code int}
+     *
+     * @param pContext context to get the configuration from and to log an invalid value to
+     * @param pKey     configuration key with a numeric default value
+     * @return the configured value or the default value if not configured or not a number
+     */
+    public static int getInt(JolokiaContext pContext, ConfigKey pKey) {
+        String value = pContext.getConfig(pKey);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                logInvalidValue(pContext, pKey, value);
+            }
+        }
+        return Integer.parseInt(pKey.getDefaultValue());
+    }
+
+    /**
+     * Get a configuration value as {@code long}
+     *
+     * @param pContext context to get the configuration from and to log an invalid value to
+     * @param pKey     configuration key with a numeric default value
+     * @return the configured value or the default value if not configured or not a number
+     */
+    public static long getLong(JolokiaContext pContext, ConfigKey pKey) {
+        String value = pContext.getConfig(pKey);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                logInvalidValue(pContext, pKey, value);
+            }
+        }
+        return Long.parseLong(pKey.getDefaultValue());
+    }
+
+    private static void logInvalidValue(JolokiaContext pContext, ConfigKey pKey, String pValue) {
+        pContext.error("Invalid value of " + pKey.getKeyValue() + " option: " + pValue + ". Using " + pKey.getDefaultValue() + ".", null);
+    }
+
+}
@@ -7,6 +7,7 @@ import java.io.OutputStream;
 import java.io.Writer;
 
 import org.jolokia.json.JSONStructure;
+import org.jolokia.json.UTF8Writer;
 
 /**
  * @author roland
@@ -31,7 +32,7 @@ public class IoUtil {
      */
     public static void streamResponseAndClose(Writer pWriter, JSONStructure pJson, String callback)
         throws IOException {
-        if (!(pWriter instanceof BufferedWriter)) {
+        if (!(pWriter instanceof BufferedWriter) && !(pWriter instanceof UTF8Writer)) {
             pWriter = new BufferedWriter(pWriter);
         }
         try {
@@ -52,6 +53,20 @@ public class IoUtil {
         }
     }
 
+    /**
+     * Stream a JSON response as UTF-8 to a given output stream, which is closed afterwards. The JSON is
+     * encoded directly into a byte buffer without an intermediate {@link java.io.OutputStreamWriter}.
+     *
+     * @param pOut stream to write to. Must be not null.
+     * @param pJson JSON response to stream
+     * @param callback the name of the callback function if JSONP should be used or <code>null</code> if the answer should be streamed directly
+     * @throws IOException if the streaming fails
+     */
+    public static void streamResponseAndClose(OutputStream pOut, JSONStructure pJson, String callback)
+        throws IOException {
+        streamResponseAndClose(new UTF8Writer(pOut), pJson, callback);
+    }
+
     public static void copy(OutputStream out, InputStream in) throws IOException {
         try (out; in) {
             byte[] buffer = new byte[8192];
@@ -16,6 +16,7 @@
 package org.jolokia.server.core.util;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
 import javax.security.auth.Subject;
 
 /**
@@ -33,4 +34,63 @@ public interface SubjectAccess {
      */
     <T> T callAs(Subject subject, Callable<T> callable) throws Exception;
 
+    /**
+     * Wrapper for {@code Subject#getSubject(AccessController.getContext())} (JDK 17) or {@code Subject#current} (JDK 18+)
+     *
+     * @return the {@link Subject} of the current thread or {@code null} if there's none
+     */
+    Subject currentSubject();
+
+    /**
+     * Bind the {@link Subject} of the current thread to a task, which is executed by another thread. Threads of
+     * a pool must not run the task with the Subject they happen to have (or without any Subject), because
+     * the task is checked against the identity of the request it belongs to.
+     *
+     * @param pCallable task to execute later
+     * @return a task which calls the given one with the current {@link Subject}. Exceptions of the
+     * task are thrown as they are, not wrapped (the JDKs wrap them differently).
+     * @param <T> result type
+     * @since 2.6.1
+     */
+    default <T> Callable<T> withCurrentSubject(Callable<T> pCallable) {
+        Subject subject = currentSubject();
+        if (subject == null) {
+            return pCallable;
+        }
+        return () -> {
+            Exception[] failure = new Exception[1];
+            T result = callAs(subject, () -> {
+                try {
+                    return pCallable.call();
+                } catch (Exception e) {
+                    failure[0] = e;
+                    return null;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Wrap a {@link ThreadFactory} of a pool, so its threads are created without a {@link Subject}. Otherwise
+     * threads created lazily by a request would keep the access control context of this request (JDK 17)
+     * and use it for tasks of other requests.
+     *
+     * @param pThreadFactory factory to wrap
+     * @return a factory which creates threads without a {@link Subject}
+     * @since 2.6.1
+     */
+    default ThreadFactory withoutSubject(ThreadFactory pThreadFactory) {
+        return r -> {
+            try {
+                return callAs(null, () -> pThreadFactory.newThread(r));
+            } catch (Exception e) {
+                throw new IllegalStateException("Can't create thread: " + e.getMessage(), e);
+            }
+        };
+    }
+
 }
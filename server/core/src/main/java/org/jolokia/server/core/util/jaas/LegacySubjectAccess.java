@@ -61,4 +61,13 @@ public class LegacySubjectAccess implements SubjectAccess {
         }
     }
 
+    @Override
+    public Subject currentSubject() {
+        try {
+            return (Subject) this.getSubject.invoke(this.getContext.invoke());
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException("Can't use legacy javax.security.auth.Subject.getSubject() call", e);
+        }
+    }
+
 }
@@ -25,13 +25,13 @@ import org.jolokia.server.core.util.SubjectAccess;
 
 public class ModernSubjectAccess implements SubjectAccess {
 
+    private final MethodHandle current;
     private final MethodHandle callAs;
 
     public ModernSubjectAccess() {
-        MethodHandle current;
         try {
             MethodHandles.Lookup lookup = MethodHandles.publicLookup();
-            current = lookup.findStatic(Subject.class, "current", MethodType.methodType(Subject.class));
+            this.current = lookup.findStatic(Subject.class, "current", MethodType.methodType(Subject.class));
             this.callAs = lookup.findStatic(Subject.class, "callAs", MethodType.methodType(Object.class, Subject.class, Callable.class));
         } catch (NoSuchMethodException | IllegalAccessException e) {
             throw new UnsupportedOperationException("Use legacy javax.security.auth.Subject API");
@@ -55,4 +55,13 @@ public class ModernSubjectAccess implements SubjectAccess {
         }
     }
 
+    @Override
+    public Subject currentSubject() {
+        try {
+            return (Subject) this.current.invoke();
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException("Can't use JDK18+ (JEP 411) javax.security.auth.Subject.current() call", e);
+        }
+    }
+
 }
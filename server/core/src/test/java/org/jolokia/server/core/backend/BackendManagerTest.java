@@ -23,10 +23,12 @@ import javax.management.*;
 
 import org.jolokia.server.core.config.*;
 import org.jolokia.server.core.request.*;
+import org.jolokia.server.core.service.api.AbstractJolokiaService;
 import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.core.api.LogHandler;
 import org.jolokia.server.core.service.impl.StdoutLogHandler;
 import org.jolokia.server.core.service.request.AbstractRequestHandler;
+import org.jolokia.server.core.service.request.RequestInterceptor;
 import org.jolokia.server.core.service.serializer.Serializer;
 import org.jolokia.server.core.util.*;
 import org.jolokia.json.JSONObject;
@@ -89,6 +91,48 @@ public class BackendManagerTest {
         assertTrue((Long) ((Map<?, ?>) ret.get("value")).get("used") > 0);
     }
 
+    @Test
+    public void streamingSerialization() throws JMException, IOException, EmptyResponseException, BadRequestException {
+        JolokiaRequest req = new JolokiaRequestBuilder(RequestType.READ,"java.lang:type=Memory")
+                .attribute("HeapMemoryUsage")
+                .build();
+
+        JolokiaContext ctx = new TestJolokiaContext.Builder()
+            .services(Serializer.class, new TestSerializer())
+            .config(ConfigKey.STREAMING_SERIALIZATION, "true")
+            .logHandler(log)
+            .build();
+        BackendManager backendManager = new BackendManager(ctx, createDispatcher(req, "used", 123456L));
+
+        JSONObject ret = backendManager.handleRequest(req, true);
+        assertTrue(ret.get("value") instanceof StreamingValue);
+        assertTrue(ret.toJSONString().contains("\"value\":{\"used\":123456}"));
+        assertEquals(ret.get("status"), 200);
+
+        // not allowed by the caller
+        ret = backendManager.handleRequest(req);
+        assertTrue(ret.get("value") instanceof Map);
+    }
+
+    @Test
+    public void streamingSerializationWithInterceptor() throws JMException, IOException, EmptyResponseException, BadRequestException {
+        JolokiaRequest req = new JolokiaRequestBuilder(RequestType.READ,"java.lang:type=Memory")
+                .attribute("HeapMemoryUsage")
+                .build();
+
+        JolokiaContext ctx = new TestJolokiaContext.Builder()
+            .services(Serializer.class, new TestSerializer())
+            .services(RequestInterceptor.class, new ValueInterceptor())
+            .config(ConfigKey.STREAMING_SERIALIZATION, "true")
+            .logHandler(log)
+            .build();
+        BackendManager backendManager = new BackendManager(ctx, createDispatcher(req, "used", 123456L));
+
+        JSONObject ret = backendManager.handleRequest(req, true);
+        assertTrue(ret.get("value") instanceof Map);
+        assertEquals(ret.get("intercepted"), 123456L);
+    }
+
    @Test
     public void defaultConfig() {
         BackendManager backendManager = createBackendManager(new Object[] {  ConfigKey.DEBUG_MAX_ENTRIES,"blabal" },createDispatcher());
@@ -115,6 +159,18 @@ public class BackendManagerTest {
 
     // =========================================================================================
 
+    static class ValueInterceptor extends AbstractJolokiaService<RequestInterceptor> implements RequestInterceptor {
+
+        ValueInterceptor() {
+            super(RequestInterceptor.class, 0);
+        }
+
+        @Override
+        public void intercept(JolokiaRequest pRequest, JSONObject pRetValue) {
+            pRetValue.put("intercepted", ((Map<?, ?>) pRetValue.get("value")).get("used"));
+        }
+    }
+
     static class RequestHandlerTest extends AbstractRequestHandler {
 
         static boolean called = false;
@@ -20,6 +20,8 @@ import java.io.InputStream;
 import java.util.*;
 
 import javax.management.*;
+import javax.security.auth.Subject;
+import javax.security.auth.x500.X500Principal;
 
 import org.easymock.*;
 import org.jolokia.server.core.config.ConfigKey;
@@ -192,6 +194,148 @@ public class HttpRequestHandlerTest {
         verifyDispatcher(2, response);
     }
 
+    @Test
+    public void parallelBulkPost() throws Exception {
+        init(new AllowAllRestrictor(), new StdoutLogHandler(false), ConfigKey.BULK_REQUEST_THREADS, "4");
+        expect(requestHandler.handleRequest(isA(JolokiaReadRequest.class), anyObject())).andAnswer(() -> {
+            JolokiaReadRequest req = (JolokiaReadRequest) getCurrentArguments()[0];
+            // earlier requests finish later
+            Thread.sleep(Long.parseLong(req.getAttributeName()));
+            return req.getAttributeName();
+        }).times(4);
+        // thread-safe mocks serialize the calls
+        makeThreadSafe(requestHandler, false);
+        replay(requestHandler);
+        try {
+            InputStream is = HttpTestUtil.createServletInputStream("[" + readRequest(300) + "," + readRequest(200) + ","
+                + readRequest(100) + "," + readRequest(0) + "]");
+            JSONArray response = (JSONArray) handler.handlePostRequest("/jolokia", is, "utf-8", null);
+            assertEquals(response.size(), 4);
+            String[] expected = new String[] { "300", "200", "100", "0" };
+            for (int i = 0; i < expected.length; i++) {
+                JSONObject val = (JSONObject) ((JSONObject) response.get(i)).get("value");
+                assertEquals(val.get("testString"), expected[i]);
+            }
+            verify(requestHandler);
+        } finally {
+            handler.destroy();
+        }
+    }
+
+    @Test
+    public void parallelBulkPostWithTimeout() throws Exception {
+        init(new AllowAllRestrictor(), new StdoutLogHandler(false),
+            ConfigKey.BULK_REQUEST_THREADS, "2", ConfigKey.BULK_REQUEST_TIMEOUT, "200");
+        expect(requestHandler.handleRequest(isA(JolokiaReadRequest.class), anyObject())).andAnswer(() -> {
+            JolokiaReadRequest req = (JolokiaReadRequest) getCurrentArguments()[0];
+            Thread.sleep(Long.parseLong(req.getAttributeName()));
+            return req.getAttributeName();
+        }).times(3);
+        makeThreadSafe(requestHandler, false);
+        replay(requestHandler);
+        try {
+            InputStream is = HttpTestUtil.createServletInputStream("[" + readRequest(0) + "," + readRequest(5000) + ","
+                + readRequest(10) + "]");
+            long start = System.currentTimeMillis();
+            JSONArray response = (JSONArray) handler.handlePostRequest("/jolokia", is, "utf-8", null);
+            assertTrue(System.currentTimeMillis() - start < 5000);
+            assertEquals(response.size(), 3);
+            assertEquals(((JSONObject) ((JSONObject) response.get(0)).get("value")).get("testString"), "0");
+            JSONObject timedOut = (JSONObject) response.get(1);
+            assertEquals(timedOut.get("status"), 504);
+            assertEquals(timedOut.get("error_type"), "java.util.concurrent.TimeoutException");
+            assertEquals(((JSONObject) ((JSONObject) response.get(2)).get("value")).get("testString"), "10");
+        } finally {
+            handler.destroy();
+        }
+    }
+
+    @Test
+    public void parallelBulkPostWithSubject() throws Exception {
+        // a single thread, which is started during the request of the first user
+        init(new AllowAllRestrictor(), new StdoutLogHandler(false), ConfigKey.BULK_REQUEST_THREADS, "1");
+        SubjectAccess subjectAccess = SubjectAccessProvider.getSubjectAccess();
+        expect(requestHandler.handleRequest(isA(JolokiaReadRequest.class), anyObject())).andAnswer(() -> {
+            Subject subject = subjectAccess.currentSubject();
+            return subject == null ? "none" : subject.getPrincipals().iterator().next().getName();
+        }).times(6);
+        makeThreadSafe(requestHandler, false);
+        replay(requestHandler);
+        try {
+            assertEquals(bulkPostAs(subjectAccess, "CN=alice"), List.of("CN=alice", "CN=alice"));
+            assertEquals(bulkPostAs(subjectAccess, "CN=bob"), List.of("CN=bob", "CN=bob"));
+            assertEquals(bulkPostAs(subjectAccess, null), List.of("none", "none"));
+            verify(requestHandler);
+        } finally {
+            handler.destroy();
+        }
+    }
+
+    private List<Object> bulkPostAs(SubjectAccess pSubjectAccess, String pUser) throws Exception {
+        Subject subject = pUser != null ? new Subject(true, Set.of(new X500Principal(pUser)), Set.of(), Set.of()) : null;
+        JSONArray response = pSubjectAccess.callAs(subject, () -> {
+            InputStream is = HttpTestUtil.createServletInputStream("[" + readRequest(0) + "," + readRequest(0) + "]");
+            return (JSONArray) handler.handlePostRequest("/jolokia", is, "utf-8", null);
+        });
+        List<Object> ret = new ArrayList<>();
+        for (Object resp : response) {
+            ret.add(((JSONObject) ((JSONObject) resp).get("value")).get("testString"));
+        }
+        return ret;
+    }
+
+    @Test
+    public void bulkPostWithLongPollPull() throws Exception {
+        init();
+        bulkPostWithLongPollPull(2);
+    }
+
+    @Test
+    public void parallelBulkPostWithLongPollPull() throws Exception {
+        init(new AllowAllRestrictor(), new StdoutLogHandler(false), ConfigKey.BULK_REQUEST_THREADS, "2");
+        try {
+            bulkPostWithLongPollPull(1);
+        } finally {
+            handler.destroy();
+        }
+    }
+
+    private void bulkPostWithLongPollPull(int pReads) throws Exception {
+        // like the notification dispatcher: wait for notifications only if there's a back channel
+        expect(requestHandler.handleRequest(isA(JolokiaNotificationRequest.class), anyObject())).andAnswer(() -> {
+            if (BackChannelHolder.get() != null) {
+                throw new EmptyResponseException();
+            }
+            return "pulled";
+        });
+        expect(requestHandler.handleRequest(isA(JolokiaReadRequest.class), anyObject())).andReturn("read").times(pReads);
+        // must not be touched while processing the bulk
+        BackChannel channel = createMock(BackChannel.class);
+        replay(requestHandler, channel);
+
+        StringBuilder bulk = new StringBuilder("[");
+        for (int i = 0; i < pReads; i++) {
+            bulk.append(readRequest(0)).append(",");
+        }
+        bulk.append("{ \"type\": \"notification\", \"command\": \"pull\", \"client\": \"c1\", "
+            + "\"handle\": \"h1\", \"wait\": 10000 }]");
+        BackChannelHolder.set(channel);
+        try {
+            InputStream is = HttpTestUtil.createServletInputStream(bulk.toString());
+            JSONArray response = (JSONArray) handler.handlePostRequest("/jolokia", is, "utf-8", null);
+            assertEquals(response.size(), pReads + 1);
+            for (int i = 0; i < pReads; i++) {
+                assertEquals(((JSONObject) ((JSONObject) response.get(i)).get("value")).get("testString"), "read");
+            }
+            assertEquals(((JSONObject) ((JSONObject) response.get(pReads)).get("value")).get("testString"), "pulled");
+            // available again for the agent after the bulk
+            assertSame(BackChannelHolder.get(), channel);
+        } finally {
+            BackChannelHolder.remove();
+        }
+        verify(requestHandler, channel);
+    }
+
     @Test
     public void preflightCheck() throws BadRequestException {
         String origin = "http://bla.com";
@@ -332,7 +476,7 @@ public class HttpRequestHandlerTest {
         init(pRestrictor,new StdoutLogHandler(false));
     }
 
-    private void init(Restrictor pRestrictor, LogHandler pLogHandler) throws Exception {
+    private void init(Restrictor pRestrictor, LogHandler pLogHandler, Object... pConfig) throws Exception {
         requestHandler = createMock(RequestHandler.class);
         requestHandler.destroy();
         expectLastCall().asStub();
@@ -345,6 +489,7 @@ public class HttpRequestHandlerTest {
         expect(services.size()).andStubReturn(1);
         replay(services);
         ctx = new TestJolokiaContext.Builder()
+                .config(pConfig)
                 .restrictor(pRestrictor)
                 .logHandler(pLogHandler)
                 .services(RequestHandler.class,services)
@@ -353,6 +498,10 @@ public class HttpRequestHandlerTest {
         handler = new HttpRequestHandler(ctx, pRestrictor, false);
     }
 
+    private String readRequest(long pDelay) {
+        return "{ \"type\": \"read\", \"mbean\": \"java.lang:type=Memory\", \"attribute\": \"" + pDelay + "\" }";
+    }
+
     private void prepareDispatcher() throws Exception {
         prepareDispatcher(1,JolokiaReadRequest.class);
     }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.server.core.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONObject;
+import org.jolokia.server.core.util.IoUtil;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * @author roland
+ * @since 2.6.1
+ */
+public class ResponseCompressionTest {
+
+    private final ResponseCompression compression = new ResponseCompression(true, 100, 6);
+
+    @Test
+    public void negotiation() {
+        assertNull(compression.selectEncoding(null));
+        assertNull(compression.selectEncoding("identity"));
+        assertEquals(compression.selectEncoding("gzip"), "gzip");
+        assertEquals(compression.selectEncoding("deflate, gzip;q=1.0, br"), "gzip");
+        assertEquals(compression.selectEncoding("GZIP"), "gzip");
+        assertEquals(compression.selectEncoding("deflate"), "deflate");
+        assertEquals(compression.selectEncoding("gzip;q=0, deflate"), "deflate");
+        assertNull(compression.selectEncoding("gzip;q=0, deflate; q=0.0"));
+        assertEquals(compression.selectEncoding("*"), "gzip");
+        assertEquals(compression.selectEncoding("gzip;q=0, *"), "deflate");
+        assertNull(new ResponseCompression(false, 100, 6).selectEncoding("gzip"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void invalidLevel() {
+        new ResponseCompression(true, 100, 10);
+    }
+
+    @Test
+    public void smallResponseNotCompressed() throws IOException {
+        TestStarter starter = new TestStarter();
+        try (OutputStream out = compression.wrap("gzip", starter)) {
+            out.write("small".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            assertEquals(starter.calls, 0);
+        }
+        assertEquals(starter.calls, 1);
+        assertNull(starter.encoding);
+        assertEquals(starter.length, 5);
+        assertEquals(starter.body.toString(StandardCharsets.UTF_8), "small");
+    }
+
+    @Test
+    public void gzip() throws IOException {
+        String content = "x".repeat(99) + "y".repeat(5000);
+        TestStarter starter = new TestStarter();
+        try (OutputStream out = compression.wrap("gzip", starter)) {
+            out.write(content.substring(0, 99).getBytes(StandardCharsets.UTF_8));
+            out.write('y');
+            assertEquals(starter.calls, 0);
+            out.write('y');
+            assertEquals(starter.calls, 1);
+            out.write(content.substring(101).getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(starter.calls, 1);
+        assertEquals(starter.encoding, "gzip");
+        assertEquals(starter.length, -1);
+        assertTrue(starter.body.size() < content.length());
+        assertEquals(decompress(new GZIPInputStream(new ByteArrayInputStream(starter.body.toByteArray()))), content);
+    }
+
+    @Test
+    public void deflate() throws IOException {
+        String content = "deflate".repeat(1000);
+        TestStarter starter = new TestStarter();
+        try (OutputStream out = compression.wrap("deflate", starter)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(starter.encoding, "deflate");
+        assertEquals(decompress(new InflaterInputStream(new ByteArrayInputStream(starter.body.toByteArray()))), content);
+    }
+
+    @Test
+    public void streamedJson() throws IOException {
+        JSONArray array = new JSONArray();
+        for (int i = 0; i < 1000; i++) {
+            JSONObject object = new JSONObject();
+            object.put("index", i);
+            object.put("name", "MBean number " + i);
+            array.add(object);
+        }
+        TestStarter starter = new TestStarter();
+        OutputStream out = new ResponseCompression(true, 0, 1).wrap("gzip", starter);
+        IoUtil.streamResponseAndClose(new OutputStreamWriter(out, StandardCharsets.UTF_8), array, "cb");
+        assertTrue(starter.closed);
+        assertEquals(decompress(new GZIPInputStream(new ByteArrayInputStream(starter.body.toByteArray()))),
+                     "cb(" + array.toJSONString() + ");");
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void writeAfterClose() throws IOException {
+        OutputStream out = compression.wrap("gzip", new TestStarter());
+        out.close();
+        out.write(1);
+    }
+
+    private String decompress(InputStream pIn) throws IOException {
+        try (pIn) {
+            return new String(pIn.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class TestStarter implements ResponseCompression.ResponseStarter {
+        private int calls;
+        private String encoding;
+        private long length;
+        private boolean closed;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed = true;
+            }
+        };
+
+        @Override
+        public OutputStream start(String pContentEncoding, long pContentLength) {
+            calls++;
+            encoding = pContentEncoding;
+            length = pContentLength;
+            return body;
+        }
+    }
+}
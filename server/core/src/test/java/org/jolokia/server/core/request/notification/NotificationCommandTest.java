@@ -245,6 +245,61 @@ public class NotificationCommandTest {
                 }
         );
     }
+    @Test
+    public void pull() throws Exception {
+        final String uuid = UUID.randomUUID().toString();
+        check(
+                new Object[] {
+                        "command", "pull",
+                        "client", uuid,
+                        "handle", "1",
+                        "wait", 5000L
+                },
+                (Checkable<PullCommand>) cmd -> {
+                    assertEquals(cmd.getType(), NotificationCommandType.PULL);
+                    assertEquals(cmd.getClient(),uuid);
+                    assertEquals(cmd.getHandle(),"1");
+                    assertEquals(cmd.getWait(),5000L);
+                    assertEquals(cmd.toJSON().get("wait"),5000L);
+                }
+        );
+    }
+
+    @Test
+    public void pullWithoutWait() throws Exception {
+        final String uuid = UUID.randomUUID().toString();
+        check(
+                new Object[] {
+                        "command", "pull",
+                        "client", uuid,
+                        "handle", "1"
+                },
+                (Checkable<PullCommand>) cmd -> {
+                    assertEquals(cmd.getHandle(),"1");
+                    assertEquals(cmd.getWait(),0L);
+                    assertNull(cmd.toJSON().get("wait"));
+                }
+        );
+    }
+
+    @Test(expectedExceptions = BadRequestException.class,expectedExceptionsMessageRegExp = ".*wait.*")
+    public void pullInvalidWait() throws Exception {
+        Deque<String> args = new LinkedList<>();
+        args.push("soon");
+        args.push("1");
+        args.push(UUID.randomUUID().toString());
+        args.push("pull");
+        NotificationCommandFactory.createCommand(args);
+    }
+
+    @Test(expectedExceptions = BadRequestException.class,expectedExceptionsMessageRegExp = ".*handle.*")
+    public void pullNoHandleMap() throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("client",UUID.randomUUID().toString());
+        args.put("command","pull");
+        NotificationCommandFactory.createCommand(args);
+    }
+
     @Test(expectedExceptions = BadRequestException.class,expectedExceptionsMessageRegExp = ".*handle.*")
     public void removeNoHandleStack() throws Exception {
         Deque<String> args = new LinkedList<>();
@@ -17,6 +17,8 @@ package org.jolokia.server.core.restrictor;
  */
 
 import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
 
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
@@ -144,6 +146,32 @@ public class PolicyBasedRestrictorTest {
         assertFalse(restrictor.isOperationAllowed(new ObjectName("java.lang:type=Blubber,name=x"), "xavier"));
     }
 
+    @Test
+    public void readableAttributesDeny() throws MalformedObjectNameException {
+        InputStream is = getClass().getResourceAsStream("/access-sample4.xml");
+        PolicyRestrictor restrictor = new PolicyRestrictor(is);
+        ObjectName memory = new ObjectName("java.lang:type=Memory");
+        assertEquals(restrictor.getReadableAttributes(memory, List.of("HeapMemoryUsage", "BlaUsage", "NonHeapMemoryUsage", "Verbose")),
+                     Set.of("BlaUsage", "Verbose"));
+        assertEquals(restrictor.getReadableAttributes(new ObjectName("jolokia:type=Config"), List.of("Debug", "HistoryMaxEntries")),
+                     Set.of("HistoryMaxEntries"));
+        // Same decision as for the single checks, also when cached
+        for (int i = 0; i < 2; i++) {
+            assertFalse(restrictor.isAttributeReadAllowed(memory, "HeapMemoryUsage"));
+            assertTrue(restrictor.isAttributeReadAllowed(memory, "BlaUsage"));
+        }
+    }
+
+    @Test
+    public void readableAttributesAllow() throws MalformedObjectNameException {
+        InputStream is = getClass().getResourceAsStream("/access-sample5.xml");
+        PolicyRestrictor restrictor = new PolicyRestrictor(is);
+        assertEquals(restrictor.getReadableAttributes(new ObjectName("java.lang:type=Memory"),
+                                                      List.of("HeapMemoryUsage", "BlaUsage", "NonHeapMemoryUsage")),
+                     Set.of("HeapMemoryUsage", "NonHeapMemoryUsage"));
+        assertTrue(restrictor.getReadableAttributes(new ObjectName("java.lang:type=Threading"), List.of("ThreadCount")).isEmpty());
+    }
+
     @Test
     public void illegalXml() {
         InputStream is = getClass().getResourceAsStream("/illegal1.xml");
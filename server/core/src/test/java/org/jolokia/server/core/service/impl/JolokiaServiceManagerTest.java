@@ -23,6 +23,7 @@ import org.jolokia.server.core.service.JolokiaServiceManagerFactory;
 import org.jolokia.server.core.service.api.AbstractJolokiaService;
 import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.service.api.JolokiaService;
+import org.jolokia.server.core.service.api.JolokiaServiceLookup;
 import org.jolokia.server.core.service.api.JolokiaServiceManager;
 import org.jolokia.server.core.service.request.RequestHandler;
 import org.jolokia.server.core.util.DebugStore;
@@ -148,6 +149,69 @@ public class JolokiaServiceManagerTest {
         }
     }
 
+    @Test
+    public void serviceSnapshots() {
+        StaticConfiguration config = new StaticConfiguration(
+            ConfigKey.AGENT_ID, "test"
+        );
+
+        JolokiaServiceManager manager = JolokiaServiceManagerFactory
+            .createJolokiaServiceManager(config, null, null, null);
+        TestLookup lookup = new TestLookup();
+        manager.addServiceLookup(lookup);
+        try {
+            JolokiaContext context = manager.start();
+            SortedSet<JolokiaService.Init> set = context.getServices(JolokiaService.Init.class);
+            assertEquals(set.size(), 1);
+            // same snapshot as long as nothing changes
+            assertSame(context.getServices(JolokiaService.Init.class), set);
+            assertThrows(UnsupportedOperationException.class, set::clear);
+
+            // static service added
+            manager.addService(new Service1());
+            SortedSet<JolokiaService.Init> set2 = context.getServices(JolokiaService.Init.class);
+            assertEquals(set2.size(), 2);
+            assertSame(context.getServices(JolokiaService.Init.class), set2);
+
+            // dynamic service added
+            lookup.services.add(new Service2());
+            lookup.trackingCount++;
+            SortedSet<JolokiaService.Init> set3 = context.getServices(JolokiaService.Init.class);
+            assertEquals(set3.size(), 3);
+            assertSame(context.getServices(JolokiaService.Init.class), set3);
+
+            // no tracking - no caching
+            lookup.trackingCount = -1;
+            assertNotSame(context.getServices(JolokiaService.Init.class), context.getServices(JolokiaService.Init.class));
+        } finally {
+            manager.stop();
+        }
+    }
+
+    private static class TestLookup implements JolokiaServiceLookup {
+        private final Set<JolokiaService<?>> services = new HashSet<>();
+        private int trackingCount;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends JolokiaService<?>> Set<T> getServices(Class<T> pType) {
+            return pType == JolokiaService.Init.class ? (Set<T>) new HashSet<>(services) : Collections.emptySet();
+        }
+
+        @Override
+        public <T extends JolokiaService<?>> int getTrackingCount(Class<T> pType) {
+            return trackingCount;
+        }
+
+        @Override
+        public void init(JolokiaContext pJolokiaContext) {
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+
     public static class Service1 extends AbstractJolokiaService<JolokiaService.Init> {
         protected Service1(Class<JolokiaService.Init> pType, int pOrderId) {
             super(pType, pOrderId);
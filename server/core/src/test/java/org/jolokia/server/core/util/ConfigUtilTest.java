@@ -0,0 +1,81 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.server.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jolokia.core.api.LogHandler;
+import org.jolokia.server.core.config.ConfigKey;
+import org.jolokia.server.core.service.api.JolokiaContext;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ConfigUtilTest {
+
+    private final List<String> errors = new ArrayList<>();
+
+    @Test
+    public void configuredValue() {
+        JolokiaContext ctx = context(ConfigKey.MBEAN_INFO_CACHE_SIZE, " 50 ", ConfigKey.NOTIFICATION_PULL_MAX_WAIT, "5000");
+        assertEquals(ConfigUtil.getInt(ctx, ConfigKey.MBEAN_INFO_CACHE_SIZE), 50);
+        assertEquals(ConfigUtil.getLong(ctx, ConfigKey.NOTIFICATION_PULL_MAX_WAIT), 5000L);
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void defaultValue() {
+        JolokiaContext ctx = context();
+        assertEquals(ConfigUtil.getInt(ctx, ConfigKey.MBEAN_INFO_CACHE_SIZE), 1000);
+        assertEquals(ConfigUtil.getLong(ctx, ConfigKey.NOTIFICATION_PULL_MAX_WAIT), 30000L);
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void invalidValue() {
+        JolokiaContext ctx = context(ConfigKey.MBEAN_INFO_CACHE_SIZE, "many", ConfigKey.NOTIFICATION_PULL_MAX_WAIT, "30s");
+        assertEquals(ConfigUtil.getInt(ctx, ConfigKey.MBEAN_INFO_CACHE_SIZE), 1000);
+        assertEquals(ConfigUtil.getLong(ctx, ConfigKey.NOTIFICATION_PULL_MAX_WAIT), 30000L);
+        assertEquals(errors.size(), 2);
+        assertTrue(errors.get(0).contains("mbeanInfoCacheSize") && errors.get(0).contains("many"));
+        assertTrue(errors.get(1).contains("notificationPullMaxWait") && errors.get(1).contains("30s"));
+    }
+
+    private JolokiaContext context(Object... pKeyAndValues) {
+        errors.clear();
+        return new TestJolokiaContext.Builder()
+                .config(pKeyAndValues)
+                .logHandler(new LogHandler() {
+                    public void debug(String message) {
+                    }
+
+                    public void info(String message) {
+                    }
+
+                    public void error(String message, Throwable t) {
+                        errors.add(message);
+                    }
+
+                    public boolean isDebug() {
+                        return false;
+                    }
+                })
+                .build();
+    }
+
+}
@@ -65,6 +65,23 @@ public class IoUtilTest {
         assertWriterClosed(writer);
     }
 
+    @Test
+    public void checkStreamWrite() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JSONArray resp = new JSONArray();
+        for (int i = 0; i < 10000; i++) {
+            JSONObject data = new JSONObject();
+            data.put("value", "h\u00e9llo \u20ac \ud83d\ude00 \"" + i + "\"\n");
+            data.put("index", i);
+            resp.add(data);
+        }
+        String respString = "callbackFunc(" + resp.toJSONString() + ");";
+
+        IoUtil.streamResponseAndClose(out, resp, "callbackFunc");
+        assertEquals(out.toByteArray(), respString.getBytes(StandardCharsets.UTF_8));
+    }
+
     private void assertWriterClosed(OutputStreamWriter writer) {
         try {
             writer.write(1);
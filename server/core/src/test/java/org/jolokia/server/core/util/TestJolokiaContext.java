@@ -171,6 +171,10 @@ public class TestJolokiaContext implements JolokiaContext {
         return restrictor.isAttributeReadAllowed(pName, pAttribute);
     }
 
+    public Set<String> getReadableAttributes(ObjectName pName, Collection<String> pAttributes) {
+        return restrictor.getReadableAttributes(pName, pAttributes);
+    }
+
     public boolean isAttributeWriteAllowed(ObjectName pName, String pAttribute) {
         return restrictor.isAttributeWriteAllowed(pName, pAttribute);
     }
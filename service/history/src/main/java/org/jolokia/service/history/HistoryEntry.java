@@ -1,7 +1,10 @@
 package org.jolokia.service.history;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jolokia.json.JSONArray;
 import org.jolokia.json.JSONObject;
@@ -29,18 +32,37 @@ import org.jolokia.json.JSONObject;
  * is keyed with the attribute/operation which was called. It has a maximum  number of values
  * which are stored and truncates the oldest one if more values are added.
  *
+ * Values are kept in a ring buffer, so adding a value and truncating the oldest one doesn't allocate.
+ * Timestamps are always kept as primitive {@code long}s and as long as all values are {@link Long}s
+ * or {@link Double}s (which is the usual case for numeric attributes), the values are kept as
+ * primitives, too. Other values switch the entry to store plain objects.
+ *
  * @author roland
  * @since Jun 12, 2009
  */
 class HistoryEntry implements Serializable {
 
-    private static final long serialVersionUID = 42L;
+    private static final long serialVersionUID = 43L;
+
+    private static final int INITIAL_CAPACITY = 8;
 
+    // How values are stored
+    private static final byte EMPTY = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte OBJECT = 3;
 
-    @SuppressWarnings("PMD.LooseCoupling")
-    private final LinkedList<ValueEntry> values;
     private HistoryLimit limit;
 
+    // ring buffer - the oldest value is at "head", the newest at "head + size - 1"
+    private long[] timestamps;
+    private long[] longValues;
+    private double[] doubleValues;
+    private Object[] objectValues;
+    private byte valueType;
+    private int head;
+    private int size;
+
     /**
      * Constructor
      *
@@ -48,34 +70,38 @@ class HistoryEntry implements Serializable {
      */
     HistoryEntry(HistoryLimit pLimit) {
         limit = pLimit;
-        values = new LinkedList<>();
+        timestamps = new long[0];
+        valueType = EMPTY;
     }
 
     /**
-     * Get an JSON array with values (along with their timestamps)
+     * Get an JSON array with values (along with their timestamps), newest first
      *
      * @return JSON array of values
      */
-    public JSONArray jsonifyValues() {
-        JSONArray jValues = new JSONArray(values.size());
-        for (ValueEntry vEntry : values) {
+    public synchronized JSONArray jsonifyValues() {
+        JSONArray jValues = new JSONArray(size);
+        for (int i = size - 1; i >= 0; i--) {
+            int idx = index(i);
             JSONObject o = new JSONObject();
-            o.put("value",vEntry.getValue());
-            o.put("timestamp",vEntry.getTimestamp());
+            o.put("value",getValue(idx));
+            o.put("timestamp",timestamps[idx]);
             jValues.add(o);
         }
         return jValues;
     }
 
-
     /**
      * Set the limit (maximum number, maximum duration) for entries and truncate if necessary
      *
      * @param pLimit new limit to apply
      */
-    public void setLimit(HistoryLimit pLimit) {
+    public synchronized void setLimit(HistoryLimit pLimit) {
         limit = pLimit;
-        trim();
+        while (size > Math.max(limit.getMaxEntries(), 0)) {
+            removeOldest();
+        }
+        trimByDuration();
     }
 
     /**
@@ -83,7 +109,7 @@ class HistoryEntry implements Serializable {
      *
      * @param pMaxEntries maximum number of values to keep
      */
-    public void setMaxEntries(int pMaxEntries) {
+    public synchronized void setMaxEntries(int pMaxEntries) {
         setLimit(new HistoryLimit(pMaxEntries,limit.getMaxDuration()));
     }
 
@@ -93,31 +119,141 @@ class HistoryEntry implements Serializable {
      * @param pObject object to add
      * @param pTime timestamp in milliseconds
      */
-    public void add(Object pObject, long pTime) {
-        values.addFirst(new ValueEntry(pObject,pTime));
-        trim();
+    public synchronized void add(Object pObject, long pTime) {
+        int maxEntries = limit.getMaxEntries();
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (size >= maxEntries) {
+            removeOldest();
+        } else if (size == timestamps.length) {
+            resize(Math.min(maxEntries, Math.max(INITIAL_CAPACITY, timestamps.length * 2)));
+        }
+        int idx = index(size);
+        timestamps[idx] = pTime;
+        setValue(idx, pObject);
+        size++;
+        trimByDuration();
+    }
+
+    // ======================================================================================
+
+    // index in the arrays of the i-th oldest value
+    private int index(int pPos) {
+        int idx = head + pPos;
+        return idx < timestamps.length ? idx : idx - timestamps.length;
+    }
+
+    private void removeOldest() {
+        if (objectValues != null) {
+            objectValues[head] = null;
+        }
+        head = index(1);
+        size--;
+        if (size == 0) {
+            head = 0;
+        }
+    }
+
+    // Remove values which are older than max duration compared to the newest value
+    private void trimByDuration() {
+        long duration = limit.getMaxDuration();
+        if (duration > 0 && size > 0) {
+            long newest = timestamps[index(size - 1)];
+            while (newest - timestamps[head] > duration) {
+                removeOldest();
+            }
+        }
     }
 
-    // Truncate list so that no more than max entries are stored in the list
-    private void trim() {
+    private Object getValue(int pIdx) {
+        switch (valueType) {
+            case LONG:
+                return longValues[pIdx];
+            case DOUBLE:
+                return doubleValues[pIdx];
+            default:
+                return objectValues[pIdx];
+        }
+    }
 
-        // Trim
-        while (values.size() > limit.getMaxEntries()) {
-            values.removeLast();
+    private void setValue(int pIdx, Object pValue) {
+        byte type = pValue != null && pValue.getClass() == Long.class ? LONG :
+            pValue != null && pValue.getClass() == Double.class ? DOUBLE : OBJECT;
+        if (valueType == EMPTY || size == 0) {
+            switchValueType(type);
+        } else if (valueType != type && valueType != OBJECT) {
+            switchValueType(OBJECT);
+        }
+        switch (valueType) {
+            case LONG:
+                longValues[pIdx] = (Long) pValue;
+                break;
+            case DOUBLE:
+                doubleValues[pIdx] = (Double) pValue;
+                break;
+            default:
+                objectValues[pIdx] = pValue;
+                break;
         }
+    }
 
-        // Trim according to duration
-        if (limit.getMaxDuration() > 0 && !values.isEmpty()) {
-            long duration = limit.getMaxDuration();
-            long start = values.getFirst().getTimestamp();
-            while (start - values.getLast().getTimestamp() > duration) {
-                values.removeLast();
+    // Change how the values are stored, boxing existing values when switching to objects
+    private void switchValueType(byte pType) {
+        if (pType == valueType) {
+            return;
+        }
+        int capacity = timestamps.length;
+        Object[] objects = null;
+        if (pType == OBJECT) {
+            objects = new Object[capacity];
+            for (int i = 0; i < size; i++) {
+                int idx = index(i);
+                objects[idx] = getValue(idx);
             }
         }
+        longValues = pType == LONG ? new long[capacity] : null;
+        doubleValues = pType == DOUBLE ? new double[capacity] : null;
+        objectValues = objects;
+        valueType = pType;
+    }
+
+    // Copy the values into new arrays with the oldest value at index 0
+    private void resize(int pCapacity) {
+        long[] newTimestamps = new long[pCapacity];
+        long[] newLongs = longValues != null ? new long[pCapacity] : null;
+        double[] newDoubles = doubleValues != null ? new double[pCapacity] : null;
+        Object[] newObjects = objectValues != null ? new Object[pCapacity] : null;
+        for (int i = 0; i < size; i++) {
+            int idx = index(i);
+            newTimestamps[i] = timestamps[idx];
+            if (newLongs != null) {
+                newLongs[i] = longValues[idx];
+            } else if (newDoubles != null) {
+                newDoubles[i] = doubleValues[idx];
+            } else if (newObjects != null) {
+                newObjects[i] = objectValues[idx];
+            }
+        }
+        timestamps = newTimestamps;
+        longValues = newLongs;
+        doubleValues = newDoubles;
+        objectValues = newObjects;
+        head = 0;
+    }
+
+    // values are modified concurrently, so serialize them consistently
+    private synchronized void writeObject(ObjectOutputStream pOut) throws IOException {
+        pOut.defaultWriteObject();
     }
 
     @Override
-    public String toString() {
+    public synchronized String toString() {
+        List<ValueEntry> values = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            int idx = index(i);
+            values.add(new ValueEntry(getValue(idx),timestamps[idx]));
+        }
         final StringBuilder sb = new StringBuilder();
         sb.append("HistoryEntry");
         sb.append("{values=").append(values);
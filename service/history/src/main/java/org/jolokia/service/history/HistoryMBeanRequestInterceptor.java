@@ -11,6 +11,7 @@ import org.jolokia.server.core.request.JolokiaRequest;
 import org.jolokia.server.core.service.api.*;
 import org.jolokia.server.core.service.request.RequestInterceptor;
 import org.jolokia.json.JSONObject;
+import org.jolokia.server.core.util.RequestType;
 import org.jolokia.server.core.util.SubjectAccess;
 import org.jolokia.server.core.util.SubjectAccessProvider;
 
@@ -25,6 +26,9 @@ public class HistoryMBeanRequestInterceptor extends AbstractJolokiaService<Reque
 
     private final SubjectAccess subjectAccess;
 
+    // the store backing the registered History MBean
+    private HistoryStore historyStore;
+
     /**
      * Construction of a base service for a given type and order
      *
@@ -42,7 +46,7 @@ public class HistoryMBeanRequestInterceptor extends AbstractJolokiaService<Reque
             super.init(pCtx);
 
             int maxEntries = getMaxEntries(pCtx);
-            HistoryStore historyStore = new HistoryStore(maxEntries);
+            historyStore = new HistoryStore(maxEntries);
             History history = new History(historyStore);
             historyObjectName = registerJolokiaMBean(History.OBJECT_NAME,history);
 
@@ -92,6 +96,21 @@ public class HistoryMBeanRequestInterceptor extends AbstractJolokiaService<Reque
         }
     }
 
+    /**
+     * The value is only needed for read, write and exec requests and only if any history is configured.
+     *
+     * @param pJmxReq request received
+     * @return whether the history may record the value of the response
+     */
+    @Override
+    public boolean requiresValue(JolokiaRequest pJmxReq) {
+        if (historyObjectName == null || historyStore == null || historyStore.isEmpty()) {
+            return false;
+        }
+        RequestType type = pJmxReq.getType();
+        return type == RequestType.READ || type == RequestType.WRITE || type == RequestType.EXEC;
+    }
+
     private int getMaxEntries(JolokiaContext pCtx) {
         int maxEntries;
         try {
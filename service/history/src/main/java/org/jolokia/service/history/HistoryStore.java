@@ -2,6 +2,7 @@ package org.jolokia.service.history;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
@@ -31,6 +32,9 @@ import org.jolokia.json.JSONObject;
  * Store for remembering values which has been fetched through a previous
  * request.
  *
+ * Updates don't lock the whole store - entries are kept in concurrent maps and each
+ * {@link HistoryEntry} is synchronized on its own. Only configuration changes are serialized.
+ *
  * @author roland
  * @since Jun 12, 2009
  */
@@ -40,8 +44,14 @@ public class HistoryStore {
     // Hard limit for number of entries for a single history track
     private int globalMaxEntries;
 
-    private Map<HistoryKey, HistoryEntry> historyStore;
-    private Map<HistoryKey, HistoryLimit> patterns;
+    // Maximum number of keys remembered as not matching any pattern
+    private static final int MAX_UNMATCHED_KEYS = 10000;
+
+    private final Map<HistoryKey, HistoryEntry> historyStore;
+    private final Map<HistoryKey, HistoryLimit> patterns;
+
+    // Keys for which no pattern matched, so patterns don't have to be checked on each update
+    private final Set<HistoryKey> unmatchedKeys;
 
     // Keys used in JSON representation
     private static final String KEY_HISTORY = "history";
@@ -58,8 +68,9 @@ public class HistoryStore {
      */
     public HistoryStore(int pTotalMaxEntries) {
         globalMaxEntries = pTotalMaxEntries;
-        historyStore = new HashMap<>();
-        patterns = new HashMap<>();
+        historyStore = new ConcurrentHashMap<>();
+        patterns = new ConcurrentHashMap<>();
+        unmatchedKeys = ConcurrentHashMap.newKeySet();
         initHistoryUpdaters();
     }
 
@@ -103,6 +114,7 @@ public class HistoryStore {
 
         if (pKey.isMBeanPattern()) {
             patterns.put(pKey,limit);
+            unmatchedKeys.clear();
             // Trim all already stored keys
             for (HistoryKey key : historyStore.keySet()) {
                 if (pKey.matches(key)) {
@@ -125,8 +137,18 @@ public class HistoryStore {
      * Reset the complete store.
      */
     public synchronized void reset() {
-        historyStore = new HashMap<>();
-        patterns = new HashMap<>();
+        historyStore.clear();
+        patterns.clear();
+        unmatchedKeys.clear();
+    }
+
+    /**
+     * Whether there's no history configured at all, so no values have to be recorded.
+     *
+     * @return {@code true} if no history is configured
+     */
+    public boolean isEmpty() {
+        return historyStore.isEmpty() && patterns.isEmpty();
     }
 
     /**
@@ -136,7 +158,7 @@ public class HistoryStore {
      * @param pJmxReq request for which an entry should be added in this history store
      * @param pJson the JSONObject to which to add the history.
      */
-    public synchronized void updateAndAdd(JolokiaRequest pJmxReq, JSONObject pJson) {
+    public void updateAndAdd(JolokiaRequest pJmxReq, JSONObject pJson) {
         long timestamp = System.currentTimeMillis() / 1000;
         pJson.put(KEY_TIMESTAMP,timestamp);
 
@@ -157,7 +179,8 @@ public class HistoryStore {
         try {
             ByteArrayOutputStream bOut = new ByteArrayOutputStream();
             ObjectOutputStream oOut = new ObjectOutputStream(bOut);
-            oOut.writeObject(historyStore);
+            // plain map, so the size depends only on the entries
+            oOut.writeObject(new HashMap<>(historyStore));
             bOut.close();
             return bOut.size();
         } catch (IOException e) {
@@ -228,16 +251,7 @@ public class HistoryStore {
     private void removeEntries(HistoryKey pKey) {
         if (pKey.isMBeanPattern()) {
             patterns.remove(pKey);
-            List<HistoryKey> toRemove = new ArrayList<>();
-            for (HistoryKey key : historyStore.keySet()) {
-                if (pKey.matches(key)) {
-                    toRemove.add(key);
-                }
-            }
-            // Avoid concurrent modification exceptions
-            for (HistoryKey key : toRemove) {
-                historyStore.remove(key);
-            }
+            historyStore.keySet().removeIf(pKey::matches);
         } else {
             HistoryEntry entry = historyStore.get(pKey);
             if (entry != null) {
@@ -393,19 +407,33 @@ public class HistoryStore {
         return pHistMap;
     }
 
-    private synchronized HistoryEntry getEntry(HistoryKey pKey,Object pValue,long pTimestamp) {
+    private HistoryEntry getEntry(HistoryKey pKey,Object pValue,long pTimestamp) {
         HistoryEntry entry = historyStore.get(pKey);
         if (entry != null) {
             return entry;
         }
-        // Now try all known patterns and add lazily the key
-        for (HistoryKey key : patterns.keySet()) {
-            if (key.matches(pKey)) {
-                entry = new HistoryEntry(patterns.get(key));
-                entry.add(pValue,pTimestamp);
-                historyStore.put(pKey,entry);
+        if (patterns.isEmpty() || unmatchedKeys.contains(pKey)) {
+            return null;
+        }
+        // Now try all known patterns and add lazily the key. Synchronized with configuration changes
+        synchronized (this) {
+            entry = historyStore.get(pKey);
+            if (entry != null) {
                 return entry;
             }
+            for (Map.Entry<HistoryKey, HistoryLimit> pattern : patterns.entrySet()) {
+                if (pattern.getKey().matches(pKey)) {
+                    entry = new HistoryEntry(pattern.getValue());
+                    entry.add(pValue,pTimestamp);
+                    historyStore.put(pKey,entry);
+                    return entry;
+                }
+            }
+            if (unmatchedKeys.size() >= MAX_UNMATCHED_KEYS) {
+                // just start over
+                unmatchedKeys.clear();
+            }
+            unmatchedKeys.add(pKey);
         }
         return null;
     }
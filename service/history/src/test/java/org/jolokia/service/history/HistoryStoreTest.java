@@ -317,4 +317,74 @@ public class HistoryStoreTest {
         assertTrue(entry.toString().contains("20"));
         assertTrue(entry.toString().contains("Blub"));
     }
+
+    @Test
+    public void historyEntryRingBuffer() {
+        HistoryEntry entry = new HistoryEntry(new HistoryLimit(3,0L));
+        for (long i = 1; i <= 20; i++) {
+            entry.add(i * 10, i);
+        }
+        JSONArray values = entry.jsonifyValues();
+        assertEquals(values.size(), 3);
+        // newest first
+        assertEquals(((JSONObject) values.get(0)).get("value"), 200L);
+        assertEquals(((JSONObject) values.get(0)).get("timestamp"), 20L);
+        assertEquals(((JSONObject) values.get(2)).get("value"), 180L);
+
+        entry.setMaxEntries(2);
+        values = entry.jsonifyValues();
+        assertEquals(values.size(), 2);
+        assertEquals(((JSONObject) values.get(1)).get("value"), 190L);
+    }
+
+    @Test
+    public void historyEntryMixedValues() {
+        HistoryEntry entry = new HistoryEntry(new HistoryLimit(5,0L));
+        entry.add(1L, 1L);
+        entry.add(2.5, 2L);
+        entry.add("three", 3L);
+        entry.add(null, 4L);
+        JSONArray values = entry.jsonifyValues();
+        assertEquals(values.size(), 4);
+        assertNull(((JSONObject) values.get(0)).get("value"));
+        assertEquals(((JSONObject) values.get(1)).get("value"), "three");
+        assertEquals(((JSONObject) values.get(2)).get("value"), 2.5);
+        assertEquals(((JSONObject) values.get(3)).get("value"), 1L);
+    }
+
+    @Test
+    public void historyEntryDuration() {
+        HistoryEntry entry = new HistoryEntry(new HistoryLimit(10,5L));
+        for (long i = 1; i <= 20; i++) {
+            entry.add(i, i);
+        }
+        JSONArray values = entry.jsonifyValues();
+        // timestamps 15 to 20
+        assertEquals(values.size(), 6);
+        assertEquals(((JSONObject) values.get(5)).get("timestamp"), 15L);
+    }
+
+    @Test
+    public void concurrentUpdates() throws Exception {
+        JolokiaReadRequest req =
+                new JolokiaRequestBuilder(READ,"test:type=read")
+                        .attribute("attr")
+                        .build();
+        store.configure(new HistoryKey(req), new HistoryLimit(5, 0L));
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    JSONObject json = new JSONObject();
+                    json.put("value", (long) i);
+                    store.updateAndAdd(req, json);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(updateNTimesAsList(req, 1, 42L).size(), 5);
+    }
 }
@@ -38,9 +38,12 @@ import javax.management.openmbean.OpenMBeanParameterInfo;
 import javax.management.openmbean.OpenType;
 
 import org.jolokia.core.service.serializer.ValueFaultHandler;
+import org.jolokia.server.core.config.ConfigKey;
 import org.jolokia.server.core.request.BadRequestException;
 import org.jolokia.server.core.request.JolokiaExecRequest;
+import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.service.serializer.Serializer;
+import org.jolokia.server.core.util.ConfigUtil;
 import org.jolokia.server.core.util.RequestType;
 import org.jolokia.server.core.util.jmx.MBeanServerAccess;
 
@@ -52,6 +55,23 @@ import org.jolokia.server.core.util.jmx.MBeanServerAccess;
  */
 public class ExecHandler extends AbstractCommandHandler<JolokiaExecRequest> {
 
+    // Operation signatures per MBean, indexed by operation name
+    private MBeanInfoCache<Map<String, List<MBeanParameterInfo[]>>> operationsCache;
+
+    @Override
+    public void init(JolokiaContext pContext, String pProvider) {
+        super.init(pContext, pProvider);
+        operationsCache = new MBeanInfoCache<>(ConfigUtil.getInt(pContext, ConfigKey.MBEAN_INFO_CACHE_SIZE),
+                                               ExecHandler::extractOperations);
+    }
+
+    @Override
+    public void destroy() throws JMException {
+        if (operationsCache != null) {
+            operationsCache.clear();
+        }
+    }
+
     @Override
     public RequestType getType() {
         return RequestType.EXEC;
@@ -229,6 +249,11 @@ public class ExecHandler extends AbstractCommandHandler<JolokiaExecRequest> {
 
         List<MBeanParameterInfo[]> paramInfos = extractMBeanParameterInfos(pServer, pRequest, operation);
         MBeanParameterInfo[] matchingSignature = getMatchingSignature(types, paramInfos);
+        if (matchingSignature == null) {
+            // cached signatures might be outdated for a dynamic MBean
+            paramInfos = extractMBeanParameterInfos(pServer, pRequest, operation, true);
+            matchingSignature = getMatchingSignature(types, paramInfos);
+        }
         if (matchingSignature == null) {
             throw new BadRequestException(
                     "No operation " + pRequest.getOperation() + " on MBean " + pRequest.getObjectNameAsString() + " exists. " +
@@ -251,14 +276,12 @@ public class ExecHandler extends AbstractCommandHandler<JolokiaExecRequest> {
     private List<MBeanParameterInfo[]> extractMBeanParameterInfos(MBeanServerConnection pServer, JolokiaExecRequest pRequest,
                                                                   String pOperation)
             throws IOException, JMException {
-        MBeanInfo mBeanInfo = pServer.getMBeanInfo(pRequest.getObjectName());
-        List<MBeanParameterInfo[]> paramInfos = new ArrayList<>();
-        for (MBeanOperationInfo opInfo : mBeanInfo.getOperations()) {
-            if (opInfo.getName().equals(pOperation)) {
-                paramInfos.add(opInfo.getSignature());
-            }
+        List<MBeanParameterInfo[]> paramInfos = extractMBeanParameterInfos(pServer, pRequest, pOperation, false);
+        if (paramInfos == null) {
+            // cached signatures might be outdated for a dynamic MBean
+            paramInfos = extractMBeanParameterInfos(pServer, pRequest, pOperation, true);
         }
-        if (paramInfos.isEmpty()) {
+        if (paramInfos == null) {
             // see com.sun.jmx.mbeanserver.PerInterface.noSuchMethod
             final NoSuchMethodException cause = new NoSuchMethodException(pOperation);
             throw new ReflectionException(cause, cause.getMessage());
@@ -266,6 +289,21 @@ public class ExecHandler extends AbstractCommandHandler<JolokiaExecRequest> {
         return paramInfos;
     }
 
+    private List<MBeanParameterInfo[]> extractMBeanParameterInfos(MBeanServerConnection pServer, JolokiaExecRequest pRequest,
+                                                                  String pOperation, boolean pRefresh)
+            throws IOException, JMException {
+        return operationsCache.get(pServer, pRequest.getObjectName(), pRefresh).get(pOperation);
+    }
+
+    // Index all operation signatures by operation name
+    private static Map<String, List<MBeanParameterInfo[]>> extractOperations(MBeanInfo pMBeanInfo) {
+        Map<String, List<MBeanParameterInfo[]>> ret = new HashMap<>();
+        for (MBeanOperationInfo opInfo : pMBeanInfo.getOperations()) {
+            ret.computeIfAbsent(opInfo.getName(), k -> new ArrayList<>()).add(opInfo.getSignature());
+        }
+        return ret;
+    }
+
     /**
      * Check whether a matching signature exists from a list of MBean parameter infos. The match is done against a list of types
      * (in string form) which was extracted from the request
@@ -20,15 +20,18 @@ import java.lang.management.ManagementFactory;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import javax.management.JMException;
 import javax.management.MBeanInfo;
 import javax.management.MBeanServer;
 import javax.management.MBeanServerConnection;
 import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectInstance;
 import javax.management.ObjectName;
@@ -42,10 +45,14 @@ import org.jolokia.server.core.request.JolokiaRequestFactory;
 import org.jolokia.server.core.request.NotChangedException;
 import org.jolokia.server.core.request.ProcessingParameters;
 import org.jolokia.server.core.service.api.JolokiaContext;
+import org.jolokia.server.core.util.ConfigUtil;
 import org.jolokia.server.core.util.ProviderUtil;
 import org.jolokia.server.core.util.RequestType;
+import org.jolokia.server.core.util.jmx.JmxUtil;
 import org.jolokia.server.core.util.jmx.MBeanServerAccess;
 import org.jolokia.service.jmx.handler.list.MBeanInfoData;
+import org.jolokia.service.jmx.handler.list.MBeanInfoJsonCache;
+import org.jolokia.service.jmx.handler.list.MBeanInfoJsonCacheMBean;
 
 /**
  * Handler for obtaining a list of all available MBeans and its attributes and operations (to get JSON
@@ -60,16 +67,31 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
     private MBeanServerAccess jmxAccess;
 
     /**
-     * This is a cache for full JSON representation of {@link MBeanInfo} for known objects. Initially
-     * it is populated with the information for {@link java.lang.management.PlatformManagedObject platform MXBeans}
-     * but we can cache any object.
+     * Groups of platform MXBeans sharing the same {@link MBeanInfo}, like {@code java.lang:type=MemoryPool,name=Metaspace}
      */
-    private final Map<ObjectName, JSONObject> cache = new ConcurrentHashMap<>();
+    private static final Set<ObjectName> PLATFORM_MBEAN_GROUPS = Set.of(
+        JmxUtil.newObjectName(ManagementFactory.MEMORY_MANAGER_MXBEAN_DOMAIN_TYPE + ",*"),
+        JmxUtil.newObjectName(ManagementFactory.MEMORY_POOL_MXBEAN_DOMAIN_TYPE + ",*"),
+        JmxUtil.newObjectName(ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE + ",*")
+    );
 
     /**
-     * Cache without {@link javax.management.openmbean.OpenType} information
+     * This is a cache for full JSON representation of {@link MBeanInfo} for known objects, with and without
+     * {@link javax.management.openmbean.OpenType} information. Initially it is populated with the information
+     * for {@link java.lang.management.PlatformManagedObject platform MXBeans}, other MBeans with an immutable
+     * {@link MBeanInfo} are added when they're listed. Entries are removed when their MBean gets unregistered.
+     * Entries of platform MXBeans are pinned, so they're not evicted by other MBeans on servers with many MBeans.
      */
-    private final Map<ObjectName, JSONObject> noOpenTypeCache = new ConcurrentHashMap<>();
+    private MBeanInfoJsonCache cache;
+
+    // Servers whose MBean (un)registrations maintain the cache
+    private final List<MBeanServerConnection> registrationServers = new ArrayList<>();
+
+    // Subscriber to the shared MBeanRegistrationListener of these servers
+    private final Consumer<MBeanServerNotification> registrationHandler = this::handleRegistration;
+
+    // Name under which the cache statistics are exposed
+    private ObjectName cacheMBeanName;
 
     @Override
     public RequestType getType() {
@@ -81,7 +103,25 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
         super.init(pContext, pProvider);
 
         jmxAccess = pContext.getMBeanServerAccess();
+        cache = new MBeanInfoJsonCache(ConfigUtil.getInt(pContext, ConfigKey.LIST_MBEAN_INFO_CACHE_SIZE));
+        listenForRegistrations();
         cachePlatformMbeans();
+        registerCacheMBean();
+    }
+
+    @Override
+    public void destroy() throws JMException {
+        for (MBeanServerConnection server : registrationServers) {
+            MBeanRegistrationListener.unsubscribe(server, registrationHandler);
+        }
+        registrationServers.clear();
+        if (cacheMBeanName != null) {
+            context.unregisterMBean(cacheMBeanName);
+            cacheMBeanName = null;
+        }
+        if (cache != null) {
+            cache.clear();
+        }
     }
 
     @Override
@@ -129,7 +169,7 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
             }
 
             // this action is the full implementation of Jolokia LIST operation
-            ListMBeanEachAction action = new ListMBeanEachAction(pRequest, pathStack, pProvider, context, cache, noOpenTypeCache);
+            ListMBeanEachAction action = new ListMBeanEachAction(pRequest, pathStack, pProvider, context, cache);
 
             if (oName == null || oName.isPattern()) {
                 // needed, because MBeanServerAccess will query for all matching MBeans and call our action
@@ -183,11 +223,6 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
             ManagementFactory.RUNTIME_MXBEAN_NAME,
             ManagementFactory.THREAD_MXBEAN_NAME
         );
-        Set<String> platformMBeanGroups = Set.of(
-            ManagementFactory.MEMORY_MANAGER_MXBEAN_DOMAIN_TYPE,
-            ManagementFactory.MEMORY_POOL_MXBEAN_DOMAIN_TYPE,
-            ManagementFactory.GARBAGE_COLLECTOR_MXBEAN_DOMAIN_TYPE
-        );
         Set<String> optionalMBeans = Set.of(
             "jdk.management.jfr:type=FlightRecorder",
             "java.util.logging:type=Logging"
@@ -199,8 +234,7 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
 
             for (JolokiaListRequest list : Arrays.asList(list1, list2)) {
                 boolean withOpenTypes = list.getParameterAsBool(ConfigKey.OPEN_TYPES);
-                Map<ObjectName, JSONObject> c = withOpenTypes ? cache : noOpenTypeCache;
-                MBeanInfoData data = new MBeanInfoData(null, null, list, null, null);
+                MBeanInfoData data = new MBeanInfoData(null, null, list, null);
 
                 // known MBeans like java.lang:type=Runtime
                 for (String name : platformMBeans) {
@@ -231,10 +265,10 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
                     }
                 }
                 // only first from a group, for example java.lang:type=MemoryPool,name=Metaspace
-                for (String name : platformMBeanGroups) {
+                for (ObjectName group : PLATFORM_MBEAN_GROUPS) {
                     try {
                         for (MBeanServerConnection server : jmxAccess.getMBeanServers()) {
-                            Set<ObjectName> names = server.queryNames(ObjectName.getInstance(name + ",*"), null);
+                            Set<ObjectName> names = server.queryNames(group, null);
                             if (names != null && !names.isEmpty()) {
                                 data.addMBeanInfo(server, new ObjectInstance(names.iterator().next(), null), Collections.emptySet(), Collections.emptySet());
                                 break;
@@ -251,7 +285,7 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
                                 if (mBeanData instanceof JSONObject json) {
                                     try {
                                         ObjectName platformMBeanName = ObjectName.getInstance(domain + ":" + keys);
-                                        c.put(platformMBeanName, json);
+                                        cache.putPinned(platformMBeanName, withOpenTypes, json);
                                     } catch (MalformedObjectNameException ignored) {
                                     }
                                 }
@@ -261,21 +295,19 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
                 }
 
                 // cache remaining MBeans from the known groups based on what we've already cached
-                for (String name : platformMBeanGroups) {
-                    for (ObjectName cached : c.keySet()) {
+                for (ObjectName group : PLATFORM_MBEAN_GROUPS) {
+                    JSONObject groupJson = cache.findMatching(group, withOpenTypes);
+                    if (groupJson == null) {
+                        continue;
+                    }
+                    for (MBeanServerConnection server : jmxAccess.getMBeanServers()) {
                         try {
-                            if (ObjectName.getInstance(name + ",*").apply(cached)) {
-                                for (MBeanServerConnection server : jmxAccess.getMBeanServers()) {
-                                    boolean found = false;
-                                    Set<ObjectName> names = server.queryNames(ObjectName.getInstance(name + ",*"), null);
-                                    for (ObjectName n : names) {
-                                        if (!c.containsKey(n)) {
-                                            c.put(n, c.get(cached));
-                                        }
-                                    }
+                            for (ObjectName n : server.queryNames(group, null)) {
+                                if (!cache.contains(n, withOpenTypes)) {
+                                    cache.putPinned(n, withOpenTypes, groupJson);
                                 }
                             }
-                        } catch (IOException | MalformedObjectNameException ignored) {
+                        } catch (IOException ignored) {
                         }
                     }
                 }
@@ -284,4 +316,48 @@ public class ListHandler extends AbstractCommandHandler<JolokiaListRequest> {
         }
     }
 
+    /**
+     * Maintain the cache incrementally: remove entries of unregistered MBeans and add new members of
+     * platform MXBean groups (e.g. a new memory pool) when the JSON representation of the group is known.
+     */
+    private void listenForRegistrations() {
+        for (MBeanServerConnection server : jmxAccess.getMBeanServers()) {
+            try {
+                MBeanRegistrationListener.subscribe(server, registrationHandler);
+                registrationServers.add(server);
+            } catch (IllegalStateException e) {
+                context.debug("Cannot listen for MBean registrations of " + server + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void handleRegistration(MBeanServerNotification pNotification) {
+        ObjectName name = pNotification.getMBeanName();
+        if (MBeanServerNotification.UNREGISTRATION_NOTIFICATION.equals(pNotification.getType())) {
+            cache.remove(name);
+        } else if (MBeanServerNotification.REGISTRATION_NOTIFICATION.equals(pNotification.getType())) {
+            for (ObjectName group : PLATFORM_MBEAN_GROUPS) {
+                if (group.apply(name)) {
+                    for (boolean withOpenTypes : new boolean[] { true, false }) {
+                        JSONObject groupJson = cache.findMatching(group, withOpenTypes);
+                        if (groupJson != null && !cache.contains(name, withOpenTypes)) {
+                            cache.putPinned(name, withOpenTypes, groupJson);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Expose hit/miss/eviction statistics of the cache
+    private void registerCacheMBean() {
+        String name = MBeanInfoJsonCacheMBean.OBJECT_NAME + ",agent=" + context.getAgentDetails().getAgentId() +
+                      (pProvider != null ? ",provider=" + pProvider : "");
+        try {
+            cacheMBeanName = context.registerMBean(cache, name);
+        } catch (JMException e) {
+            context.error("Cannot register MBean " + name + ": " + e.getMessage(), e);
+        }
+    }
+
 }
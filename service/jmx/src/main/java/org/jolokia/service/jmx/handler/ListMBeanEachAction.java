@@ -34,6 +34,7 @@ import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.util.jmx.MBeanServerAccess;
 import org.jolokia.service.jmx.api.CacheKeyProvider;
 import org.jolokia.service.jmx.handler.list.MBeanInfoData;
+import org.jolokia.service.jmx.handler.list.MBeanInfoJsonCache;
 
 /**
  * <p>Class for handling list queries.</p>
@@ -57,17 +58,15 @@ class ListMBeanEachAction implements MBeanServerAccess.MBeanEachCallback, MBeanS
      * @param pPathStack      optional stack for picking out a certain path from the list tree
      * @param pProvider       provider to prepend to any domain (if not null)
      * @param pContext        {@link JolokiaContext} for filtering MBeans
-     * @param pCache
-     * @param pNoOpenTypeCache
+     * @param pCache          cache of JSON representations of {@link javax.management.MBeanInfo}
      */
     public ListMBeanEachAction(JolokiaListRequest pRequest, Deque<String> pPathStack, String pProvider,
                                JolokiaContext pContext,
-                               Map<ObjectName, JSONObject> pCache,
-                               Map<ObjectName, JSONObject> pNoOpenTypeCache) throws BadRequestException {
+                               MBeanInfoJsonCache pCache) throws BadRequestException {
         context = pContext;
 
         // This will be our "collector" used for all available MBeanServerConnections and ObjectNames to list
-        infoData = new MBeanInfoData(pPathStack, pProvider, pRequest, pCache, pNoOpenTypeCache);
+        infoData = new MBeanInfoData(pPathStack, pProvider, pRequest, pCache);
 
         customUpdaters = context.getServices(DataUpdater.class);
         cacheKeyProviders = context.getServices(CacheKeyProvider.class);
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jmx.handler;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.management.JMException;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerNotification;
+import javax.management.ObjectName;
+
+/**
+ * <p>Bounded cache of data extracted from {@link MBeanInfo} (like operation signatures or attribute types)
+ * per MBean, so that command handlers don't need to fetch the (possibly expensive to build) {@link MBeanInfo}
+ * for each request.</p>
+ *
+ * <p>Only MBeans of local {@link MBeanServer}s are cached. For each such server, the cache subscribes to the
+ * shared {@link MBeanRegistrationListener} and removes the entry of an MBean when it's unregistered or
+ * registered again. When the cache is full, the least recently used entry
+ * is evicted. As {@link MBeanInfo} of a dynamic MBean may still change, callers should use
+ * {@link #get(MBeanServerConnection, ObjectName, boolean)} with {@code pRefresh} set when the cached data
+ * doesn't contain what's looked for.</p>
+ *
+ * @param <T> type of the data extracted from {@link MBeanInfo}
+ * @author roland
+ * @since 2.6.1
+ */
+class MBeanInfoCache<T> {
+
+    private final int maxEntries;
+    private final Function<MBeanInfo, T> extractor;
+
+    // Guarded by "this"
+    private final LinkedHashMap<Key, T> cache;
+    private final Map<MBeanServer, Consumer<MBeanServerNotification>> listeners = new IdentityHashMap<>();
+
+    // incremented with each invalidation, so that info fetched concurrently with an invalidation is not cached
+    private long invalidations;
+
+    /**
+     * Create a cache
+     *
+     * @param pMaxEntries maximum number of MBeans to cache. {@code 0} or less disables caching
+     * @param pExtractor  function extracting the data to cache from {@link MBeanInfo}
+     */
+    MBeanInfoCache(int pMaxEntries, Function<MBeanInfo, T> pExtractor) {
+        maxEntries = pMaxEntries;
+        extractor = pExtractor;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, T> pEldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Get the data for an MBean, either from the cache or by fetching the {@link MBeanInfo}
+     *
+     * @param pServer  server holding the MBean
+     * @param pName    name of the MBean (no pattern)
+     * @param pRefresh whether to ignore a cached entry and fetch the {@link MBeanInfo} again
+     * @return the extracted data
+     * @throws IOException when fetching the {@link MBeanInfo} fails
+     * @throws JMException when fetching the {@link MBeanInfo} fails, e.g. when there is no such MBean
+     */
+    T get(MBeanServerConnection pServer, ObjectName pName, boolean pRefresh) throws IOException, JMException {
+        if (maxEntries <= 0 || !(pServer instanceof MBeanServer server)) {
+            return extractor.apply(pServer.getMBeanInfo(pName));
+        }
+        Key key = new Key(server, pName);
+        long invalidationsBefore;
+        synchronized (this) {
+            if (!pRefresh) {
+                T ret = cache.get(key);
+                if (ret != null) {
+                    return ret;
+                }
+            }
+            listenTo(server);
+            invalidationsBefore = invalidations;
+        }
+        T ret = extractor.apply(server.getMBeanInfo(pName));
+        synchronized (this) {
+            if (invalidations == invalidationsBefore) {
+                cache.put(key, ret);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Whether data for MBeans of the given server is cached at all
+     *
+     * @param pServer server to check
+     * @return true if the cache is enabled and the server is a local one
+     */
+    boolean isCaching(MBeanServerConnection pServer) {
+        return maxEntries > 0 && pServer instanceof MBeanServer;
+    }
+
+    /**
+     * Remove all entries and stop listening for MBean registrations
+     */
+    synchronized void clear() {
+        for (Map.Entry<MBeanServer, Consumer<MBeanServerNotification>> entry : listeners.entrySet()) {
+            MBeanRegistrationListener.unsubscribe(entry.getKey(), entry.getValue());
+        }
+        listeners.clear();
+        cache.clear();
+        invalidations++;
+    }
+
+    /**
+     * Number of cached entries
+     *
+     * @return number of MBeans cached
+     */
+    synchronized int size() {
+        return cache.size();
+    }
+
+    // Called with the lock held
+    private void listenTo(MBeanServer pServer) {
+        if (!listeners.containsKey(pServer)) {
+            Consumer<MBeanServerNotification> listener = pNotification -> invalidate(pServer, pNotification);
+            MBeanRegistrationListener.subscribe(pServer, listener);
+            listeners.put(pServer, listener);
+        }
+    }
+
+    private synchronized void invalidate(MBeanServer pServer, MBeanServerNotification pNotification) {
+        cache.remove(new Key(pServer, pNotification.getMBeanName()));
+        invalidations++;
+    }
+
+    private record Key(MBeanServer server, ObjectName name) {
+
+        @Override
+        public boolean equals(Object pOther) {
+            // MBeanServers are compared by identity
+            return pOther instanceof Key other && server == other.server && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(server) + name.hashCode();
+        }
+    }
+}
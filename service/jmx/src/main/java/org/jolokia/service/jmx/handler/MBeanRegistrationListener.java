@@ -0,0 +1,93 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jmx.handler;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+
+import org.jolokia.server.core.util.jmx.JmxUtil;
+
+/**
+ * Listener for MBean (un)registrations of an MBeanServer, shared by all command handlers which keep data
+ * about MBeans (like the {@link MBeanInfoCache MBeanInfo caches} or the list cache). Only a single listener is
+ * added to the {@link javax.management.MBeanServerDelegate} of a server, which forwards the notifications to
+ * all subscribers. The listener is removed again when the last subscriber is gone.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+final class MBeanRegistrationListener implements NotificationListener {
+
+    // Listeners per server (compared by identity), guarded by the class
+    private static final Map<MBeanServerConnection, MBeanRegistrationListener> LISTENERS = new IdentityHashMap<>();
+
+    private final List<Consumer<MBeanServerNotification>> subscribers = new CopyOnWriteArrayList<>();
+
+    private MBeanRegistrationListener() {
+    }
+
+    /**
+     * Get notified about MBean (un)registrations of the given server
+     *
+     * @param pServer server to listen to
+     * @param pSubscriber called for each notification. It's called by the thread (un)registering an MBean, so it
+     *                    must be quick
+     * @throws IllegalStateException if no listener can be added to the server
+     */
+    static synchronized void subscribe(MBeanServerConnection pServer, Consumer<MBeanServerNotification> pSubscriber) {
+        MBeanRegistrationListener listener = LISTENERS.get(pServer);
+        if (listener == null) {
+            listener = new MBeanRegistrationListener();
+            JmxUtil.addMBeanRegistrationListener(pServer, listener, null);
+            LISTENERS.put(pServer, listener);
+        }
+        listener.subscribers.add(pSubscriber);
+    }
+
+    /**
+     * Stop getting notified. The listener is removed from the server if this is the last subscriber.
+     *
+     * @param pServer server given when subscribing
+     * @param pSubscriber subscriber given when subscribing
+     */
+    static synchronized void unsubscribe(MBeanServerConnection pServer, Consumer<MBeanServerNotification> pSubscriber) {
+        MBeanRegistrationListener listener = LISTENERS.get(pServer);
+        if (listener != null && listener.subscribers.remove(pSubscriber) && listener.subscribers.isEmpty()) {
+            LISTENERS.remove(pServer);
+            try {
+                JmxUtil.removeMBeanRegistrationListener(pServer, listener);
+            } catch (IllegalStateException e) {
+                // ignore, the server may be gone already
+            }
+        }
+    }
+
+    @Override
+    public void handleNotification(Notification pNotification, Object pHandback) {
+        if (pNotification instanceof MBeanServerNotification notification) {
+            for (Consumer<MBeanServerNotification> subscriber : subscribers) {
+                subscriber.accept(notification);
+            }
+        }
+    }
+}
@@ -24,6 +24,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.management.Attribute;
 import javax.management.AttributeList;
 import javax.management.AttributeNotFoundException;
@@ -38,8 +45,14 @@ import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
 import org.jolokia.core.service.serializer.ValueFaultHandler;
+import org.jolokia.server.core.config.ConfigKey;
 import org.jolokia.server.core.request.JolokiaReadRequest;
+import org.jolokia.server.core.service.api.JolokiaContext;
+import org.jolokia.server.core.util.ConfigUtil;
+import org.jolokia.server.core.util.DaemonThreadFactory;
 import org.jolokia.server.core.util.RequestType;
+import org.jolokia.server.core.util.SubjectAccess;
+import org.jolokia.server.core.util.SubjectAccessProvider;
 import org.jolokia.server.core.util.jmx.MBeanServerAccess;
 
 /**
@@ -50,6 +63,55 @@ import org.jolokia.server.core.util.jmx.MBeanServerAccess;
  */
 public class ReadHandler extends AbstractCommandHandler<JolokiaReadRequest> {
 
+    private static final String THREAD_NAME_PREFIX = "jolokia-read-";
+
+    // how long idle worker threads are kept
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    // number of queued reads per thread. When the queue is full, the request thread reads the MBean itself
+    private static final int QUEUE_SIZE_PER_THREAD = 16;
+
+    // Names of readable attributes per MBean
+    private MBeanInfoCache<List<String>> attributeNamesCache;
+
+    // Executor for reading the attributes of MBeans matching a pattern in parallel. null when reading sequentially
+    private ThreadPoolExecutor executor;
+
+    // reads are executed with the Subject of the request, the threads are created without any Subject
+    private SubjectAccess subjectAccess;
+
+    @Override
+    public void init(JolokiaContext pContext, String pProvider) {
+        super.init(pContext, pProvider);
+        attributeNamesCache = new MBeanInfoCache<>(ConfigUtil.getInt(pContext, ConfigKey.MBEAN_INFO_CACHE_SIZE),
+                                                   ReadHandler::extractReadableAttributeNames);
+        int threads = ConfigUtil.getInt(pContext, ConfigKey.READ_PATTERN_THREADS);
+        if (threads > 0) {
+            subjectAccess = SubjectAccessProvider.getSubjectAccess();
+            executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                              new ArrayBlockingQueue<>(threads * QUEUE_SIZE_PER_THREAD),
+                                              subjectAccess.withoutSubject(new DaemonThreadFactory(THREAD_NAME_PREFIX)),
+                                              ReadHandler::runInCaller);
+            executor.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    @Override
+    public void destroy() throws JMException {
+        if (attributeNamesCache != null) {
+            attributeNamesCache.clear();
+        }
+        if (executor != null) {
+            // cancel queued reads, so that nobody waits for them
+            for (Runnable read : executor.shutdownNow()) {
+                if (read instanceof Future<?> future) {
+                    future.cancel(false);
+                }
+            }
+            executor = null;
+        }
+    }
+
     @Override
     public RequestType getType() {
         return RequestType.READ;
@@ -134,17 +196,21 @@ public class ReadHandler extends AbstractCommandHandler<JolokiaReadRequest> {
 
         Map<String, Object> result = new LinkedHashMap<>();
 
-        for (ObjectName name : names) {
-            try {
-                String key = pRequest.getOrderedObjectName(name);
-                Map<String, Object> values = fetchAttributesForMBean(jmxAccess, name, pRequest, faultHandler, ResolveMode.FILTERED);
-                if (!values.isEmpty()) {
-                    result.put(key, values);
+        if (executor != null && names.size() > 1) {
+            fetchAttributesInParallel(jmxAccess, names, pRequest, faultHandler, result);
+        } else {
+            for (ObjectName name : names) {
+                try {
+                    String key = pRequest.getOrderedObjectName(name);
+                    Map<String, Object> values = fetchAttributesForMBean(jmxAccess, name, pRequest, faultHandler, ResolveMode.FILTERED);
+                    if (!values.isEmpty()) {
+                        result.put(key, values);
+                    }
+                } catch (InstanceNotFoundException ignored) {
+                    // Since MBean can be registered/deregistered dynamically, it can happen here, that
+                    // an MBean has been already unregistered in the meantime. We simply ignore an InstanceNotFoundException
+                    // here and go on ....
                 }
-            } catch (InstanceNotFoundException ignored) {
-                // Since MBean can be registered/deregistered dynamically, it can happen here, that
-                // an MBean has been already unregistered in the meantime. We simply ignore an InstanceNotFoundException
-                // here and go on ....
             }
         }
         if (result.isEmpty()) {
@@ -154,6 +220,74 @@ public class ReadHandler extends AbstractCommandHandler<JolokiaReadRequest> {
         return result;
     }
 
+    /**
+     * Fetch the attributes of all given MBeans concurrently, with at most as many MBeans being read at once
+     * as configured with {@link ConfigKey#READ_PATTERN_THREADS}. The result keeps the order of the names.
+     * The MBeans are read with the {@link javax.security.auth.Subject} of the current request.
+     *
+     * @param jmxAccess
+     * @param pNames
+     * @param pRequest
+     * @param pFaultHandler
+     * @param pResult map to add the values to, keyed by MBean name
+     * @throws IOException
+     * @throws JMException
+     */
+    private void fetchAttributesInParallel(MBeanServerAccess jmxAccess, Set<ObjectName> pNames, JolokiaReadRequest pRequest,
+                                           ValueFaultHandler pFaultHandler, Map<String, Object> pResult)
+            throws IOException, JMException {
+        Map<ObjectName, Future<Map<String, Object>>> futures = new LinkedHashMap<>();
+        try {
+            for (ObjectName name : pNames) {
+                futures.put(name, executor.submit(subjectAccess.withCurrentSubject(
+                    () -> fetchAttributesForMBean(jmxAccess, name, pRequest, pFaultHandler, ResolveMode.FILTERED))));
+            }
+            for (Map.Entry<ObjectName, Future<Map<String, Object>>> entry : futures.entrySet()) {
+                try {
+                    Map<String, Object> values = entry.getValue().get();
+                    if (!values.isEmpty()) {
+                        pResult.put(pRequest.getOrderedObjectName(entry.getKey()), values);
+                    }
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof InstanceNotFoundException) {
+                        // MBean has been unregistered in the meantime, same as for sequential reading
+                        continue;
+                    }
+                    if (cause instanceof IOException ioException) {
+                        throw ioException;
+                    } else if (cause instanceof JMException jmException) {
+                        throw jmException;
+                    } else if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    } else if (cause instanceof Error error) {
+                        throw error;
+                    }
+                    throw new IllegalStateException("Cannot read attributes of " + entry.getKey() + ": " + cause, cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading attributes of MBeans", e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Reading attributes of MBeans has been cancelled", e);
+        } finally {
+            // no-op for finished reads, stops the remaining ones in case of an error
+            for (Future<Map<String, Object>> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    // Like CallerRunsPolicy, but a read is not silently dropped when the handler has been stopped, as the
+    // request thread would wait for it forever
+    private static void runInCaller(Runnable pRead, ThreadPoolExecutor pExecutor) {
+        if (pExecutor.isShutdown()) {
+            throw new RejectedExecutionException("Read handler has been stopped");
+        }
+        pRead.run();
+    }
+
     /**
      * Main optimized logic for fetch one, more or all attributes for a single {@link ObjectName}.
      *
@@ -199,9 +333,11 @@ public class ReadHandler extends AbstractCommandHandler<JolokiaReadRequest> {
             }
         }
 
+        // check the restrictions for all attributes at once
+        Set<String> readable = context.getReadableAttributes(pName, attributes);
         for (String attribute : attributes) {
             try {
-                checkRestriction(pName, attribute);
+                checkRestriction(readable, pName, attribute);
                 if (allFetched) {
                     // no need to fetch it again!
                     result.put(attribute, mapping.get(attribute));
@@ -246,6 +382,18 @@ public class ReadHandler extends AbstractCommandHandler<JolokiaReadRequest> {
         }
     }
 
+    /**
+     * Jolokia-specific check for attribute permissions, with the permissions checked beforehand
+     * @param readable attributes which are allowed to be read
+     * @param mBeanName
+     * @param attribute
+     */
+    private void checkRestriction(Set<String> readable, ObjectName mBeanName, String attribute) {
+        if (!readable.contains(attribute)) {
+            throw new SecurityException("Reading attribute " + attribute + " is forbidden for MBean " + mBeanName.getCanonicalName());
+        }
+    }
+
     /**
      * Return matching {@link ObjectName MBean names}. We expect non-empty result, because READ handler needs
      * something to read attributes from. {@link InstanceNotFoundException} is thrown otherwise.
@@ -292,7 +440,11 @@ public class ReadHandler extends AbstractCommandHandler<JolokiaReadRequest> {
             return attributes;
         }
 
-        List<String> allAvailable = getMBeanAttributeNames(jmxAccess, pName);
+        // cached names might be outdated for a dynamic MBean, so when requesting attributes strictly we check unknown
+        // attributes against a fresh MBeanInfo. This is not done when filtering, where MBeans without the requested
+        // attributes are common
+        List<String> allAvailable = getMBeanAttributeNames(jmxAccess, pName,
+                                                           pMode == ResolveMode.STRICT ? attributes : Collections.emptyList());
         if (attributes.isEmpty()) {
             // we want all - not necessarily we WILL fetch all (RBAC?) but that's to be handled by the caller
             return allAvailable;
@@ -319,23 +471,39 @@ public class ReadHandler extends AbstractCommandHandler<JolokiaReadRequest> {
     }
 
     /**
-     * Get available MBean attribute names from {@link MBeanInfo}
+     * Get available MBean attribute names from {@link MBeanInfo}. The names are cached per MBean
+     * until the MBean is unregistered.
      * @param jmxAccess
      * @param pName
+     * @param pRequired attributes which should be available. If any of them is missing in the cached names,
+     *                  the names are fetched again
      * @return
      * @throws IOException
      * @throws JMException
      */
-    private List<String> getMBeanAttributeNames(MBeanServerAccess jmxAccess, ObjectName pName)
+    private List<String> getMBeanAttributeNames(MBeanServerAccess jmxAccess, ObjectName pName, List<String> pRequired)
             throws IOException, JMException {
-        MBeanInfo mBeanInfo = jmxAccess.call(pName, MBEAN_INFO_ACTION);
+        if (attributeNamesCache == null) {
+            // not initialized
+            return extractReadableAttributeNames(jmxAccess.call(pName, MBEAN_INFO_ACTION));
+        }
+        return jmxAccess.call(pName, (pConn, pObjectName, extraArgs) -> {
+            List<String> names = attributeNamesCache.get(pConn, pObjectName, false);
+            if (!names.containsAll(pRequired) && attributeNamesCache.isCaching(pConn)) {
+                names = attributeNamesCache.get(pConn, pObjectName, true);
+            }
+            return names;
+        });
+    }
+
+    private static List<String> extractReadableAttributeNames(MBeanInfo pMBeanInfo) {
         List<String> ret = new ArrayList<>();
-        for (MBeanAttributeInfo attrInfo : mBeanInfo.getAttributes()) {
+        for (MBeanAttributeInfo attrInfo : pMBeanInfo.getAttributes()) {
             if (attrInfo.isReadable()) {
                 ret.add(attrInfo.getName());
             }
         }
-        return ret;
+        return Collections.unmodifiableList(ret);
     }
 
     // Try multiple servers for fetching an attribute
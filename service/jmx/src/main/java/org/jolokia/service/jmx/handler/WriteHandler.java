@@ -17,7 +17,9 @@ package org.jolokia.service.jmx.handler;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.management.Attribute;
 import javax.management.AttributeNotFoundException;
 import javax.management.JMException;
@@ -29,10 +31,13 @@ import javax.management.ObjectName;
 import javax.management.openmbean.OpenMBeanAttributeInfo;
 import javax.management.openmbean.OpenType;
 
+import org.jolokia.server.core.config.ConfigKey;
 import org.jolokia.server.core.request.BadRequestException;
 import org.jolokia.server.core.request.JolokiaRequest;
 import org.jolokia.server.core.request.JolokiaWriteRequest;
+import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.service.serializer.Serializer;
+import org.jolokia.server.core.util.ConfigUtil;
 import org.jolokia.server.core.util.RequestType;
 
 /**
@@ -43,6 +48,23 @@ import org.jolokia.server.core.util.RequestType;
  */
 public class WriteHandler extends AbstractCommandHandler<JolokiaWriteRequest> {
 
+    // Attribute infos per MBean, indexed by attribute name
+    private MBeanInfoCache<Map<String, MBeanAttributeInfo>> attributesCache;
+
+    @Override
+    public void init(JolokiaContext pContext, String pProvider) {
+        super.init(pContext, pProvider);
+        attributesCache = new MBeanInfoCache<>(ConfigUtil.getInt(pContext, ConfigKey.MBEAN_INFO_CACHE_SIZE),
+                                               WriteHandler::extractAttributes);
+    }
+
+    @Override
+    public void destroy() throws JMException {
+        if (attributesCache != null) {
+            attributesCache.clear();
+        }
+    }
+
     @Override
     public RequestType getType() {
         return RequestType.WRITE;
@@ -60,14 +82,10 @@ public class WriteHandler extends AbstractCommandHandler<JolokiaWriteRequest> {
     public Object doHandleSingleServerRequest(MBeanServerConnection server, JolokiaWriteRequest request)
             throws IOException, JMException, BadRequestException {
 
-        MBeanInfo mInfo = server.getMBeanInfo(request.getObjectName());
-        MBeanAttributeInfo aInfo = null;
-
-        for (MBeanAttributeInfo i : mInfo.getAttributes()) {
-            if (i.getName().equals(request.getAttributeName())) {
-                aInfo = i;
-                break;
-            }
+        MBeanAttributeInfo aInfo = attributesCache.get(server, request.getObjectName(), false).get(request.getAttributeName());
+        if (aInfo == null || !aInfo.isWritable()) {
+            // cached info might be outdated for a dynamic MBean
+            aInfo = attributesCache.get(server, request.getObjectName(), true).get(request.getAttributeName());
         }
 
         if (aInfo == null) {
@@ -98,6 +116,15 @@ public class WriteHandler extends AbstractCommandHandler<JolokiaWriteRequest> {
         return values.oldValue;
     }
 
+    // Index all attribute infos by name. The first one wins in the unlikely case of duplicates.
+    private static Map<String, MBeanAttributeInfo> extractAttributes(MBeanInfo pMBeanInfo) {
+        Map<String, MBeanAttributeInfo> ret = new HashMap<>();
+        for (MBeanAttributeInfo info : pMBeanInfo.getAttributes()) {
+            ret.putIfAbsent(info.getName(), info);
+        }
+        return ret;
+    }
+
     private Values getOpenTypeAttribute(OpenType<?> pOpenType, Object pCurrentValue, JolokiaWriteRequest pRequest) throws BadRequestException {
         // we treat OpenTypes and MXBeans as "whole" values and we don't support getting part of it (using path)
         if (pRequest.getPathParts() != null && !pRequest.getPathParts().isEmpty()) {
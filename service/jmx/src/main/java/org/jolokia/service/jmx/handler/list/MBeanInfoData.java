@@ -22,8 +22,10 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
+import javax.management.Descriptor;
 import javax.management.InstanceNotFoundException;
 import javax.management.IntrospectionException;
+import javax.management.JMX;
 import javax.management.MBeanInfo;
 import javax.management.MBeanServer;
 import javax.management.MBeanServerConnection;
@@ -150,8 +152,8 @@ public class MBeanInfoData {
     // whether to use optimized list() response (with cache/domain)
     private boolean listCache;
 
-    private final Map<ObjectName, JSONObject> cache;
-    private final Map<ObjectName, JSONObject> noOpenTypeCache;
+    // cache of JSON representations of MBeanInfo, may be null
+    private final MBeanInfoJsonCache cache;
 
     static {
         for (DataUpdater updater : new DataUpdater[] {
@@ -179,11 +181,11 @@ public class MBeanInfoData {
      *                         and is left untouched.
      * @param pProvider
      * @param pRequest
-     * @param pMBeanInfoCache
-     * @param pNoOpenTypeCache
+     * @param pMBeanInfoCache  cache of JSON representations of {@link MBeanInfo} (or {@code null} when
+     *                         nothing is cached)
      */
     public MBeanInfoData(Deque<String> pPathStack, String pProvider, JolokiaListRequest pRequest,
-                         Map<ObjectName, JSONObject> pMBeanInfoCache, Map<ObjectName, JSONObject> pNoOpenTypeCache) throws BadRequestException {
+                         MBeanInfoJsonCache pMBeanInfoCache) throws BadRequestException {
         // these properties may come different with each request
         maxDepth = pRequest.getParameterAsInt(ConfigKey.MAX_DEPTH);
         useCanonicalName = pRequest.getParameterAsBool(ConfigKey.CANONICAL_NAMING);
@@ -197,7 +199,6 @@ public class MBeanInfoData {
         }
 
         cache = pMBeanInfoCache;
-        noOpenTypeCache = pNoOpenTypeCache;
 
         // Stack of path elements for Jolokia list operation. Two first elements are for {@link ObjectName#getDomain()}
         // and {@link ObjectName#getCanonicalKeyPropertyListString()}, 3rd element is to select single updater to use
@@ -486,19 +487,19 @@ public class MBeanInfoData {
      * @param customUpdaters
      */
     public void addFullMBeanInfo(MBeanServerConnection pConn, Map<String, Object> pMBeanMap, ObjectName pObjectName, MBeanInfo pMBeanInfo, ObjectName pName, Set<DataUpdater> customUpdaters) {
-        JSONObject cached = cache != null ? cache.get(pObjectName) : null;
-        JSONObject cachedWithoutOpenType = noOpenTypeCache != null ? noOpenTypeCache.get(pObjectName) : null;
+        JSONObject cached = cache != null ? cache.get(pObjectName, listOpenTypes) : null;
+        // a complete JSON representation of an immutable MBeanInfo (like the one of all standard MBeans
+        // and MXBeans) is cached for the next list request
+        JSONObject toCache = cache != null && cached == null && selectedUpdater == null && hasImmutableInfo(pMBeanInfo) ?
+            new JSONObject() : null;
         boolean updaterFound = false;
         // built-in updaters first
         for (DataUpdater updater : UPDATERS.values()) {
             String key = updater.getKey();
             if (selectedUpdater == null || key.equals(selectedUpdater)) {
-                if (listOpenTypes && cached != null && cached.containsKey(key)) {
-                    // from cache
+                if (cached != null && cached.containsKey(key)) {
+                    // from cache (with or without OpenTypes as requested)
                     pMBeanMap.put(key, cached.get(key));
-                } else if (!listOpenTypes && cachedWithoutOpenType != null && cachedWithoutOpenType.containsKey(key)) {
-                    // from cache - but without OpenTypes
-                    pMBeanMap.put(key, cachedWithoutOpenType.get(key));
                 } else {
                     // by doing introspection
                     if (updater instanceof OpenTypeAwareDataUpdate updater2) {
@@ -506,10 +507,16 @@ public class MBeanInfoData {
                     } else {
                         updater.update(pMBeanMap, pObjectName, pMBeanInfo, null);
                     }
+                    if (toCache != null && pMBeanMap.containsKey(key)) {
+                        toCache.put(key, pMBeanMap.get(key));
+                    }
                 }
                 updaterFound = true;
             }
         }
+        if (toCache != null) {
+            cache.put(pObjectName, listOpenTypes, toCache);
+        }
         if (listKeys && (selectedUpdater == null || LIST_KEYS_UPDATER.getKey().equals(selectedUpdater))) {
             LIST_KEYS_UPDATER.update(pMBeanMap, pObjectName, pMBeanInfo, null);
             updaterFound = true;
@@ -542,6 +549,12 @@ public class MBeanInfoData {
         }
     }
 
+    // "immutableInfo" is a standard descriptor field, which is set to "true" for standard MBeans and MXBeans
+    private boolean hasImmutableInfo(MBeanInfo pMBeanInfo) {
+        Descriptor descriptor = pMBeanInfo.getDescriptor();
+        return descriptor != null && "true".equalsIgnoreCase(String.valueOf(descriptor.getFieldValue(JMX.IMMUTABLE_INFO_FIELD)));
+    }
+
     /**
      * Ensure that {@code pMap} contains a nested map under {@code pKey} key and returns such nested
      * {@link JSONObject}.
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jmx.handler.list;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MBeanInfo;
+import javax.management.ObjectName;
+
+import org.jolokia.json.JSONObject;
+
+/**
+ * <p>Bounded cache for JSON representations of {@link MBeanInfo} used when processing {@code list} requests. There
+ * are two variants for each MBean: with and without {@link javax.management.openmbean.OpenType} information.</p>
+ *
+ * <p>The cache is maintained incrementally: entries are removed with {@link #remove(ObjectName)} when the MBean
+ * gets unregistered. When the cache is full, the least recently used entry is evicted. Pinned entries (used for
+ * platform MXBeans, whose number doesn't grow with the number of application MBeans) are never evicted and don't
+ * count against the maximum number of entries.</p>
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public class MBeanInfoJsonCache implements MBeanInfoJsonCacheMBean {
+
+    private final int maxEntries;
+
+    // Guarded by "this"
+    private final Map<ObjectName, JSONObject> withOpenTypes;
+    private final Map<ObjectName, JSONObject> withoutOpenTypes;
+    private final Map<ObjectName, JSONObject> pinnedWithOpenTypes = new HashMap<>();
+    private final Map<ObjectName, JSONObject> pinnedWithoutOpenTypes = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Create a cache
+     *
+     * @param pMaxEntries maximum number of (not pinned) entries for each variant. With {@code 0} or less only
+     *                    pinned entries are cached
+     */
+    public MBeanInfoJsonCache(int pMaxEntries) {
+        maxEntries = pMaxEntries;
+        withOpenTypes = createLruMap();
+        withoutOpenTypes = createLruMap();
+    }
+
+    /**
+     * Get the cached JSON representation of an MBean's {@link MBeanInfo}
+     *
+     * @param pName       name of the MBean
+     * @param pOpenTypes  whether the representation with open type information is requested
+     * @return the cached JSON representation or {@code null} if not cached
+     */
+    public synchronized JSONObject get(ObjectName pName, boolean pOpenTypes) {
+        JSONObject ret = pinnedMap(pOpenTypes).get(pName);
+        if (ret == null) {
+            ret = map(pOpenTypes).get(pName);
+        }
+        (ret != null ? hits : misses).increment();
+        return ret;
+    }
+
+    /**
+     * Cache the JSON representation of an MBean's {@link MBeanInfo}
+     *
+     * @param pName      name of the MBean
+     * @param pOpenTypes whether the representation contains open type information
+     * @param pJson      JSON representation to cache
+     */
+    public synchronized void put(ObjectName pName, boolean pOpenTypes, JSONObject pJson) {
+        if (maxEntries > 0 && !pinnedMap(pOpenTypes).containsKey(pName)) {
+            map(pOpenTypes).put(pName, pJson);
+        }
+    }
+
+    /**
+     * Cache the JSON representation of an MBean's {@link MBeanInfo} as pinned entry, which is never evicted
+     * (but still removed when the MBean gets unregistered)
+     *
+     * @param pName      name of the MBean
+     * @param pOpenTypes whether the representation contains open type information
+     * @param pJson      JSON representation to cache
+     */
+    public synchronized void putPinned(ObjectName pName, boolean pOpenTypes, JSONObject pJson) {
+        map(pOpenTypes).remove(pName);
+        pinnedMap(pOpenTypes).put(pName, pJson);
+    }
+
+    /**
+     * Whether a JSON representation is cached for the given MBean. This doesn't update any statistics
+     * or the LRU order.
+     *
+     * @param pName      name of the MBean
+     * @param pOpenTypes which variant to check
+     * @return true if cached
+     */
+    public synchronized boolean contains(ObjectName pName, boolean pOpenTypes) {
+        return pinnedMap(pOpenTypes).containsKey(pName) || map(pOpenTypes).containsKey(pName);
+    }
+
+    /**
+     * Find a cached JSON representation for any MBean matching the given pattern. This doesn't update any
+     * statistics or the LRU order.
+     *
+     * @param pPattern   object name pattern
+     * @param pOpenTypes which variant to look for
+     * @return JSON representation of a matching MBean or {@code null} if there is none
+     */
+    public synchronized JSONObject findMatching(ObjectName pPattern, boolean pOpenTypes) {
+        JSONObject ret = findMatching(pinnedMap(pOpenTypes), pPattern);
+        return ret != null ? ret : findMatching(map(pOpenTypes), pPattern);
+    }
+
+    /**
+     * Remove both variants of an MBean, e.g. because it has been unregistered
+     *
+     * @param pName name of the MBean
+     */
+    public synchronized void remove(ObjectName pName) {
+        boolean removed = withOpenTypes.remove(pName) != null;
+        removed |= withoutOpenTypes.remove(pName) != null;
+        removed |= pinnedWithOpenTypes.remove(pName) != null;
+        removed |= pinnedWithoutOpenTypes.remove(pName) != null;
+        if (removed) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Remove all entries
+     */
+    public synchronized void clear() {
+        withOpenTypes.clear();
+        withoutOpenTypes.clear();
+        pinnedWithOpenTypes.clear();
+        pinnedWithoutOpenTypes.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int getSize() {
+        return withOpenTypes.size() + withoutOpenTypes.size() + pinnedWithOpenTypes.size() + pinnedWithoutOpenTypes.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        invalidations.reset();
+    }
+
+    private Map<ObjectName, JSONObject> map(boolean pOpenTypes) {
+        return pOpenTypes ? withOpenTypes : withoutOpenTypes;
+    }
+
+    private Map<ObjectName, JSONObject> pinnedMap(boolean pOpenTypes) {
+        return pOpenTypes ? pinnedWithOpenTypes : pinnedWithoutOpenTypes;
+    }
+
+    private JSONObject findMatching(Map<ObjectName, JSONObject> pMap, ObjectName pPattern) {
+        for (Map.Entry<ObjectName, JSONObject> entry : pMap.entrySet()) {
+            if (pPattern.apply(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private Map<ObjectName, JSONObject> createLruMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ObjectName, JSONObject> pEldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jmx.handler.list;
+
+/**
+ * MBean interface exposing statistics of the {@link MBeanInfoJsonCache} used for {@code list} requests.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public interface MBeanInfoJsonCacheMBean {
+
+    /**
+     * Name under which the cache is registered (the agent id is appended)
+     */
+    String OBJECT_NAME = "jolokia:type=ListCache";
+
+    /**
+     * Maximum number of cached JSON representations (per variant with and without open types), not counting
+     * the pinned entries of platform MXBeans
+     *
+     * @return maximum number of entries
+     */
+    int getMaxEntries();
+
+    /**
+     * Number of cached JSON representations, with and without open types, including pinned entries
+     *
+     * @return number of entries
+     */
+    int getSize();
+
+    /**
+     * Number of lookups which found a cached JSON representation
+     *
+     * @return number of cache hits
+     */
+    long getHits();
+
+    /**
+     * Number of lookups which didn't find a cached JSON representation
+     *
+     * @return number of cache misses
+     */
+    long getMisses();
+
+    /**
+     * Number of entries removed because the cache was full
+     *
+     * @return number of evictions
+     */
+    long getEvictions();
+
+    /**
+     * Number of entries removed because their MBean was unregistered
+     *
+     * @return number of invalidations
+     */
+    long getInvalidations();
+
+    /**
+     * Reset the hit, miss, eviction and invalidation counters
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jmx.handler.notification;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.management.AttributeNotFoundException;
+
+import org.jolokia.core.service.serializer.SerializeOptions;
+import org.jolokia.json.JSONObject;
+import org.jolokia.json.UTF8Writer;
+import org.jolokia.server.core.http.BackChannel;
+import org.jolokia.server.core.service.notification.NotificationResult;
+import org.jolokia.server.core.service.serializer.Serializer;
+
+/**
+ * Response of a long-poll {@code pull} command which is sent over a {@link BackChannel} when the
+ * notification backend delivers the result. The request thread is released after the channel has been
+ * opened, so no thread is blocked while waiting. The response has the same format as a regular
+ * Jolokia response.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+class LongPollResponse implements Consumer<NotificationResult> {
+
+    // Headers are set by the agent before the response is written
+    private static final Map<String, ?> CHANNEL_PARAMS = Map.of(
+        BackChannel.CONTENT_TYPE, "application/json",
+        BackChannel.ENCODING, "UTF-8",
+        BackChannel.SEND_HEADERS_ON_OPEN, "false");
+
+    private final BackChannel channel;
+    private final Serializer serializer;
+    private final JSONObject request;
+
+    // whether the channel has been opened
+    private boolean opened;
+
+    // result delivered before the channel has been opened
+    private NotificationResult pending;
+
+    /**
+     * Create a response which is written to the given channel
+     *
+     * @param pChannel back channel of the current request
+     * @param pSerializer serializer for the notifications
+     * @param pRequest request to add to the response or {@code null}
+     */
+    LongPollResponse(BackChannel pChannel, Serializer pSerializer, JSONObject pRequest) {
+        channel = pChannel;
+        serializer = pSerializer;
+        request = pRequest;
+    }
+
+    /**
+     * Open the back channel. A result which has been delivered already is sent immediately.
+     *
+     * @throws IOException if the channel can't be opened
+     */
+    synchronized void open() throws IOException {
+        channel.open(CHANNEL_PARAMS);
+        opened = true;
+        if (pending != null) {
+            send(pending);
+            pending = null;
+        }
+    }
+
+    /**
+     * Send the result to the client and close the channel
+     *
+     * @param pResult notifications to send
+     */
+    @Override
+    public synchronized void accept(NotificationResult pResult) {
+        if (opened) {
+            send(pResult);
+        } else {
+            pending = pResult;
+        }
+    }
+
+    private void send(NotificationResult pResult) {
+        try {
+            JSONObject response = new JSONObject();
+            if (request != null) {
+                response.put("request", request);
+            }
+            response.put("value", serializer.serialize(pResult, null /* no path */, SerializeOptions.DEFAULT));
+            response.put("status", 200);
+            response.put("timestamp", System.currentTimeMillis() / 1000);
+            Writer writer = new UTF8Writer(channel.getOutputStream());
+            response.writeJSONString(writer);
+            writer.flush();
+        } catch (IOException e) {
+            // Client is gone, the notifications are lost
+        } catch (AttributeNotFoundException e) {
+            // No path, no exception, so cant happen (TM) in 'serialize()'
+        } finally {
+            channel.close();
+        }
+    }
+}
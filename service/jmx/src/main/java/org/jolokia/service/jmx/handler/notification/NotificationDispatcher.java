@@ -21,15 +21,20 @@ import javax.management.MBeanException;
 import javax.management.ReflectionException;
 
 import org.jolokia.json.JSONObject;
+import org.jolokia.server.core.http.BackChannel;
+import org.jolokia.server.core.http.BackChannelHolder;
 import org.jolokia.server.core.request.BadRequestException;
 import org.jolokia.server.core.request.EmptyResponseException;
 import org.jolokia.server.core.request.notification.AddCommand;
 import org.jolokia.server.core.request.notification.ClientCommand;
 import org.jolokia.server.core.request.notification.NotificationCommand;
 import org.jolokia.server.core.request.notification.OpenCommand;
+import org.jolokia.server.core.request.notification.PullCommand;
 import org.jolokia.server.core.request.notification.RemoveCommand;
 import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.service.notification.NotificationBackendManager;
+import org.jolokia.server.core.service.notification.NotificationResult;
+import org.jolokia.server.core.service.serializer.Serializer;
 import org.jolokia.server.core.util.jmx.MBeanServerAccess;
 
 /**
@@ -45,10 +50,13 @@ public class NotificationDispatcher {
     private final NotificationListenerDelegate listenerDelegate;
     private final NotificationBackendManager backendManager;
 
+    private final JolokiaContext context;
+
     /**
      * Initialize backends and delegate
      */
     public NotificationDispatcher(JolokiaContext pContext) {
+        context = pContext;
         backendManager = new NotificationBackendManager(pContext);
         listenerDelegate = new NotificationListenerDelegate(backendManager);
     }
@@ -100,6 +108,11 @@ public class NotificationDispatcher {
                     throw new EmptyResponseException();
                 }
                 throw new IllegalArgumentException("Expected Notification OPEN command, got " + pCommand.getType());
+            case PULL:
+                if (pCommand instanceof PullCommand pullCommand) {
+                    return pull(pullCommand);
+                }
+                throw new IllegalArgumentException("Expected Notification PULL command, got " + pCommand.getType());
             case LIST:
                 return listenerDelegate.list(client);
         }
@@ -107,6 +120,34 @@ public class NotificationDispatcher {
         throw new BadRequestException("Unsupported notification command " + pCommand.getType());
     }
 
+    /**
+     * Pull the notifications for a listener. If none are available and the command allows waiting, the
+     * request is answered over the back channel as soon as the backend delivers the notifications.
+     *
+     * @param pCommand pull command
+     * @return the notifications available immediately
+     * @throws BadRequestException if the backend of the listener doesn't support pulling
+     * @throws EmptyResponseException if the answer is sent later over the back channel
+     */
+    private NotificationResult pull(PullCommand pCommand) throws IOException, BadRequestException, EmptyResponseException {
+        BackChannel channel = BackChannelHolder.get();
+        // no back channel within a bulk request, so answer immediately there
+        if (pCommand.getWait() <= 0 || channel == null) {
+            return listenerDelegate.pull(pCommand.getClient(), pCommand.getHandle(), 0, null);
+        }
+        JSONObject request = new JSONObject();
+        request.put("type", "notification");
+        request.putAll(pCommand.toJSON());
+        LongPollResponse response = new LongPollResponse(channel, context.getMandatoryService(Serializer.class), request);
+        NotificationResult result = listenerDelegate.pull(pCommand.getClient(), pCommand.getHandle(), pCommand.getWait(), response);
+        if (result != null) {
+            return result;
+        }
+        response.open();
+        // the response is written by the LongPollResponse, see the OPEN command for the handling in the agents
+        throw new EmptyResponseException();
+    }
+
     /**
      * Register a new client and return the client id along with the information
      * of all available backends
@@ -17,11 +17,13 @@ package org.jolokia.service.jmx.handler.notification;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
 
 import javax.management.*;
 
 import org.jolokia.server.core.http.BackChannel;
 import org.jolokia.server.core.http.BackChannelHolder;
+import org.jolokia.server.core.request.BadRequestException;
 import org.jolokia.server.core.request.EmptyResponseException;
 import org.jolokia.server.core.request.notification.OpenCommand;
 import org.jolokia.server.core.service.notification.*;
@@ -86,7 +88,8 @@ class NotificationListenerDelegate implements NotificationListener {
     void unregister(MBeanServerAccess pExecutor, String pClient)
         throws JMException, IOException {
         Client client = getClient(pClient);
-        for (String handle : client.getHandles()) {
+        // copy, as removing a listener removes its handle
+        for (String handle : new ArrayList<>(client.getHandles())) {
             removeListener(pExecutor, pClient, handle);
         }
         clients.remove(pClient);
@@ -228,24 +231,49 @@ class NotificationListenerDelegate implements NotificationListener {
      *
      * The back channel is obtained
      * @param pCommand command used for opening this channel
+     * @throws BadRequestException if there is no back channel for the current request, e.g. within a bulk request
      */
-    void openChannel(OpenCommand pCommand) throws IOException {
+    void openChannel(OpenCommand pCommand) throws IOException, BadRequestException {
         String clientId = pCommand.getClient();
         Client client = getClient(clientId);
         String mode = pCommand.getMode();
+        BackChannel newChannel = BackChannelHolder.get();
+        if (newChannel == null) {
+            throw new BadRequestException("No back channel available for client " + clientId +
+                                          " (channels can't be opened within bulk requests)");
+        }
         synchronized (client) {
             BackChannel channel = client.getBackChannel(mode);
             if (channel != null) {
                 channel.close();
             }
             NotificationBackend backend = backendManager.getBackend(mode);
-            channel = BackChannelHolder.get();
-            channel.open(backend.getConfig());
-            backend.channelInit(client, channel);
-            client.setBackChannel(mode, channel);
+            newChannel.open(backend.getConfig());
+            backend.channelInit(client, newChannel);
+            client.setBackChannel(mode, newChannel);
         }
     }
 
+    /**
+     * Fetch the notifications collected for a listener from its backend, optionally waiting for
+     * the next notification.
+     *
+     * @param pClient client id
+     * @param pHandle handle of the listener
+     * @param pWait time in milliseconds to wait for a notification if there is none
+     * @param pCallback callback receiving the result if it is not returned immediately
+     * @return the collected notifications or {@code null} if the result is given to the callback later
+     * @throws BadRequestException if the backend of the listener doesn't support pulling
+     * @see NotificationBackend#pull(String, String, long, Consumer)
+     */
+    NotificationResult pull(String pClient, String pHandle, long pWait, Consumer<NotificationResult> pCallback)
+            throws BadRequestException {
+        Client client = getClient(pClient);
+        ListenerRegistration registration = client.get(pHandle);
+        NotificationBackend backend = backendManager.getBackend(registration.getBackendMode());
+        return backend.pull(pClient, pHandle, pWait, pCallback);
+    }
+
     /**
      * List all listener registered by a client along with its configuration parameters
      *
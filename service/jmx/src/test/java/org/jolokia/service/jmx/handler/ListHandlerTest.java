@@ -49,6 +49,8 @@ import org.jolokia.server.core.util.jmx.DefaultMBeanServerAccess;
 import org.jolokia.server.core.util.jmx.MBeanServerAccess;
 import org.jolokia.service.jmx.api.CacheKeyProvider;
 import org.jolokia.service.jmx.handler.list.DataKeys;
+import org.jolokia.service.jmx.handler.list.MBeanInfoJsonCacheMBean;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -68,9 +70,11 @@ public class ListHandlerTest extends BaseHandlerTest {
 
     private MBeanServerAccess executor;
 
+    private TestJolokiaContext ctx;
+
     @BeforeMethod
     public void createHandler() {
-        TestJolokiaContext ctx = new TestJolokiaContext();
+        ctx = new TestJolokiaContext();
         Set<JolokiaService<?>> discovered = new ClasspathServiceCreator(getClass().getClassLoader(), "services").getServices(new StdoutLogHandler());
         for (JolokiaService<?> service : discovered) {
             if (!(service instanceof DataUpdater || service instanceof CacheKeyProvider)) {
@@ -95,6 +99,108 @@ public class ListHandlerTest extends BaseHandlerTest {
         executor = new DefaultMBeanServerAccess();
     }
 
+    @AfterMethod
+    public void destroyHandler() throws JMException {
+        handler.destroy();
+        handlerWithRealm.destroy();
+    }
+
+    @Test
+    public void cacheMaintainedOnRegistration() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName cacheName = new ObjectName(MBeanInfoJsonCacheMBean.OBJECT_NAME + ",agent=" + ctx.getAgentDetails().getAgentId());
+        int size = (Integer) server.getAttribute(cacheName, "Size");
+        assertTrue(size > 0);
+
+        // a new member of a platform MXBean group gets the cached representation of the group
+        ObjectName pool = new ObjectName("java.lang:type=MemoryPool,name=JolokiaTestPool");
+        server.registerMBean(new ExecData(), pool);
+        try {
+            assertEquals(server.getAttribute(cacheName, "Size"), size + 2);
+        } finally {
+            server.unregisterMBean(pool);
+        }
+        assertEquals(server.getAttribute(cacheName, "Size"), size);
+        assertEquals(server.getAttribute(cacheName, "Invalidations"), 1L);
+
+        long hits = (Long) server.getAttribute(cacheName, "Hits");
+        JolokiaListRequest request = new JolokiaRequestBuilder(RequestType.LIST)
+                .pathParts("java.lang", "type=Runtime")
+                .build();
+        execute(handler, request);
+        assertEquals(server.getAttribute(cacheName, "Hits"), hits + 1);
+
+        handler.destroy();
+        assertFalse(server.isRegistered(cacheName));
+    }
+
+    @Test
+    public void cacheEvictsLeastRecentlyUsed() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        TestJolokiaContext smallCtx = new TestJolokiaContext.Builder()
+                .config(ConfigKey.LIST_MBEAN_INFO_CACHE_SIZE, "1")
+                .build();
+        ListHandler small = new ListHandler();
+        small.init(smallCtx, null);
+        ObjectName cacheName = new ObjectName(MBeanInfoJsonCacheMBean.OBJECT_NAME + ",agent=" + smallCtx.getAgentDetails().getAgentId());
+        ObjectName exec = new ObjectName("jolokia.test:type=ListCache,name=exec");
+        ObjectName write = new ObjectName("jolokia.test:type=ListCache,name=write");
+        server.registerMBean(new ExecData(), exec);
+        server.registerMBean(new WriteData(), write);
+        try {
+            int size = (Integer) server.getAttribute(cacheName, "Size");
+            assertTrue(size > 0);
+
+            // standard MBeans have an immutable MBeanInfo, so they're cached when listed
+            JSONObject first = execute(small, listRequest(exec));
+            assertEquals(server.getAttribute(cacheName, "Size"), size + 1);
+            assertEquals(execute(small, listRequest(exec)), first);
+            assertEquals(server.getAttribute(cacheName, "Hits"), 1L);
+
+            // only one entry besides the pinned platform MXBeans
+            execute(small, listRequest(write));
+            assertEquals(server.getAttribute(cacheName, "Size"), size + 1);
+            assertEquals(server.getAttribute(cacheName, "Evictions"), 1L);
+            assertEquals(execute(small, listRequest(exec)), first);
+            assertEquals(server.getAttribute(cacheName, "Hits"), 1L);
+            assertEquals(server.getAttribute(cacheName, "Evictions"), 2L);
+        } finally {
+            server.unregisterMBean(exec);
+            server.unregisterMBean(write);
+            small.destroy();
+        }
+    }
+
+    @Test
+    public void platformMBeansCachedWithoutCacheSize() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        TestJolokiaContext noCacheCtx = new TestJolokiaContext.Builder()
+                .config(ConfigKey.LIST_MBEAN_INFO_CACHE_SIZE, "0")
+                .build();
+        ListHandler noCache = new ListHandler();
+        noCache.init(noCacheCtx, null);
+        ObjectName cacheName = new ObjectName(MBeanInfoJsonCacheMBean.OBJECT_NAME + ",agent=" + noCacheCtx.getAgentDetails().getAgentId());
+        ObjectName exec = new ObjectName("jolokia.test:type=ListCache,name=exec");
+        server.registerMBean(new ExecData(), exec);
+        try {
+            int size = (Integer) server.getAttribute(cacheName, "Size");
+            assertTrue(size > 0);
+            execute(noCache, listRequest(new ObjectName("java.lang:type=Runtime")));
+            assertEquals(server.getAttribute(cacheName, "Hits"), 1L);
+            execute(noCache, listRequest(exec));
+            assertEquals(server.getAttribute(cacheName, "Size"), size);
+        } finally {
+            server.unregisterMBean(exec);
+            noCache.destroy();
+        }
+    }
+
+    private JolokiaListRequest listRequest(ObjectName pName) throws BadRequestException {
+        return new JolokiaRequestBuilder(RequestType.LIST)
+                .pathParts(pName.getDomain(), pName.getKeyPropertyListString())
+                .build();
+    }
+
     @Test
     public void singleSlashPath() throws Exception {
         for (String p : new String[]{null, "", "/"}) {
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jmx.handler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.*;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.easymock.EasyMock.*;
+import static org.testng.Assert.*;
+
+/**
+ * @author roland
+ * @since 2.6.1
+ */
+public class MBeanInfoCacheTest {
+
+    private MBeanServer server;
+    private final AtomicInteger fetched = new AtomicInteger();
+    private MBeanInfoCache<String> cache;
+
+    @BeforeMethod
+    public void setup() {
+        server = MBeanServerFactory.newMBeanServer();
+        fetched.set(0);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @Test
+    public void cached() throws Exception {
+        cache = createCache(10);
+        ObjectName name = register("jolokia:test=cache1");
+        assertEquals(cache.get(server, name, false), ExecData.class.getName());
+        assertEquals(cache.get(server, name, false), ExecData.class.getName());
+        assertEquals(fetched.get(), 1);
+        cache.get(server, name, true);
+        assertEquals(fetched.get(), 2);
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void invalidatedByUnregistration() throws Exception {
+        cache = createCache(10);
+        ObjectName name = register("jolokia:test=cache1");
+        ObjectName other = register("jolokia:test=cache2");
+        cache.get(server, name, false);
+        cache.get(server, other, false);
+        server.unregisterMBean(name);
+        assertEquals(cache.size(), 1);
+        try {
+            cache.get(server, name, false);
+            fail("MBean is gone");
+        } catch (InstanceNotFoundException exp) {
+            // expected
+        }
+        server.registerMBean(new WriteData(), name);
+        assertEquals(cache.get(server, name, false), WriteData.class.getName());
+        assertEquals(fetched.get(), 3);
+    }
+
+    @Test
+    public void bounded() throws Exception {
+        cache = createCache(2);
+        ObjectName n1 = register("jolokia:test=cache1");
+        ObjectName n2 = register("jolokia:test=cache2");
+        ObjectName n3 = register("jolokia:test=cache3");
+        cache.get(server, n1, false);
+        cache.get(server, n2, false);
+        // touch n1, so n2 is evicted
+        cache.get(server, n1, false);
+        cache.get(server, n3, false);
+        assertEquals(cache.size(), 2);
+        assertEquals(fetched.get(), 3);
+        cache.get(server, n1, false);
+        assertEquals(fetched.get(), 3);
+        cache.get(server, n2, false);
+        assertEquals(fetched.get(), 4);
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        cache = createCache(0);
+        ObjectName name = register("jolokia:test=cache1");
+        cache.get(server, name, false);
+        cache.get(server, name, false);
+        assertEquals(fetched.get(), 2);
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void remoteConnectionNotCached() throws Exception {
+        cache = createCache(10);
+        ObjectName name = new ObjectName("jolokia:test=remote");
+        MBeanServerConnection connection = createMock(MBeanServerConnection.class);
+        expect(connection.getMBeanInfo(name))
+            .andReturn(new MBeanInfo("remote", null, null, null, null, null)).times(2);
+        replay(connection);
+        assertEquals(cache.get(connection, name, false), "remote");
+        assertEquals(cache.get(connection, name, false), "remote");
+        verify(connection);
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void clear() throws Exception {
+        cache = createCache(10);
+        ObjectName name = register("jolokia:test=cache1");
+        cache.get(server, name, false);
+        cache.clear();
+        assertEquals(cache.size(), 0);
+        cache.get(server, name, false);
+        assertEquals(fetched.get(), 2);
+    }
+
+    @Test
+    public void sharedRegistrationListener() throws Exception {
+        AtomicInteger listeners = new AtomicInteger();
+        MBeanServer countingServer = (MBeanServer) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] { MBeanServer.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("addNotificationListener")) {
+                    listeners.incrementAndGet();
+                } else if (method.getName().equals("removeNotificationListener")) {
+                    listeners.decrementAndGet();
+                }
+                try {
+                    return method.invoke(server, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        cache = createCache(10);
+        MBeanInfoCache<String> other = createCache(10);
+        try {
+            ObjectName name = register("jolokia:test=cache1");
+            cache.get(countingServer, name, false);
+            other.get(countingServer, name, false);
+            assertEquals(listeners.get(), 1);
+
+            server.unregisterMBean(name);
+            assertEquals(cache.size(), 0);
+            assertEquals(other.size(), 0);
+
+            server.registerMBean(new ExecData(), name);
+            cache.get(countingServer, name, false);
+            other.get(countingServer, name, false);
+            cache.clear();
+            assertEquals(listeners.get(), 1);
+            server.unregisterMBean(name);
+            assertEquals(other.size(), 0);
+        } finally {
+            other.clear();
+        }
+        assertEquals(listeners.get(), 0);
+    }
+
+    // ===============================================================================
+
+    private MBeanInfoCache<String> createCache(int pMaxEntries) {
+        return new MBeanInfoCache<>(pMaxEntries, info -> {
+            fetched.incrementAndGet();
+            return info.getClassName();
+        });
+    }
+
+    private ObjectName register(String pName) throws JMException {
+        ObjectName name = new ObjectName(pName);
+        server.registerMBean(new ExecData(), name);
+        return name;
+    }
+}
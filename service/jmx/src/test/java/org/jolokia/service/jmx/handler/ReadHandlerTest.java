@@ -20,6 +20,8 @@ import java.lang.reflect.Method;
 import java.util.*;
 
 import javax.management.*;
+import javax.security.auth.Subject;
+import javax.security.auth.x500.X500Principal;
 
 import org.jolokia.json.JSONObject;
 import org.jolokia.server.core.config.ConfigKey;
@@ -28,6 +30,8 @@ import org.jolokia.server.core.request.JolokiaReadRequest;
 import org.jolokia.server.core.request.JolokiaRequestBuilder;
 import org.jolokia.server.core.service.api.Restrictor;
 import org.jolokia.server.core.util.HttpMethod;
+import org.jolokia.server.core.util.SubjectAccess;
+import org.jolokia.server.core.util.SubjectAccessProvider;
 import org.jolokia.server.core.util.TestJolokiaContext;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -125,7 +129,7 @@ public class ReadHandlerTest extends BaseHandlerTest {
                 option(ConfigKey.IGNORE_ERRORS, "false").
                 build();
 
-        MBeanServer server = createMock(MBeanServer.class);
+        MBeanServer server = createMBeanServer();
         expect(server.isRegistered(testBeanName)).andStubReturn(true);
         expect(server.getAttributes(testBeanName,new String[] {"attr0", "attr1"})).andReturn(new AttributeList(List.of(
             new Attribute("attr0", "val0")
@@ -149,7 +153,7 @@ public class ReadHandlerTest extends BaseHandlerTest {
                 option(ConfigKey.IGNORE_ERRORS, "true").
                 build();
 
-        MBeanServer server = createMock(MBeanServer.class);
+        MBeanServer server = createMBeanServer();
         expect(server.isRegistered(testBeanName)).andStubReturn(true);
         expect(server.getAttributes(testBeanName,new String[] {"attr0", "attr1"})).andReturn(new AttributeList(List.of(
             new Attribute("attr0", "val0")
@@ -370,7 +374,7 @@ public class ReadHandlerTest extends BaseHandlerTest {
     }
 
     private MBeanServer prepareMultiAttributeTest(ObjectName pPatternMBean, ObjectName[] pBeans)
-            throws IOException, InstanceNotFoundException, ReflectionException, IntrospectionException {
+            throws IOException, InstanceNotFoundException, ReflectionException, IntrospectionException, ListenerNotFoundException {
         MBeanServer server = createMBeanServer();
         String[][] params = {
                 new String[] {"mem0","mem1","common" },
@@ -406,7 +410,7 @@ public class ReadHandlerTest extends BaseHandlerTest {
     @Test
     public void restrictAccess() throws Exception {
         Restrictor restrictor = createMock(Restrictor.class);
-        expect(restrictor.isAttributeReadAllowed(testBeanName, "attr")).andReturn(false);
+        expect(restrictor.getReadableAttributes(testBeanName, List.of("attr"))).andReturn(Collections.emptySet());
         expect(restrictor.isHttpMethodAllowed(HttpMethod.POST)).andReturn(true);
         ctx = new TestJolokiaContext.Builder().restrictor(restrictor).build();
         handler = new ReadHandler();
@@ -451,8 +455,97 @@ public class ReadHandlerTest extends BaseHandlerTest {
         verify(restrictor,server);
     }
 
-    private MBeanServer createMBeanServer() {
-        return createMock(MBeanServer.class);
+    @Test
+    @SuppressWarnings("unchecked")
+    public void cachedAttributeNames() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = new ObjectName("jolokia:type=counting");
+        CountingMBean mbean = new CountingMBean("attr0", "attr1");
+        server.registerMBean(mbean, name);
+        ReadHandler cachingHandler = new ReadHandler();
+        cachingHandler.init(new TestJolokiaContext(), null);
+        try {
+            JolokiaReadRequest request = new JolokiaRequestBuilder(READ, "jolokia:type=*").build();
+            int infoCalls = mbean.infoCalls;
+            for (int i = 0; i < 3; i++) {
+                Map<String, ?> res = (Map<String, ?>) cachingHandler.handleAllServerRequest(getMBeanServerManager(server), request, null);
+                assertEquals(Map.of("attr0", "attr0", "attr1", "attr1"), res.get("jolokia:type=counting"));
+            }
+            assertEquals(infoCalls + 1, mbean.infoCalls);
+
+            // cache entry is removed when MBean is registered again
+            server.unregisterMBean(name);
+            mbean = new CountingMBean("attr2");
+            server.registerMBean(mbean, name);
+            infoCalls = mbean.infoCalls;
+            Map<String, ?> res = (Map<String, ?>) cachingHandler.handleAllServerRequest(getMBeanServerManager(server), request, null);
+            assertEquals(Map.of("attr2", "attr2"), res.get("jolokia:type=counting"));
+            assertEquals(infoCalls + 1, mbean.infoCalls);
+        } finally {
+            cachingHandler.destroy();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parallelPatternRead() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        for (int i = 0; i < 10; i++) {
+            server.registerMBean(new CountingMBean("attr", "other" + i), new ObjectName("jolokia:type=parallel,idx=" + i));
+        }
+        ReadHandler parallelHandler = new ReadHandler();
+        parallelHandler.init(new TestJolokiaContext.Builder().config(ConfigKey.READ_PATTERN_THREADS, "3").build(), null);
+        try {
+            JolokiaReadRequest request = new JolokiaRequestBuilder(READ, "jolokia:type=parallel,*")
+                .attributes(List.of("attr", "other5"))
+                .build();
+            Map<String, ?> res = (Map<String, ?>) parallelHandler.handleAllServerRequest(getMBeanServerManager(server), request, null);
+            assertEquals(10, res.size());
+            for (int i = 0; i < 10; i++) {
+                Map<String, ?> values = (Map<String, ?>) res.get(request.getOrderedObjectName(new ObjectName("jolokia:type=parallel,idx=" + i)));
+                assertEquals(i == 5 ? Map.of("attr", "attr", "other5", "other5") : Map.of("attr", "attr"), values);
+            }
+        } finally {
+            parallelHandler.destroy();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parallelPatternReadWithSubject() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        for (int i = 0; i < 3; i++) {
+            server.registerMBean(new SubjectMBean(), new ObjectName("jolokia:type=subject,idx=" + i));
+        }
+        // a single thread, which is started during the request of the first user
+        ReadHandler parallelHandler = new ReadHandler();
+        parallelHandler.init(new TestJolokiaContext.Builder().config(ConfigKey.READ_PATTERN_THREADS, "1").build(), null);
+        SubjectAccess subjectAccess = SubjectAccessProvider.getSubjectAccess();
+        try {
+            JolokiaReadRequest request = new JolokiaRequestBuilder(READ, "jolokia:type=subject,*").attribute("user").build();
+            for (String user : new String[] { "CN=alice", "CN=bob", null }) {
+                Subject subject = user != null ? new Subject(true, Set.of(new X500Principal(user)), Set.of(), Set.of()) : null;
+                Map<String, ?> res = subjectAccess.callAs(subject,
+                    () -> (Map<String, ?>) parallelHandler.handleAllServerRequest(getMBeanServerManager(server), request, null));
+                assertEquals(3, res.size());
+                for (Object values : res.values()) {
+                    assertEquals(Map.of("user", user != null ? user : "none"), values);
+                }
+            }
+        } finally {
+            parallelHandler.destroy();
+        }
+    }
+
+    private MBeanServer createMBeanServer() throws InstanceNotFoundException, ListenerNotFoundException {
+        MBeanServer server = createMock(MBeanServer.class);
+        // the MBeanInfo cache listens for (un)registrations
+        server.addNotificationListener(eq(MBeanServerDelegate.DELEGATE_NAME), isA(NotificationListener.class),
+                                       isA(NotificationFilter.class), isNull());
+        expectLastCall().anyTimes();
+        server.removeNotificationListener(eq(MBeanServerDelegate.DELEGATE_NAME), isA(NotificationListener.class));
+        expectLastCall().anyTimes();
+        return server;
     }
 
     private MBeanAttributeInfo[] prepareMBeanInfos(MBeanServerConnection pConnection, ObjectName pObjectName, String[] pAttrs)
@@ -475,6 +568,88 @@ public class ReadHandlerTest extends BaseHandlerTest {
         return infos;
     }
 
+    // Dynamic MBean returning the attribute names as values and counting requests for its MBeanInfo
+    public static class CountingMBean implements DynamicMBean {
+        private final String[] attributes;
+        private volatile int infoCalls;
+
+        public CountingMBean(String... pAttributes) {
+            attributes = pAttributes;
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            if (!Arrays.asList(attributes).contains(attribute)) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return attribute;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] pAttributes) {
+            AttributeList ret = new AttributeList();
+            for (String attribute : pAttributes) {
+                if (Arrays.asList(attributes).contains(attribute)) {
+                    ret.add(new Attribute(attribute, attribute));
+                }
+            }
+            return ret;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            infoCalls++;
+            MBeanAttributeInfo[] infos = new MBeanAttributeInfo[attributes.length];
+            for (int i = 0; i < attributes.length; i++) {
+                infos[i] = new MBeanAttributeInfo(attributes[i], String.class.getName(), attributes[i], true, false, false);
+            }
+            return new MBeanInfo(CountingMBean.class.getName(), "Counting MBean", infos, null, null, null);
+        }
+    }
+
+    // MBean returning the name of the current Subject as value of its "user" attribute
+    public static class SubjectMBean extends CountingMBean {
+
+        public SubjectMBean() {
+            super("user");
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            super.getAttribute(attribute);
+            Subject subject = SubjectAccessProvider.getSubjectAccess().currentSubject();
+            return subject != null ? subject.getPrincipals().iterator().next().getName() : "none";
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] pAttributes) {
+            AttributeList ret = new AttributeList();
+            for (Attribute attribute : super.getAttributes(pAttributes).asList()) {
+                try {
+                    ret.add(new Attribute(attribute.getName(), getAttribute(attribute.getName())));
+                } catch (AttributeNotFoundException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return ret;
+        }
+    }
+
     // to prevent
     // java.lang.IllegalAccessException: no such field: javax.management.MBeanInfo$$$EasyMock$1.$callback/org.easymock.internal.ClassMockingData/putField
     public static class MockableMBeanInfo extends MBeanInfo {
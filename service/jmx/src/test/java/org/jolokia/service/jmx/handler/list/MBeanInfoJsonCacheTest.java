@@ -0,0 +1,125 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jmx.handler.list;
+
+import javax.management.ObjectName;
+
+import org.jolokia.json.JSONObject;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * @author roland
+ * @since 2.6.1
+ */
+public class MBeanInfoJsonCacheTest {
+
+    @Test
+    public void hitsAndMisses() throws Exception {
+        MBeanInfoJsonCache cache = new MBeanInfoJsonCache(10);
+        ObjectName name = new ObjectName("test:type=a");
+        JSONObject json = json("a");
+        cache.put(name, true, json);
+        assertSame(cache.get(name, true), json);
+        assertNull(cache.get(name, false));
+        assertEquals(cache.getHits(), 1);
+        assertEquals(cache.getMisses(), 1);
+        assertEquals(cache.getSize(), 1);
+
+        cache.resetStatistics();
+        assertEquals(cache.getHits(), 0);
+        assertEquals(cache.getMisses(), 0);
+    }
+
+    @Test
+    public void lruEviction() throws Exception {
+        MBeanInfoJsonCache cache = new MBeanInfoJsonCache(2);
+        ObjectName a = new ObjectName("test:type=a");
+        ObjectName b = new ObjectName("test:type=b");
+        ObjectName c = new ObjectName("test:type=c");
+        cache.put(a, false, json("a"));
+        cache.put(b, false, json("b"));
+        // "a" is now the most recently used entry
+        cache.get(a, false);
+        cache.put(c, false, json("c"));
+        assertTrue(cache.contains(a, false));
+        assertFalse(cache.contains(b, false));
+        assertTrue(cache.contains(c, false));
+        assertEquals(cache.getEvictions(), 1);
+        assertEquals(cache.getSize(), 2);
+    }
+
+    @Test
+    public void pinnedEntriesAreNotEvicted() throws Exception {
+        MBeanInfoJsonCache cache = new MBeanInfoJsonCache(1);
+        ObjectName memory = new ObjectName("java.lang:type=Memory");
+        ObjectName a = new ObjectName("test:type=a");
+        ObjectName b = new ObjectName("test:type=b");
+        cache.putPinned(memory, false, json("memory"));
+        cache.put(a, false, json("a"));
+        cache.put(b, false, json("b"));
+        assertTrue(cache.contains(memory, false));
+        assertFalse(cache.contains(a, false));
+        assertTrue(cache.contains(b, false));
+        assertEquals(cache.get(memory, false).get("desc"), "memory");
+        assertEquals(cache.getEvictions(), 1);
+        assertEquals(cache.getSize(), 2);
+
+        // but they're removed with their MBean
+        cache.remove(memory);
+        assertFalse(cache.contains(memory, false));
+        assertEquals(cache.getInvalidations(), 1);
+    }
+
+    @Test
+    public void removeBothVariants() throws Exception {
+        MBeanInfoJsonCache cache = new MBeanInfoJsonCache(10);
+        ObjectName name = new ObjectName("java.lang:type=MemoryPool,name=test");
+        cache.put(name, true, json("with"));
+        cache.put(name, false, json("without"));
+        assertEquals(cache.findMatching(new ObjectName("java.lang:type=MemoryPool,*"), false).get("desc"), "without");
+        assertNull(cache.findMatching(new ObjectName("java.lang:type=GarbageCollector,*"), false));
+
+        cache.remove(name);
+        assertEquals(cache.getSize(), 0);
+        assertEquals(cache.getInvalidations(), 1);
+        // removing an unknown MBean doesn't count
+        cache.remove(name);
+        assertEquals(cache.getInvalidations(), 1);
+    }
+
+    @Test
+    public void onlyPinned() throws Exception {
+        MBeanInfoJsonCache cache = new MBeanInfoJsonCache(0);
+        ObjectName name = new ObjectName("test:type=a");
+        cache.put(name, true, json("a"));
+        assertNull(cache.get(name, true));
+        assertEquals(cache.getSize(), 0);
+
+        ObjectName memory = new ObjectName("java.lang:type=Memory");
+        cache.putPinned(memory, true, json("memory"));
+        assertEquals(cache.get(memory, true).get("desc"), "memory");
+        assertEquals(cache.getSize(), 1);
+        assertEquals(cache.getEvictions(), 0);
+    }
+
+    private JSONObject json(String pDesc) {
+        JSONObject ret = new JSONObject();
+        ret.put("desc", pDesc);
+        return ret;
+    }
+}
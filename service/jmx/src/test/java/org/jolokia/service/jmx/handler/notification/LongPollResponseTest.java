@@ -0,0 +1,122 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jmx.handler.notification;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import org.jolokia.json.JSONObject;
+import org.jolokia.json.parser.JSONParser;
+import org.jolokia.server.core.http.BackChannel;
+import org.jolokia.server.core.service.notification.NotificationResult;
+import org.jolokia.server.core.util.TestSerializer;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.easymock.EasyMock.*;
+import static org.testng.Assert.*;
+
+/**
+ * @author roland
+ * @since 2.6.1
+ */
+public class LongPollResponseTest {
+
+    private BackChannel channel;
+    private ByteArrayOutputStream out;
+
+    @BeforeMethod
+    public void setup() {
+        channel = createMock(BackChannel.class);
+        out = new ByteArrayOutputStream();
+    }
+
+    @Test
+    public void resultAfterOpen() throws Exception {
+        expectOpenAndSend();
+        LongPollResponse response = createResponse();
+        response.open();
+        assertEquals(out.size(), 0);
+        response.accept(result());
+        verifyResponse();
+    }
+
+    @Test
+    public void resultBeforeOpen() throws Exception {
+        expectOpenAndSend();
+        LongPollResponse response = createResponse();
+        // the backend may answer before the channel has been opened by the request thread
+        response.accept(result());
+        assertEquals(out.size(), 0);
+        response.open();
+        verifyResponse();
+    }
+
+    @Test
+    public void clientGone() throws Exception {
+        Map<String, ?> params = anyObject();
+        channel.open(params);
+        expect(channel.getOutputStream()).andThrow(new IOException("Connection reset"));
+        channel.close();
+        replay(channel);
+        LongPollResponse response = createResponse();
+        response.open();
+        response.accept(result());
+        verify(channel);
+    }
+
+    @Test
+    public void channelParams() throws Exception {
+        Map<String, ?> params = eq(Map.of(BackChannel.CONTENT_TYPE, "application/json",
+                                          BackChannel.ENCODING, "UTF-8",
+                                          BackChannel.SEND_HEADERS_ON_OPEN, "false"));
+        channel.open(params);
+        replay(channel);
+        createResponse().open();
+        verify(channel);
+    }
+
+    private LongPollResponse createResponse() {
+        JSONObject request = new JSONObject();
+        request.put("type", "notification");
+        request.put("command", "pull");
+        return new LongPollResponse(channel, new TestSerializer(), request);
+    }
+
+    private NotificationResult result() {
+        return new NotificationResult("1", Collections.emptyList(), null, 0);
+    }
+
+    private void expectOpenAndSend() throws IOException {
+        Map<String, ?> params = anyObject();
+        channel.open(params);
+        expect(channel.getOutputStream()).andReturn(out);
+        channel.close();
+        replay(channel);
+    }
+
+    private void verifyResponse() throws Exception {
+        verify(channel);
+        JSONObject response = new JSONParser().parse(out.toString(StandardCharsets.UTF_8), JSONObject.class);
+        assertEquals(response.get("status"), 200L);
+        assertEquals(((JSONObject) response.get("request")).get("command"), "pull");
+        assertNotNull(response.get("value"));
+        assertNotNull(response.get("timestamp"));
+    }
+}
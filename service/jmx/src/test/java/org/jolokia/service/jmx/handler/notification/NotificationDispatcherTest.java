@@ -1,23 +1,30 @@
 package org.jolokia.service.jmx.handler.notification;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Consumer;
 
 import javax.management.*;
 
 import org.easymock.EasyMock;
 import org.jolokia.server.core.config.ConfigKey;
 import org.jolokia.server.core.http.BackChannel;
+import org.jolokia.server.core.http.BackChannelHolder;
 import org.jolokia.server.core.request.BadRequestException;
 import org.jolokia.server.core.request.EmptyResponseException;
 import org.jolokia.server.core.request.notification.*;
 import org.jolokia.server.core.service.api.AbstractJolokiaService;
 import org.jolokia.server.core.service.notification.*;
+import org.jolokia.server.core.service.serializer.Serializer;
 import org.jolokia.server.core.util.TestJolokiaContext;
+import org.jolokia.server.core.util.TestSerializer;
 import org.jolokia.server.core.util.jmx.MBeanServerAccess;
 import org.jolokia.server.core.util.jmx.SingleMBeanServerAccess;
 import org.jolokia.json.JSONObject;
+import org.jolokia.json.parser.JSONParser;
 import org.testng.annotations.*;
 
 import static org.easymock.EasyMock.*;
@@ -40,6 +47,7 @@ public class NotificationDispatcherTest {
     }
 
     private NotificationDispatcher dispatcher;
+    private TestNotificationBackend backend;
     private MBeanServerConnection connection;
     private MBeanServerAccess executor;
 
@@ -47,10 +55,11 @@ public class NotificationDispatcherTest {
 
     @BeforeMethod
     public void setup() {
-        NotificationBackend pullBackend = new TestNotificationBackend();
+        backend = new TestNotificationBackend();
         ctx = new TestJolokiaContext.Builder()
                 .config(ConfigKey.AGENT_ID,"test")
-                .services(NotificationBackend.class, pullBackend)
+                .services(NotificationBackend.class, backend)
+                .services(Serializer.class, new TestSerializer())
                 .build();
         dispatcher = new NotificationDispatcher(ctx);
         connection = createMock(MBeanServerConnection.class);
@@ -59,6 +68,7 @@ public class NotificationDispatcherTest {
 
     @AfterMethod
     public void tearDown() throws Exception {
+        BackChannelHolder.remove();
         // Unregister all MBeans
         ctx.destroy();
     }
@@ -116,6 +126,76 @@ public class NotificationDispatcherTest {
         dispatch(removeCommand);
     }
 
+    @Test(expectedExceptions = BadRequestException.class, expectedExceptionsMessageRegExp = ".*'test'.*pulling.*")
+    public void testPullUnsupported() throws Exception {
+        String id = registerClient();
+        String handle = addListener(id);
+        dispatch(createCommand(PullCommand.class, "client", id, "handle", handle));
+    }
+
+    @Test
+    public void testPull() throws Exception {
+        backend.pullSupported = true;
+        String id = registerClient();
+        String handle = addListener(id);
+        NotificationResult result = new NotificationResult(handle, Collections.emptyList(), null, 0);
+        backend.available = result;
+        // answered immediately as there are notifications
+        BackChannelHolder.set(createMock(BackChannel.class));
+        assertSame(dispatch(createCommand(PullCommand.class, "client", id, "handle", handle, "wait", 5000)), result);
+        assertEquals(backend.lastWait, 5000L);
+    }
+
+    @Test
+    public void testPullWithoutBackChannel() throws Exception {
+        backend.pullSupported = true;
+        String id = registerClient();
+        String handle = addListener(id);
+        // e.g. within a bulk request: don't wait
+        NotificationResult result = dispatch(createCommand(PullCommand.class, "client", id, "handle", handle, "wait", 5000));
+        assertEquals(result.getNotifications().size(), 0);
+        assertEquals(backend.lastWait, 0L);
+        assertNull(backend.callback);
+    }
+
+    @Test
+    public void testLongPoll() throws Exception {
+        backend.pullSupported = true;
+        String id = registerClient();
+        String handle = addListener(id);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BackChannel channel = createMock(BackChannel.class);
+        channel.open(isA(Map.class));
+        expect(channel.getOutputStream()).andReturn(out);
+        channel.close();
+        replay(channel);
+        BackChannelHolder.set(channel);
+        try {
+            dispatch(createCommand(PullCommand.class, "client", id, "handle", handle, "wait", 5000));
+            fail("Long-poll should be answered over the back channel");
+        } catch (EmptyResponseException exp) {
+            // expected
+        }
+        assertEquals(out.size(), 0);
+        assertNotNull(backend.callback);
+
+        Notification notification = new Notification("test.type", TEST_NAME, 1L);
+        backend.callback.accept(new NotificationResult(handle, Collections.singletonList(notification), null, 0));
+        JSONObject response = new JSONParser().parse(out.toString(StandardCharsets.UTF_8), JSONObject.class);
+        assertEquals(response.get("status"), 200L);
+        assertEquals(((JSONObject) response.get("request")).get("command"), "pull");
+        assertEquals(((JSONObject) response.get("request")).get("handle"), handle);
+        assertNotNull(response.get("value"));
+        verify(channel);
+    }
+
+    private String addListener(String pClientId) throws Exception {
+        setupConnectionForAdd();
+        AddCommand addCmd = createCommand(AddCommand.class,"client",pClientId,"mbean",TEST_NAME.toString(),"mode","test");
+        return dispatch(addCmd);
+    }
+
     private void setupConnectionForAdd() throws IOException, InstanceNotFoundException, NoSuchFieldException, IllegalAccessException, ListenerNotFoundException {
         expect(connection.queryMBeans(TEST_NAME, null)).andStubReturn(Collections.singleton(new ObjectInstance(TEST_NAME, null)));
         connection.addNotificationListener(EasyMock.eq(TEST_NAME), EasyMock.eq(getNotificationListener()), EasyMock.isNull(), EasyMock.isA(ListenerRegistration.class));
@@ -172,6 +252,15 @@ public class NotificationDispatcherTest {
 
     private static class TestNotificationBackend extends AbstractJolokiaService<NotificationBackend> implements NotificationBackend {
 
+        // pulling is only supported if set
+        private boolean pullSupported;
+
+        // notifications returned immediately on pull
+        private NotificationResult available;
+
+        private long lastWait = -1;
+        private Consumer<NotificationResult> callback;
+
         protected TestNotificationBackend() {
             super(NotificationBackend.class, 0);
         }
@@ -199,5 +288,19 @@ public class NotificationDispatcherTest {
         public Map<String, ?> getConfig() {
             return new HashMap<>();
         }
+
+        @Override
+        public NotificationResult pull(String pClientId, String pHandle, long pWait, Consumer<NotificationResult> pCallback)
+                throws BadRequestException {
+            if (!pullSupported) {
+                return NotificationBackend.super.pull(pClientId, pHandle, pWait, pCallback);
+            }
+            lastWait = pWait;
+            if (available != null || pWait <= 0) {
+                return available != null ? available : new NotificationResult(pHandle, Collections.emptyList(), null, 0);
+            }
+            callback = pCallback;
+            return null;
+        }
     }
 }
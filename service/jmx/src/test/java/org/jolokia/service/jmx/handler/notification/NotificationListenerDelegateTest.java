@@ -83,6 +83,39 @@ public class NotificationListenerDelegateTest {
         }
     }
 
+    @Test
+    public void testUnregisterWithMultipleListeners() throws Exception {
+        NotificationBackendManager backendManager = createMock(NotificationBackendManager.class);
+        expect(backendManager.getBackend(anyObject())).andStubReturn(backend);
+
+        NotificationListenerDelegate delegate = new NotificationListenerDelegate(backendManager);
+
+        expect(connection.queryMBeans(TEST_NAME, null)).andStubReturn(Collections.singleton(new ObjectInstance(TEST_NAME, null)));
+        connection.addNotificationListener(eq(TEST_NAME), eq(delegate), eqNotificationFilter("type.jmx"), isA(ListenerRegistration.class));
+        expectLastCall().times(2);
+        connection.removeNotificationListener(eq(TEST_NAME), eq(delegate), eqNotificationFilter("type.jmx"), isA(ListenerRegistration.class));
+        expectLastCall().times(2);
+        expect(backend.subscribe(anyObject())).andStubReturn(null);
+        replay(connection,backend);
+        String id = delegate.register();
+
+        backendManager.unsubscribe(anyObject(), eq(id), anyObject());
+        expectLastCall().times(2);
+        backendManager.unregister(anyObject());
+        AddCommand command = getAddCommand(id, new Object());
+        replay(command,backendManager);
+
+        delegate.addListener(executor, command);
+        delegate.addListener(executor, command);
+        delegate.unregister(executor, id);
+        verify(connection, backendManager);
+        try {
+            delegate.refresh(id);
+            fail("Client should not be registered");
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
     private NotificationListenerDelegate getNotificationListenerDelegate() {
         NotificationBackendManager backendManager = createMock(NotificationBackendManager.class);
         expect(backendManager.getBackend(anyObject())).andStubReturn(backend);
@@ -0,0 +1,538 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jsr160;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnector;
+
+import org.jolokia.server.core.util.DaemonThreadFactory;
+
+/**
+ * <p>Pool of connected {@link JMXConnector}s used in proxy mode, so that subsequent requests to the same
+ * target don't need a new RMI (and possibly TLS) handshake. Connectors are pooled per target, which
+ * is the JMX service URL together with the credentials used.</p>
+ *
+ * <ul>
+ *     <li>At most {@code maxPerTarget} connectors are open for a single target. When all of them are in use,
+ *     a request waits up to {@code maxWait} milliseconds for a connector to be released.</li>
+ *     <li>Connectors which haven't been used for {@code idleTimeout} milliseconds are closed by a background
+ *     thread.</li>
+ *     <li>A connector which was idle for some time is checked before it's handed out again. Connectors
+ *     emitting a {@link JMXConnectionNotification#CLOSED} or {@link JMXConnectionNotification#FAILED}
+ *     notification are discarded immediately.</li>
+ * </ul>
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public class JmxConnectorPool implements JmxConnectorPoolMBean {
+
+    // idle connectors are checked before being reused when idle for longer than this
+    static final long DEFAULT_HEALTH_CHECK_INTERVAL = 5000L;
+
+    // minimal period of the idle connector eviction
+    private static final long MIN_EVICTION_PERIOD = 1000L;
+
+    private final int maxPerTarget;
+    private final long idleTimeout;
+    private final long maxWait;
+    private final long healthCheckInterval;
+
+    private final ConcurrentMap<Key, TargetPool> pools = new ConcurrentHashMap<>();
+
+    // closes idle connectors, null if they are never closed
+    private final ScheduledThreadPoolExecutor evictor;
+
+    private volatile boolean shutdown;
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong reusedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong brokenCount = new AtomicLong();
+    private final AtomicLong waitTimeoutCount = new AtomicLong();
+
+    /**
+     * Create a pool
+     *
+     * @param pMaxPerTarget maximum number of connectors open for a single target
+     * @param pIdleTimeout  time in milliseconds after which an unused connector is closed. {@code 0} or less
+     *                      means that idle connectors are never closed
+     * @param pMaxWait      maximum time in milliseconds to wait for a free connector
+     */
+    public JmxConnectorPool(int pMaxPerTarget, long pIdleTimeout, long pMaxWait) {
+        this(pMaxPerTarget, pIdleTimeout, pMaxWait, DEFAULT_HEALTH_CHECK_INTERVAL);
+    }
+
+    JmxConnectorPool(int pMaxPerTarget, long pIdleTimeout, long pMaxWait, long pHealthCheckInterval) {
+        if (pMaxPerTarget <= 0) {
+            throw new IllegalArgumentException("Maximum number of JSR-160 connectors per target has to be positive");
+        }
+        maxPerTarget = pMaxPerTarget;
+        idleTimeout = pIdleTimeout;
+        maxWait = pMaxWait;
+        healthCheckInterval = pHealthCheckInterval;
+        if (idleTimeout > 0) {
+            evictor = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("jolokia-jsr160-pool-"));
+            long period = Math.max(idleTimeout / 2, MIN_EVICTION_PERIOD);
+            evictor.scheduleWithFixedDelay(this::evictIdleConnectors, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            evictor = null;
+        }
+    }
+
+    /**
+     * Get a connected connector for the given target. Either an idle connector is reused or a new
+     * one is created with the given factory. The connector has to be given back with
+     * {@link #release(PooledConnector, boolean)} in any case.
+     *
+     * @param pUrl         JMX service URL of the target
+     * @param pCredentials credentials used for the target (part of the pool key), may be {@code null}
+     * @param pFactory     factory for creating a new connected connector
+     * @return the pooled connector
+     * @throws IOException if no connector could be created or when waiting for a free connector timed out
+     */
+    public PooledConnector borrow(String pUrl, Map<String, String> pCredentials, ConnectorFactory pFactory) throws IOException {
+        if (shutdown) {
+            throw new IOException("JSR-160 connector pool is already shut down");
+        }
+        Key key = new Key(pUrl, pCredentials);
+        long deadline = System.currentTimeMillis() + maxWait;
+        while (true) {
+            TargetPool pool = pools.computeIfAbsent(key, TargetPool::new);
+            PooledConnector candidate;
+            synchronized (pool) {
+                if (pool.retired) {
+                    // removed concurrently by the evictor, pick up a fresh one
+                    continue;
+                }
+                candidate = pool.idle.pollFirst();
+                if (candidate == null) {
+                    if (pool.open < maxPerTarget) {
+                        pool.open++;
+                        pool.active++;
+                    } else {
+                        waitForConnector(pool, deadline);
+                        continue;
+                    }
+                } else {
+                    pool.active++;
+                }
+            }
+            if (candidate != null) {
+                if (isHealthy(candidate)) {
+                    reusedCount.incrementAndGet();
+                    candidate.reused = true;
+                    return candidate;
+                }
+                discard(candidate);
+                continue;
+            }
+            return create(pool, pFactory);
+        }
+    }
+
+    /**
+     * Give back a connector obtained by {@link #borrow(String, Map, ConnectorFactory)}.
+     *
+     * @param pConnector connector to give back
+     * @param pBroken    whether an I/O error occurred while using the connector. If set, the connector
+     *                   is closed and all idle connectors of the same target are closed as well, as it's likely
+     *                   that they are broken, too (e.g. after a restart of the target).
+     */
+    public void release(PooledConnector pConnector, boolean pBroken) {
+        TargetPool pool = pConnector.pool;
+        List<PooledConnector> toClose = new ArrayList<>();
+        synchronized (pool) {
+            pool.active--;
+            if (pBroken) {
+                pool.generation++;
+                toClose.addAll(pool.idle);
+                pool.idle.clear();
+            }
+            if (pBroken || pConnector.failed || shutdown || pConnector.generation != pool.generation) {
+                toClose.add(pConnector);
+            } else {
+                pConnector.lastUsed = System.currentTimeMillis();
+                pool.idle.addFirst(pConnector);
+            }
+            pool.open -= toClose.size();
+            pool.notifyAll();
+        }
+        if (pBroken || pConnector.failed) {
+            brokenCount.addAndGet(toClose.size());
+        }
+        closeAll(toClose);
+    }
+
+    /**
+     * Close all idle connectors which weren't used for longer than the idle timeout.
+     */
+    void evictIdleConnectors() {
+        long limit = System.currentTimeMillis() - idleTimeout;
+        List<PooledConnector> toClose = new ArrayList<>();
+        for (TargetPool pool : pools.values()) {
+            synchronized (pool) {
+                // oldest connectors are at the end
+                Iterator<PooledConnector> it = pool.idle.descendingIterator();
+                while (it.hasNext()) {
+                    PooledConnector connector = it.next();
+                    if (connector.lastUsed > limit) {
+                        break;
+                    }
+                    it.remove();
+                    pool.open--;
+                    toClose.add(connector);
+                }
+                if (pool.open == 0) {
+                    pool.retired = true;
+                    pools.remove(pool.key, pool);
+                }
+            }
+        }
+        evictedCount.addAndGet(toClose.size());
+        closeAll(toClose);
+    }
+
+    /**
+     * Close all connectors and stop the background eviction. Connectors currently in use are closed
+     * when they are released.
+     */
+    public void shutdown() {
+        shutdown = true;
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        List<PooledConnector> toClose = new ArrayList<>();
+        for (TargetPool pool : pools.values()) {
+            synchronized (pool) {
+                pool.generation++;
+                toClose.addAll(pool.idle);
+                pool.open -= pool.idle.size();
+                pool.idle.clear();
+                pool.notifyAll();
+            }
+        }
+        closeAll(toClose);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxPerTarget() {
+        return maxPerTarget;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getTargets() {
+        int ret = 0;
+        for (TargetPool pool : pools.values()) {
+            synchronized (pool) {
+                if (pool.open > 0) {
+                    ret++;
+                }
+            }
+        }
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getActiveConnectors() {
+        int ret = 0;
+        for (TargetPool pool : pools.values()) {
+            synchronized (pool) {
+                ret += pool.active;
+            }
+        }
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIdleConnectors() {
+        int ret = 0;
+        for (TargetPool pool : pools.values()) {
+            synchronized (pool) {
+                ret += pool.idle.size();
+            }
+        }
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCreatedConnectors() {
+        return createdCount.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getReusedConnectors() {
+        return reusedCount.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getEvictedConnectors() {
+        return evictedCount.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getBrokenConnectors() {
+        return brokenCount.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getWaitTimeouts() {
+        return waitTimeoutCount.get();
+    }
+
+    // ==========================================================================================
+
+    // Called with the lock on the pool held
+    private void waitForConnector(TargetPool pPool, long pDeadline) throws IOException {
+        long remaining = pDeadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+            waitTimeoutCount.incrementAndGet();
+            throw new IOException("Timeout while waiting for a free JSR-160 connector for " + pPool.key.url() +
+                                  " (" + maxPerTarget + " connectors in use)");
+        }
+        try {
+            pPool.wait(remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a free JSR-160 connector for " + pPool.key.url(), e);
+        }
+    }
+
+    // Create a new connector. A slot for it has already been reserved in the given pool
+    private PooledConnector create(TargetPool pPool, ConnectorFactory pFactory) throws IOException {
+        JMXConnector connector = null;
+        try {
+            connector = pFactory.create();
+            PooledConnector ret;
+            synchronized (pPool) {
+                ret = new PooledConnector(pPool, connector, pPool.generation);
+            }
+            connector.addConnectionNotificationListener(ret, null, null);
+            createdCount.incrementAndGet();
+            return ret;
+        } catch (IOException | RuntimeException e) {
+            synchronized (pPool) {
+                pPool.open--;
+                pPool.active--;
+                pPool.notifyAll();
+            }
+            if (connector != null) {
+                closeQuietly(connector);
+            }
+            throw e;
+        }
+    }
+
+    // Check the connector if it was idle for some time
+    private boolean isHealthy(PooledConnector pConnector) {
+        if (pConnector.failed) {
+            return false;
+        }
+        if (System.currentTimeMillis() - pConnector.lastUsed < healthCheckInterval) {
+            return true;
+        }
+        try {
+            // A remote call for RMI connectors
+            pConnector.connector.getConnectionId();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    // Discard a borrowed connector
+    private void discard(PooledConnector pConnector) {
+        synchronized (pConnector.pool) {
+            pConnector.pool.open--;
+            pConnector.pool.active--;
+            pConnector.pool.notifyAll();
+        }
+        brokenCount.incrementAndGet();
+        closeQuietly(pConnector);
+    }
+
+    // Called by the notification listener of a connector when its connection is gone
+    private void connectionLost(PooledConnector pConnector) {
+        pConnector.failed = true;
+        TargetPool pool = pConnector.pool;
+        boolean wasIdle;
+        synchronized (pool) {
+            wasIdle = pool.idle.remove(pConnector);
+            if (wasIdle) {
+                pool.open--;
+                pool.notifyAll();
+            }
+        }
+        // a connector in use is discarded when released
+        if (wasIdle) {
+            brokenCount.incrementAndGet();
+            closeQuietly(pConnector);
+        }
+    }
+
+    private void closeAll(List<PooledConnector> pConnectors) {
+        for (PooledConnector connector : pConnectors) {
+            closeQuietly(connector);
+        }
+    }
+
+    private void closeQuietly(PooledConnector pConnector) {
+        try {
+            pConnector.connector.removeConnectionNotificationListener(pConnector);
+        } catch (ListenerNotFoundException | RuntimeException e) {
+            // ignore, we're closing anyway
+        }
+        closeQuietly(pConnector.connector);
+    }
+
+    private void closeQuietly(JMXConnector pConnector) {
+        try {
+            pConnector.close();
+        } catch (IOException | RuntimeException e) {
+            // nothing we can do about it
+        }
+    }
+
+    // ==========================================================================================
+
+    /**
+     * Factory for creating a new connected {@link JMXConnector}
+     */
+    @FunctionalInterface
+    public interface ConnectorFactory {
+
+        /**
+         * Create and connect a connector
+         *
+         * @return connected connector
+         * @throws IOException if the connection fails
+         */
+        JMXConnector create() throws IOException;
+    }
+
+    /**
+     * A connector borrowed from the pool. It's also the listener for connection notifications of the connector.
+     */
+    public static final class PooledConnector implements NotificationListener {
+
+        private final TargetPool pool;
+        private final JMXConnector connector;
+        private final int generation;
+
+        // last time it has been released to the pool, guarded by the pool's lock
+        private long lastUsed;
+
+        private volatile boolean failed;
+        private boolean reused;
+
+        private PooledConnector(TargetPool pPool, JMXConnector pConnector, int pGeneration) {
+            pool = pPool;
+            connector = pConnector;
+            generation = pGeneration;
+            lastUsed = System.currentTimeMillis();
+        }
+
+        /**
+         * The connected connector
+         *
+         * @return connector
+         */
+        public JMXConnector getConnector() {
+            return connector;
+        }
+
+        /**
+         * Whether the connector has been used before for another request
+         *
+         * @return true if this connector has been taken from the pool, false if it has been newly created
+         */
+        public boolean isReused() {
+            return reused;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void handleNotification(Notification pNotification, Object pHandback) {
+            String type = pNotification.getType();
+            if (JMXConnectionNotification.CLOSED.equals(type) || JMXConnectionNotification.FAILED.equals(type)) {
+                pool.owner.connectionLost(this);
+            }
+        }
+    }
+
+    // key for a single target
+    private record Key(String url, Map<String, String> credentials) { }
+
+    // Connectors for a single target. All fields are guarded by the instance's lock
+    private final class TargetPool {
+
+        private final JmxConnectorPool owner = JmxConnectorPool.this;
+        private final Key key;
+
+        // idle connectors, most recently used first
+        private final Deque<PooledConnector> idle = new ArrayDeque<>();
+
+        // number of connectors open (idle or in use) and of connectors in use
+        private int open;
+        private int active;
+
+        // incremented when all connectors should be discarded
+        private int generation;
+
+        // set when removed from the pools map
+        private boolean retired;
+
+        private TargetPool(Key pKey) {
+            key = pKey;
+        }
+    }
+}
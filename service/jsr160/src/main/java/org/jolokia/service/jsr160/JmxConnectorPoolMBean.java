@@ -0,0 +1,106 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jsr160;
+
+/**
+ * MBean interface exposing statistics of the {@link JmxConnectorPool} used in proxy mode.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public interface JmxConnectorPoolMBean {
+
+    /**
+     * Name under which the pool is registered (the agent id is appended)
+     */
+    String OBJECT_NAME = "jolokia:type=Jsr160ConnectorPool";
+
+    /**
+     * Maximum number of connectors per target
+     *
+     * @return maximum number of open connectors for a single target
+     */
+    int getMaxPerTarget();
+
+    /**
+     * Time after which an unused connector is closed
+     *
+     * @return idle timeout in milliseconds
+     */
+    long getIdleTimeout();
+
+    /**
+     * Number of targets for which connectors are currently open
+     *
+     * @return number of targets
+     */
+    int getTargets();
+
+    /**
+     * Number of connectors currently in use by requests
+     *
+     * @return number of borrowed connectors
+     */
+    int getActiveConnectors();
+
+    /**
+     * Number of open connectors waiting to be reused
+     *
+     * @return number of idle connectors
+     */
+    int getIdleConnectors();
+
+    /**
+     * Number of connectors created and connected so far
+     *
+     * @return number of created connectors
+     */
+    long getCreatedConnectors();
+
+    /**
+     * Number of requests which reused an already open connector
+     *
+     * @return number of reuses
+     */
+    long getReusedConnectors();
+
+    /**
+     * Number of connectors closed because they were unused for too long
+     *
+     * @return number of evicted idle connectors
+     */
+    long getEvictedConnectors();
+
+    /**
+     * Number of connectors discarded because they failed, either detected during a request, by a health check
+     * or by a notification of the connector itself
+     *
+     * @return number of broken connectors
+     */
+    long getBrokenConnectors();
+
+    /**
+     * Number of requests which couldn't get a connector in time because all connectors of the target were in use
+     *
+     * @return number of timeouts
+     */
+    long getWaitTimeouts();
+
+    /**
+     * Close all idle connectors. Connectors in use are closed when released.
+     */
+    void clear();
+}
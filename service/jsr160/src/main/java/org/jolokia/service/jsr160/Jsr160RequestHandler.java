@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
+import javax.management.ObjectName;
 import javax.management.AttributeNotFoundException;
 import javax.management.InstanceNotFoundException;
 import javax.management.JMException;
@@ -48,6 +49,8 @@ import org.jolokia.server.core.request.JolokiaRequest;
 import org.jolokia.server.core.request.NotChangedException;
 import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.service.request.AbstractRequestHandler;
+import org.jolokia.server.core.util.ConfigUtil;
+import org.jolokia.server.core.util.RequestType;
 import org.jolokia.server.core.util.jmx.MBeanServerAccess;
 import org.jolokia.server.core.util.jmx.SingleMBeanServerAccess;
 import org.jolokia.service.jmx.api.CommandHandler;
@@ -69,6 +72,10 @@ public class Jsr160RequestHandler extends AbstractRequestHandler {
     private Set<String> allowList;
     private Set<String> denyList;
 
+    // Pool for reusing connectors, null if pooling is switched off
+    private JmxConnectorPool connectorPool;
+    private ObjectName connectorPoolObjectName;
+
     /**
      * Create a new <em>proxy</em> request handler which accesses remote MBeans.
      *
@@ -85,9 +92,14 @@ public class Jsr160RequestHandler extends AbstractRequestHandler {
      */
     @Override
     public void init(JolokiaContext pContext) {
+        super.init(pContext);
         commandHandlerManager = new CommandHandlerManager(pContext, getProvider());
         allowList = extractAllowList(pContext);
         denyList = extractDenyList(pContext);
+        connectorPool = createConnectorPool(pContext);
+        if (connectorPool != null) {
+            connectorPoolObjectName = registerJolokiaMBean(JmxConnectorPoolMBean.OBJECT_NAME, connectorPool);
+        }
     }
 
     /**
@@ -116,43 +128,93 @@ public class Jsr160RequestHandler extends AbstractRequestHandler {
             throws IOException, JMException, JMRuntimeException, NotChangedException, BadRequestException, EmptyResponseException {
 
         CommandHandler<R> handler = commandHandlerManager.getCommandHandler(pJmxReq.getType());
+        ProxyTargetConfig targetConfig = new ProxyTargetConfig(pJmxReq.getOption("target"));
+        String urlS = targetConfig.getUrl();
+        if (!acceptTargetUrl(urlS)) {
+            throw new SecurityException(String.format("Target URL %s is not allowed by configuration", urlS));
+        }
+
+        if (connectorPool != null) {
+            return handleRequestWithPool(handler, targetConfig, pJmxReq, pPreviousResult);
+        }
 
         JMXConnector connector = null;
         try {
-            connector = createConnector(pJmxReq);
+            connector = createConnector(targetConfig);
             connector.connect();
-            MBeanServerConnection connection = connector.getMBeanServerConnection();
-            if (handler.handleAllServersAtOnce(pJmxReq)) {
-                // There is no way to get remotely all MBeanServers ...
-                MBeanServerAccess manager = new SingleMBeanServerAccess(connection);
-                return handler.handleAllServerRequest(manager, pJmxReq, pPreviousResult);
-            } else {
-                // just one MBeanServerConnection to iterate, so propagate any exception
-                return handler.handleSingleServerRequest(connection, pJmxReq);
-            }
+            return dispatch(handler, connector.getMBeanServerConnection(), pJmxReq, pPreviousResult);
         } finally {
-            releaseConnector(connector);
+            if (connector != null) {
+                connector.close();
+            }
         }
     }
 
-    // TODO: Add connector to a pool and release it on demand. For now, simply close it.
-    private JMXConnector createConnector(JolokiaRequest pJmxReq) throws IOException {
-        ProxyTargetConfig targetConfig = new ProxyTargetConfig(pJmxReq.getOption("target"));
-        String urlS = targetConfig.getUrl();
-        if (!acceptTargetUrl(urlS)) {
-            throw new SecurityException(String.format("Target URL %s is not allowed by configuration", urlS));
+    // Use a pooled connector. If a reused connector turns out to be broken, the request is retried once
+    // with a new connection, but only when it doesn't change anything on the target.
+    private <R extends JolokiaRequest> Object handleRequestWithPool(CommandHandler<R> pHandler, ProxyTargetConfig pTargetConfig,
+                                                                    R pJmxReq, Object pPreviousResult)
+            throws IOException, JMException, NotChangedException, BadRequestException, EmptyResponseException {
+        boolean retry = isRetryable(pJmxReq);
+        while (true) {
+            JmxConnectorPool.PooledConnector pooled =
+                connectorPool.borrow(pTargetConfig.getUrl(), pTargetConfig.getEnv(), () -> {
+                    JMXConnector connector = createConnector(pTargetConfig);
+                    connector.connect();
+                    return connector;
+                });
+            boolean broken = false;
+            try {
+                return dispatch(pHandler, pooled.getConnector().getMBeanServerConnection(), pJmxReq, pPreviousResult);
+            } catch (IOException exp) {
+                broken = true;
+                if (retry && pooled.isReused()) {
+                    retry = false;
+                    continue;
+                }
+                throw exp;
+            } finally {
+                connectorPool.release(pooled, broken);
+            }
         }
+    }
 
-        JMXServiceURL url = new JMXServiceURL(urlS);
+    private <R extends JolokiaRequest> Object dispatch(CommandHandler<R> pHandler, MBeanServerConnection pConnection,
+                                                       R pJmxReq, Object pPreviousResult)
+            throws IOException, JMException, NotChangedException, BadRequestException, EmptyResponseException {
+        if (pHandler.handleAllServersAtOnce(pJmxReq)) {
+            // There is no way to get remotely all MBeanServers ...
+            MBeanServerAccess manager = new SingleMBeanServerAccess(pConnection);
+            return pHandler.handleAllServerRequest(manager, pJmxReq, pPreviousResult);
+        } else {
+            // just one MBeanServerConnection to iterate, so propagate any exception
+            return pHandler.handleSingleServerRequest(pConnection, pJmxReq);
+        }
+    }
 
-        Map<String, Object> env = prepareEnv(targetConfig.getEnv());
+    // Only read-only requests can be safely repeated
+    private boolean isRetryable(JolokiaRequest pJmxReq) {
+        RequestType type = pJmxReq.getType();
+        return type == RequestType.READ || type == RequestType.LIST || type == RequestType.SEARCH;
+    }
+
+    private JMXConnector createConnector(ProxyTargetConfig pTargetConfig) throws IOException {
+        JMXServiceURL url = new JMXServiceURL(pTargetConfig.getUrl());
+        Map<String, Object> env = prepareEnv(pTargetConfig.getEnv());
         return JMXConnectorFactory.newJMXConnector(url, env);
     }
 
-    private void releaseConnector(JMXConnector pConnector) throws IOException {
-        if (pConnector != null) {
-            pConnector.close();
+    private JmxConnectorPool createConnectorPool(JolokiaContext pContext) {
+        if (pContext == null) {
+            return null;
         }
+        int maxPerTarget = ConfigUtil.getInt(pContext, ConfigKey.JSR160_CONNECTOR_POOL_MAX_PER_TARGET);
+        if (maxPerTarget <= 0) {
+            return null;
+        }
+        return new JmxConnectorPool(maxPerTarget,
+                                    ConfigUtil.getLong(pContext, ConfigKey.JSR160_CONNECTOR_POOL_IDLE_TIMEOUT),
+                                    ConfigUtil.getLong(pContext, ConfigKey.JSR160_CONNECTOR_POOL_MAX_WAIT));
     }
 
     /**
@@ -188,6 +250,11 @@ public class Jsr160RequestHandler extends AbstractRequestHandler {
      * {@inheritDoc}
      */
     public void destroy() throws JMException {
+        if (connectorPool != null) {
+            unregisterJolokiaMBean(connectorPoolObjectName);
+            connectorPool.shutdown();
+            connectorPool = null;
+        }
         commandHandlerManager.destroy();
     }
 
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.jsr160;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.management.ListenerNotFoundException;
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnector;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.easymock.EasyMock.*;
+import static org.testng.Assert.*;
+
+/**
+ * @author roland
+ * @since 2.6.1
+ */
+public class JmxConnectorPoolTest {
+
+    private static final String URL = "service:jmx:rmi:///jndi/rmi://localhost:9999/jmxrmi";
+
+    private JmxConnectorPool pool;
+
+    private final List<JMXConnector> created = new ArrayList<>();
+
+    @AfterMethod
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+        created.clear();
+    }
+
+    @Test
+    public void reuse() throws IOException {
+        pool = new JmxConnectorPool(2, 60000L, 1000L);
+        JmxConnectorPool.PooledConnector c1 = pool.borrow(URL, null, this::newConnector);
+        assertFalse(c1.isReused());
+        assertEquals(pool.getActiveConnectors(), 1);
+        pool.release(c1, false);
+        assertEquals(pool.getIdleConnectors(), 1);
+
+        JmxConnectorPool.PooledConnector c2 = pool.borrow(URL, null, this::newConnector);
+        assertTrue(c2.isReused());
+        assertSame(c2.getConnector(), c1.getConnector());
+        pool.release(c2, false);
+
+        assertEquals(created.size(), 1);
+        assertEquals(pool.getCreatedConnectors(), 1);
+        assertEquals(pool.getReusedConnectors(), 1);
+        assertEquals(pool.getTargets(), 1);
+    }
+
+    @Test
+    public void keyedByCredentials() throws IOException {
+        pool = new JmxConnectorPool(2, 60000L, 1000L);
+        pool.release(pool.borrow(URL, Map.of("user", "roland", "password", "s!cr!et"), this::newConnector), false);
+        JmxConnectorPool.PooledConnector c = pool.borrow(URL, Map.of("user", "admin", "password", "s!cr!et"), this::newConnector);
+        assertFalse(c.isReused());
+        pool.release(c, false);
+        c = pool.borrow(URL, Map.of("user", "roland", "password", "s!cr!et"), this::newConnector);
+        assertTrue(c.isReused());
+        pool.release(c, false);
+        assertEquals(pool.getTargets(), 2);
+        assertEquals(created.size(), 2);
+    }
+
+    @Test
+    public void maxPerTarget() throws IOException {
+        pool = new JmxConnectorPool(1, 60000L, 50L);
+        JmxConnectorPool.PooledConnector c1 = pool.borrow(URL, null, this::newConnector);
+        try {
+            pool.borrow(URL, null, this::newConnector);
+            fail("Only a single connector is allowed");
+        } catch (IOException exp) {
+            assertTrue(exp.getMessage().contains("Timeout"));
+        }
+        assertEquals(pool.getWaitTimeouts(), 1);
+        // other targets are not affected
+        pool.release(pool.borrow(URL + "2", null, this::newConnector), false);
+        pool.release(c1, false);
+        pool.release(pool.borrow(URL, null, this::newConnector), false);
+        assertEquals(created.size(), 2);
+    }
+
+    @Test
+    public void waitForRelease() throws Exception {
+        pool = new JmxConnectorPool(1, 60000L, 5000L);
+        JmxConnectorPool.PooledConnector c1 = pool.borrow(URL, null, this::newConnector);
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                // ignore
+            }
+            pool.release(c1, false);
+        });
+        releaser.start();
+        JmxConnectorPool.PooledConnector c2 = pool.borrow(URL, null, this::newConnector);
+        assertSame(c2.getConnector(), c1.getConnector());
+        pool.release(c2, false);
+        releaser.join();
+    }
+
+    @Test
+    public void idleEviction() throws Exception {
+        pool = new JmxConnectorPool(2, 1L, 1000L);
+        JmxConnectorPool.PooledConnector c1 = pool.borrow(URL, null, this::newConnector);
+        JmxConnectorPool.PooledConnector c2 = pool.borrow(URL, null, this::newConnector);
+        pool.release(c1, false);
+        Thread.sleep(5);
+        pool.evictIdleConnectors();
+        assertEquals(pool.getIdleConnectors(), 0);
+        assertEquals(pool.getActiveConnectors(), 1);
+        assertEquals(pool.getEvictedConnectors(), 1);
+        assertTrue(isClosed(c1.getConnector()));
+        pool.release(c2, false);
+        Thread.sleep(5);
+        pool.evictIdleConnectors();
+        assertEquals(pool.getTargets(), 0);
+        assertEquals(pool.getEvictedConnectors(), 2);
+    }
+
+    @Test
+    public void brokenConnector() throws IOException {
+        pool = new JmxConnectorPool(2, 60000L, 1000L);
+        JmxConnectorPool.PooledConnector c1 = pool.borrow(URL, null, this::newConnector);
+        JmxConnectorPool.PooledConnector c2 = pool.borrow(URL, null, this::newConnector);
+        pool.release(c1, false);
+        // idle connectors of the same target are discarded, too
+        pool.release(c2, true);
+        assertEquals(pool.getIdleConnectors(), 0);
+        assertEquals(pool.getBrokenConnectors(), 2);
+        assertTrue(isClosed(c1.getConnector()));
+        assertTrue(isClosed(c2.getConnector()));
+        assertFalse(pool.borrow(URL, null, this::newConnector).isReused());
+    }
+
+    @Test
+    public void failedHealthCheck() throws IOException {
+        pool = new JmxConnectorPool(2, 60000L, 1000L, 0L);
+        JmxConnectorPool.PooledConnector c1 = pool.borrow(URL, null, () -> newConnector(false));
+        pool.release(c1, false);
+        JmxConnectorPool.PooledConnector c2 = pool.borrow(URL, null, this::newConnector);
+        assertFalse(c2.isReused());
+        assertNotSame(c2.getConnector(), c1.getConnector());
+        assertEquals(pool.getBrokenConnectors(), 1);
+        pool.release(c2, false);
+        assertTrue(pool.borrow(URL, null, this::newConnector).isReused());
+    }
+
+    @Test
+    public void closedNotification() throws IOException {
+        pool = new JmxConnectorPool(2, 60000L, 1000L);
+        JmxConnectorPool.PooledConnector c1 = pool.borrow(URL, null, this::newConnector);
+        JmxConnectorPool.PooledConnector c2 = pool.borrow(URL, null, this::newConnector);
+        pool.release(c1, false);
+
+        c1.handleNotification(notification(JMXConnectionNotification.CLOSED), null);
+        assertEquals(pool.getIdleConnectors(), 0);
+        assertTrue(isClosed(c1.getConnector()));
+
+        // a connector in use is discarded when released
+        c2.handleNotification(notification(JMXConnectionNotification.FAILED), null);
+        pool.release(c2, false);
+        assertEquals(pool.getIdleConnectors(), 0);
+        assertTrue(isClosed(c2.getConnector()));
+        assertEquals(pool.getBrokenConnectors(), 2);
+    }
+
+    @Test
+    public void clear() throws IOException {
+        pool = new JmxConnectorPool(2, 60000L, 1000L);
+        JmxConnectorPool.PooledConnector c1 = pool.borrow(URL, null, this::newConnector);
+        JmxConnectorPool.PooledConnector c2 = pool.borrow(URL, null, this::newConnector);
+        pool.release(c1, false);
+        pool.clear();
+        assertTrue(isClosed(c1.getConnector()));
+        assertFalse(isClosed(c2.getConnector()));
+        pool.release(c2, false);
+        assertTrue(isClosed(c2.getConnector()));
+        assertEquals(pool.getIdleConnectors(), 0);
+    }
+
+    @Test
+    public void failingFactory() throws IOException {
+        pool = new JmxConnectorPool(1, 60000L, 50L);
+        for (int i = 0; i < 2; i++) {
+            try {
+                pool.borrow(URL, null, () -> {
+                    throw new IOException("Connection refused");
+                });
+                fail();
+            } catch (IOException exp) {
+                assertEquals(exp.getMessage(), "Connection refused");
+            }
+        }
+        // slot is given back
+        pool.release(pool.borrow(URL, null, this::newConnector), false);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shutdown() throws IOException {
+        pool = new JmxConnectorPool(1, 60000L, 50L);
+        JmxConnectorPool.PooledConnector c = pool.borrow(URL, null, this::newConnector);
+        pool.shutdown();
+        pool.release(c, false);
+        assertTrue(isClosed(c.getConnector()));
+        pool.borrow(URL, null, this::newConnector);
+    }
+
+    // ====================================================================================
+
+    private JMXConnector newConnector() throws IOException {
+        return newConnector(true);
+    }
+
+    private JMXConnector newConnector(boolean pHealthy) throws IOException {
+        JMXConnector connector = createMock(JMXConnector.class);
+        connector.addConnectionNotificationListener(anyObject(), isNull(), isNull());
+        expectLastCall().anyTimes();
+        try {
+            connector.removeConnectionNotificationListener(anyObject());
+            expectLastCall().anyTimes();
+        } catch (ListenerNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+        if (pHealthy) {
+            expect(connector.getConnectionId()).andReturn("test").anyTimes();
+        } else {
+            expect(connector.getConnectionId()).andThrow(new IOException("Connection reset")).anyTimes();
+        }
+        connector.close();
+        expectLastCall().once();
+        replay(connector);
+        created.add(connector);
+        return connector;
+    }
+
+    private boolean isClosed(JMXConnector pConnector) {
+        try {
+            verify(pConnector);
+            return true;
+        } catch (AssertionError e) {
+            return false;
+        }
+    }
+
+    private JMXConnectionNotification notification(String pType) {
+        return new JMXConnectionNotification(pType, this, "test", 1L, null, null);
+    }
+}
@@ -21,6 +21,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
 import javax.management.*;
 import javax.naming.CommunicationException;
 import javax.naming.NamingException;
@@ -30,6 +33,7 @@ import org.jolokia.server.core.config.Configuration;
 import org.jolokia.server.core.config.StaticConfiguration;
 import org.jolokia.server.core.request.*;
 import org.jolokia.server.core.util.TestJolokiaContext;
+import org.jolokia.service.jsr160.test.ClientProvider;
 import org.jolokia.json.JSONObject;
 import org.testng.annotations.*;
 
@@ -119,6 +123,32 @@ public class Jsr160RequestHandlerTest {
     }
 
 
+    @Test
+    public void pooledDispatch() throws Exception {
+        Configuration config = new StaticConfiguration(ConfigKey.JSR160_CONNECTOR_POOL_MAX_PER_TARGET, "2");
+        Jsr160RequestHandler handler = createDispatcherPointingToLocalMBeanServer(config);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            int created = ClientProvider.CREATED.get();
+            for (int i = 0; i < 3; i++) {
+                assertNotNull(handler.handleRequest(preparePostReadRequest(null, "HeapMemoryUsage"), null));
+            }
+            assertNotNull(handler.handleRequest(preparePostReadRequest("roland", "HeapMemoryUsage"), null));
+            // one connector for each set of credentials
+            assertEquals(ClientProvider.CREATED.get() - created, 2);
+
+            Set<ObjectName> names = server.queryNames(new ObjectName(JmxConnectorPoolMBean.OBJECT_NAME + ",*"), null);
+            assertEquals(names.size(), 1);
+            ObjectName name = names.iterator().next();
+            assertEquals(server.getAttribute(name, "ReusedConnectors"), 2L);
+            assertEquals(server.getAttribute(name, "IdleConnectors"), 2);
+            assertEquals(server.getAttribute(name, "Targets"), 2);
+        } finally {
+            handler.destroy();
+        }
+        assertTrue(server.queryNames(new ObjectName(JmxConnectorPoolMBean.OBJECT_NAME + ",*"), null).isEmpty());
+    }
+
     // =========================================================================================================
 
     private JolokiaReadRequest preparePostReadRequest(String pUser, String... pAttribute) throws BadRequestException {
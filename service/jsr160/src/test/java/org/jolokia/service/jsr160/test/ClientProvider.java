@@ -19,7 +19,9 @@ package org.jolokia.service.jsr160.test;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.management.ListenerNotFoundException;
 import javax.management.remote.*;
 import javax.naming.Context;
 
@@ -34,13 +36,26 @@ import static org.testng.Assert.assertNotNull;
  * @since 28.09.11
  */
 public class ClientProvider implements JMXConnectorProvider {
+
+    /** Number of connectors created so far */
+    public static final AtomicInteger CREATED = new AtomicInteger();
+
     public JMXConnector newJMXConnector(JMXServiceURL serviceURL, Map<String, ?> environment) throws IOException {
+        CREATED.incrementAndGet();
         JMXConnector connector = createMock(JMXConnector.class);
         connector.connect();
         expectLastCall().anyTimes();
         connector.close();
         expectLastCall().anyTimes();
-        expect(connector.getMBeanServerConnection()).andReturn(ManagementFactory.getPlatformMBeanServer());
+        expect(connector.getMBeanServerConnection()).andReturn(ManagementFactory.getPlatformMBeanServer()).anyTimes();
+        connector.addConnectionNotificationListener(anyObject(), isNull(), isNull());
+        expectLastCall().anyTimes();
+        try {
+            connector.removeConnectionNotificationListener(anyObject());
+            expectLastCall().anyTimes();
+        } catch (ListenerNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
         replay(connector);
         String user = System.getProperty("TEST_WITH_USER");
         if (user != null) {
@@ -1,6 +1,9 @@
 package org.jolokia.service.notif.pull;
 
-import java.util.*;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import javax.management.Notification;
 
@@ -29,7 +32,7 @@ public class ClientStore  {
      */
     ClientStore(int pMaxEntries) {
         maxEntries = pMaxEntries;
-        store = new HashMap<>();
+        store = new ConcurrentHashMap<>();
     }
 
     /**
@@ -39,12 +42,17 @@ public class ClientStore  {
      * @param pNotification the notification to add
      */
     void add(NotificationSubscription pSubscription, Notification pNotification) {
-        NotificationStore notifStore = store.get(pSubscription.getHandle());
-        if (notifStore == null) {
-            notifStore = new NotificationStore(pSubscription,maxEntries);
-            store.put(pSubscription.getHandle(),notifStore);
-        }
-        notifStore.add(pNotification);
+        subscribe(pSubscription).add(pNotification);
+    }
+
+    /**
+     * Create the store for a subscription, so that clients can wait for the first notification
+     *
+     * @param pSubscription the subscription
+     * @return the store for this subscription
+     */
+    NotificationStore subscribe(NotificationSubscription pSubscription) {
+        return store.computeIfAbsent(pSubscription.getHandle(), h -> new NotificationStore(pSubscription, maxEntries));
     }
 
     /**
@@ -64,11 +72,55 @@ public class ClientStore  {
     }
 
     /**
-     * Remove subscription
+     * Pull off notifications for a given handle or wait for the next notification if there are
+     * none.
+     *
+     * @param pHandle subscription handle
+     * @param pWaiter callback which is called when the next notification arrives
+     * @return notification result, an empty result if the subscription is not known or {@code null}
+     *         if the callback will be called later
+     * @see NotificationStore#fetchOrWait(Consumer)
+     */
+    NotificationResult pull(String pHandle, Consumer<NotificationResult> pWaiter) {
+        NotificationStore notificationStore = store.get(pHandle);
+        if (notificationStore != null) {
+            return notificationStore.fetchOrWait(pWaiter);
+        } else {
+            return new NotificationResult(pHandle, Collections.emptyList(), null, 0);
+        }
+    }
+
+    /**
+     * Stop waiting for notifications for the given handle
+     *
+     * @param pHandle subscription handle
+     * @param pWaiter callback which has been given to {@link #pull(String, Consumer)}
+     */
+    void expire(String pHandle, Consumer<NotificationResult> pWaiter) {
+        NotificationStore notificationStore = store.get(pHandle);
+        if (notificationStore != null) {
+            notificationStore.expire(pWaiter);
+        }
+    }
+
+    /**
+     * Remove subscription. A client waiting for notifications gets an empty result.
      *
      * @param pHandle notification handle
      */
     void removeSubscription(String pHandle) {
-        store.remove(pHandle);
+        NotificationStore notificationStore = store.remove(pHandle);
+        if (notificationStore != null) {
+            notificationStore.release();
+        }
+    }
+
+    /**
+     * Remove all subscriptions. Clients waiting for notifications get an empty result.
+     */
+    void clear() {
+        for (String handle : store.keySet()) {
+            removeSubscription(handle);
+        }
     }
 }
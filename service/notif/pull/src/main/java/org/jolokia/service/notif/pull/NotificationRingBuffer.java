@@ -0,0 +1,173 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.service.notif.pull;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.management.Notification;
+
+/**
+ * Bounded ring buffer for notifications which can be filled concurrently by multiple producers
+ * without locking. When the buffer is full, the oldest notifications are overwritten. Notifications
+ * are kept in the order in which they were added, they are not sorted by sequence number.
+ * <p>
+ * A buffer is filled only once: it is {@link #seal() sealed} when handed over to the consumer. Afterwards
+ * no notification can be added anymore and the buffer can be used as an unmodifiable list.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+class NotificationRingBuffer extends AbstractList<Notification> implements RandomAccess {
+
+    // Marker bit added to the claim counter when the buffer is sealed
+    private static final long SEALED = 1L << 62;
+
+    private final int capacity;
+
+    // slots holding the notifications together with the claim index they have been added with
+    private final AtomicReferenceArray<Entry> slots;
+
+    // number of claimed slots, including the SEALED bit
+    private final AtomicLong claims = new AtomicLong();
+
+    // valid claims after sealing, -1 as long as the buffer is not sealed
+    private volatile long sealedClaims = -1;
+
+    /**
+     * Create a buffer
+     *
+     * @param pCapacity maximum number of notifications to hold
+     */
+    NotificationRingBuffer(int pCapacity) {
+        capacity = pCapacity;
+        slots = new AtomicReferenceArray<>(pCapacity);
+    }
+
+    /**
+     * Add a notification. If the buffer is full, the oldest notification is dropped.
+     *
+     * @param pNotification notification to add
+     * @return false if the buffer has been sealed already, so that the notification must be added to
+     * the successor of this buffer
+     */
+    boolean offer(Notification pNotification) {
+        long claim = claims.getAndIncrement();
+        if (claim >= SEALED) {
+            return false;
+        }
+        int idx = (int) (claim % capacity);
+        Entry entry = new Entry(claim, pNotification);
+        Entry current;
+        do {
+            current = slots.get(idx);
+            if (current != null && current.claim > claim) {
+                // A newer notification has taken this slot already, so this one counts as dropped
+                return true;
+            }
+        } while (!slots.compareAndSet(idx, current, entry));
+        return true;
+    }
+
+    /**
+     * Seal this buffer so that no more notifications are added. Waits until all notifications
+     * which have been claimed before are stored.
+     */
+    void seal() {
+        long total = claims.getAndAdd(SEALED);
+        for (long claim = Math.max(0, total - capacity); claim < total; claim++) {
+            int idx = (int) (claim % capacity);
+            Entry entry;
+            while ((entry = slots.get(idx)) == null || entry.claim < claim) {
+                // Producer has claimed its slot but not yet stored the notification
+                Thread.onSpinWait();
+            }
+        }
+        sealedClaims = total;
+    }
+
+    /**
+     * Whether no notification has been added to this buffer yet
+     *
+     * @return true if the buffer is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return getClaims() == 0;
+    }
+
+    /**
+     * Get the number of notifications which have been dropped because the capacity was exceeded
+     *
+     * @return number of dropped notifications
+     */
+    int getDropped() {
+        return (int) Math.max(0, getClaims() - capacity);
+    }
+
+    /**
+     * Access a notification. Only allowed after the buffer has been sealed.
+     *
+     * @param pIndex index of the notification, starting with the oldest notification
+     * @return notification
+     */
+    @Override
+    public Notification get(int pIndex) {
+        long total = sealedClaims;
+        if (total < 0) {
+            throw new IllegalStateException("Notification buffer must be sealed before accessing it");
+        }
+        if (pIndex < 0 || pIndex >= size()) {
+            throw new IndexOutOfBoundsException("Index " + pIndex + " out of bounds for size " + size());
+        }
+        long first = Math.max(0, total - capacity);
+        return slots.get((int) ((first + pIndex) % capacity)).notification;
+    }
+
+    /**
+     * Number of notifications held
+     *
+     * @return size of the buffer
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(getClaims(), capacity);
+    }
+
+    // ====================================================================================
+
+    private long getClaims() {
+        long total = sealedClaims;
+        if (total >= 0) {
+            return total;
+        }
+        long current = claims.get();
+        return current >= SEALED ? current - SEALED : current;
+    }
+
+    // Notification stored together with its position
+    private static final class Entry {
+        private final long claim;
+        private final Notification notification;
+
+        private Entry(long pClaim, Notification pNotification) {
+            claim = pClaim;
+            notification = pNotification;
+        }
+    }
+}
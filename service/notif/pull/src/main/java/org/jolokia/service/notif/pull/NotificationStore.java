@@ -1,6 +1,8 @@
 package org.jolokia.service.notif.pull;
 
-import java.util.*;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import javax.management.Notification;
 
@@ -9,7 +11,9 @@ import org.jolokia.server.core.service.notification.NotificationSubscription;
 
 /**
  * Store for a single subscription. It holds the notifications collected
- * and also a counter for dropped notifications.
+ * and also a counter for dropped notifications. Notifications are collected in a
+ * {@link NotificationRingBuffer} without locking, so that notification senders are never blocked.
+ * Notifications are kept in the order of delivery.
  *
  * @author roland
  * @since 21.03.13
@@ -19,15 +23,15 @@ public class NotificationStore {
     // maximum number of entries to hold
     private final int maxEntries;
 
-    // the set of notification, sorted by sequence number
-    private final SortedSet<Notification> entries;
-
-    // number of dropped notifications because the max limit has been reached
-    private int dropped;
+    // buffer currently collecting notifications, replaced by a fresh buffer when fetched
+    private final AtomicReference<NotificationRingBuffer> entries;
 
     // subscription for this notification
     private final NotificationSubscription subscription;
 
+    // callback of a client waiting for the next notification
+    private final AtomicReference<Consumer<NotificationResult>> waiter = new AtomicReference<>();
+
     /**
      * Create a new notification store for holding concrete notifications which
      * can be fetched (and cleared).
@@ -38,56 +42,93 @@ public class NotificationStore {
      */
     public NotificationStore(NotificationSubscription pSubscription, int pMaxEntries) {
         subscription = pSubscription;
-        entries = Collections.synchronizedSortedSet(new TreeSet<>(getComparator()));
         maxEntries = pMaxEntries;
-        dropped = 0;
+        entries = new AtomicReference<>(new NotificationRingBuffer(pMaxEntries));
     }
 
     /**
      * Add a notification to this store
      * @param pNotification notification to add
      */
-    synchronized void add(Notification pNotification) {
-        if (entries.size() >= maxEntries) {
-            entries.remove(entries.first());
-            dropped++;
+    void add(Notification pNotification) {
+        while (!entries.get().offer(pNotification)) {
+            // Buffer has just been fetched, try again with its successor
+            Thread.onSpinWait();
         }
-        entries.add(pNotification);
+        release();
     }
 
     /**
      * Fetch notification result and clear the list. Also reset the number
-     * of dropped notifications.
+     * of dropped notifications. The list returned is the buffer which collected the notifications,
+     * a fresh buffer is used for the notifications arriving afterwards.
      *
-     * @return list of notifications, ordered by sequence number
+     * @return list of notifications, ordered by delivery
      */
     NotificationResult fetchAndClear() {
-        ArrayList<Notification> notifs = new ArrayList<>(entries);
-        NotificationResult ret = new NotificationResult(subscription.getHandle(),notifs, subscription.getHandback(),dropped);
-        entries.clear();
+        NotificationRingBuffer buffer = entries.get();
         subscription.ping();
-        dropped = 0;
-        return ret;
+        if (buffer.isEmpty()) {
+            return new NotificationResult(subscription.getHandle(), Collections.emptyList(), subscription.getHandback(), 0);
+        }
+        buffer = entries.getAndSet(new NotificationRingBuffer(maxEntries));
+        buffer.seal();
+        return new NotificationResult(subscription.getHandle(), buffer, subscription.getHandback(), buffer.getDropped());
     }
 
     /**
-     * Get the number of dropped notification
+     * Fetch the notifications if there are any. Otherwise, remember the given callback which is
+     * called with the result as soon as the next notification is added. A callback which is
+     * already waiting is called with an empty result, since only one client can wait at a time.
      *
-     * @return dropped notifications
+     * @param pWaiter callback to call when a notification arrives
+     * @return the notifications or {@code null} if the callback will be called later
      */
-    int getDropped() {
-        return dropped;
+    NotificationResult fetchOrWait(Consumer<NotificationResult> pWaiter) {
+        if (!entries.get().isEmpty()) {
+            return fetchAndClear();
+        }
+        Consumer<NotificationResult> previous = waiter.getAndSet(pWaiter);
+        if (previous != null) {
+            previous.accept(fetchAndClear());
+        }
+        // A notification might have arrived before the callback has been set
+        if (!entries.get().isEmpty() && waiter.compareAndSet(pWaiter, null)) {
+            return fetchAndClear();
+        }
+        return null;
     }
 
-    // ====================================================================================
+    /**
+     * Stop waiting for notifications. If the given callback is still waiting, it is called with
+     * the (empty) result.
+     *
+     * @param pWaiter callback which has been given to {@link #fetchOrWait(Consumer)}
+     */
+    void expire(Consumer<NotificationResult> pWaiter) {
+        if (waiter.compareAndSet(pWaiter, null)) {
+            pWaiter.accept(fetchAndClear());
+        }
+    }
 
-    // Comparator based on sequence number
-    private Comparator<? super Notification> getComparator() {
-        return new Comparator<>() {
-            /** {@inheritDoc} */
-            public int compare(Notification o1, Notification o2) {
-                return (int) (o1.getSequenceNumber() - o2.getSequenceNumber());
+    /**
+     * Answer a waiting callback, if any, with the current result
+     */
+    void release() {
+        if (waiter.get() != null) {
+            Consumer<NotificationResult> callback = waiter.getAndSet(null);
+            if (callback != null) {
+                callback.accept(fetchAndClear());
             }
-        };
+        }
+    }
+
+    /**
+     * Get the number of dropped notification
+     *
+     * @return dropped notifications
+     */
+    int getDropped() {
+        return entries.get().getDropped();
     }
 }
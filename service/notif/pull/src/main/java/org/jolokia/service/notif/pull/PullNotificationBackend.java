@@ -1,18 +1,28 @@
 package org.jolokia.service.notif.pull;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import javax.management.Notification;
 import javax.management.ObjectName;
 
+import org.jolokia.server.core.config.ConfigKey;
 import org.jolokia.server.core.http.BackChannel;
 import org.jolokia.server.core.service.api.AbstractJolokiaService;
 import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.service.notification.*;
+import org.jolokia.server.core.util.ConfigUtil;
+import org.jolokia.server.core.util.DaemonThreadFactory;
 import org.jolokia.json.JSONObject;
 
 /**
- * Pull based implementation for notifications
+ * Pull based implementation for notifications. Notifications can be pulled either via the
+ * {@link PullNotificationStoreMBean} or with the {@code pull} notification command, which can also
+ * wait for the next notification (long-poll). Waiting clients don't block any thread: they are answered
+ * from a single scheduler thread when a notification arrives or the wait time is over.
  *
  * @author roland
  * @since 20.03.13
@@ -27,9 +37,15 @@ public class PullNotificationBackend extends AbstractJolokiaService<Notification
     // maximal number of entries *per* notification subscription
     private final int maxEntries = 100;
 
+    // maximal time in milliseconds a pull command waits for notifications
+    private long maxWait;
+
     // name as the MBean has been registered
     private ObjectName objectName;
 
+    // scheduler for answering waiting clients
+    private ScheduledThreadPoolExecutor scheduler;
+
     /**
      * Create a pull notification backend which will register an MBean allowing
      * to pull received notification
@@ -47,6 +63,9 @@ public class PullNotificationBackend extends AbstractJolokiaService<Notification
             // TODO: Get configuration parameter for maxEntries
             store = new PullNotificationStore(maxEntries);
             objectName = registerJolokiaMBean(OBJECT_NAME,store);
+            maxWait = ConfigUtil.getLong(pContext, ConfigKey.NOTIFICATION_PULL_MAX_WAIT);
+            scheduler = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("jolokia-notification-pull-"));
+            scheduler.setRemoveOnCancelPolicy(true);
         }
     }
 
@@ -54,6 +73,7 @@ public class PullNotificationBackend extends AbstractJolokiaService<Notification
     public void destroy() throws Exception {
         if (getJolokiaContext() != null) {
             unregisterJolokiaMBean(objectName);
+            scheduler.shutdownNow();
             super.destroy();
         }
     }
@@ -65,6 +85,7 @@ public class PullNotificationBackend extends AbstractJolokiaService<Notification
 
     /** {@inheritDoc} */
     public BackendCallback subscribe(final NotificationSubscription pSubscription) {
+        store.subscribe(pSubscription);
         return new BackendCallback() {
             /** {@inheritDoc} */
             public void handleNotification(Notification notification, Object handback) {
@@ -73,6 +94,22 @@ public class PullNotificationBackend extends AbstractJolokiaService<Notification
         };
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public NotificationResult pull(String pClientId, String pHandle, long pWait, Consumer<NotificationResult> pCallback) {
+        long wait = Math.min(pWait, maxWait);
+        if (wait <= 0) {
+            NotificationResult result = store.pull(pClientId, pHandle);
+            return result != null ? result : new NotificationResult(pHandle, Collections.emptyList(), null, 0);
+        }
+        Waiter waiter = new Waiter(pCallback);
+        NotificationResult result = store.pull(pClientId, pHandle, waiter);
+        if (result == null) {
+            waiter.timeout = scheduler.schedule(() -> store.expire(pClientId, pHandle, waiter), wait, TimeUnit.MILLISECONDS);
+        }
+        return result;
+    }
+
     /** {@inheritDoc} */
     public void channelInit(Client client, BackChannel channel) {
         // ignored here since this backend doesnt use back channels.
@@ -94,6 +131,38 @@ public class PullNotificationBackend extends AbstractJolokiaService<Notification
         JSONObject ret = new JSONObject();
         ret.put("store",objectName.toString());
         ret.put("maxEntries",maxEntries);
+        ret.put("maxWait",maxWait);
         return ret;
     }
+
+    // ===================================================================================
+
+    // Waiting client, which is answered from the scheduler thread
+    private final class Waiter implements Consumer<NotificationResult> {
+
+        private final Consumer<NotificationResult> callback;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        // timeout task, cancelled when the notifications arrive earlier
+        private volatile Future<?> timeout;
+
+        private Waiter(Consumer<NotificationResult> pCallback) {
+            callback = pCallback;
+        }
+
+        /** {@inheritDoc} */
+        public void accept(NotificationResult pResult) {
+            if (done.compareAndSet(false, true)) {
+                Future<?> task = timeout;
+                if (task != null) {
+                    task.cancel(false);
+                }
+                try {
+                    scheduler.execute(() -> callback.accept(pResult));
+                } catch (RejectedExecutionException exp) {
+                    // Backend has been stopped
+                }
+            }
+        }
+    }
 }
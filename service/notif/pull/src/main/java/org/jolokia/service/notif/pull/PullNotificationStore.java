@@ -1,6 +1,9 @@
 package org.jolokia.service.notif.pull;
 
-import java.util.*;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import javax.management.Notification;
 
@@ -27,7 +30,7 @@ public class PullNotificationStore implements PullNotificationStoreMBean {
      * @param pMaxEntries maximum entries per subscriptions
      */
     PullNotificationStore(int pMaxEntries) {
-        store = new HashMap<>();
+        store = new ConcurrentHashMap<>();
         maxEntries = pMaxEntries;
     }
 
@@ -50,6 +53,47 @@ public class PullNotificationStore implements PullNotificationStoreMBean {
         }
     }
 
+    /**
+     * Pull out notifications or wait for the next notification if there are none.
+     *
+     * @param pClientId client id
+     * @param pHandle the subscription handle
+     * @param pWaiter callback which is called when the next notification arrives
+     * @return notifications stored for the client, an empty result for an unknown client
+     *         or {@code null} if the callback will be called later
+     */
+    NotificationResult pull(String pClientId, String pHandle, Consumer<NotificationResult> pWaiter) {
+        ClientStore clientStore = store.get(pClientId);
+        if (clientStore != null) {
+            return clientStore.pull(pHandle, pWaiter);
+        } else {
+            return new NotificationResult(pHandle, Collections.emptyList(), null, 0);
+        }
+    }
+
+    /**
+     * Stop waiting for notifications
+     *
+     * @param pClientId client id
+     * @param pHandle the subscription handle
+     * @param pWaiter callback which has been given to {@link #pull(String, String, Consumer)}
+     */
+    void expire(String pClientId, String pHandle, Consumer<NotificationResult> pWaiter) {
+        ClientStore clientStore = store.get(pClientId);
+        if (clientStore != null) {
+            clientStore.expire(pHandle, pWaiter);
+        }
+    }
+
+    /**
+     * Prepare the store for a new subscription
+     *
+     * @param pRegistration registration obtained from the notification subsystem
+     */
+    void subscribe(NotificationSubscription pRegistration) {
+        getClientStore(pRegistration).subscribe(pRegistration);
+    }
+
     /**
      * Add a new notification to this store.
      *
@@ -57,9 +101,7 @@ public class PullNotificationStore implements PullNotificationStoreMBean {
      * @param pNotification the notification to add
      */
     void add(NotificationSubscription pRegistration, Notification pNotification) {
-        String key = pRegistration.getClient().getId();
-        ClientStore clientStore = store.computeIfAbsent(key, k -> new ClientStore(maxEntries));
-        clientStore.add(pRegistration,pNotification);
+        getClientStore(pRegistration).add(pRegistration,pNotification);
     }
 
     /**
@@ -79,6 +121,13 @@ public class PullNotificationStore implements PullNotificationStoreMBean {
      * @param pClientId client to remove
      */
     void removeClient(String pClientId) {
-        store.remove(pClientId);
+        ClientStore clientStore = store.remove(pClientId);
+        if (clientStore != null) {
+            clientStore.clear();
+        }
+    }
+
+    private ClientStore getClientStore(NotificationSubscription pRegistration) {
+        return store.computeIfAbsent(pRegistration.getClient().getId(), k -> new ClientStore(maxEntries));
     }
 }
@@ -13,7 +13,7 @@ public interface PullNotificationStoreMBean {
     /**
      * Get notification for client and a certain subscription. This will also
      * clear out the notification store. The list returned contains the
-     * notifications ordered by sequence number (lower sequence numbers first).
+     * notifications in the order in which they arrived (oldest first).
      *
      * @param pClientId client id
      * @param pHandle the subscription handle
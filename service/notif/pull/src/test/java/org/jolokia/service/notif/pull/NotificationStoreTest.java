@@ -16,6 +16,9 @@
 
 package org.jolokia.service.notif.pull;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import javax.management.Notification;
 
 import org.jolokia.server.core.service.notification.NotificationResult;
@@ -23,6 +26,7 @@ import org.jolokia.server.core.service.notification.NotificationSubscription;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
 
 /**
  * @author roland
@@ -53,6 +57,71 @@ public class NotificationStoreTest {
         assertEquals(notifs.getDropped(),0);
     }
 
+    @Test
+    public void testLargeSequenceGap() {
+        NotificationStore store = new NotificationStore(createNotificationSubscription(null),3);
+        store.add(new Notification("test.test1",this,1));
+        store.add(new Notification("test.test2",this,1L + Integer.MAX_VALUE + 10));
+        store.add(new Notification("test.test3",this,2));
+        List<Notification> notifs = store.fetchAndClear().getNotifications();
+        assertEquals(notifs.size(),3);
+        // Notifications are kept in the order of delivery
+        assertEquals(notifs.get(0).getType(),"test.test1");
+        assertEquals(notifs.get(1).getType(),"test.test2");
+        assertEquals(notifs.get(2).getType(),"test.test3");
+    }
+
+    @Test
+    public void testWrapAround() {
+        NotificationStore store = new NotificationStore(createNotificationSubscription(null),3);
+        for (int i = 0; i < 10; i++) {
+            store.add(new Notification("test.test",this,i));
+        }
+        NotificationResult notifs = store.fetchAndClear();
+        assertEquals(notifs.getDropped(),7);
+        assertEquals(notifs.getNotifications().size(),3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(notifs.getNotifications().get(i).getSequenceNumber(),7 + i);
+        }
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        int producers = 4;
+        int perProducer = 10000;
+        NotificationStore store = new NotificationStore(createNotificationSubscription(null),100);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    store.add(new Notification("test.test",this,i));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        long received = 0;
+        long dropped = 0;
+        boolean done = false;
+        while (!done) {
+            done = futures.stream().allMatch(Future::isDone);
+            NotificationResult notifs = store.fetchAndClear();
+            received += notifs.getNotifications().size();
+            dropped += notifs.getDropped();
+            for (Notification notif : notifs.getNotifications()) {
+                assertNotNull(notif);
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertEquals(received + dropped,(long) producers * perProducer);
+    }
+
     private NotificationSubscription createNotificationSubscription(Object handback) {
         return new TestNotificationSubscription("test","1",handback);
     }
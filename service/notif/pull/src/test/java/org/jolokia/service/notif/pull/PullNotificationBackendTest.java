@@ -19,6 +19,8 @@ package org.jolokia.service.notif.pull;
 import java.lang.management.ManagementFactory;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.management.*;
 
@@ -30,6 +32,8 @@ import org.testng.Assert;
 import org.testng.annotations.*;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 
 /**
  * @author roland
@@ -117,6 +121,59 @@ public class PullNotificationBackendTest {
         Assert.assertNull(notifs);
     }
 
+    @Test
+    public void testLongPoll() throws Exception {
+        String client = UUID.randomUUID().toString();
+        String handle = "1";
+        BackendCallback cb = backend.subscribe(new TestNotificationSubscription(client, handle));
+
+        CompletableFuture<NotificationResult> answer = new CompletableFuture<>();
+        assertNull(backend.pull(client, handle, 10000, answer::complete));
+        assertFalse(answer.isDone());
+
+        Notification notification = new Notification("test.test", this, 1);
+        cb.handleNotification(notification, null);
+        NotificationResult notifs = answer.get(5, TimeUnit.SECONDS);
+        assertEquals(notifs.getNotifications().size(), 1);
+        assertEquals(notifs.getNotifications().get(0), notification);
+    }
+
+    @Test
+    public void testLongPollImmediate() {
+        String client = UUID.randomUUID().toString();
+        String handle = "1";
+        BackendCallback cb = backend.subscribe(new TestNotificationSubscription(client, handle));
+        cb.handleNotification(new Notification("test.test", this, 1), null);
+
+        NotificationResult notifs = backend.pull(client, handle, 10000, r -> Assert.fail("No callback expected"));
+        assertEquals(notifs.getNotifications().size(), 1);
+    }
+
+    @Test
+    public void testLongPollTimeout() throws Exception {
+        String client = UUID.randomUUID().toString();
+        String handle = "1";
+        backend.subscribe(new TestNotificationSubscription(client, handle));
+
+        CompletableFuture<NotificationResult> answer = new CompletableFuture<>();
+        assertNull(backend.pull(client, handle, 50, answer::complete));
+        NotificationResult notifs = answer.get(5, TimeUnit.SECONDS);
+        assertEquals(notifs.getNotifications().size(), 0);
+    }
+
+    @Test
+    public void testLongPollUnsubscribe() throws Exception {
+        String client = UUID.randomUUID().toString();
+        String handle = "1";
+        backend.subscribe(new TestNotificationSubscription(client, handle));
+
+        CompletableFuture<NotificationResult> answer = new CompletableFuture<>();
+        assertNull(backend.pull(client, handle, 10000, answer::complete));
+        backend.unsubscribe(client, handle);
+        NotificationResult notifs = answer.get(5, TimeUnit.SECONDS);
+        assertEquals(notifs.getNotifications().size(), 0);
+    }
+
     private NotificationResult jmxPull(String pClient, String pHandle) throws MalformedObjectNameException, InstanceNotFoundException, MBeanException, ReflectionException {
         MBeanServer server = ManagementFactory.getPlatformMBeanServer();
         Map<String, ?> cfg = backend.getConfig();
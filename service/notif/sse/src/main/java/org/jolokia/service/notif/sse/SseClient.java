@@ -0,0 +1,492 @@
+package org.jolokia.service.notif.sse;/*
+ *
+ * Copyright 2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.Notification;
+
+import org.jolokia.core.service.serializer.SerializeOptions;
+import org.jolokia.json.JSONStructure;
+import org.jolokia.server.core.http.BackChannel;
+import org.jolokia.server.core.service.notification.NotificationResult;
+import org.jolokia.server.core.service.serializer.Serializer;
+
+/**
+ * Delivery of server sent events to a single client. Notifications are only queued by the sender,
+ * they are serialized and written to the back channel by a writer task running on a shared executor.
+ * The writer sends all queued events with a single flush. Events which have been sent are kept in a
+ * replay buffer, so that they can be sent again when the client reconnects with a {@code Last-Event-ID}
+ * header. Heartbeats are requested by the shared {@link SseHeartBeat} and written by the writer, too.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+class SseClient implements Runnable {
+
+    /**
+     * Header sent by a reconnecting client with the id of the last event received
+     */
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private static final byte[] CRLF = new byte[]{'\r', '\n'};
+    private static final byte[] ID_FIELD = "id: ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_FIELD = "data: ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMMENT_FIELD = ": ".getBytes(StandardCharsets.UTF_8);
+
+    // maximum number of events written with a single flush
+    private static final int MAX_BATCH = 64;
+
+    /**
+     * What to do when the queue is full
+     */
+    enum OverflowPolicy {
+        DROP_OLDEST("dropOldest"),
+        DROP_NEWEST("dropNewest");
+
+        private final String value;
+
+        OverflowPolicy(String pValue) {
+            value = pValue;
+        }
+
+        static OverflowPolicy fromString(String pValue) {
+            for (OverflowPolicy policy : values()) {
+                if (policy.value.equalsIgnoreCase(pValue)) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException("Invalid SSE overflow policy '" + pValue + "', must be one of " +
+                                               "dropOldest or dropNewest");
+        }
+    }
+
+    // executor running the writer task
+    private final Executor executor;
+
+    // serializer for the notifications, looked up by the writer
+    private final Supplier<Serializer> serializerLookup;
+
+    private final int queueSize;
+    private final OverflowPolicy overflowPolicy;
+
+    // queued events, guarded by this
+    private final Deque<PendingEvent> pending = new ArrayDeque<>();
+
+    // sent events for replaying them, guarded by this
+    private final SentEvent[] replay;
+    private int replayNext;
+
+    // id of the next event, guarded by this
+    private long nextId = 1;
+
+    // notifications dropped since the last event which has been sent, guarded by this
+    private int dropped;
+
+    // all notifications dropped for this client, guarded by this
+    private long droppedTotal;
+
+    // channel to write to, guarded by this
+    private BackChannel channel;
+
+    // id of the last event the client has received when reconnecting, guarded by this
+    private long replayFrom = -1;
+
+    // whether a heartbeat should be sent, guarded by this
+    private boolean heartBeatDue;
+
+    // time of the last write to the channel
+    private volatile long lastWrite;
+
+    // channel, thread and start time of the write in progress, guarded by this
+    private BackChannel writing;
+    private Thread writingThread;
+    private long writeStarted;
+
+    // whether the write in progress has been aborted, guarded by this
+    private boolean writeAborted;
+
+    // whether the writer task is scheduled or running
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Create the delivery for a client
+     *
+     * @param pExecutor executor to run the writer task on
+     * @param pSerializerLookup lookup of the serializer to use
+     * @param pQueueSize max number of events to queue
+     * @param pOverflowPolicy what to do when the queue is full
+     * @param pReplaySize number of events to keep for a replay
+     */
+    SseClient(Executor pExecutor, Supplier<Serializer> pSerializerLookup,
+              int pQueueSize, OverflowPolicy pOverflowPolicy, int pReplaySize) {
+        executor = pExecutor;
+        serializerLookup = pSerializerLookup;
+        queueSize = pQueueSize;
+        overflowPolicy = pOverflowPolicy;
+        replay = new SentEvent[Math.max(0, pReplaySize)];
+    }
+
+    /**
+     * Queue a notification for delivery. This never blocks on the client connection.
+     *
+     * @param pHandle subscription handle
+     * @param pNotification notification to send
+     * @param pHandback handback given when subscribing
+     */
+    void add(String pHandle, Notification pNotification, Object pHandback) {
+        synchronized (this) {
+            if (pending.size() >= queueSize) {
+                dropped++;
+                droppedTotal++;
+                if (overflowPolicy == OverflowPolicy.DROP_NEWEST || pending.isEmpty()) {
+                    return;
+                }
+                pending.pollFirst();
+            }
+            pending.addLast(new PendingEvent(nextId++, pHandle, pNotification, pHandback));
+        }
+        schedule();
+    }
+
+    /**
+     * Use a new channel for the delivery. If the request for opening the channel carries a
+     * {@code Last-Event-ID} header, the events sent afterwards are sent again.
+     *
+     * @param pChannel channel which has been opened
+     */
+    void open(BackChannel pChannel) {
+        long lastEventId = parseEventId(pChannel.getRequestHeader(LAST_EVENT_ID));
+        synchronized (this) {
+            channel = pChannel;
+            replayFrom = lastEventId;
+            heartBeatDue = false;
+        }
+        lastWrite = System.currentTimeMillis();
+        schedule();
+    }
+
+    /**
+     * Remove all queued events for the given subscription
+     *
+     * @param pHandle subscription handle
+     */
+    synchronized void removeSubscription(String pHandle) {
+        pending.removeIf(event -> event.handle.equals(pHandle));
+    }
+
+    /**
+     * Drop all queued events and forget about the channel
+     */
+    synchronized void clear() {
+        pending.clear();
+        Arrays.fill(replay, null);
+        channel = null;
+    }
+
+    /**
+     * Request a heartbeat if nothing has been written to the channel within the given period. A write
+     * which is in progress for longer than the period is aborted, because the client doesn't read
+     * what is sent.
+     *
+     * @param pNow current time in milliseconds
+     * @param pPeriod heartbeat period in milliseconds
+     * @return false if the channel has been closed, true if it is open or no channel has been opened yet
+     */
+    boolean heartBeat(long pNow, long pPeriod) {
+        synchronized (this) {
+            if (writing != null && pNow - writeStarted > pPeriod) {
+                abortWrite();
+            }
+            if (channel == null) {
+                return true;
+            }
+            if (channel.isClosed()) {
+                return false;
+            }
+            if (pNow - lastWrite < pPeriod) {
+                // Recently written, so no need for a heartbeat
+                return true;
+            }
+            heartBeatDue = true;
+        }
+        schedule();
+        return true;
+    }
+
+    /**
+     * Forget about a channel which has been closed. Events are queued until a new channel is opened.
+     */
+    synchronized void releaseClosedChannel() {
+        if (channel != null && channel.isClosed()) {
+            channel = null;
+        }
+    }
+
+    /**
+     * Get the number of notifications which have been dropped because the queue was full
+     *
+     * @return number of dropped notifications
+     */
+    synchronized long getDropped() {
+        return droppedTotal;
+    }
+
+    /**
+     * Writer task, sending all queued events
+     */
+    public void run() {
+        while (true) {
+            Batch batch = takeBatch();
+            if (batch == null) {
+                scheduled.set(false);
+                // Events might have been added after the batch has been taken
+                if (hasWork() && scheduled.compareAndSet(false, true)) {
+                    continue;
+                }
+                return;
+            }
+            write(batch);
+        }
+    }
+
+    // ==================================================================================
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException exp) {
+                // Backend has been stopped
+                scheduled.set(false);
+            }
+        }
+    }
+
+    private synchronized boolean hasWork() {
+        return isOpen() && (!pending.isEmpty() || replayFrom >= 0 || heartBeatDue);
+    }
+
+    private boolean isOpen() {
+        return channel != null && !channel.isClosed();
+    }
+
+    // Take events to send, or null if there is nothing to send (or nobody to send it to)
+    private synchronized Batch takeBatch() {
+        if (!hasWork()) {
+            return null;
+        }
+        List<SentEvent> replayed = new ArrayList<>();
+        if (replayFrom >= 0) {
+            for (int i = 0; i < replay.length; i++) {
+                SentEvent event = replay[(replayNext + i) % replay.length];
+                if (event != null && event.id > replayFrom) {
+                    replayed.add(event);
+                }
+            }
+            replayFrom = -1;
+        }
+        List<PendingEvent> events = new ArrayList<>(Math.min(pending.size(), MAX_BATCH));
+        while (!pending.isEmpty() && events.size() < MAX_BATCH) {
+            events.add(pending.pollFirst());
+        }
+        Batch batch = new Batch(channel, replayed, events, dropped, heartBeatDue);
+        dropped = 0;
+        heartBeatDue = false;
+        return batch;
+    }
+
+    private void write(Batch pBatch) {
+        Serializer serializer = serializerLookup.get();
+        List<SentEvent> sent = new ArrayList<>(pBatch.events.size());
+        int droppedBefore = pBatch.dropped;
+        for (PendingEvent event : pBatch.events) {
+            NotificationResult result =
+                new NotificationResult(event.handle, Collections.singletonList(event.notification),
+                                       event.handback, droppedBefore);
+            droppedBefore = 0;
+            try {
+                JSONStructure json =
+                    (JSONStructure) serializer.serialize(result, null /* no path */, SerializeOptions.DEFAULT);
+                sent.add(new SentEvent(event.id, format(event.id, json)));
+            } catch (AttributeNotFoundException e) {
+                // No path, no exception, so cant happen (TM) in 'serialize()'
+            } catch (IOException e) {
+                // Can't happen when writing into memory
+            }
+        }
+        remember(sent);
+
+        // Only a single writer task runs per client, so the channel is written without further locking. This
+        // way the heartbeat isn't blocked by a write which doesn't make progress.
+        BackChannel backChannel = pBatch.channel;
+        startWrite(backChannel);
+        boolean failed = false;
+        try {
+            OutputStream os = backChannel.getOutputStream();
+            for (SentEvent event : pBatch.replayed) {
+                os.write(event.data);
+            }
+            for (SentEvent event : sent) {
+                os.write(event.data);
+            }
+            if (pBatch.heartBeat && pBatch.replayed.isEmpty() && sent.isEmpty()) {
+                // If the other peer closes the connection, the first
+                // flush() should generate a TCP reset that is detected
+                // on the second flush()
+                os.write(COMMENT_FIELD);
+                os.write('\r');
+                os.flush();
+                os.write('\n');
+            }
+            os.flush();
+            lastWrite = System.currentTimeMillis();
+        } catch (IOException e) {
+            // The other peer closed the connection (or doesn't read anymore). The events are still
+            // in the replay buffer for a reconnect
+            failed = true;
+        }
+        if (endWrite() || failed) {
+            backChannel.close();
+        }
+    }
+
+    private synchronized void startWrite(BackChannel pChannel) {
+        writing = pChannel;
+        writingThread = Thread.currentThread();
+        writeStarted = System.currentTimeMillis();
+        writeAborted = false;
+    }
+
+    // Returns whether the write has been aborted
+    private synchronized boolean endWrite() {
+        boolean aborted = writeAborted;
+        writing = null;
+        writingThread = null;
+        writeAborted = false;
+        // the writer thread is shared with other clients, so a pending abort must not affect them
+        Thread.interrupted();
+        return aborted;
+    }
+
+    // A client which doesn't read would block the writer thread (and with it other clients) until the
+    // connection times out. It's treated like a closed connection instead: the blocked write gets
+    // interrupted and the channel is closed by the writer.
+    private void abortWrite() {
+        if (!writeAborted) {
+            writeAborted = true;
+            writingThread.interrupt();
+            if (channel == writing) {
+                channel = null;
+            }
+        }
+    }
+
+    private synchronized void remember(List<SentEvent> pEvents) {
+        if (replay.length > 0) {
+            for (SentEvent event : pEvents) {
+                replay[replayNext] = event;
+                replayNext = (replayNext + 1) % replay.length;
+            }
+        }
+    }
+
+    private byte[] format(long pId, JSONStructure pJson) throws IOException {
+        StringWriter sw = new StringWriter();
+        pJson.writeJSONString(sw);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        printLine(os, ID_FIELD, Long.toString(pId).getBytes(StandardCharsets.UTF_8));
+        BufferedReader reader = new BufferedReader(new StringReader(sw.toString()));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            printLine(os, DATA_FIELD, line.getBytes(StandardCharsets.UTF_8));
+        }
+        os.write(CRLF);
+        return os.toByteArray();
+    }
+
+    private void printLine(OutputStream pOs, byte[] pField, byte[] pValue) throws IOException {
+        pOs.write(pField);
+        pOs.write(pValue);
+        pOs.write(CRLF);
+    }
+
+    private long parseEventId(String pId) {
+        if (pId == null || pId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(pId.trim()));
+        } catch (NumberFormatException exp) {
+            // Not one of our ids
+            return -1;
+        }
+    }
+
+    // ==================================================================================
+
+    // Notification waiting for delivery
+    private static final class PendingEvent {
+        private final long id;
+        private final String handle;
+        private final Notification notification;
+        private final Object handback;
+
+        private PendingEvent(long pId, String pHandle, Notification pNotification, Object pHandback) {
+            id = pId;
+            handle = pHandle;
+            notification = pNotification;
+            handback = pHandback;
+        }
+    }
+
+    // Serialized event as it has been sent to the client
+    private static final class SentEvent {
+        private final long id;
+        private final byte[] data;
+
+        private SentEvent(long pId, byte[] pData) {
+            id = pId;
+            data = pData;
+        }
+    }
+
+    // Events to write with a single flush
+    private static final class Batch {
+        private final BackChannel channel;
+        private final List<SentEvent> replayed;
+        private final List<PendingEvent> events;
+        private final int dropped;
+        private final boolean heartBeat;
+
+        private Batch(BackChannel pChannel, List<SentEvent> pReplayed, List<PendingEvent> pEvents, int pDropped,
+                      boolean pHeartBeat) {
+            channel = pChannel;
+            replayed = pReplayed;
+            events = pEvents;
+            dropped = pDropped;
+            heartBeat = pHeartBeat;
+        }
+    }
+}
@@ -15,76 +15,66 @@ package org.jolokia.service.notif.sse;/*
  * limitations under the License.
  */
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.*;
 
-import org.jolokia.server.core.http.BackChannel;
 import org.jolokia.server.core.util.DaemonThreadFactory;
 
 /**
+ * Heartbeat for all SSE clients of a backend. A single scheduler thread periodically checks all clients:
+ * clients to which nothing has been written within the heartbeat period get a heartbeat (written by
+ * the client's writer, so that a slow client doesn't delay the others), and closed channels are released
+ * in one go. Clients whose write hasn't finished within the heartbeat period are treated as dead: their write
+ * is aborted, so that they don't occupy a writer thread any longer.
+ *
  * @author roland
  * @since 14/12/15
  */
 class SseHeartBeat implements Runnable {
 
-    private static final byte[] COMMENT_FIELD = ": ".getBytes(StandardCharsets.UTF_8);
-
     // Scheduler for doing heartbeats
     private final ScheduledExecutorService scheduler;
 
-    // back channel on which to issue the heartbeat
-    private final BackChannel backChannel;
-
-    // Heartbeat in seconds
-    @SuppressWarnings("FieldCanBeLocal")
-    private final int heartBeatPeriod = 10;
+    // clients to check
+    private final Collection<SseClient> clients;
 
-    // hearbeat hand
-    private Future<?> heartBeat;
+    // Heartbeat in milliseconds
+    private final long heartBeatPeriod;
 
-    public SseHeartBeat(BackChannel pBackChannel) {
+    /**
+     * Create a heartbeat for the given clients
+     *
+     * @param pClients clients to check, can change while the heartbeat is running
+     * @param pPeriod heartbeat period in milliseconds
+     */
+    SseHeartBeat(Collection<SseClient> pClients, long pPeriod) {
         this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("jolokia-sse-hearbeat"));
-        this.backChannel = pBackChannel;
+        this.clients = pClients;
+        this.heartBeatPeriod = pPeriod;
     }
 
     void start() {
-        scheduleHeartBeat();
+        // Check twice per period, so that no channel is idle for much longer than a period
+        long interval = Math.max(1, heartBeatPeriod / 2);
+        scheduler.scheduleWithFixedDelay(this, interval, interval, TimeUnit.MILLISECONDS);
     }
 
     public void stop() {
-        if (heartBeat != null) {
-            heartBeat.cancel(true);
-            scheduler.shutdownNow();
-        }
-    }
-
-    void scheduleHeartBeat() {
-        synchronized (backChannel) {
-            if (!backChannel.isClosed()) {
-                heartBeat = scheduler.schedule(this, heartBeatPeriod, TimeUnit.SECONDS);
-            }
-        }
+        scheduler.shutdownNow();
     }
 
     public void run() {
-        // If the other peer closes the connection, the first
-        // flush() should generate a TCP reset that is detected
-        // on the second flush()
-        try {
-            synchronized (backChannel) {
-                OutputStream outputStream = backChannel.getOutputStream();
-                outputStream.write(COMMENT_FIELD);
-                outputStream.write('\r');
-                outputStream.flush();
-                outputStream.write('\n');
-                outputStream.flush();
+        long now = System.currentTimeMillis();
+        List<SseClient> dead = new ArrayList<>();
+        for (SseClient client : clients) {
+            if (!client.heartBeat(now, heartBeatPeriod)) {
+                dead.add(client);
             }
-            // We could write, reschedule heartbeat
-            scheduleHeartBeat();
-        } catch (IOException exp) {
-            // The other peer closed the connection
-            backChannel.close();
+        }
+        for (SseClient client : dead) {
+            client.releaseClosedChannel();
         }
     }
 }
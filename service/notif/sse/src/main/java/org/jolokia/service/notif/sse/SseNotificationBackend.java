@@ -1,35 +1,45 @@
 package org.jolokia.service.notif.sse;
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.*;
 
-import javax.management.AttributeNotFoundException;
 import javax.management.Notification;
 
-import org.jolokia.json.JSONStructure;
+import org.jolokia.server.core.config.ConfigKey;
 import org.jolokia.server.core.http.BackChannel;
 import org.jolokia.server.core.service.api.AbstractJolokiaService;
 import org.jolokia.server.core.service.api.JolokiaContext;
 import org.jolokia.server.core.service.notification.*;
-import org.jolokia.core.service.serializer.SerializeOptions;
 import org.jolokia.server.core.service.serializer.Serializer;
+import org.jolokia.server.core.util.ConfigUtil;
+import org.jolokia.server.core.util.DaemonThreadFactory;
 import org.jolokia.json.JSONObject;
 
 /**
- * Dummy implementation
+ * Notification backend sending notifications as server sent events over a back channel. Notifications
+ * are queued per client and written by a separate writer, so that the sender of a notification is never
+ * blocked by a slow client.
  *
  * @author roland
  * @since 20.03.13
  */
 public class SseNotificationBackend extends AbstractJolokiaService<NotificationBackend> implements NotificationBackend {
 
-    private static final byte[] CRLF = new byte[]{'\r', '\n'};
-    private static final byte[] ID_FIELD = "id: ".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] DATA_FIELD = "data: ".getBytes(StandardCharsets.UTF_8);
+    // Heartbeat period in milliseconds
+    private static final long HEART_BEAT_PERIOD = 10000;
 
-    // Map with heart beat threads
-    private final HashMap<String,SseHeartBeat> heartBeatMap = new HashMap<>();
+    // Delivery of events per client
+    private final Map<String,SseClient> clients = new ConcurrentHashMap<>();
+
+    // Executor with a fixed number of threads for writing out the events
+    private ExecutorService writer;
+
+    // Heartbeat for all clients
+    private SseHeartBeat heartBeat;
+
+    private int queueSize;
+    private SseClient.OverflowPolicy overflowPolicy;
+    private int replaySize;
 
     /**
      * Create a server side event notification backend which will return notifications
@@ -45,12 +55,21 @@ public class SseNotificationBackend extends AbstractJolokiaService<NotificationB
     public void init(JolokiaContext pContext) {
         if (getJolokiaContext() == null) {
             super.init(pContext);
+            queueSize = ConfigUtil.getInt(pContext, ConfigKey.NOTIFICATION_SSE_QUEUE_SIZE);
+            overflowPolicy = SseClient.OverflowPolicy.fromString(pContext.getConfig(ConfigKey.NOTIFICATION_SSE_OVERFLOW));
+            replaySize = ConfigUtil.getInt(pContext, ConfigKey.NOTIFICATION_SSE_REPLAY_SIZE);
+            writer = createWriter(ConfigUtil.getInt(pContext, ConfigKey.NOTIFICATION_SSE_WRITER_THREADS));
+            heartBeat = new SseHeartBeat(clients.values(), HEART_BEAT_PERIOD);
+            heartBeat.start();
         }
     }
 
     @Override
     public void destroy() throws Exception {
         if (getJolokiaContext() != null) {
+            heartBeat.stop();
+            writer.shutdownNow();
+            clients.clear();
             super.destroy();
         }
     }
@@ -62,57 +81,38 @@ public class SseNotificationBackend extends AbstractJolokiaService<NotificationB
 
     /** {@inheritDoc} */
     public BackendCallback subscribe(final NotificationSubscription pSubscription) {
-        final Client client = pSubscription.getClient();
+        final SseClient client = getClient(pSubscription.getClient().getId());
         return new BackendCallback() {
 
             /** {@inheritDoc} */
             public void handleNotification(Notification notification, Object handback) {
-                BackChannel backChannel = client.getBackChannel(getNotifType());
-                if (backChannel != null && !backChannel.isClosed()) {
-                    JolokiaContext ctx = getJolokiaContext();
-                    Serializer serializer = ctx.getMandatoryService(Serializer.class);
-                    NotificationResult result =
-                            new NotificationResult(pSubscription.getHandle(), Collections.singletonList(notification),
-                                                   handback, 0);
-                    try {
-                        long id = notification.getSequenceNumber();
-                        JSONStructure json =
-                            (JSONStructure) serializer.serialize(result, null /* no path */, SerializeOptions.DEFAULT);
-                        StringWriter sw = new StringWriter();
-                        json.writeJSONString(sw);
-
-                        sendMessage(backChannel,id,sw.toString());
-                    } catch (IOException e) {
-                        // TODO: Collect in a buffer, ordered by sequence number
-                    } catch (AttributeNotFoundException e) {
-                        // No path, no exception, so cant happen (TM) in 'serialize()'
-                    }
-                }
-                // TODO: Collect exception in client specific buffer and send it when a reconnect happened
+                client.add(pSubscription.getHandle(), notification, handback);
             }
         };
     }
 
     public void channelInit(Client client, BackChannel channel) {
-        // Start heartbeat
-        SseHeartBeat heartBeat = new SseHeartBeat(channel);
-        heartBeat.start();
-        heartBeatMap.put(client.getId(),heartBeat);
+        // Deliver queued events (and replay the ones missed) on the new channel. Heartbeats are sent
+        // by the shared heartbeat for all open channels.
+        getClient(client.getId()).open(channel);
     }
 
 
     /** {@inheritDoc} */
     public void unsubscribe(String pClientId, String pHandle) {
-        // TODO: Clean up any store notifications
+        SseClient client = clients.get(pClientId);
+        if (client != null) {
+            client.removeSubscription(pHandle);
+        }
     }
 
     /** {@inheritDoc}
      * @param pClient*/
     public void unregister(Client pClient) {
-        // Stop heartbeat
-        SseHeartBeat heartBeat = heartBeatMap.remove(pClient.getId());
-        if (heartBeat != null) {
-            heartBeat.stop();
+        // Drop queued events
+        SseClient client = clients.remove(pClient.getId());
+        if (client != null) {
+            client.clear();
         }
 
         // Close channel.
@@ -132,33 +132,19 @@ public class SseNotificationBackend extends AbstractJolokiaService<NotificationB
 
     // ===================================================================================
 
-    private void sendMessage(BackChannel pBackChannel, long pId, String pData) throws IOException {
-        synchronized (pBackChannel) {
-            OutputStream os = pBackChannel.getOutputStream();
-            id(os,pId);
-            data(os,pData);
-            os.write(CRLF);
-            os.flush();
-        }
-    }
-
-    private void id(OutputStream pOs, long pId) throws IOException {
-        printLine(pOs, ID_FIELD, Long.toString(pId).getBytes(StandardCharsets.UTF_8));
-    }
-
-    private void data(OutputStream pOs, String pData) throws IOException {
-        synchronized (this) {
-            BufferedReader reader = new BufferedReader(new StringReader(pData));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                printLine(pOs, DATA_FIELD, line.getBytes(StandardCharsets.UTF_8));
-            }
-        }
+    private ExecutorService createWriter(int pThreads) {
+        int threads = Math.max(1, pThreads);
+        // Each client has at most one writer task scheduled, so the queue can't grow beyond the number of clients
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new DaemonThreadFactory("jolokia-sse-writer-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
-    private void printLine(OutputStream pOs, byte[] pField, byte[] pValue) throws IOException {
-        pOs.write(pField);
-        pOs.write(pValue);
-        pOs.write(CRLF);
+    private SseClient getClient(String pClientId) {
+        return clients.computeIfAbsent(pClientId, id ->
+            new SseClient(writer, () -> getJolokiaContext().getMandatoryService(Serializer.class),
+                          queueSize, overflowPolicy, replaySize));
     }
 }
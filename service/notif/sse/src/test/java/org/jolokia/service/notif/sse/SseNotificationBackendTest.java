@@ -16,17 +16,33 @@
 
 package org.jolokia.service.notif.sse;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.management.Notification;
 
 import org.jolokia.server.core.config.ConfigKey;
+import org.jolokia.server.core.http.BackChannel;
 import org.jolokia.server.core.service.notification.BackendCallback;
 import org.jolokia.server.core.service.notification.Client;
+import org.jolokia.server.core.service.serializer.Serializer;
 import org.jolokia.server.core.util.TestJolokiaContext;
+import org.jolokia.server.core.util.TestSerializer;
 import org.testng.annotations.*;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 /**
  * @author roland
@@ -42,7 +58,10 @@ public class SseNotificationBackendTest {
     @BeforeMethod
     public void setUp() {
         context = new TestJolokiaContext.Builder()
-                .config(ConfigKey.AGENT_ID,"test")
+                .config(ConfigKey.AGENT_ID,"test",
+                        ConfigKey.NOTIFICATION_SSE_QUEUE_SIZE,"2",
+                        ConfigKey.NOTIFICATION_SSE_WRITER_THREADS,"2")
+                .services(Serializer.class, new TestSerializer())
                 .build();
         backend = new SseNotificationBackend(0);
         backend.init(context);
@@ -96,4 +115,204 @@ public class SseNotificationBackendTest {
 
         backend.unregister(new Client(client));
     }
+
+    @Test
+    public void testDelivery() throws Exception {
+        String clientId = UUID.randomUUID().toString();
+        BackendCallback cb = backend.subscribe(new TestNotificationSubscription(clientId, "1"));
+        cb.handleNotification(new Notification("test.test", this, 1), null);
+
+        TestBackChannel channel = new TestBackChannel(null);
+        Client client = new Client(clientId);
+        backend.channelInit(client, channel);
+        String sent = channel.waitFor("id: 1");
+        assertTrue(sent.contains("data: "));
+
+        cb.handleNotification(new Notification("test.test", this, 2), null);
+        channel.waitFor("id: 2");
+        backend.unregister(client);
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        String clientId = UUID.randomUUID().toString();
+        BackendCallback cb = backend.subscribe(new TestNotificationSubscription(clientId, "1"));
+        // No channel yet, so only the two newest notifications are kept
+        for (int i = 1; i <= 5; i++) {
+            cb.handleNotification(new Notification("test.test", this, i), null);
+        }
+        TestBackChannel channel = new TestBackChannel(null);
+        backend.channelInit(new Client(clientId), channel);
+        String sent = channel.waitFor("id: 5");
+        assertTrue(sent.contains("id: 4"));
+        assertFalse(sent.contains("id: 3"));
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        String clientId = UUID.randomUUID().toString();
+        BackendCallback cb = backend.subscribe(new TestNotificationSubscription(clientId, "1"));
+        Client client = new Client(clientId);
+        TestBackChannel channel = new TestBackChannel(null);
+        backend.channelInit(client, channel);
+        for (int i = 1; i <= 3; i++) {
+            cb.handleNotification(new Notification("test.test", this, i), null);
+        }
+        channel.waitFor("id: 3");
+        channel.close();
+
+        TestBackChannel reconnected = new TestBackChannel("1");
+        backend.channelInit(client, reconnected);
+        String replayed = reconnected.waitFor("id: 3");
+        assertTrue(replayed.contains("id: 2"));
+        assertFalse(replayed.contains("id: 1\r"));
+        backend.unregister(client);
+    }
+
+    @Test
+    public void testSlowClient() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // occupies one of the two writer threads
+            String slowId = UUID.randomUUID().toString();
+            BackendCallback slowCb = backend.subscribe(new TestNotificationSubscription(slowId, "1"));
+            TestBackChannel slowChannel = new TestBackChannel(null, release);
+            backend.channelInit(new Client(slowId), slowChannel);
+            slowCb.handleNotification(new Notification("test.test", this, 1), null);
+            slowChannel.waitForWriter();
+
+            String clientId = UUID.randomUUID().toString();
+            BackendCallback cb = backend.subscribe(new TestNotificationSubscription(clientId, "1"));
+            TestBackChannel channel = new TestBackChannel(null);
+            backend.channelInit(new Client(clientId), channel);
+            cb.handleNotification(new Notification("test.test", this, 1), null);
+            channel.waitFor("id: 1");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testNonReadingClient() throws Exception {
+        // a single writer thread, which is blocked by a client that never reads
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch never = new CountDownLatch(1);
+        SseClient stalled = new SseClient(executor, TestSerializer::new, 10, SseClient.OverflowPolicy.DROP_OLDEST, 10);
+        SseClient other = new SseClient(executor, TestSerializer::new, 10, SseClient.OverflowPolicy.DROP_OLDEST, 10);
+        SseHeartBeat heartBeat = new SseHeartBeat(List.of(stalled, other), 100);
+        try {
+            TestBackChannel stalledChannel = new TestBackChannel(null, never);
+            stalled.open(stalledChannel);
+            stalled.add("1", new Notification("test.test", this, 1), null);
+            stalledChannel.waitForWriter();
+
+            TestBackChannel channel = new TestBackChannel(null);
+            other.open(channel);
+            other.add("1", new Notification("test.test", this, 1), null);
+            heartBeat.start();
+
+            // the stalled write is aborted after a heartbeat period, so the other client gets its event
+            channel.waitFor("id: 1");
+            assertTrue(stalledChannel.isClosed());
+            assertTrue(stalled.heartBeat(System.currentTimeMillis(), 100));
+        } finally {
+            heartBeat.stop();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testHeartBeat() throws Exception {
+        SseClient client = new SseClient(Runnable::run, () -> null, 10, SseClient.OverflowPolicy.DROP_OLDEST, 10);
+        SseHeartBeat heartBeat = new SseHeartBeat(List.of(client), 50);
+        TestBackChannel channel = new TestBackChannel(null);
+        client.open(channel);
+        heartBeat.start();
+        try {
+            // a heartbeat is an empty comment line
+            channel.waitFor(": ");
+        } finally {
+            heartBeat.stop();
+        }
+
+        channel.close();
+        assertFalse(client.heartBeat(System.currentTimeMillis(), 50));
+        client.releaseClosedChannel();
+        assertTrue(client.heartBeat(System.currentTimeMillis(), 50));
+    }
+
+    private static class TestBackChannel implements BackChannel {
+
+        private final String lastEventId;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private volatile boolean closed;
+
+        // writes block until released, if given
+        private final CountDownLatch release;
+        private final CountDownLatch writing = new CountDownLatch(1);
+
+        private TestBackChannel(String pLastEventId) {
+            this(pLastEventId, null);
+        }
+
+        private TestBackChannel(String pLastEventId, CountDownLatch pRelease) {
+            lastEventId = pLastEventId;
+            release = pRelease;
+        }
+
+        public void open(Map<String, ?> pParams) {
+        }
+
+        public void close() {
+            closed = true;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+        public OutputStream getOutputStream() throws IOException {
+            if (closed) {
+                throw new IOException("Channel already closed");
+            }
+            if (release == null) {
+                return out;
+            }
+            return new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    writing.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException();
+                    }
+                    out.write(b);
+                }
+            };
+        }
+
+        void waitForWriter() throws InterruptedException {
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+        }
+
+        @Override
+        public String getRequestHeader(String pName) {
+            return SseClient.LAST_EVENT_ID.equals(pName) ? lastEventId : null;
+        }
+
+        String waitFor(String pText) throws InterruptedException {
+            for (int i = 0; i < 500; i++) {
+                String sent;
+                synchronized (this) {
+                    sent = out.toString(StandardCharsets.UTF_8);
+                }
+                if (sent.contains(pText + "\r\n")) {
+                    return sent;
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError("'" + pText + "' has not been sent");
+        }
+    }
 }
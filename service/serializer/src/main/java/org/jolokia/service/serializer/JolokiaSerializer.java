@@ -16,6 +16,7 @@
 
 package org.jolokia.service.serializer;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
@@ -30,6 +31,7 @@ import org.jolokia.converter.object.Converter;
 import org.jolokia.converter.object.ObjectToOpenTypeConverter;
 import org.jolokia.converter.object.ObjectToObjectConverter;
 import org.jolokia.server.core.service.api.AbstractJolokiaService;
+import org.jolokia.json.JSONGenerator;
 
 /**
  * <p>Pluggable {@link org.jolokia.server.core.service.api.JolokiaService} for object (de)serialization</p>
@@ -105,6 +107,12 @@ public class JolokiaSerializer extends AbstractJolokiaService<Serializer> implem
         return toJsonConverter.serialize(pValue, pPathParts, pOptions);
     }
 
+    @Override
+    public void serialize(Object pValue, List<String> pPathParts, SerializeOptions pOptions, JSONGenerator pGenerator)
+            throws AttributeNotFoundException, IOException {
+        toJsonConverter.serialize(pValue, pPathParts, pOptions, pGenerator);
+    }
+
     @Override
     public Object deserialize(String pExpectedClassName, Object pValue) {
         return objectToObjectConverter.convert(pExpectedClassName, pValue);
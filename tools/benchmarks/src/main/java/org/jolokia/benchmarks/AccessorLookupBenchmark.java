@@ -0,0 +1,124 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.management.AttributeNotFoundException;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.jolokia.converter.json.ObjectToJsonConverter;
+import org.jolokia.converter.object.ObjectToObjectConverter;
+import org.jolokia.converter.object.ObjectToOpenTypeConverter;
+import org.jolokia.core.service.serializer.SerializeOptions;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Type-to-accessor resolution under concurrent load. Compares the lookup strategies used for the accessor caches
+ * of {@link ObjectToJsonConverter} and {@link ObjectToObjectConverter} - a synchronized map (used up to 2.6.0),
+ * a {@link ConcurrentHashMap} (used since 2.6.1) and a {@link ClassValue} - and serializes a mixed list of values
+ * with the real converter. Run with more threads using e.g. {@code -t 32}.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class AccessorLookupBenchmark {
+
+    private static final Class<?>[] ACCESSOR_TYPES = {
+        TabularData.class, CompositeData.class, Map.class, List.class, Collection.class,
+        Enum.class, Date.class, Calendar.class, java.time.temporal.Temporal.class, Object.class
+    };
+
+    private Class<?>[] classes;
+
+    private final Map<Class<?>, Class<?>> synchronizedMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Class<?>, Class<?>> concurrentMap = new ConcurrentHashMap<>();
+    private final ClassValue<Class<?>> classValue = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> pType) {
+            return resolve(pType);
+        }
+    };
+
+    private ObjectToJsonConverter converter;
+    private List<Object> values;
+
+    @Setup
+    public void setup() throws Exception {
+        values = List.of(1L, "text", 3.14d, new BigDecimal("2.71"), new Date(), Instant.now(), Calendar.getInstance(),
+                         new ObjectName("java.lang:type=Memory"), TimeUnit.SECONDS, new ArrayList<>(List.of(1, 2, 3)),
+                         new HashMap<>(Map.of("key", "value")), new HashSet<>(Set.of("a", "b")), Fixtures.beanTree(2, 2),
+                         Fixtures.compositeData(4, 2), Fixtures.tabularData(3));
+        classes = values.stream().map(Object::getClass).toArray(Class<?>[]::new);
+
+        ObjectToObjectConverter objectToObjectConverter = new ObjectToObjectConverter();
+        converter = new ObjectToJsonConverter(objectToObjectConverter,
+                                              new ObjectToOpenTypeConverter(objectToObjectConverter, false), null);
+    }
+
+    @Benchmark
+    public void synchronizedMap(Blackhole pBlackhole) {
+        for (Class<?> cls : classes) {
+            Class<?> found = synchronizedMap.get(cls);
+            if (found == null) {
+                found = resolve(cls);
+                synchronizedMap.put(cls, found);
+            }
+            pBlackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void concurrentMap(Blackhole pBlackhole) {
+        for (Class<?> cls : classes) {
+            pBlackhole.consume(concurrentMap.computeIfAbsent(cls, AccessorLookupBenchmark::resolve));
+        }
+    }
+
+    @Benchmark
+    public void classValue(Blackhole pBlackhole) {
+        for (Class<?> cls : classes) {
+            pBlackhole.consume(classValue.get(cls));
+        }
+    }
+
+    @Benchmark
+    public Object serializeMixedValues() throws AttributeNotFoundException {
+        return converter.serialize(values, List.of(), SerializeOptions.DEFAULT);
+    }
+
+    private static Class<?> resolve(Class<?> pType) {
+        for (Class<?> type : ACCESSOR_TYPES) {
+            if (type.isAssignableFrom(pType)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
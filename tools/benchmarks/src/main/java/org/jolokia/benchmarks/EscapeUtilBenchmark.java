@@ -0,0 +1,63 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jolokia.core.util.EscapeUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for {@link EscapeUtil#split}, which is used for every path and every {@code GET} request URL.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EscapeUtilBenchmark {
+
+    @Param({ "simple", "escaped", "long" })
+    public String path;
+
+    private String value;
+
+    @Setup
+    public void setup() {
+        value = switch (path) {
+            case "simple" -> "HeapMemoryUsage/used";
+            case "escaped" -> "read/jolokia.benchmarks:type=Fixture,name=a!/b/Table/row!!1/stats";
+            case "long" -> "read/java.lang:type=MemoryPool,name=G1 Eden Space/Usage/" + String.join("/", List.of(
+                "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l", "m", "n", "o", "p", "q", "r", "s", "t"));
+            default -> throw new IllegalArgumentException("Unknown path " + path);
+        };
+    }
+
+    @Benchmark
+    public List<String> split() {
+        return EscapeUtil.split(value, EscapeUtil.PATH_ESCAPE, "/");
+    }
+
+    @Benchmark
+    public List<String> parsePath() {
+        return EscapeUtil.parsePath(value);
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.management.*;
+import javax.management.openmbean.*;
+
+import org.jolokia.json.JSONArray;
+import org.jolokia.json.JSONObject;
+
+/**
+ * Factory for the data used by the benchmarks. The fixtures are meant to resemble what Jolokia sees in
+ * production: attributes of platform MXBeans, big {@link TabularData} and nested {@link CompositeData},
+ * deep object graphs and bulk requests with many entries.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+public final class Fixtures {
+
+    /**
+     * Name of the MBean registered by {@link #registerFixtureMBean()}
+     */
+    public static final String FIXTURE_MBEAN = "jolokia.benchmarks:type=Fixture";
+
+    private Fixtures() {
+    }
+
+    /**
+     * All attributes of a platform MXBean as returned by {@link MBeanServerConnection#getAttributes}, keyed
+     * by attribute name. This is what a {@code read} request without attribute name has to serialize.
+     *
+     * @param pObjectName name of the platform MXBean, e.g. {@code java.lang:type=Runtime}
+     * @return map of attribute names to (open type) values
+     */
+    public static Map<String, Object> platformMXBeanAttributes(String pObjectName) throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(pObjectName);
+        MBeanAttributeInfo[] attributeInfos = server.getMBeanInfo(name).getAttributes();
+        List<String> names = new ArrayList<>();
+        for (MBeanAttributeInfo info : attributeInfos) {
+            if (info.isReadable()) {
+                names.add(info.getName());
+            }
+        }
+        Map<String, Object> ret = new LinkedHashMap<>();
+        for (Attribute attribute : server.getAttributes(name, names.toArray(new String[0])).asList()) {
+            ret.put(attribute.getName(), attribute.getValue());
+        }
+        return ret;
+    }
+
+    /**
+     * Thread dump of the current JVM as returned by {@code java.lang:type=Threading#dumpAllThreads}, which
+     * is an array of deeply nested {@link CompositeData}.
+     *
+     * @return thread infos as composite data
+     */
+    public static CompositeData[] threadDump() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        return (CompositeData[]) server.invoke(new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME), "dumpAllThreads",
+                                               new Object[] { true, true },
+                                               new String[] { boolean.class.getName(), boolean.class.getName() });
+    }
+
+    /**
+     * Create {@link TabularData} with the given number of rows. Each row is a {@link CompositeData} with
+     * simple values of various types and a nested composite.
+     *
+     * @param pRows number of rows
+     * @return tabular data
+     */
+    public static TabularData tabularData(int pRows) throws OpenDataException {
+        CompositeType statsType = new CompositeType("Stats", "Statistics",
+                                                    new String[] { "count", "min", "max", "mean" },
+                                                    new String[] { "count", "min", "max", "mean" },
+                                                    new OpenType<?>[] { SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.DOUBLE });
+        CompositeType rowType = new CompositeType("Row", "Table row",
+                                                  new String[] { "id", "name", "enabled", "ratio", "stats" },
+                                                  new String[] { "id", "name", "enabled", "ratio", "stats" },
+                                                  new OpenType<?>[] { SimpleType.LONG, SimpleType.STRING, SimpleType.BOOLEAN, SimpleType.DOUBLE, statsType });
+        TabularType tableType = new TabularType("Table", "Table with " + pRows + " rows", rowType, new String[] { "id" });
+        TabularDataSupport ret = new TabularDataSupport(tableType, pRows, 0.75f);
+        for (long i = 0; i < pRows; i++) {
+            CompositeData stats = new CompositeDataSupport(statsType,
+                                                           new String[] { "count", "min", "max", "mean" },
+                                                           new Object[] { i * 10, i, i * 100, i * 42.5d });
+            ret.put(new CompositeDataSupport(rowType,
+                                             new String[] { "id", "name", "enabled", "ratio", "stats" },
+                                             new Object[] { i, "row-" + i, i % 2 == 0, i / (double) pRows, stats }));
+        }
+        return ret;
+    }
+
+    /**
+     * Create a {@link CompositeData} with the given number of simple items on each level and a nested
+     * composite down to the given depth.
+     *
+     * @param pWidth number of simple items per level
+     * @param pDepth number of nested levels
+     * @return composite data
+     */
+    public static CompositeData compositeData(int pWidth, int pDepth) throws OpenDataException {
+        CompositeType type = null;
+        CompositeData value = null;
+        for (int level = pDepth; level > 0; level--) {
+            int size = pWidth + (type != null ? 1 : 0);
+            String[] names = new String[size];
+            OpenType<?>[] types = new OpenType<?>[size];
+            Object[] values = new Object[size];
+            for (int i = 0; i < pWidth; i++) {
+                names[i] = "item" + i;
+                types[i] = i % 2 == 0 ? SimpleType.STRING : SimpleType.INTEGER;
+                values[i] = i % 2 == 0 ? "value-" + level + "-" + i : i * level;
+            }
+            if (type != null) {
+                names[pWidth] = "nested";
+                types[pWidth] = type;
+                values[pWidth] = value;
+            }
+            type = new CompositeType("Level" + level, "Level " + level, names, names, types);
+            value = new CompositeDataSupport(type, names, values);
+        }
+        return value;
+    }
+
+    /**
+     * Create a tree of plain Java beans, which are serialized via reflection
+     *
+     * @param pDepth    depth of the tree
+     * @param pChildren number of children per node
+     * @return root of the tree
+     */
+    public static Node beanTree(int pDepth, int pChildren) {
+        return createNode("root", pDepth, pChildren);
+    }
+
+    /**
+     * Create a flat list of plain Java beans of the same class, like a list of domain objects
+     *
+     * @param pSize number of beans
+     * @return list of beans
+     */
+    public static List<Node> beanList(int pSize) {
+        List<Node> ret = new ArrayList<>(pSize);
+        for (int i = 0; i < pSize; i++) {
+            ret.add(createNode("bean-" + i, 1, 0));
+        }
+        return ret;
+    }
+
+    private static Node createNode(String pName, int pDepth, int pChildren) {
+        List<Node> children = new ArrayList<>();
+        if (pDepth > 1) {
+            for (int i = 0; i < pChildren; i++) {
+                children.add(createNode(pName + "." + i, pDepth - 1, pChildren));
+            }
+        }
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("path", pName);
+        properties.put("depth", Integer.toString(pDepth));
+        return new Node(pName, pDepth, pDepth % 2 == 0, properties, children);
+    }
+
+    /**
+     * Create a bulk request with the given number of entries, mixing reads of platform MXBeans (with and
+     * without path), reads of the fixture MBean, pattern reads, operations and {@code version} requests.
+     *
+     * @param pSize number of requests
+     * @return JSON array of requests
+     */
+    public static JSONArray bulkRequest(int pSize) {
+        JSONArray ret = new JSONArray(pSize);
+        for (int i = 0; i < pSize; i++) {
+            JSONObject request = new JSONObject();
+            switch (i % 8) {
+                case 0 -> read(request, "java.lang:type=Memory", "HeapMemoryUsage", null);
+                case 1 -> read(request, "java.lang:type=Memory", "HeapMemoryUsage", "used");
+                case 2 -> read(request, "java.lang:type=Runtime", "Uptime", null);
+                case 3 -> read(request, "java.lang:type=Threading", "ThreadCount", null);
+                case 4 -> read(request, "java.lang:type=MemoryPool,*", "Usage", null);
+                case 5 -> read(request, FIXTURE_MBEAN, "Composite", null);
+                case 6 -> {
+                    request.put("type", "exec");
+                    request.put("mbean", "java.lang:type=Threading");
+                    request.put("operation", "getThreadCpuTime(long)");
+                    request.put("arguments", new JSONArray(List.of(Thread.currentThread().getId())));
+                }
+                default -> request.put("type", "version");
+            }
+            ret.add(request);
+        }
+        return ret;
+    }
+
+    private static void read(JSONObject pRequest, String pMBean, String pAttribute, String pPath) {
+        pRequest.put("type", "read");
+        pRequest.put("mbean", pMBean);
+        pRequest.put("attribute", pAttribute);
+        if (pPath != null) {
+            pRequest.put("path", pPath);
+        }
+    }
+
+    /**
+     * Register an MBean providing the big {@link TabularData}, {@link CompositeData} and bean tree fixtures
+     * in the platform MBeanServer, if not already registered.
+     */
+    public static void registerFixtureMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(FIXTURE_MBEAN);
+        if (!server.isRegistered(name)) {
+            server.registerMBean(new Fixture(tabularData(1000), compositeData(10, 8), beanTree(6, 4)), name);
+        }
+    }
+
+    /**
+     * Unregister the MBean registered with {@link #registerFixtureMBean()}
+     */
+    public static void unregisterFixtureMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(FIXTURE_MBEAN);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+
+    /**
+     * Management interface of the fixture MBean
+     */
+    public interface FixtureMBean {
+        TabularData getTable();
+
+        CompositeData getComposite();
+
+        Node getTree();
+    }
+
+    /**
+     * MBean returning the prepared fixtures
+     */
+    public static class Fixture implements FixtureMBean {
+        private final TabularData table;
+        private final CompositeData composite;
+        private final Node tree;
+
+        Fixture(TabularData pTable, CompositeData pComposite, Node pTree) {
+            table = pTable;
+            composite = pComposite;
+            tree = pTree;
+        }
+
+        @Override
+        public TabularData getTable() {
+            return table;
+        }
+
+        @Override
+        public CompositeData getComposite() {
+            return composite;
+        }
+
+        @Override
+        public Node getTree() {
+            return tree;
+        }
+    }
+
+    /**
+     * Plain Java bean used for deep object graphs
+     */
+    public static class Node {
+        private final String name;
+        private final int depth;
+        private final boolean active;
+        private final Map<String, String> properties;
+        private final List<Node> children;
+
+        Node(String pName, int pDepth, boolean pActive, Map<String, String> pProperties, List<Node> pChildren) {
+            name = pName;
+            depth = pDepth;
+            active = pActive;
+            properties = pProperties;
+            children = pChildren;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        public List<Node> getChildren() {
+            return children;
+        }
+    }
+}
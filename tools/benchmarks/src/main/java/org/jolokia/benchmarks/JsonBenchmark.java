@@ -0,0 +1,103 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jolokia.benchmarks.json.JFlexJSONParser;
+import org.jolokia.converter.json.ObjectToJsonConverter;
+import org.jolokia.converter.object.ObjectToObjectConverter;
+import org.jolokia.converter.object.ObjectToOpenTypeConverter;
+import org.jolokia.core.service.serializer.SerializeOptions;
+import org.jolokia.json.JSONWriter;
+import org.jolokia.json.parser.JSONParser;
+import org.jolokia.json.parser.ParseException;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for {@link JSONParser#parse} and {@link JSONWriter#serialize}. The documents are a
+ * bulk request as sent by clients and responses as returned by the agent. Parsing is compared with the
+ * lexer based {@link JFlexJSONParser}.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({ "bulkRequest", "largeBulkRequest", "tabularResponse", "threadDumpResponse" })
+    public String document;
+
+    private String json;
+    private Object parsed;
+
+    @Setup
+    public void setup() throws Exception {
+        json = switch (document) {
+            case "bulkRequest" -> Fixtures.bulkRequest(1000).toJSONString();
+            case "largeBulkRequest" -> Fixtures.bulkRequest(5000).toJSONString();
+            case "tabularResponse" -> toJson(Fixtures.tabularData(1000));
+            case "threadDumpResponse" -> toJson(Fixtures.threadDump());
+            default -> throw new IllegalArgumentException("Unknown document " + document);
+        };
+        parsed = new JSONParser().parse(json);
+    }
+
+    @Benchmark
+    public Object parseString() throws ParseException, IOException {
+        return new JSONParser().parse(json);
+    }
+
+    @Benchmark
+    public Object parseReader() throws ParseException, IOException {
+        return new JSONParser().parse(new StringReader(json));
+    }
+
+    @Benchmark
+    public Object parseStringJFlex() throws ParseException, IOException {
+        return new JFlexJSONParser().parse(json);
+    }
+
+    @Benchmark
+    public Object parseReaderJFlex() throws ParseException, IOException {
+        return new JFlexJSONParser().parse(new StringReader(json));
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        StringWriter writer = new StringWriter(json.length());
+        JSONWriter.serialize(parsed, writer);
+        return writer.getBuffer().length();
+    }
+
+    private static String toJson(Object pValue) throws Exception {
+        ObjectToObjectConverter objectToObjectConverter = new ObjectToObjectConverter();
+        ObjectToJsonConverter converter =
+            new ObjectToJsonConverter(objectToObjectConverter, new ObjectToOpenTypeConverter(objectToObjectConverter, false), null);
+        StringWriter writer = new StringWriter();
+        JSONWriter.serialize(converter.serialize(pValue, List.of(), SerializeOptions.DEFAULT), writer);
+        return writer.toString();
+    }
+}
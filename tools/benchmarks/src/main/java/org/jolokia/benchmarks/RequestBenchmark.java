@@ -0,0 +1,130 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jolokia.json.JSONStructure;
+import org.jolokia.server.core.backend.BackendManager;
+import org.jolokia.server.core.config.ConfigKey;
+import org.jolokia.server.core.config.StaticConfiguration;
+import org.jolokia.server.core.http.HttpRequestHandler;
+import org.jolokia.server.core.request.JolokiaRequest;
+import org.jolokia.server.core.request.JolokiaRequestFactory;
+import org.jolokia.server.core.request.ProcessingParameters;
+import org.jolokia.server.core.restrictor.AllowAllRestrictor;
+import org.jolokia.server.core.service.JolokiaServiceManagerFactory;
+import org.jolokia.server.core.service.api.JolokiaContext;
+import org.jolokia.server.core.service.api.JolokiaServiceManager;
+import org.jolokia.server.core.service.api.Restrictor;
+import org.jolokia.server.core.service.impl.ClasspathServiceCreator;
+import org.jolokia.server.core.service.impl.QuietLogHandler;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * End-to-end benchmarks of request processing with all services found on the classpath (serializer,
+ * JMX request handlers), from a parsed request (or the raw POST body) up to the written JSON response.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBenchmark {
+
+    private JolokiaServiceManager serviceManager;
+    private BackendManager backendManager;
+    private HttpRequestHandler requestHandler;
+
+    private JolokiaRequest readMemory;
+    private JolokiaRequest readMemoryWithPath;
+    private JolokiaRequest readTable;
+    private JolokiaRequest readTree;
+    private JolokiaRequest readMemoryPools;
+    private byte[] bulkRequestBody;
+
+    @Setup
+    public void setup() throws Exception {
+        Fixtures.registerFixtureMBean();
+
+        StaticConfiguration config = new StaticConfiguration(ConfigKey.AGENT_ID, "benchmark");
+        Restrictor restrictor = new AllowAllRestrictor();
+        serviceManager = JolokiaServiceManagerFactory.createJolokiaServiceManager(config, new QuietLogHandler(), restrictor);
+        serviceManager.addServices(new ClasspathServiceCreator(RequestBenchmark.class.getClassLoader(), "services"));
+        JolokiaContext context = serviceManager.start();
+        backendManager = new BackendManager(context);
+        requestHandler = new HttpRequestHandler(context, restrictor, false);
+
+        ProcessingParameters params = new ProcessingParameters(Map.of());
+        readMemory = JolokiaRequestFactory.createGetRequest("read/java.lang:type=Memory", params);
+        readMemoryWithPath = JolokiaRequestFactory.createGetRequest("read/java.lang:type=Memory/HeapMemoryUsage/used", params);
+        readTable = JolokiaRequestFactory.createGetRequest("read/" + Fixtures.FIXTURE_MBEAN + "/Table", params);
+        readTree = JolokiaRequestFactory.createGetRequest("read/" + Fixtures.FIXTURE_MBEAN + "/Tree", params);
+        readMemoryPools = JolokiaRequestFactory.createGetRequest("read/java.lang:type=MemoryPool,*/Usage", params);
+        bulkRequestBody = Fixtures.bulkRequest(1000).toJSONString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        requestHandler.destroy();
+        serviceManager.stop();
+        Fixtures.unregisterFixtureMBean();
+    }
+
+    @Benchmark
+    public int readPlatformMXBean() throws Exception {
+        return write(backendManager.handleRequest(readMemory));
+    }
+
+    @Benchmark
+    public int readPlatformMXBeanWithPath() throws Exception {
+        return write(backendManager.handleRequest(readMemoryWithPath));
+    }
+
+    @Benchmark
+    public int readTabularData() throws Exception {
+        return write(backendManager.handleRequest(readTable));
+    }
+
+    @Benchmark
+    public int readBeanTree() throws Exception {
+        return write(backendManager.handleRequest(readTree));
+    }
+
+    @Benchmark
+    public int readPattern() throws Exception {
+        return write(backendManager.handleRequest(readMemoryPools));
+    }
+
+    @Benchmark
+    public int bulkRequest() throws Exception {
+        return write(requestHandler.handlePostRequest("/jolokia", new ByteArrayInputStream(bulkRequestBody), "utf-8", Map.of()));
+    }
+
+    private int write(JSONStructure pResponse) throws Exception {
+        StringWriter writer = new StringWriter();
+        pResponse.writeJSONString(writer);
+        return writer.getBuffer().length();
+    }
+}
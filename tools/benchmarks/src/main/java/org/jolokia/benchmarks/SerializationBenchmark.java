@@ -0,0 +1,89 @@
+/*
+ * Copyright 2009-2026 Roland Huss
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jolokia.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.management.AttributeNotFoundException;
+
+import org.jolokia.converter.json.ObjectToJsonConverter;
+import org.jolokia.converter.object.ObjectToObjectConverter;
+import org.jolokia.converter.object.ObjectToOpenTypeConverter;
+import org.jolokia.core.service.serializer.SerializeOptions;
+import org.jolokia.json.JSONGenerator;
+import org.jolokia.json.JSONWriter;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for {@link ObjectToJsonConverter#serialize}, both when building a JSON structure first
+ * (which is then written with {@link JSONWriter}) and when streaming directly into a {@link JSONGenerator}.
+ *
+ * @author roland
+ * @since 2.6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({ "memoryMXBean", "runtimeMXBean", "threadDump", "tabularData", "compositeData", "beanTree", "beanList" })
+    public String fixture;
+
+    private ObjectToJsonConverter converter;
+    private Object value;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectToObjectConverter objectToObjectConverter = new ObjectToObjectConverter();
+        converter = new ObjectToJsonConverter(objectToObjectConverter,
+                                              new ObjectToOpenTypeConverter(objectToObjectConverter, false), null);
+        value = switch (fixture) {
+            case "memoryMXBean" -> Fixtures.platformMXBeanAttributes(ManagementFactory.MEMORY_MXBEAN_NAME);
+            case "runtimeMXBean" -> Fixtures.platformMXBeanAttributes(ManagementFactory.RUNTIME_MXBEAN_NAME);
+            case "threadDump" -> Fixtures.threadDump();
+            case "tabularData" -> Fixtures.tabularData(1000);
+            case "compositeData" -> Fixtures.compositeData(10, 8);
+            case "beanTree" -> Fixtures.beanTree(6, 4);
+            case "beanList" -> Fixtures.beanList(5000);
+            default -> throw new IllegalArgumentException("Unknown fixture " + fixture);
+        };
+    }
+
+    @Benchmark
+    public Object serialize() throws AttributeNotFoundException {
+        return converter.serialize(value, List.of(), SerializeOptions.DEFAULT);
+    }
+
+    @Benchmark
+    public int serializeAndWrite() throws AttributeNotFoundException, IOException {
+        StringWriter writer = new StringWriter();
+        JSONWriter.serialize(converter.serialize(value, List.of(), SerializeOptions.DEFAULT), writer);
+        return writer.getBuffer().length();
+    }
+
+    @Benchmark
+    public int serializeStreaming() throws AttributeNotFoundException, IOException {
+        StringWriter writer = new StringWriter();
+        converter.serialize(value, List.of(), SerializeOptions.DEFAULT, new JSONGenerator(writer));
+        return writer.getBuffer().length();
+    }
+}
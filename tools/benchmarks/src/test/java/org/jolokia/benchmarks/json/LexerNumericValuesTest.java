@@ -13,13 +13,15 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.jolokia.json.parser;
+package org.jolokia.benchmarks.json;
 
 import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.jolokia.json.parser.ParseException;
+import org.jolokia.json.parser.Yytoken;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.*;